@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+
+/**
+ * Codec factory and schema inferences of one {@link EffectiveModelContext}, computed once and shared by all
+ * conversions of data of the context.
+ *
+ * <p>Inferences depend only on schema nodes of the path, so they are cached by path with predicates stripped,
+ * e.g. all entries of a list share one inference. Only {@link #MAX_INFERENCES} most recently used inferences
+ * are kept.</p>
+ *
+ * <p>Codec factory and inferences reference the context, so instances are not shared by a global lookup, which
+ * would keep every context reachable. Owner of the context (e.g. connection of a device) creates one instance,
+ * passes it to conversions of the context and drops it together with the context.</p>
+ *
+ * <p>Modules are indexed by local names of their top-level elements when the cache is created.</p>
+ *
+ * <p>Chunks of large JSON of the context are converted by the {@link ParallelCodecExecutor} of the owner, or by
+ * the converting thread, if the owner has none. The executor is not closed with the cache.</p>
+ */
+public final class CodecCache {
+    static final int MAX_INFERENCES = 1000;
+
+    private final EffectiveModelContext context;
+    private final JSONCodecFactory codecFactory;
+    private final Cache<YangInstanceIdentifier, Inference> inferences;
+    private final Cache<YangInstanceIdentifier, Inference> parentInferences;
+    private final ImmutableListMultimap<String, Module> modulesByElement;
+    private final ParallelCodecExecutor parallelExecutor;
+
+    public CodecCache(@NonNull final EffectiveModelContext context) {
+        this(context, ParallelCodecExecutor.sequential());
+    }
+
+    public CodecCache(@NonNull final EffectiveModelContext context,
+                      @NonNull final ParallelCodecExecutor parallelExecutor) {
+        this.context = Objects.requireNonNull(context);
+        this.parallelExecutor = Objects.requireNonNull(parallelExecutor);
+        // Factory is owned by the cache, factories shared by yangtools would keep the context reachable
+        this.codecFactory = JSONCodecFactorySupplier.RFC7951.createLazy(context);
+        this.inferences = CacheBuilder.newBuilder().maximumSize(MAX_INFERENCES).build();
+        this.parentInferences = CacheBuilder.newBuilder().maximumSize(MAX_INFERENCES).build();
+        this.modulesByElement = indexModulesByElement(context);
+    }
+
+    private static ImmutableListMultimap<String, Module> indexModulesByElement(final EffectiveModelContext context) {
+        final ImmutableListMultimap.Builder<String, Module> builder = ImmutableListMultimap.builder();
+        for (final Module module : context.getModules()) {
+            module.getChildNodes().stream()
+                    .map(node -> node.getQName().getLocalName())
+                    .distinct()
+                    .forEach(name -> builder.put(name, module));
+        }
+        return builder.build();
+    }
+
+    public EffectiveModelContext getContext() {
+        return context;
+    }
+
+    /**
+     * Returns executor converting chunks of large JSON of the context.
+     */
+    public ParallelCodecExecutor getParallelExecutor() {
+        return parallelExecutor;
+    }
+
+    /**
+     * Returns thread-safe RFC7951 JSON codec factory of the context.
+     */
+    public JSONCodecFactory getCodecFactory() {
+        return codecFactory;
+    }
+
+    /**
+     * Returns modules defining top-level element, in the order of {@link EffectiveModelContext#getModules()}.
+     *
+     * @param element element name, optionally with module name
+     * @return modules with top-level element of the name, only the module of the module name if it is present
+     */
+    public List<Module> findModulesByElement(@NonNull final ElementNameWithModuleName element) {
+        final List<Module> modules = modulesByElement.get(element.getElementName());
+        if (!element.hasModuleName()) {
+            return modules;
+        }
+        return modules.stream()
+                .filter(module -> module.getName().equals(element.getModuleName()))
+                .toList();
+    }
+
+    /**
+     * Returns inference of schema node identified by path.
+     *
+     * @param path path of the data
+     * @return inference pointing to schema node of the data
+     * @throws java.util.NoSuchElementException if path does not identify a schema node
+     */
+    public Inference inference(@NonNull final YangInstanceIdentifier path) {
+        return get(inferences, path, this::computeInference);
+    }
+
+    /**
+     * Returns inference of parent schema node of node identified by path, root inference for empty path.
+     *
+     * @param path path of the data
+     * @return inference pointing to parent schema node of the data
+     * @throws java.util.NoSuchElementException if path does not identify a schema node
+     */
+    public Inference parentInference(@NonNull final YangInstanceIdentifier path) {
+        return get(parentInferences, path, this::computeParentInference);
+    }
+
+    private static Inference get(final Cache<YangInstanceIdentifier, Inference> cache,
+                                 final YangInstanceIdentifier path,
+                                 final Function<YangInstanceIdentifier, Inference> computation) {
+        // Stripped path is not necessarily a valid data path, inference is computed from the original path
+        try {
+            return cache.get(stripPredicates(Objects.requireNonNull(path)), () -> computation.apply(path));
+        } catch (final ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to compute inference of " + path, e.getCause());
+        }
+    }
+
+    private Inference computeInference(final YangInstanceIdentifier path) {
+        return enterPath(path).toInference();
+    }
+
+    private Inference computeParentInference(final YangInstanceIdentifier path) {
+        final SchemaInferenceStack stack = enterPath(path);
+        if (!stack.isEmpty()) {
+            stack.exit();
+        }
+        return stack.toInference();
+    }
+
+    private SchemaInferenceStack enterPath(final YangInstanceIdentifier path) {
+        return DataSchemaContextTree.from(context).enterPath(path).orElseThrow().stack();
+    }
+
+    private static YangInstanceIdentifier stripPredicates(final YangInstanceIdentifier path) {
+        List<PathArgument> stripped = null;
+        final List<PathArgument> arguments = path.getPathArguments();
+        for (int i = 0; i < arguments.size(); i++) {
+            final PathArgument argument = arguments.get(i);
+            if (!(argument instanceof NodeIdentifier)) {
+                if (stripped == null) {
+                    stripped = new ArrayList<>(arguments.subList(0, i));
+                }
+                stripped.add(NodeIdentifier.create(argument.getNodeType()));
+            } else if (stripped != null) {
+                stripped.add(argument);
+            }
+        }
+        return stripped == null ? path : YangInstanceIdentifier.of(stripped);
+    }
+}
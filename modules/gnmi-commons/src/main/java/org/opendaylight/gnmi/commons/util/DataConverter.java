@@ -7,6 +7,7 @@
  */
 package org.opendaylight.gnmi.commons.util;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
@@ -14,9 +15,8 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Collection;
-import java.util.Objects;
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
@@ -30,46 +30,182 @@ import org.opendaylight.yangtools.yang.data.api.schema.builder.DataContainerNode
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
 import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
-import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
 import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.codec.gson.JsonParserStream;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
-import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
-import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public final class DataConverter {
+    public static final String PARALLEL_LIST_THRESHOLD_PROPERTY = "org.opendaylight.gnmi.parallel-list-threshold";
+    public static final String PARALLEL_JSON_THRESHOLD_PROPERTY = "org.opendaylight.gnmi.parallel-json-threshold";
+
+    /**
+     * Minimal number of entries of serialized list, which is rendered in parallel chunks, configured by system
+     * property {@value #PARALLEL_LIST_THRESHOLD_PROPERTY}.
+     */
+    @VisibleForTesting
+    static final int PARALLEL_LIST_THRESHOLD = Integer.getInteger(PARALLEL_LIST_THRESHOLD_PROPERTY, 5000);
+    /**
+     * Minimal length of parsed JSON, which is parsed in parallel chunks, configured by system property
+     * {@value #PARALLEL_JSON_THRESHOLD_PROPERTY}.
+     */
+    @VisibleForTesting
+    static final long PARALLEL_JSON_THRESHOLD = Long.getLong(PARALLEL_JSON_THRESHOLD_PROPERTY, 4L * 1024 * 1024);
+
     private static final Logger LOG = LoggerFactory.getLogger(DataConverter.class);
 
     private DataConverter() {
         // Utility class
     }
 
+    /**
+     * Serializes data to JSON with codecs created for this call only. Owners of the context should use
+     * {@link #jsonStringFromNormalizedNodes(YangInstanceIdentifier, NormalizedNode, CodecCache)} with their cache.
+     */
     public static String jsonStringFromNormalizedNodes(@NonNull final YangInstanceIdentifier identifier,
                                                        @NonNull final NormalizedNode data,
                                                        @NonNull final EffectiveModelContext context) {
-        final JSONCodecFactory jsonCodecFactory = JSONCodecFactorySupplier.RFC7951.createSimple(context);
+        return jsonStringFromNormalizedNodes(identifier, data, new CodecCache(context));
+    }
+
+    public static String jsonStringFromNormalizedNodes(@NonNull final YangInstanceIdentifier identifier,
+                                                       @NonNull final NormalizedNode data,
+                                                       @NonNull final CodecCache codecCache) {
+        final JSONCodecFactory jsonCodecFactory = codecCache.getCodecFactory();
+        if (!identifier.isEmpty() && ParallelJsonCodec.hasLargeList(data, PARALLEL_LIST_THRESHOLD)) {
+            return createJsonInParallel(identifier, data, codecCache);
+        }
         if (isListEntry(data)) {
-            return createJsonWithNestedWriter(toInference(identifier, context), data, jsonCodecFactory);
+            return createJsonWithNestedWriter(codecCache.inference(identifier), data, jsonCodecFactory);
         } else {
-            return createJsonWithExclusiveWriter(toParentInference(identifier, context), data, jsonCodecFactory);
+            return createJsonWithExclusiveWriter(codecCache.parentInference(identifier), data, jsonCodecFactory);
         }
     }
 
+    /**
+     * Parses JSON with codecs created for this call only. Owners of the context should use
+     * {@link #nodeFromJsonString(YangInstanceIdentifier, String, CodecCache)} with their cache.
+     */
     public static NormalizedNode nodeFromJsonString(@NonNull final YangInstanceIdentifier yangInstanceIdentifier,
                                                     @NonNull final String inputJson,
                                                     @NonNull final EffectiveModelContext context) {
-        return fromJson(inputJson, toParentInference(yangInstanceIdentifier, context));
+        return nodeFromJsonString(yangInstanceIdentifier, inputJson, new CodecCache(context));
+    }
+
+    public static NormalizedNode nodeFromJsonString(@NonNull final YangInstanceIdentifier yangInstanceIdentifier,
+                                                    @NonNull final String inputJson,
+                                                    @NonNull final CodecCache codecCache) {
+        return nodeFromJsonReader(yangInstanceIdentifier, new JsonReader(new StringReader(inputJson)), codecCache,
+                inputJson.length());
+    }
+
+    /**
+     * Parses JSON from reader in a single pass, the same way as {@link #nodeFromJsonString}.
+     *
+     * @param yangInstanceIdentifier identifier of parsed data
+     * @param reader reader of JSON, e.g. {@link WrappingJsonReader}, it is consumed but not closed
+     * @param codecCache codecs of schema context
+     * @return parsed data
+     */
+    public static NormalizedNode nodeFromJsonReader(@NonNull final YangInstanceIdentifier yangInstanceIdentifier,
+                                                    @NonNull final JsonReader reader,
+                                                    @NonNull final CodecCache codecCache) {
+        return fromJson(reader, codecCache.parentInference(yangInstanceIdentifier), codecCache.getCodecFactory());
+    }
+
+    /**
+     * Parses JSON from reader the same way as {@link #nodeFromJsonReader(YangInstanceIdentifier, JsonReader,
+     * CodecCache)}. JSON longer than the threshold configured by system property
+     * {@value #PARALLEL_JSON_THRESHOLD_PROPERTY} is split to chunks by lists it contains, which are parsed in parallel.
+     *
+     * @param yangInstanceIdentifier identifier of parsed data
+     * @param reader reader of JSON, e.g. {@link WrappingJsonReader}, it is consumed but not closed
+     * @param codecCache codecs of schema context
+     * @param length length of JSON (in characters or bytes)
+     * @return parsed data
+     */
+    public static NormalizedNode nodeFromJsonReader(@NonNull final YangInstanceIdentifier yangInstanceIdentifier,
+                                                    @NonNull final JsonReader reader,
+                                                    @NonNull final CodecCache codecCache,
+                                                    final long length) {
+        if (length < PARALLEL_JSON_THRESHOLD) {
+            return nodeFromJsonReader(yangInstanceIdentifier, reader, codecCache);
+        }
+        final ParallelCodecExecutor executor = codecCache.getParallelExecutor();
+        return unwrapDataContainer(ParallelJsonCodec.parse(reader, codecCache.parentInference(yangInstanceIdentifier),
+                codecCache.getCodecFactory(), executor, ParallelJsonCodec.chunkSize(length, executor.parallelism())));
+    }
+
+    /**
+     * Writes data as a JSON value of gNMI update directly to writer, without building JSON string. List entries are
+     * written as JSON objects, e.g. {@code {"name":"eth3",...}}, other nodes are written without the outer object
+     * holding their name, e.g. {@code {data}} instead of {@code {"config":{data}}}. Lists with more entries than
+     * the threshold configured by system property {@value #PARALLEL_LIST_THRESHOLD_PROPERTY} are rendered in
+     * parallel chunks.
+     *
+     * @param identifier identifier of the data
+     * @param data written data
+     * @param codecCache codecs of schema context
+     * @param writer writer of the JSON, it is flushed but not closed
+     * @throws IOException if the JSON can not be written
+     */
+    public static void writeJsonValue(@NonNull final YangInstanceIdentifier identifier,
+                                      @NonNull final NormalizedNode data,
+                                      @NonNull final CodecCache codecCache,
+                                      @NonNull final Writer writer) throws IOException {
+        if (!identifier.isEmpty() && ParallelJsonCodec.hasLargeList(data, PARALLEL_LIST_THRESHOLD)) {
+            final JsonWriter jsonWriter = new JsonWriter(writer);
+            ParallelJsonCodec.writeValue(jsonWriter, identifier, data, codecCache, PARALLEL_LIST_THRESHOLD);
+            jsonWriter.flush();
+            return;
+        }
+        final JSONCodecFactory jsonCodecFactory = codecCache.getCodecFactory();
+        final XMLNamespace namespace = data.name().getNodeType().getNamespace();
+        final boolean listEntry = isListEntry(data);
+        final NormalizedNodeStreamWriter nodeWriter;
+        final JsonWriter jsonWriter;
+        if (listEntry) {
+            jsonWriter = new JsonWriter(writer);
+            nodeWriter = JSONNormalizedNodeStreamWriter.createNestedWriter(jsonCodecFactory,
+                    codecCache.inference(identifier), namespace, jsonWriter);
+        } else {
+            // Outer object is opened here, so the node is written as its only value and dropped with it
+            jsonWriter = new UnwrappingJsonWriter(writer);
+            nodeWriter = JSONNormalizedNodeStreamWriter.createNestedWriter(jsonCodecFactory,
+                    codecCache.parentInference(identifier), namespace, jsonWriter);
+            jsonWriter.beginObject();
+        }
+        final NormalizedNodeWriter normalizedNodeWriter = NormalizedNodeWriter.forStreamWriter(nodeWriter);
+        normalizedNodeWriter.write(data);
+        normalizedNodeWriter.flush();
+        if (!listEntry) {
+            jsonWriter.endObject();
+        }
+        jsonWriter.flush();
+    }
+
+    private static String createJsonInParallel(final YangInstanceIdentifier identifier, final NormalizedNode data,
+                                               final CodecCache codecCache) {
+        final Writer writer = new StringWriter();
+        try (JsonWriter jsonWriter = new JsonWriter(writer)) {
+            jsonWriter.beginObject().name(ParallelJsonCodec.qualifiedName(data.name().getNodeType(),
+                    codecCache.getContext()));
+            ParallelJsonCodec.writeValue(jsonWriter, identifier, data, codecCache, PARALLEL_LIST_THRESHOLD);
+            jsonWriter.endObject();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return writer.toString();
     }
 
-    private static String createJsonWithExclusiveWriter(final Inference inference, final NormalizedNode data,
-                                                        final JSONCodecFactory jsonCodecFactory) {
+    static String createJsonWithExclusiveWriter(final Inference inference, final NormalizedNode data,
+                                                final JSONCodecFactory jsonCodecFactory) {
         final Writer writer = new StringWriter();
         final JsonWriter jsonWriter = new JsonWriter(writer);
         final XMLNamespace namespace = data.name().getNodeType().getNamespace();
@@ -116,7 +252,13 @@ public final class DataConverter {
         }
     }
 
-    private static NormalizedNode fromJson(final String inputJson, final Inference inference) {
+    private static NormalizedNode fromJson(final JsonReader reader, final Inference inference,
+                                           final JSONCodecFactory jsonCodecFactory) {
+        return unwrapDataContainer(parseDataContainer(reader, inference, jsonCodecFactory));
+    }
+
+    static ContainerNode parseDataContainer(final JsonReader reader, final Inference inference,
+                                            final JSONCodecFactory jsonCodecFactory) {
         /*
          Write result into container builder with identifier (netconf:base)data. Makes possible to write multiple
           top level elements.
@@ -125,43 +267,24 @@ public final class DataConverter {
             .newContainerBuilder().withNodeIdentifier(YangInstanceIdentifier.NodeIdentifier.create(SchemaContext.NAME));
 
         final NormalizedNodeStreamWriter streamWriter = ImmutableNormalizedNodeStreamWriter.from(resultBuilder);
-        final JSONCodecFactory jsonCodecFactory =
-                JSONCodecFactorySupplier.RFC7951.createLazy(inference.modelContext());
 
         try (JsonParserStream jsonParser = JsonParserStream.create(streamWriter,
                 jsonCodecFactory, inference)) {
-            final JsonReader reader = new JsonReader(new StringReader(inputJson));
             jsonParser.parse(reader);
-        /*
-         In a case when multiple values are present in result container that means we parsed multiple top elements,
-          in that case return the container holding them.
-         Otherwise (1 value) return that value only
-         */
-            final ContainerNode resultContainer = resultBuilder.build();
-            final Collection<DataContainerChild> values = resultContainer.body();
-            return values.size() == 1 ? values.iterator().next() : resultContainer;
+            return resultBuilder.build();
         } catch (IOException e) {
             throw new RuntimeException("IO error while closing JsonParserStream", e);
         }
     }
 
-    private static Inference toParentInference(final YangInstanceIdentifier path, final EffectiveModelContext ctx) {
-        final SchemaInferenceStack stack = DataSchemaContextTree.from(ctx)
-                .enterPath(Objects.requireNonNull(path))
-                .orElseThrow()
-                .stack();
-        if (!stack.isEmpty()) {
-            stack.exit();
-        }
-        return stack.toInference();
-    }
-
-    private static Inference toInference(final YangInstanceIdentifier path, final EffectiveModelContext ctx) {
-        return DataSchemaContextTree.from(ctx)
-                .enterPath(Objects.requireNonNull(path))
-                .orElseThrow()
-                .stack()
-                .toInference();
+    private static NormalizedNode unwrapDataContainer(final ContainerNode resultContainer) {
+        /*
+         In a case when multiple values are present in result container that means we parsed multiple top elements,
+          in that case return the container holding them.
+         Otherwise (1 value) return that value only
+         */
+        final Collection<DataContainerChild> values = resultContainer.body();
+        return values.size() == 1 ? values.iterator().next() : resultContainer;
     }
 
     /**
@@ -209,20 +332,26 @@ public final class DataConverter {
      */
     public static Optional<Module> findModuleByElement(@NonNull final String element,
                                                        @NonNull final EffectiveModelContext context) {
+        return findModuleByElement(element, new CodecCache(context));
+    }
+
+    /**
+     * Find module by the element-name the same way as {@link #findModuleByElement(String, EffectiveModelContext)},
+     * using modules indexed by the cache of the context.
+     *
+     * @param element the element-name (with or without module prefix)
+     * @param codecCache codecs of schema context
+     * @return YANG module containing the specific element
+     */
+    public static Optional<Module> findModuleByElement(@NonNull final String element,
+                                                       @NonNull final CodecCache codecCache) {
         final ElementNameWithModuleName elementWithModule = ElementNameWithModuleName.parseFromString(element);
-        return context.getModules()
-                .stream()
-                .filter(module -> module.getChildNodes()
-                        .stream()
-                        .anyMatch(node -> elementWithModule.equals(node.getQName(), module)))
-                .collect(Collectors.collectingAndThen(Collectors.toList(), modules -> {
-                    if (modules.size() == 1) {
-                        return Optional.of(modules.get(0));
-                    } else {
-                        LOG.warn("Found multiple modules for element {}: {}", element, modules);
-                        return Optional.empty();
-                    }
-                }));
+        final List<Module> modules = codecCache.findModulesByElement(elementWithModule);
+        if (modules.size() == 1) {
+            return Optional.of(modules.get(0));
+        }
+        LOG.warn("Found multiple modules for element {}: {}", element, modules);
+        return Optional.empty();
     }
 
     public static Optional<Module> findModuleByQName(@NonNull final QName element,
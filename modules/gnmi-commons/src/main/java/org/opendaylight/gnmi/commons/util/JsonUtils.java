@@ -8,106 +8,285 @@
 package org.opendaylight.gnmi.commons.util;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonPrimitive;
-import java.util.HashMap;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import org.opendaylight.yangtools.yang.common.Decimal64;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
+/**
+ * Utilities transforming JSON payloads of gNMI messages. All transformations stream tokens from reader to writer,
+ * without building JSON tree. Variants working with strings read and write JSON configured by provided {@link Gson}.
+ */
 public final class JsonUtils {
 
     private JsonUtils() {
         // Utility class
     }
 
+    /**
+     * Wraps JSON object into array entry of the wrapper, e.g. {@code {data}} becomes
+     * {@code {"wrapper":[{data, keys}]}}. Values of keys present in the object are replaced by values of predicates,
+     * missing keys are appended to the end of the object.
+     *
+     * @param jsonString JSON object
+     * @param wrapper name of the wrapping list
+     * @param gson configuration of read and written JSON
+     * @param predicates keys of list entry
+     * @param context schema context
+     * @return wrapped JSON
+     */
     public static String wrapJsonWithArray(final String jsonString, final String wrapper, final Gson gson,
             final NodeIdentifierWithPredicates predicates, final EffectiveModelContext context) {
-        final JsonObject innerJson = JsonParser.parseString(jsonString).getAsJsonObject();
+        return transform(jsonString, gson, (in, out) -> wrapJsonWithArray(in, wrapper, predicates, context, out));
+    }
+
+    /**
+     * Streaming variant of {@link #wrapJsonWithArray(String, String, Gson, NodeIdentifierWithPredicates,
+     * EffectiveModelContext)}, tokens are copied from reader to writer without building JSON tree.
+     *
+     * @param in reader positioned at JSON object
+     * @param wrapper name of the wrapping list
+     * @param predicates keys of list entry
+     * @param context schema context
+     * @param out writer of wrapped JSON
+     * @throws IOException if JSON can't be read or written
+     */
+    public static void wrapJsonWithArray(final JsonReader in, final String wrapper,
+            final NodeIdentifierWithPredicates predicates, final EffectiveModelContext context,
+            final JsonWriter out) throws IOException {
+        final Map<String, Object> keys = jsonKeyValues(predicates, context);
+        out.beginObject().name(wrapper).beginArray().beginObject();
+        in.beginObject();
+        while (in.hasNext()) {
+            final String name = in.nextName();
+            if (keys.containsKey(name)) {
+                writeKeyValue(out.name(name), keys.remove(name));
+                in.skipValue();
+            } else {
+                out.name(name);
+                copyJson(in, out);
+            }
+        }
+        in.endObject();
+        for (final Entry<String, Object> key : keys.entrySet()) {
+            writeKeyValue(out.name(key.getKey()), key.getValue());
+        }
+        out.endObject().endArray().endObject();
+    }
+
+    private static void writeKeyValue(final JsonWriter out, final Object value) throws IOException {
+        if (value instanceof Double doubleValue) {
+            out.value(doubleValue.doubleValue());
+        } else if (value instanceof Long longValue) {
+            out.value(longValue.longValue());
+        } else if (value instanceof Boolean booleanValue) {
+            out.value(booleanValue.booleanValue());
+        } else {
+            out.value(String.valueOf(value));
+        }
+    }
+
+    /**
+     * Returns JSON values of keys of list entry, by local names of keys, in the same form as they are added by
+     * {@link #wrapJsonWithArray}.
+     *
+     * @param predicates keys of list entry
+     * @param context schema context
+     * @return values of keys, instances of String, Long, Double or Boolean
+     */
+    public static Map<String, Object> jsonKeyValues(final NodeIdentifierWithPredicates predicates,
+            final EffectiveModelContext context) {
+        final Map<String, Object> result = new LinkedHashMap<>();
         for (final Entry<QName, Object> key : predicates.entrySet()) {
             final var keyValue = key.getValue();
-            // InstanceIdentifier for identityref is stored as a QName, value should be in format MODULE:IDENTITY_NAME.
+            final Object jsonValue;
             if (keyValue instanceof QName qnameValue) {
                 final var module = context.findModule(qnameValue.getModule()).orElseThrow();
-                final var value = String.format("%s:%s", module.getName(), qnameValue.getLocalName());
-                innerJson.add(key.getKey().getLocalName(), gson.toJsonTree(value));
-            // Custom ODL Number types are not correctly parsed by Gson.
+                jsonValue = String.format("%s:%s", module.getName(), qnameValue.getLocalName());
+            } else if (keyValue instanceof Decimal64 decimalValue) {
+                jsonValue = decimalValue.doubleValue();
             } else if (keyValue instanceof Number numberValue) {
-                if (numberValue instanceof Decimal64) {
-                    innerJson.add(key.getKey().getLocalName(), gson.toJsonTree(numberValue.doubleValue()));
-                } else {
-                    innerJson.add(key.getKey().getLocalName(), gson.toJsonTree(numberValue.longValue()));
-                }
-            // Other parse-able types.
+                jsonValue = numberValue.longValue();
+            } else if (keyValue instanceof Boolean) {
+                jsonValue = keyValue;
             } else {
-                innerJson.add(key.getKey().getLocalName(), gson.toJsonTree(keyValue));
+                jsonValue = String.valueOf(keyValue);
             }
+            result.put(key.getKey().getLocalName(), jsonValue);
         }
-
-        final JsonObject result = new JsonObject();
-        final JsonArray array = new JsonArray();
-        array.add(innerJson);
-        result.add(wrapper, array);
-        return gson.toJson(result);
+        return result;
     }
 
+    /**
+     * Wraps JSON into object, e.g. {@code <json>} becomes {@code {"wrapper":<json>}}.
+     *
+     * @param jsonString JSON value
+     * @param wrapper name of the wrapping element
+     * @param gson configuration of read and written JSON
+     * @return wrapped JSON
+     */
     public static String wrapJsonWithObject(final String jsonString, final String wrapper, final Gson gson) {
-        final JsonElement innerJson = JsonParser.parseString(jsonString);
-        final JsonObject result = new JsonObject();
-        result.add(wrapper, innerJson);
-        return gson.toJson(result);
+        return transform(jsonString, gson, (in, out) -> wrapJsonWithObject(in, wrapper, out));
+    }
+
+    /**
+     * Streaming variant of {@link #wrapJsonWithObject(String, String, Gson)}, tokens are copied from reader to
+     * writer without building JSON tree.
+     *
+     * @param in reader positioned at JSON value
+     * @param wrapper name of the wrapping element
+     * @param out writer of wrapped JSON
+     * @throws IOException if JSON can't be read or written
+     */
+    public static void wrapJsonWithObject(final JsonReader in, final String wrapper, final JsonWriter out)
+            throws IOException {
+        out.beginObject().name(wrapper);
+        copyJson(in, out);
+        out.endObject();
     }
 
+    /**
+     * Prefixes names of top-level objects of JSON with module name, unless they are already prefixed, e.g.
+     * {@code {"config":{data},"mtu":5}} becomes {@code {"module:config":{data},"mtu":5}}. Order of elements is kept.
+     *
+     * @param jsonString JSON object
+     * @param moduleName module name, JSON is left as it is if it is null
+     * @param gson configuration of read and written JSON
+     * @return JSON with prefixed names
+     */
     public static String addModuleNamePrefixToJson(final String jsonString, final String moduleName, final Gson gson) {
-        final JsonObject outerJson = JsonParser.parseString(jsonString).getAsJsonObject();
-        final Set<Map.Entry<String, JsonElement>> outerMap = outerJson.entrySet();
+        return transform(jsonString, gson, (in, out) -> addModuleNamePrefixToJson(in, moduleName, out));
+    }
 
-        if (outerMap.isEmpty()) {
-            return jsonString;
+    /**
+     * Streaming variant of {@link #addModuleNamePrefixToJson(String, String, Gson)}, tokens are copied from reader
+     * to writer without building JSON tree.
+     *
+     * @param in reader positioned at JSON object
+     * @param moduleName module name, JSON is copied as it is if it is null
+     * @param out writer of JSON with prefixed names
+     * @throws IOException if JSON can't be read or written
+     */
+    public static void addModuleNamePrefixToJson(final JsonReader in, final String moduleName, final JsonWriter out)
+            throws IOException {
+        in.beginObject();
+        out.beginObject();
+        while (in.hasNext()) {
+            final String name = in.nextName();
+            // apply moduleName only to top level objects, which are not prefixed yet
+            if (moduleName != null && in.peek() == JsonToken.BEGIN_OBJECT && name.indexOf(':') < 0) {
+                out.name(moduleName + ':' + name);
+            } else {
+                out.name(name);
+            }
+            copyJson(in, out);
         }
-        // Append moduleName to each outer json
-        final Map<String, JsonElement> resultMapWithPrefix = new HashMap<>();
-        for (Map.Entry<String, JsonElement> elem : outerMap) {
-            final JsonElement jsonElement = elem.getValue();
-            // apply moduleName only to top level objects
-            if (moduleName != null && jsonElement.isJsonObject()) {
-                String topLevelModuleName = elem.getKey();
-                // Apply moduleName, if it is not already applied
-                if (!elem.getKey().contains(":")) {
-                    topLevelModuleName = String.format("%s:%s", moduleName, elem.getKey());
+        in.endObject();
+        out.endObject();
+    }
+
+    /**
+     * Copies one JSON value (e.g. whole JSON document) token by token from reader to writer.
+     *
+     * @param in reader positioned at the value
+     * @param out writer to which the value is written
+     * @throws IOException if JSON can't be read or written
+     */
+    public static void copyJson(final JsonReader in, final JsonWriter out) throws IOException {
+        int depth = 0;
+        do {
+            switch (in.peek()) {
+                case BEGIN_OBJECT -> {
+                    in.beginObject();
+                    out.beginObject();
+                    depth++;
                 }
-                resultMapWithPrefix.put(topLevelModuleName, elem.getValue());
-            } else {
-                resultMapWithPrefix.put(elem.getKey(), elem.getValue());
+                case END_OBJECT -> {
+                    in.endObject();
+                    out.endObject();
+                    depth--;
+                }
+                case BEGIN_ARRAY -> {
+                    in.beginArray();
+                    out.beginArray();
+                    depth++;
+                }
+                case END_ARRAY -> {
+                    in.endArray();
+                    out.endArray();
+                    depth--;
+                }
+                case NAME -> out.name(in.nextName());
+                case STRING -> out.value(in.nextString());
+                // Number is copied as it was written, without conversion to double or long
+                case NUMBER -> out.jsonValue(in.nextString());
+                case BOOLEAN -> out.value(in.nextBoolean());
+                case NULL -> {
+                    in.nextNull();
+                    out.nullValue();
+                }
+                default -> throw new EOFException("JSON ended before the end of value at " + in.getPath());
             }
+        } while (depth > 0);
+    }
 
+    private static String transform(final String jsonString, final Gson gson, final JsonTransformation transformation) {
+        final StringWriter result = new StringWriter(jsonString.length() + 64);
+        try (JsonReader in = gson.newJsonReader(new StringReader(jsonString));
+             JsonWriter out = gson.newJsonWriter(result)) {
+            // Same leniency as JsonParser
+            in.setLenient(true);
+            transformation.apply(in, out);
+        } catch (IOException | IllegalStateException e) {
+            // IllegalStateException is thrown by reader for unexpected tokens, e.g. array instead of object
+            throw new JsonSyntaxException("Failed to transform JSON " + jsonString, e);
         }
-        return gson.toJson(resultMapWithPrefix);
+        return result.toString();
+    }
+
+    @FunctionalInterface
+    private interface JsonTransformation {
+        void apply(JsonReader in, JsonWriter out) throws IOException;
     }
 
     public static String wrapPrimitive(final String identifier, final String toWrap, final Gson gson) {
-        final JsonObject result = new JsonObject();
-        result.add(identifier, new JsonPrimitive(toWrap));
-        return gson.toJson(result);
+        return writePrimitive(identifier, gson, out -> out.value(toWrap));
     }
 
     public static String wrapPrimitive(final String identifier, final Boolean toWrap, final Gson gson) {
-        final JsonObject result = new JsonObject();
-        result.add(identifier, new JsonPrimitive(toWrap));
-        return gson.toJson(result);
+        return writePrimitive(identifier, gson, out -> out.value(toWrap));
     }
 
     public static String wrapPrimitive(final String identifier, final Number toWrap, final Gson gson) {
-        final JsonObject result = new JsonObject();
-        result.add(identifier, new JsonPrimitive(toWrap));
-        return gson.toJson(result);
+        return writePrimitive(identifier, gson, out -> out.value(toWrap));
     }
 
+    private static String writePrimitive(final String identifier, final Gson gson,
+            final PrimitiveWriter valueWriter) {
+        final StringWriter result = new StringWriter();
+        try (JsonWriter out = gson.newJsonWriter(result)) {
+            valueWriter.write(out.beginObject().name(identifier));
+            out.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException("Failed to write JSON value of " + identifier, e);
+        }
+        return result.toString();
+    }
+
+    @FunctionalInterface
+    private interface PrimitiveWriter {
+        void write(JsonWriter out) throws IOException;
+    }
 }
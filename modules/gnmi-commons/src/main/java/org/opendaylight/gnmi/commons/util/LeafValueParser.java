@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import java.util.Optional;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.IdentitySchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.type.BooleanTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.DecimalTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int8TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint8TypeDefinition;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+
+/**
+ * Parses string representation of values of leaves, leaf-lists and list keys (e.g. keys of gNMI PathElem) to their
+ * Java representation defined by the schema type of the node.
+ */
+public final class LeafValueParser {
+
+    private LeafValueParser() {
+        // Utility class
+    }
+
+    /**
+     * Returns type of typed node the stack points to, leafrefs are resolved to the type of referenced node.
+     *
+     * @param stack stack pointing to leaf, leaf-list or list key
+     * @return type of the values of the node
+     */
+    public static TypeDefinition<?> resolveType(@NonNull final SchemaInferenceStack stack) {
+        final TypeDefinition<?> type = ((TypedDataSchemaNode) stack.currentStatement()).typeDefinition();
+        return type instanceof LeafrefTypeDefinition leafref ? stack.resolveLeafref(leafref) : type;
+    }
+
+    /**
+     * Parses string representation of value to the Java representation of its type. Values of types without
+     * specific representation (string, enumeration, union ...) are returned as they are.
+     *
+     * @param type type of the value
+     * @param value string representation of the value
+     * @param context schema context defining the type
+     * @return value of the type
+     * @throws IllegalArgumentException if the value can't be converted to the type
+     */
+    public static Object parse(@NonNull final TypeDefinition<?> type, @NonNull final String value,
+            @NonNull final EffectiveModelContext context) {
+        try {
+            if (type instanceof BooleanTypeDefinition) {
+                return Boolean.valueOf(value);
+            } else if (type instanceof DecimalTypeDefinition) {
+                return Decimal64.valueOf(value);
+            } else if (type instanceof Int8TypeDefinition) {
+                return Byte.valueOf(value);
+            } else if (type instanceof Int16TypeDefinition) {
+                return Short.valueOf(value);
+            } else if (type instanceof Int32TypeDefinition) {
+                return Integer.valueOf(value);
+            } else if (type instanceof Int64TypeDefinition) {
+                return Long.valueOf(value);
+            } else if (type instanceof Uint8TypeDefinition) {
+                return Uint8.valueOf(value);
+            } else if (type instanceof Uint16TypeDefinition) {
+                return Uint16.valueOf(value);
+            } else if (type instanceof Uint32TypeDefinition) {
+                return Uint32.valueOf(value);
+            } else if (type instanceof Uint64TypeDefinition) {
+                return Uint64.valueOf(value);
+            } else if (type instanceof IdentityrefTypeDefinition identityref) {
+                return toIdentity(identityref, value, context);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Unable to convert value %s to type %s",
+                    value, type.getQName()), e);
+        }
+        return value;
+    }
+
+    private static QName toIdentity(final IdentityrefTypeDefinition type, final String value,
+            final EffectiveModelContext context) {
+        final ElementNameWithModuleName identityName = ElementNameWithModuleName.parseFromString(value);
+        if (identityName.hasModuleName()) {
+            final Optional<QNameModule> module = context.findModules(identityName.getModuleName()).stream()
+                    .findFirst()
+                    .map(Module::getQNameModule);
+            if (module.isPresent()) {
+                return QName.create(module.orElseThrow(), identityName.getElementName());
+            }
+        }
+        // Identity without module name is expected to be defined in the module of the base identity
+        if (type.getIdentities().isEmpty()) {
+            throw new IllegalArgumentException(String.format("Unable to resolve identity %s", value));
+        }
+        final IdentitySchemaNode baseIdentity = type.getIdentities().iterator().next();
+        return QName.create(baseIdentity.getQName(), identityName.getElementName());
+    }
+}
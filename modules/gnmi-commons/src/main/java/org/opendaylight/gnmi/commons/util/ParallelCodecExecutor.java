@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Bounded pool of threads converting chunks of large data in parallel, e.g. chunks of JSON of large lists. The pool
+ * is created and closed by the module which owns it, conversions of the module do not compete with other users
+ * of the common {@link java.util.concurrent.ForkJoinPool}.
+ *
+ * <p>Tasks over the capacity of the queue, tasks submitted by threads of the pool and tasks submitted after the pool
+ * is closed are run by the submitting thread, so each submitted task is run and conversions waiting for their chunks
+ * never wait for a task, which would not start. Closing the pool lets tasks already queued finish.</p>
+ */
+public final class ParallelCodecExecutor implements Executor, AutoCloseable {
+    public static final int DEFAULT_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private static final ParallelCodecExecutor SEQUENTIAL = new ParallelCodecExecutor();
+
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final @Nullable ThreadPoolExecutor executor;
+    private final String name;
+    private final int parallelism;
+
+    private ParallelCodecExecutor() {
+        this.executor = null;
+        this.name = "";
+        this.parallelism = 1;
+    }
+
+    private ParallelCodecExecutor(final String name, final int threads, final int queueCapacity) {
+        this.name = name;
+        this.parallelism = threads;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), this::newThread, (task, rejecting) -> task.run());
+    }
+
+    /**
+     * Returns executor which runs all tasks on the submitting thread.
+     *
+     * @return shared sequential executor, closing it has no effect
+     */
+    public static @NonNull ParallelCodecExecutor sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Creates executor with dedicated daemon threads.
+     *
+     * @param name prefix of names of the threads
+     * @param threads number of threads
+     * @param queueCapacity maximal number of tasks waiting for a thread
+     * @return executor, which has to be closed
+     */
+    public static @NonNull ParallelCodecExecutor create(final String name, final int threads,
+            final int queueCapacity) {
+        return new ParallelCodecExecutor(name, threads, queueCapacity);
+    }
+
+    private Thread newThread(final Runnable task) {
+        final Thread thread = new Thread(task, name + threadCount.getAndIncrement());
+        thread.setDaemon(true);
+        threads.add(thread);
+        return thread;
+    }
+
+    /**
+     * Returns number of tasks, which may run at the same time.
+     *
+     * @return number of threads, 1 for sequential executor
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        if (executor == null || threads.contains(Thread.currentThread())) {
+            // Thread of the pool waiting for its task would block the pool
+            task.run();
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
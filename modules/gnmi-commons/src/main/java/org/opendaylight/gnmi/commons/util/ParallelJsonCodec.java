@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import com.google.common.collect.Iterables;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+
+/**
+ * Parses and serializes JSON of very large YANG lists in chunks processed in parallel by
+ * {@link ParallelCodecExecutor} of the owner of the schema context. The calling thread converts one of the chunks
+ * itself and waits for the others.
+ *
+ * <p>Parsed JSON is split by a single pass of tokenizer: arrays of objects (lists), which are reachable from the root
+ * through objects only, are cut into chunks of about given size, each chunk wrapped by objects of its path, e.g.
+ * {@code {"oc-if:interfaces":{"interface":[entries]}}}. The rest of the JSON forms one more chunk. Chunks are parsed
+ * in parallel and the results are merged, entries of the lists in their original order.</p>
+ *
+ * <p>Serialized list, or serialized container with large lists among its children, is written by chunks of entries
+ * of the lists rendered in parallel and concatenated in their original order.</p>
+ */
+final class ParallelJsonCodec {
+    // Chunks per thread of the pool, so the work is balanced even if chunks take different time
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelJsonCodec() {
+        // Utility class
+    }
+
+    /**
+     * Returns size of chunks, so JSON of given length is split to a few chunks per thread of the pool.
+     *
+     * @param length length of JSON
+     * @param parallelism number of threads of the pool
+     * @return size of chunks in characters
+     */
+    static int chunkSize(final long length, final int parallelism) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, length / chunkCount(parallelism)));
+    }
+
+    /**
+     * Returns whether data is a list, or a container with a list child, with at least given number of entries.
+     *
+     * @param data serialized data
+     * @param minEntries minimal number of entries
+     * @return true if data should be serialized by {@link #writeValue}
+     */
+    static boolean hasLargeList(final NormalizedNode data, final int minEntries) {
+        if (data instanceof MapNode map) {
+            return map.size() >= minEntries;
+        }
+        if (data instanceof ContainerNode container) {
+            for (final DataContainerChild child : container.body()) {
+                if (child instanceof MapNode map && map.size() >= minEntries) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses JSON into data container holding its top-level elements, the same way as
+     * {@link DataConverter#nodeFromJsonReader}.
+     *
+     * @param reader reader of JSON object
+     * @param inference inference of the parent of the top-level elements
+     * @param codecFactory codec factory of the schema
+     * @param executor executor parsing the chunks
+     * @param chunkSize size of parsed chunks in characters
+     * @return data container with parsed top-level elements
+     */
+    static ContainerNode parse(final JsonReader reader, final Inference inference,
+            final JSONCodecFactory codecFactory, final ParallelCodecExecutor executor, final int chunkSize) {
+        final List<String> chunks = new ArrayList<>();
+        final StringWriter rest = new StringWriter();
+        try (JsonWriter restWriter = new JsonWriter(rest)) {
+            splitObject(reader, restWriter, new ArrayList<>(), chunks, chunkSize);
+        } catch (IOException | IllegalStateException e) {
+            throw new JsonSyntaxException("Failed to split JSON to chunks", e);
+        }
+        if (rest.getBuffer().length() > 2) {
+            chunks.add(rest.toString());
+        }
+        final List<NormalizedNode> parsed = convert(chunks,
+                chunk -> (NormalizedNode) DataConverter.parseDataContainer(new JsonReader(new StringReader(chunk)),
+                        inference, codecFactory), executor);
+        return parsed.isEmpty() ? DataConverter.parseDataContainer(new JsonReader(new StringReader("{}")),
+                inference, codecFactory) : (ContainerNode) merge(parsed);
+    }
+
+    private static void splitObject(final JsonReader in, final JsonWriter rest, final List<String> path,
+            final List<String> chunks, final int chunkSize) throws IOException {
+        in.beginObject();
+        rest.beginObject();
+        while (in.hasNext()) {
+            final String name = in.nextName();
+            path.add(name);
+            switch (in.peek()) {
+                case BEGIN_OBJECT -> {
+                    rest.name(name);
+                    splitObject(in, rest, path, chunks, chunkSize);
+                }
+                case BEGIN_ARRAY -> {
+                    in.beginArray();
+                    if (in.peek() == JsonToken.BEGIN_OBJECT) {
+                        splitList(in, path, chunks, chunkSize);
+                    } else {
+                        rest.name(name).beginArray();
+                        while (in.hasNext()) {
+                            JsonUtils.copyJson(in, rest);
+                        }
+                        rest.endArray();
+                    }
+                    in.endArray();
+                }
+                default -> {
+                    rest.name(name);
+                    JsonUtils.copyJson(in, rest);
+                }
+            }
+            path.remove(path.size() - 1);
+        }
+        in.endObject();
+        rest.endObject();
+    }
+
+    private static void splitList(final JsonReader in, final List<String> path, final List<String> chunks,
+            final int chunkSize) throws IOException {
+        while (in.hasNext()) {
+            final StringWriter chunk = new StringWriter();
+            final JsonWriter chunkWriter = new JsonWriter(chunk);
+            for (final String name : path) {
+                chunkWriter.beginObject().name(name);
+            }
+            chunkWriter.beginArray();
+            do {
+                JsonUtils.copyJson(in, chunkWriter);
+            } while (in.hasNext() && chunk.getBuffer().length() < chunkSize);
+            chunks.add(closeChunk(chunk, chunkWriter, path));
+        }
+    }
+
+    private static String closeChunk(final StringWriter chunk, final JsonWriter chunkWriter, final List<String> path)
+            throws IOException {
+        chunkWriter.endArray();
+        for (int i = 0; i < path.size(); i++) {
+            chunkWriter.endObject();
+        }
+        chunkWriter.close();
+        return chunk.toString();
+    }
+
+    /**
+     * Merges nodes parsed from chunks of the same JSON. Entries of lists are concatenated, children of containers
+     * and choices are merged recursively, other nodes are expected in one chunk only.
+     */
+    private static NormalizedNode merge(final List<NormalizedNode> nodes) {
+        final NormalizedNode first = nodes.get(0);
+        if (nodes.size() == 1) {
+            return first;
+        }
+        if (first instanceof UserMapNode map) {
+            final var builder = ImmutableNodes.newUserMapBuilder().withNodeIdentifier(map.name());
+            nodes.forEach(node -> ((MapNode) node).body().forEach(builder::withChild));
+            return builder.build();
+        }
+        if (first instanceof MapNode map) {
+            final var builder = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(map.name());
+            nodes.forEach(node -> ((MapNode) node).body().forEach(builder::withChild));
+            return builder.build();
+        }
+        if (first instanceof UnkeyedListNode list) {
+            final var builder = ImmutableNodes.newUnkeyedListBuilder().withNodeIdentifier(list.name());
+            nodes.forEach(node -> ((UnkeyedListNode) node).body().forEach(builder::withChild));
+            return builder.build();
+        }
+        if (first instanceof ContainerNode container) {
+            final var builder = ImmutableNodes.newContainerBuilder().withNodeIdentifier(container.name());
+            mergeChildren(nodes).forEach(builder::withChild);
+            return builder.build();
+        }
+        if (first instanceof ChoiceNode choice) {
+            final var builder = ImmutableNodes.newChoiceBuilder().withNodeIdentifier(choice.name());
+            mergeChildren(nodes).forEach(builder::withChild);
+            return builder.build();
+        }
+        // Not split, the last value wins the same way as when parsed at once
+        return nodes.get(nodes.size() - 1);
+    }
+
+    private static List<DataContainerChild> mergeChildren(final List<NormalizedNode> nodes) {
+        final Map<PathArgument, List<NormalizedNode>> children = new LinkedHashMap<>();
+        for (final NormalizedNode node : nodes) {
+            for (final DataContainerChild child : ((DataContainerNode) node).body()) {
+                children.computeIfAbsent(child.name(), name -> new ArrayList<>()).add(child);
+            }
+        }
+        final List<DataContainerChild> merged = new ArrayList<>(children.size());
+        children.values().forEach(sameChildren -> merged.add((DataContainerChild) merge(sameChildren)));
+        return merged;
+    }
+
+    /**
+     * Writes JSON value of data, which satisfies {@link #hasLargeList}, e.g. {@code [entries]} for list or
+     * {@code {data}} for container. Entries of large lists are rendered in parallel chunks.
+     *
+     * @param out writer of the value
+     * @param identifier identifier of the data, not empty
+     * @param data list or container with large lists
+     * @param codecCache codecs of the schema
+     * @param minEntries minimal number of entries of list rendered in chunks
+     * @throws IOException if JSON can't be written
+     */
+    static void writeValue(final JsonWriter out, final YangInstanceIdentifier identifier, final NormalizedNode data,
+            final CodecCache codecCache, final int minEntries) throws IOException {
+        if (data instanceof MapNode map) {
+            writeEntries(out, map, codecCache.parentInference(identifier), codecCache);
+            return;
+        }
+        final ContainerNode container = (ContainerNode) data;
+        final List<MapNode> largeLists = new ArrayList<>();
+        final var rest = ImmutableNodes.newContainerBuilder().withNodeIdentifier(container.name());
+        for (final DataContainerChild child : container.body()) {
+            if (child instanceof MapNode map && map.size() >= minEntries) {
+                largeLists.add(map);
+            } else {
+                rest.withChild(child);
+            }
+        }
+        out.beginObject();
+        // Other children are rendered at once and copied from the JSON {"module:container":{children}}
+        try (JsonReader restReader = new JsonReader(new StringReader(DataConverter.createJsonWithExclusiveWriter(
+                codecCache.parentInference(identifier), rest.build(), codecCache.getCodecFactory())))) {
+            restReader.beginObject();
+            if (restReader.hasNext()) {
+                restReader.nextName();
+                restReader.beginObject();
+                while (restReader.hasNext()) {
+                    out.name(restReader.nextName());
+                    JsonUtils.copyJson(restReader, out);
+                }
+                restReader.endObject();
+            }
+        }
+        final Inference containerInference = codecCache.inference(identifier);
+        final EffectiveModelContext context = codecCache.getContext();
+        for (final MapNode map : largeLists) {
+            final QName listName = map.name().getNodeType();
+            // Children from the module of the container are not prefixed by module name
+            out.name(listName.getModule().equals(container.name().getNodeType().getModule())
+                    ? listName.getLocalName()
+                    : qualifiedName(listName, context));
+            writeEntries(out, map, containerInference, codecCache);
+        }
+        out.endObject();
+    }
+
+    /**
+     * Returns name of the node prefixed by name of its module, as it is written for top-level nodes.
+     *
+     * @param name name of the node
+     * @param context schema context
+     * @return name prefixed by module name
+     */
+    static String qualifiedName(final QName name, final EffectiveModelContext context) {
+        return context.findModule(name.getModule()).orElseThrow().getName() + ':' + name.getLocalName();
+    }
+
+    private static void writeEntries(final JsonWriter out, final MapNode map, final Inference parentInference,
+            final CodecCache codecCache) throws IOException {
+        final ParallelCodecExecutor executor = codecCache.getParallelExecutor();
+        final int chunkEntries = Math.max(1, map.size() / chunkCount(executor.parallelism()));
+        final List<List<MapEntryNode>> chunks = new ArrayList<>();
+        Iterables.partition(map.body(), chunkEntries).forEach(chunks::add);
+        final List<String> rendered = convert(chunks, entries -> entriesJson(
+                DataConverter.createJsonWithExclusiveWriter(parentInference, listOf(map, entries),
+                        codecCache.getCodecFactory())), executor);
+        out.beginArray();
+        for (final String entries : rendered) {
+            // Raw entries separated by commas, next ones are separated by the writer
+            out.jsonValue(entries);
+        }
+        out.endArray();
+    }
+
+    private static MapNode listOf(final MapNode map, final List<MapEntryNode> entries) {
+        final NodeIdentifier name = map.name();
+        if (map instanceof UserMapNode) {
+            final var builder = ImmutableNodes.newUserMapBuilder().withNodeIdentifier(name);
+            entries.forEach(builder::withChild);
+            return builder.build();
+        }
+        final var builder = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(name);
+        entries.forEach(builder::withChild);
+        return builder.build();
+    }
+
+    /**
+     * Returns entries of JSON {@code {"module:list":[entries]}}, the array is opened by its first bracket (names of
+     * nodes can't contain brackets) and closed by its last bracket.
+     */
+    private static String entriesJson(final String listJson) {
+        return listJson.substring(listJson.indexOf('[') + 1, listJson.lastIndexOf(']'));
+    }
+
+    /**
+     * Converts chunks by the executor, the last chunk is converted by the calling thread.
+     */
+    private static <T, R> List<R> convert(final List<T> chunks, final Function<T, R> conversion,
+            final ParallelCodecExecutor executor) {
+        if (chunks.isEmpty()) {
+            return List.of();
+        }
+        final List<CompletableFuture<R>> submitted = new ArrayList<>(chunks.size() - 1);
+        for (final T chunk : chunks.subList(0, chunks.size() - 1)) {
+            submitted.add(CompletableFuture.supplyAsync(() -> conversion.apply(chunk), executor));
+        }
+        final R last = conversion.apply(chunks.get(chunks.size() - 1));
+        final List<R> converted = new ArrayList<>(chunks.size());
+        for (final CompletableFuture<R> future : submitted) {
+            try {
+                converted.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        converted.add(last);
+        return converted;
+    }
+
+    private static int chunkCount(final int parallelism) {
+        return CHUNKS_PER_THREAD * parallelism;
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import gnmi.Gnmi;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+
+/**
+ * Index of data tree of one {@link EffectiveModelContext}, which resolves gNMI Paths to YangInstanceIdentifiers.
+ *
+ * <p>Children of each data node are indexed by their local name, including children augmented from other modules
+ * and children nested in choices, and keys of each list are indexed together with their resolved types. A path is
+ * then resolved by one lookup per element. Nodes are indexed on first use, so only parts of the schema actually
+ * addressed by paths are indexed. Instances are cached by weak keys and they do not hold their context strongly, only
+ * schema nodes of the context, which do not refer to it, so an instance is released together with its context.</p>
+ *
+ * <p>Element names may be prefixed by module name (e.g. {@code openconfig-interfaces:interfaces}). Element without
+ * module name, which is defined by multiple modules, is resolved to the one defined by module named by origin of the
+ * path, or by module of its parent element. Top-level elements defined by multiple modules are not resolved
+ * otherwise.</p>
+ */
+public final class SchemaPathIndex {
+    private static final LoadingCache<EffectiveModelContext, SchemaPathIndex> INDEXES = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(CacheLoader.from(SchemaPathIndex::new));
+
+    // Cached value must not refer to its weak key, context is held by callers while paths are resolved
+    private final WeakReference<EffectiveModelContext> contextRef;
+    private final Node root = new Node(null, null, ImmutableList.of());
+
+    private SchemaPathIndex(final EffectiveModelContext context) {
+        this.contextRef = new WeakReference<>(context);
+    }
+
+    /**
+     * Returns index of given context.
+     *
+     * @param context schema context
+     * @return index shared by all users of the context
+     */
+    public static SchemaPathIndex forContext(@NonNull final EffectiveModelContext context) {
+        return INDEXES.getUnchecked(Objects.requireNonNull(context));
+    }
+
+    /**
+     * Resolves gNMI Path to YangInstanceIdentifier.
+     *
+     * @param path gNMI path
+     * @return identifier of the node addressed by path
+     * @throws IllegalArgumentException if path does not address any node of the schema
+     */
+    public YangInstanceIdentifier resolve(@NonNull final Gnmi.Path path) {
+        return resolve(Gnmi.Path.getDefaultInstance(), path);
+    }
+
+    /**
+     * Resolves gNMI Path relative to prefix (e.g. prefix of Notification) to YangInstanceIdentifier. Origin of path
+     * is used, if it is set, origin of prefix otherwise.
+     *
+     * @param prefix prefix of the path
+     * @param path gNMI path relative to prefix
+     * @return identifier of the node addressed by prefix and path
+     * @throws IllegalArgumentException if path does not address any node of the schema
+     */
+    public YangInstanceIdentifier resolve(@NonNull final Gnmi.Path prefix, @NonNull final Gnmi.Path path) {
+        final EffectiveModelContext context = contextRef.get();
+        if (context == null) {
+            throw new IllegalStateException("Schema context of the index was released");
+        }
+        final String origin = path.getOrigin().isEmpty() ? prefix.getOrigin() : path.getOrigin();
+        final List<PathArgument> arguments = new ArrayList<>(prefix.getElemCount() + path.getElemCount() + 2);
+        Node node = root;
+        for (final Gnmi.PathElem pathElem : prefix.getElemList()) {
+            node = resolveElem(context, node, pathElem, origin, prefix, arguments);
+        }
+        for (final Gnmi.PathElem pathElem : path.getElemList()) {
+            node = resolveElem(context, node, pathElem, origin, path, arguments);
+        }
+        return YangInstanceIdentifier.of(arguments);
+    }
+
+    private static Node resolveElem(final EffectiveModelContext context, final Node parent,
+            final Gnmi.PathElem pathElem, final String origin, final Gnmi.Path path,
+            final List<PathArgument> arguments) {
+        final Child child = parent.child(context, pathElem.getName(), origin, path);
+        arguments.addAll(child.choices());
+        arguments.add(child.identifier());
+        if (!pathElem.getKeyMap().isEmpty()) {
+            arguments.add(child.node().entryIdentifier(context, pathElem, path));
+        }
+        return child.node();
+    }
+
+    private static <T> ImmutableList<T> append(final List<T> list, final T item) {
+        return ImmutableList.<T>builderWithExpectedSize(list.size() + 1).addAll(list).add(item).build();
+    }
+
+    /**
+     * Child of data node, choices are the data tree nodes between its parent and the child itself.
+     */
+    private record Child(String moduleName, NodeIdentifier identifier, List<PathArgument> choices, Node node) {
+    }
+
+    /**
+     * List key and its type, leafrefs resolved.
+     */
+    private record Key(QName name, TypeDefinition<?> type) {
+    }
+
+    /**
+     * Indexed data node, the root node has no schema node. Children and keys are computed on first use, concurrent
+     * first uses compute equal values.
+     */
+    private static final class Node {
+        private final @Nullable DataSchemaNode schemaNode;
+        private final @Nullable DataNodeContainer container;
+        // Schema tree path of the node, choices and cases included
+        private final List<QName> schemaPath;
+        private volatile Map<String, List<Child>> children;
+        private volatile List<Key> keys;
+
+        Node(final @Nullable DataSchemaNode schemaNode, final @Nullable DataNodeContainer container,
+                final List<QName> schemaPath) {
+            this.schemaNode = schemaNode;
+            this.container = container;
+            this.schemaPath = schemaPath;
+        }
+
+        Child child(final EffectiveModelContext context, final String element, final String origin,
+                final Gnmi.Path path) {
+            if (schemaNode != null && container == null) {
+                throw new IllegalArgumentException(String.format("Element %s of path %s has no children",
+                        schemaNode.getQName().getLocalName(), path));
+            }
+            final ElementNameWithModuleName elementName = ElementNameWithModuleName.parseFromString(element);
+            final List<Child> candidates = children(context).getOrDefault(elementName.getElementName(), List.of());
+            if (elementName.hasModuleName()) {
+                for (final Child candidate : candidates) {
+                    if (candidate.moduleName().equals(elementName.getModuleName())) {
+                        return candidate;
+                    }
+                }
+            } else if (candidates.size() == 1) {
+                return candidates.get(0);
+            } else if (!candidates.isEmpty()) {
+                return preferredChild(candidates, origin, element, path);
+            }
+            throw new IllegalArgumentException(String.format("Unable to find element %s of path %s in schema",
+                    element, path));
+        }
+
+        private Child preferredChild(final List<Child> candidates, final String origin, final String element,
+                final Gnmi.Path path) {
+            if (!origin.isEmpty()) {
+                for (final Child candidate : candidates) {
+                    if (candidate.moduleName().equals(origin)) {
+                        return candidate;
+                    }
+                }
+            }
+            if (schemaNode != null) {
+                for (final Child candidate : candidates) {
+                    if (candidate.identifier().getNodeType().getModule().equals(schemaNode.getQName().getModule())) {
+                        return candidate;
+                    }
+                }
+            }
+            throw new IllegalArgumentException(String.format("Element %s of path %s is defined by multiple modules %s",
+                    element, path, candidates.stream().map(Child::moduleName).toList()));
+        }
+
+        NodeIdentifierWithPredicates entryIdentifier(final EffectiveModelContext context, final Gnmi.PathElem pathElem,
+                final Gnmi.Path path) {
+            if (!(schemaNode instanceof ListSchemaNode list)) {
+                throw new IllegalArgumentException(String.format("Element %s of path %s is not a list",
+                        pathElem.getName(), path));
+            }
+            final List<Key> listKeys = keys(context, list);
+            if (listKeys.size() == 1) {
+                final Key key = listKeys.get(0);
+                return NodeIdentifierWithPredicates.of(list.getQName(), key.name(), keyValue(context, key, pathElem));
+            }
+            final Map<QName, Object> values = new LinkedHashMap<>();
+            for (final Key key : listKeys) {
+                values.put(key.name(), keyValue(context, key, pathElem));
+            }
+            return NodeIdentifierWithPredicates.of(list.getQName(), values);
+        }
+
+        private static Object keyValue(final EffectiveModelContext context, final Key key,
+                final Gnmi.PathElem pathElem) {
+            final String value = pathElem.getKeyMap().get(key.name().getLocalName());
+            if (value == null) {
+                throw new IllegalArgumentException(String.format("Missing value of key %s of list %s",
+                        key.name().getLocalName(), pathElem.getName()));
+            }
+            return LeafValueParser.parse(key.type(), value, context);
+        }
+
+        private List<Key> keys(final EffectiveModelContext context, final ListSchemaNode list) {
+            List<Key> result = keys;
+            if (result == null) {
+                final ImmutableList.Builder<Key> builder = ImmutableList.builder();
+                for (final QName keyName : list.getKeyDefinition()) {
+                    final SchemaInferenceStack stack = SchemaInferenceStack.of(context,
+                            Absolute.of(append(schemaPath, keyName)));
+                    builder.add(new Key(keyName, LeafValueParser.resolveType(stack)));
+                }
+                result = builder.build();
+                keys = result;
+            }
+            return result;
+        }
+
+        private Map<String, List<Child>> children(final EffectiveModelContext context) {
+            Map<String, List<Child>> result = children;
+            if (result == null) {
+                final Map<String, List<Child>> indexed = new HashMap<>();
+                addChildren(context, schemaNode == null ? context : container, schemaPath, ImmutableList.of(),
+                        indexed);
+                final ImmutableMap.Builder<String, List<Child>> builder =
+                        ImmutableMap.builderWithExpectedSize(indexed.size());
+                indexed.forEach((name, nameChildren) -> builder.put(name, List.copyOf(nameChildren)));
+                result = builder.build();
+                children = result;
+            }
+            return result;
+        }
+
+        private static void addChildren(final EffectiveModelContext context, final DataNodeContainer parent,
+                final List<QName> parentPath, final List<PathArgument> choices,
+                final Map<String, List<Child>> indexed) {
+            for (final DataSchemaNode child : parent.getChildNodes()) {
+                final List<QName> childPath = append(parentPath, child.getQName());
+                if (child instanceof ChoiceSchemaNode choice) {
+                    // Choices are part of the data tree, cases are part of the schema tree only
+                    final List<PathArgument> childChoices = append(choices, NodeIdentifier.create(choice.getQName()));
+                    for (final CaseSchemaNode caseNode : choice.getCases()) {
+                        addChildren(context, caseNode, append(childPath, caseNode.getQName()), childChoices, indexed);
+                    }
+                } else {
+                    final String moduleName = context.findModule(child.getQName().getModule())
+                            .map(Module::getName)
+                            .orElse("");
+                    indexed.computeIfAbsent(child.getQName().getLocalName(), name -> new ArrayList<>())
+                            .add(new Child(moduleName, NodeIdentifier.create(child.getQName()), choices,
+                                    new Node(child, child instanceof DataNodeContainer childContainer
+                                            ? childContainer : null, childPath)));
+                }
+            }
+        }
+    }
+}
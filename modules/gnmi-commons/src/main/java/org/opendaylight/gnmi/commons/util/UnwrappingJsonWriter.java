@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Streaming {@link JsonWriter}, which drops the outer object of written JSON on the fly, e.g. JSON
+ * {@code {"config":{data}}} is written as {@code {data}}. Outer object with no value is written as {@code {}}.
+ */
+final class UnwrappingJsonWriter extends JsonWriter {
+    private final JsonWriter delegate;
+    // Nesting depth of written JSON, including the dropped outer object
+    private int depth;
+    private boolean unwrapped;
+
+    UnwrappingJsonWriter(final Writer out) {
+        // Everything is written by delegate, nothing is expected to reach the parent
+        super(Writer.nullWriter());
+        this.delegate = new JsonWriter(out);
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        if (depth++ > 0) {
+            delegate.beginObject();
+        }
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        if (--depth > 0) {
+            delegate.endObject();
+        } else if (!unwrapped) {
+            delegate.beginObject();
+            delegate.endObject();
+        }
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        checkUnwrapped();
+        depth++;
+        delegate.beginArray();
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        depth--;
+        delegate.endArray();
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(final String name) throws IOException {
+        if (depth > 1) {
+            delegate.name(name);
+        } else if (unwrapped) {
+            throw new IllegalStateException("Can't unwrap json object with multiple inner values");
+        } else {
+            unwrapped = true;
+        }
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final String value) throws IOException {
+        checkUnwrapped();
+        delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final boolean value) throws IOException {
+        checkUnwrapped();
+        delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final Boolean value) throws IOException {
+        checkUnwrapped();
+        delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final float value) throws IOException {
+        checkUnwrapped();
+        delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final double value) throws IOException {
+        checkUnwrapped();
+        delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final long value) throws IOException {
+        checkUnwrapped();
+        delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final Number value) throws IOException {
+        checkUnwrapped();
+        delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        checkUnwrapped();
+        delegate.nullValue();
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(final String value) throws IOException {
+        checkUnwrapped();
+        delegate.jsonValue(value);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        delegate.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private void checkUnwrapped() {
+        if (depth == 0) {
+            throw new IllegalStateException("Can't unwrap json, which is not a json object");
+        }
+    }
+}
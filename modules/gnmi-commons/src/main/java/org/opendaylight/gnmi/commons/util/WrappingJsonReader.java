@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Streaming {@link JsonReader}, which wraps JSON read from underlying reader on the fly, without building JSON tree.
+ *
+ * <p>Only the first name of the JSON is read ahead. If it is accepted by the predicate, the JSON is passed through
+ * unchanged. Otherwise the JSON is read as if it was wrapped into
+ * <ul>
+ *     <li>object {@code {"wrapper": <json>}}, see {@link JsonUtils#wrapJsonWithObject}</li>
+ *     <li>or array {@code {"wrapper": [<json object with keys>]}}, see {@link JsonUtils#wrapJsonWithArray}. Keys,
+ *     which are not present in the JSON object, are appended to its end.</li>
+ * </ul>
+ * Tokens of the wrapper are injected as synthetic tokens, so the JSON is parsed only once.</p>
+ */
+public final class WrappingJsonReader extends JsonReader {
+    private enum Mode {
+        UNKNOWN,
+        PASS_THROUGH,
+        WRAP_OBJECT,
+        WRAP_ARRAY
+    }
+
+    private record Token(JsonToken type, String value) {
+    }
+
+    private final JsonReader delegate;
+    private final String wrapper;
+    private final Predicate<String> rootedName;
+    private final Map<String, Token> missingKeys;
+    private final Deque<Token> injected = new ArrayDeque<>();
+    private final boolean wrapWithArray;
+    private Mode mode = Mode.UNKNOWN;
+    // Nesting depth of underlying reader
+    private int depth;
+    private boolean delegateDone;
+    private boolean wrapperClosed;
+
+    private WrappingJsonReader(final Reader in, final String wrapper, final Predicate<String> rootedName,
+                               final Map<String, Token> keys, final boolean wrapWithArray) {
+        super(in);
+        this.delegate = new JsonReader(in);
+        // Same leniency as applied by parsers of the whole document
+        this.delegate.setLenient(true);
+        this.wrapper = wrapper;
+        this.rootedName = rootedName;
+        this.missingKeys = keys;
+        this.wrapWithArray = wrapWithArray;
+    }
+
+    /**
+     * Creates reader wrapping JSON into object, unless the first name of JSON is accepted by predicate.
+     *
+     * @param in underlying reader
+     * @param wrapper name of the wrapping element
+     * @param rootedName accepts first name of JSON, which is already rooted at the wrapping element
+     * @return wrapping reader
+     */
+    public static WrappingJsonReader wrapWithObject(@NonNull final Reader in, @NonNull final String wrapper,
+                                                    @NonNull final Predicate<String> rootedName) {
+        return new WrappingJsonReader(in, wrapper, rootedName, Map.of(), false);
+    }
+
+    /**
+     * Creates reader wrapping JSON object into array entry with keys, unless the first name of JSON is accepted by
+     * predicate.
+     *
+     * @param in underlying reader
+     * @param wrapper name of the wrapping list
+     * @param rootedName accepts first name of JSON, which is already rooted at the wrapping element
+     * @param keys values of keys by their names, values are instances of String, Number or Boolean
+     * @return wrapping reader
+     */
+    public static WrappingJsonReader wrapWithArray(@NonNull final Reader in, @NonNull final String wrapper,
+                                                   @NonNull final Predicate<String> rootedName,
+                                                   @NonNull final Map<String, Object> keys) {
+        final Map<String, Token> keyTokens = new LinkedHashMap<>();
+        for (final Map.Entry<String, Object> key : keys.entrySet()) {
+            final Object value = key.getValue();
+            final JsonToken type;
+            if (value instanceof Number) {
+                type = JsonToken.NUMBER;
+            } else if (value instanceof Boolean) {
+                type = JsonToken.BOOLEAN;
+            } else {
+                type = JsonToken.STRING;
+            }
+            keyTokens.put(key.getKey(), new Token(type, String.valueOf(value)));
+        }
+        return new WrappingJsonReader(in, wrapper, rootedName, keyTokens, true);
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        prepare();
+        return injected.isEmpty() ? delegate.peek() : injected.peek().type;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        prepare();
+        if (injected.isEmpty()) {
+            return delegate.hasNext();
+        }
+        final JsonToken next = injected.peek().type;
+        return next != JsonToken.END_OBJECT && next != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            poll(JsonToken.BEGIN_OBJECT);
+        } else {
+            delegate.beginObject();
+            depth++;
+        }
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            poll(JsonToken.END_OBJECT);
+        } else {
+            delegate.endObject();
+            exitDelegate();
+        }
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            poll(JsonToken.BEGIN_ARRAY);
+        } else {
+            delegate.beginArray();
+            depth++;
+        }
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            poll(JsonToken.END_ARRAY);
+        } else {
+            delegate.endArray();
+            exitDelegate();
+        }
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            return poll(JsonToken.NAME);
+        }
+        final String name = delegate.nextName();
+        if (depth == 1 && mode == Mode.WRAP_ARRAY) {
+            missingKeys.remove(localName(name));
+        }
+        return name;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            final JsonToken type = injected.peek().type;
+            return poll(type == JsonToken.NUMBER ? JsonToken.NUMBER : JsonToken.STRING);
+        }
+        final String value = delegate.nextString();
+        valueConsumed();
+        return value;
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            return Boolean.parseBoolean(poll(JsonToken.BOOLEAN));
+        }
+        final boolean value = delegate.nextBoolean();
+        valueConsumed();
+        return value;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            poll(JsonToken.NULL);
+            return;
+        }
+        delegate.nextNull();
+        valueConsumed();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            return Double.parseDouble(poll(JsonToken.NUMBER));
+        }
+        final double value = delegate.nextDouble();
+        valueConsumed();
+        return value;
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            return Long.parseLong(poll(JsonToken.NUMBER));
+        }
+        final long value = delegate.nextLong();
+        valueConsumed();
+        return value;
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            return Integer.parseInt(poll(JsonToken.NUMBER));
+        }
+        final int value = delegate.nextInt();
+        valueConsumed();
+        return value;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        prepare();
+        if (!injected.isEmpty()) {
+            final JsonToken type = injected.peek().type;
+            if (type == JsonToken.NAME) {
+                // Skipping a name skips also its value
+                injected.poll();
+                skipValue();
+                return;
+            }
+            if (type == JsonToken.BEGIN_OBJECT || type == JsonToken.BEGIN_ARRAY) {
+                throw new IllegalStateException("Skipping of wrapper " + wrapper + " is not supported");
+            }
+            injected.poll();
+            return;
+        }
+        final boolean nested = delegate.peek() == JsonToken.BEGIN_OBJECT || delegate.peek() == JsonToken.BEGIN_ARRAY;
+        delegate.skipValue();
+        if (!nested) {
+            valueConsumed();
+        } else if (depth == 0) {
+            delegateDone = true;
+        }
+    }
+
+    @Override
+    public String getPath() {
+        return delegate.getPath();
+    }
+
+    @Override
+    public String getPreviousPath() {
+        return delegate.getPreviousPath();
+    }
+
+    @Override
+    public void close() throws IOException {
+        injected.clear();
+        delegate.close();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " wrapping with " + wrapper + " " + delegate;
+    }
+
+    private void prepare() throws IOException {
+        if (mode == Mode.UNKNOWN) {
+            readAhead();
+        }
+        if (!injected.isEmpty() || mode == Mode.PASS_THROUGH) {
+            return;
+        }
+        if (mode == Mode.WRAP_ARRAY && depth == 1 && !missingKeys.isEmpty()
+                && delegate.peek() == JsonToken.END_OBJECT) {
+            for (final Map.Entry<String, Token> key : missingKeys.entrySet()) {
+                inject(JsonToken.NAME, key.getKey());
+                injected.add(key.getValue());
+            }
+            missingKeys.clear();
+        } else if (delegateDone && !wrapperClosed) {
+            wrapperClosed = true;
+            if (mode == Mode.WRAP_ARRAY) {
+                inject(JsonToken.END_ARRAY, null);
+            }
+            inject(JsonToken.END_OBJECT, null);
+        }
+    }
+
+    private void readAhead() throws IOException {
+        if (delegate.peek() != JsonToken.BEGIN_OBJECT) {
+            if (wrapWithArray) {
+                throw new MalformedJsonException("Expected JSON object to be wrapped into " + wrapper + " but was "
+                        + delegate.peek() + delegateLocation());
+            }
+            // Primitive values and arrays are always wrapped
+            mode = Mode.WRAP_OBJECT;
+            injectWrapperStart();
+            return;
+        }
+        delegate.beginObject();
+        depth++;
+        final String firstName = delegate.hasNext() ? delegate.nextName() : null;
+        if (firstName != null && rootedName.test(firstName)) {
+            mode = Mode.PASS_THROUGH;
+        } else {
+            mode = wrapWithArray ? Mode.WRAP_ARRAY : Mode.WRAP_OBJECT;
+            injectWrapperStart();
+        }
+        // Replay tokens consumed by read-ahead
+        inject(JsonToken.BEGIN_OBJECT, null);
+        if (firstName != null) {
+            if (mode == Mode.WRAP_ARRAY) {
+                missingKeys.remove(localName(firstName));
+            }
+            inject(JsonToken.NAME, firstName);
+        }
+    }
+
+    private void injectWrapperStart() {
+        inject(JsonToken.BEGIN_OBJECT, null);
+        inject(JsonToken.NAME, wrapper);
+        if (mode == Mode.WRAP_ARRAY) {
+            inject(JsonToken.BEGIN_ARRAY, null);
+        }
+    }
+
+    private void inject(final JsonToken type, final String value) {
+        injected.add(new Token(type, value));
+    }
+
+    private String poll(final JsonToken expected) {
+        final Token token = injected.peek();
+        if (token.type != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + token.type + delegateLocation());
+        }
+        injected.poll();
+        return token.value;
+    }
+
+    private void exitDelegate() {
+        depth--;
+        if (depth == 0) {
+            delegateDone = true;
+        }
+    }
+
+    private void valueConsumed() {
+        if (depth == 0) {
+            delegateDone = true;
+        }
+    }
+
+    private String delegateLocation() {
+        return " at path " + delegate.getPath();
+    }
+
+    private static String localName(final String name) {
+        final int separator = name.lastIndexOf(':');
+        return separator < 0 ? name : name.substring(separator + 1);
+    }
+}
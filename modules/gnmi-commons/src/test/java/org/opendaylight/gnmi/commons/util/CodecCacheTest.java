@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import java.lang.ref.WeakReference;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class CodecCacheTest {
+    private static final String NAMESPACE = "tag:opendaylight.org.,2026:yang:test:v1:gnmi:converter:list";
+    private static final QName ITEMS = QName.create(NAMESPACE, "items");
+    private static final QName ITEM = QName.create(NAMESPACE, "item");
+    private static final QName ID = QName.create(NAMESPACE, "id");
+
+    private static final EffectiveModelContext CONTEXT = YangParserTestUtils.parseYangResources(
+            CodecCacheTest.class, "/test/schema/listModel.yang");
+
+    @Test
+    public void codecFactoryIsSharedByConversions() {
+        final CodecCache codecCache = new CodecCache(CONTEXT);
+        Assertions.assertSame(CONTEXT, codecCache.getContext());
+        Assertions.assertSame(codecCache.getCodecFactory(), codecCache.getCodecFactory());
+    }
+
+    @Test
+    public void cacheIsReleasedWithContext() throws InterruptedException {
+        EffectiveModelContext context = YangParserTestUtils.parseYangResources(CodecCacheTest.class,
+                "/test/schema/listModel.yang");
+        CodecCache codecCache = new CodecCache(context);
+        codecCache.inference(itemPath("a"));
+        final WeakReference<EffectiveModelContext> contextReference = new WeakReference<>(context);
+
+        // Owner drops the context and its cache
+        context = null;
+        codecCache = null;
+        for (int i = 0; i < 50 && contextReference.get() != null; i++) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        Assertions.assertNull(contextReference.get());
+    }
+
+    @Test
+    public void inferenceIsSharedByListEntries() {
+        final CodecCache codecCache = new CodecCache(CONTEXT);
+        Assertions.assertSame(codecCache.inference(itemPath("a")), codecCache.inference(itemPath("b")));
+        Assertions.assertSame(codecCache.parentInference(itemPath("a")),
+                codecCache.parentInference(itemPath("b")));
+        Assertions.assertNotSame(codecCache.inference(itemPath("a")), codecCache.parentInference(itemPath("a")));
+        Assertions.assertThrows(NoSuchElementException.class,
+                () -> codecCache.inference(YangInstanceIdentifier.of(QName.create(NAMESPACE, "unknown"))));
+    }
+
+    @Test
+    public void listEntryRoundTrip() {
+        final String json = "{\"list-model:item\":[{\"id\":\"a\",\"value\":10}]}";
+        final CodecCache codecCache = new CodecCache(CONTEXT);
+        final NormalizedNode node = DataConverter.nodeFromJsonString(itemPath("a"), json, codecCache);
+        final String serialized = DataConverter.jsonStringFromNormalizedNodes(itemPath("a"), node, codecCache);
+        Assertions.assertTrue(serialized.contains("\"value\":10"), serialized);
+        // Codecs created for one call produce the same data
+        Assertions.assertEquals(node, DataConverter.nodeFromJsonString(itemPath("b"),
+                "{\"list-model:item\":[{\"id\":\"a\",\"value\":10}]}", CONTEXT));
+    }
+
+    private static YangInstanceIdentifier itemPath(final String id) {
+        return YangInstanceIdentifier.builder()
+                .node(ITEMS)
+                .node(ITEM)
+                .nodeWithKey(ITEM, ID, id)
+                .build();
+    }
+}
@@ -32,6 +32,12 @@ class GnmiDataConverterTest {
         final Optional<? extends Module> unspecifiedRootModule
                 = DataConverter.findModuleByElement("root-container", schemaContext);
         Assertions.assertTrue(unspecifiedRootModule.isEmpty());
+
+        Assertions.assertTrue(DataConverter.findModuleByElement("root-model-3:root-container", schemaContext)
+                .isEmpty());
+        Assertions.assertTrue(DataConverter.findModuleByElement("unknown", schemaContext).isEmpty());
+        Assertions.assertSame(rootModel1.orElseThrow(),
+                DataConverter.findModuleByElement("root-model-1:root-container", schemaContext).orElseThrow());
     }
 
     private static EffectiveModelContext prepareSchemaWithMultipleRootContainersWithSameName() {
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares streaming JSON transformations of {@link JsonUtils} with transformations building JSON tree, which were
+ * used before. Run by {@code main} method from IDE, or with test classpath, allocation rate is reported by
+ * {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilsBenchmark {
+    private static final Gson GSON = new Gson();
+    private static final String WRAPPER = "openconfig-interfaces:interfaces";
+    private static final String MODULE = "openconfig-interfaces";
+    private static final String LIST_WRAPPER = "list-model:item";
+    private static final String NAMESPACE = "tag:opendaylight.org.,2026:yang:test:v1:gnmi:converter:list";
+    private static final QName ITEM = QName.create(NAMESPACE, "item");
+    private static final QName ID = QName.create(NAMESPACE, "id");
+    private static final NodeIdentifierWithPredicates PREDICATES = NodeIdentifierWithPredicates.of(ITEM, ID, "a");
+    private static final EffectiveModelContext CONTEXT = YangParserTestUtils.parseYangResources(
+            JsonUtilsBenchmark.class, "/test/schema/listModel.yang");
+
+    @Param({"10", "1000"})
+    private int entries;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        final StringBuilder builder = new StringBuilder("{\"interfaces\":{\"interface\":[");
+        for (int i = 0; i < entries; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"name\":\"eth").append(i).append("\",\"config\":{\"name\":\"eth").append(i)
+                    .append("\",\"mtu\":1500,\"enabled\":true,\"description\":\"Interface ").append(i)
+                    .append("\"},\"state\":{\"counters\":{\"in-octets\":").append(i * 1000L)
+                    .append(",\"out-octets\":").append(i * 2000L).append("}}}");
+        }
+        json = builder.append("]},\"mtu\":1500}").toString();
+    }
+
+    @Benchmark
+    public String wrapWithObjectTree() {
+        final JsonElement innerJson = JsonParser.parseString(json);
+        final JsonObject result = new JsonObject();
+        result.add(WRAPPER, innerJson);
+        return GSON.toJson(result);
+    }
+
+    @Benchmark
+    public String wrapWithObjectStreaming() {
+        return JsonUtils.wrapJsonWithObject(json, WRAPPER, GSON);
+    }
+
+    @Benchmark
+    public String addModuleNamePrefixTree() {
+        final JsonObject outerJson = JsonParser.parseString(json).getAsJsonObject();
+        // HashMap as in the original implementation, it does not keep order of the elements
+        final Map<String, JsonElement> result = new HashMap<>();
+        for (final Map.Entry<String, JsonElement> elem : outerJson.entrySet()) {
+            if (elem.getValue().isJsonObject() && !elem.getKey().contains(":")) {
+                result.put(String.format("%s:%s", MODULE, elem.getKey()), elem.getValue());
+            } else {
+                result.put(elem.getKey(), elem.getValue());
+            }
+        }
+        return GSON.toJson(result);
+    }
+
+    @Benchmark
+    public String addModuleNamePrefixStreaming() {
+        return JsonUtils.addModuleNamePrefixToJson(json, MODULE, GSON);
+    }
+
+    @Benchmark
+    public String wrapWithArrayTree() {
+        final JsonObject innerJson = JsonParser.parseString(json).getAsJsonObject();
+        for (final Map.Entry<String, Object> key : JsonUtils.jsonKeyValues(PREDICATES, CONTEXT).entrySet()) {
+            innerJson.add(key.getKey(), GSON.toJsonTree(key.getValue()));
+        }
+        final JsonArray array = new JsonArray();
+        array.add(innerJson);
+        final JsonObject result = new JsonObject();
+        result.add(LIST_WRAPPER, array);
+        return GSON.toJson(result);
+    }
+
+    @Benchmark
+    public String wrapWithArrayStreaming() {
+        return JsonUtils.wrapJsonWithArray(json, LIST_WRAPPER, GSON, PREDICATES, CONTEXT);
+    }
+
+    /*
+     Primitives do not depend on the number of entries, both parameters measure the same.
+     */
+    @Benchmark
+    public String wrapPrimitiveTree() {
+        final JsonObject result = new JsonObject();
+        result.add(WRAPPER, new JsonPrimitive(1500));
+        return GSON.toJson(result);
+    }
+
+    @Benchmark
+    public String wrapPrimitiveStreaming() {
+        return JsonUtils.wrapPrimitive(WRAPPER, 1500, GSON);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonUtilsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
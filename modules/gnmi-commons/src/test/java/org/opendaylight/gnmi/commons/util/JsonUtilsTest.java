@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class JsonUtilsTest {
+    private static final Gson GSON = new Gson();
+    private static final String NAMESPACE = "tag:opendaylight.org.,2026:yang:test:v1:gnmi:converter:list";
+    private static final QName ITEM = QName.create(NAMESPACE, "item");
+    private static final QName ID = QName.create(NAMESPACE, "id");
+
+    private static final EffectiveModelContext CONTEXT = YangParserTestUtils.parseYangResources(
+            JsonUtilsTest.class, "/test/schema/listModel.yang");
+
+    @Test
+    public void valueIsCopiedAsItIs() throws IOException {
+        final String json = "{\"a\":[1.50,2e3,-0,{\"b\":\"c\"}],\"d\":true,\"e\":{}}";
+        final StringWriter result = new StringWriter();
+        try (JsonReader in = new JsonReader(new StringReader(json));
+             JsonWriter out = new JsonWriter(result)) {
+            JsonUtils.copyJson(in, out);
+        }
+        Assertions.assertEquals(json, result.toString());
+    }
+
+    @Test
+    public void jsonIsWrappedWithObject() {
+        Assertions.assertEquals("{\"model:config\":{\"mtu\":100,\"name\":\"a\"}}",
+                JsonUtils.wrapJsonWithObject("{\"mtu\":100,\"name\":\"a\"}", "model:config", GSON));
+        Assertions.assertEquals("{\"model:mtu\":100}", JsonUtils.wrapJsonWithObject("100", "model:mtu", GSON));
+    }
+
+    @Test
+    public void jsonIsWrappedWithArrayAndKeys() {
+        final NodeIdentifierWithPredicates predicates = NodeIdentifierWithPredicates.of(ITEM, ID, "a");
+        // Missing key is appended
+        Assertions.assertEquals("{\"list-model:item\":[{\"value\":10,\"id\":\"a\"}]}",
+                JsonUtils.wrapJsonWithArray("{\"value\":10}", "list-model:item", GSON, predicates, CONTEXT));
+        // Present key is replaced in place
+        Assertions.assertEquals("{\"list-model:item\":[{\"id\":\"a\",\"value\":10}]}",
+                JsonUtils.wrapJsonWithArray("{\"id\":\"b\",\"value\":10}", "list-model:item", GSON, predicates,
+                        CONTEXT));
+    }
+
+    @Test
+    public void moduleNameIsAddedToTopLevelObjects() {
+        // Order of elements is kept, prefixed names and primitives are left as they are
+        Assertions.assertEquals("{\"model:z\":{\"a\":{\"b\":1}},\"other:y\":{},\"x\":5,\"model:w\":{}}",
+                JsonUtils.addModuleNamePrefixToJson("{\"z\":{\"a\":{\"b\":1}},\"other:y\":{},\"x\":5,\"w\":{}}",
+                        "model", GSON));
+        Assertions.assertEquals("{\"z\":{}}", JsonUtils.addModuleNamePrefixToJson("{\"z\":{}}", null, GSON));
+    }
+
+    @Test
+    public void primitiveIsWrapped() {
+        Assertions.assertEquals("{\"mtu\":100}", JsonUtils.wrapPrimitive("mtu", 100, GSON));
+        Assertions.assertEquals("{\"enabled\":true}", JsonUtils.wrapPrimitive("enabled", true, GSON));
+        Assertions.assertEquals("{\"name\":\"a\"}", JsonUtils.wrapPrimitive("name", "a", GSON));
+    }
+
+    @Test
+    public void malformedJsonIsRejected() {
+        Assertions.assertThrows(JsonSyntaxException.class,
+                () -> JsonUtils.wrapJsonWithObject("{\"mtu\":", "model:config", GSON));
+        Assertions.assertThrows(JsonSyntaxException.class,
+                () -> JsonUtils.addModuleNamePrefixToJson("[1]", "model", GSON));
+    }
+}
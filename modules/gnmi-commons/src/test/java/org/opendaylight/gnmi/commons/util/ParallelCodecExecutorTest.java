@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ParallelCodecExecutorTest {
+
+    @Test
+    public void tasksAreRunByThreadsOfThePool() throws Exception {
+        try (ParallelCodecExecutor executor = ParallelCodecExecutor.create("codec-test-", 1, 1)) {
+            Assertions.assertEquals(1, executor.parallelism());
+            final String thread = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor)
+                    .get(5, TimeUnit.SECONDS);
+            Assertions.assertTrue(thread.startsWith("codec-test-"));
+        }
+    }
+
+    @Test
+    public void tasksOverCapacityAreRunByCallingThread() throws Exception {
+        try (ParallelCodecExecutor executor = ParallelCodecExecutor.create("codec-test-", 1, 1)) {
+            final CountDownLatch release = new CountDownLatch(1);
+            // Occupies the only thread and the only place in the queue
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> awaitQuietly(release));
+
+            final AtomicReference<Thread> runBy = new AtomicReference<>();
+            executor.execute(() -> runBy.set(Thread.currentThread()));
+            Assertions.assertSame(Thread.currentThread(), runBy.get());
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void tasksSubmittedByThreadOfThePoolAreRunByIt() throws Exception {
+        try (ParallelCodecExecutor executor = ParallelCodecExecutor.create("codec-test-", 1, 1)) {
+            // Nested task would never start, if it waited for the only thread of the pool
+            final boolean sameThread = CompletableFuture.supplyAsync(() -> {
+                final Thread outer = Thread.currentThread();
+                return CompletableFuture.supplyAsync(Thread::currentThread, executor).join() == outer;
+            }, executor).get(5, TimeUnit.SECONDS);
+            Assertions.assertTrue(sameThread);
+        }
+    }
+
+    @Test
+    public void tasksAfterCloseAreRunByCallingThread() {
+        final ParallelCodecExecutor executor = ParallelCodecExecutor.create("codec-test-", 1, 1);
+        executor.close();
+        final AtomicReference<Thread> runBy = new AtomicReference<>();
+        executor.execute(() -> runBy.set(Thread.currentThread()));
+        Assertions.assertSame(Thread.currentThread(), runBy.get());
+    }
+
+    @Test
+    public void sequentialExecutorRunsTasksByCallingThread() {
+        final AtomicReference<Thread> runBy = new AtomicReference<>();
+        ParallelCodecExecutor.sequential().execute(() -> runBy.set(Thread.currentThread()));
+        Assertions.assertSame(Thread.currentThread(), runBy.get());
+        Assertions.assertEquals(1, ParallelCodecExecutor.sequential().parallelism());
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
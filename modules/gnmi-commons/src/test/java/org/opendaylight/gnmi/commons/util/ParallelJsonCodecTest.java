@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class ParallelJsonCodecTest {
+    private static final String NAMESPACE = "tag:opendaylight.org.,2026:yang:test:v1:gnmi:converter:list";
+    private static final QName ITEMS = QName.create(NAMESPACE, "items");
+    private static final QName ITEM = QName.create(NAMESPACE, "item");
+    private static final QName NOTE = QName.create(NAMESPACE, "note");
+    private static final int ENTRIES = 50;
+
+    private static final EffectiveModelContext CONTEXT = YangParserTestUtils.parseYangResources(
+            ParallelJsonCodecTest.class, "/test/schema/listModel.yang", "/test/schema/indexModel.yang");
+    // Queue smaller than number of chunks, so some chunks are converted by the calling thread
+    private static final ParallelCodecExecutor EXECUTOR = ParallelCodecExecutor.create("json-codec-test-", 2, 2);
+    private static final CodecCache CODEC_CACHE = new CodecCache(CONTEXT, EXECUTOR);
+
+    @AfterAll
+    public static void closeExecutor() {
+        EXECUTOR.close();
+    }
+
+    @Test
+    public void containerIsParsedInChunks() {
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(ITEMS);
+        final String json = "{\"list-model:items\":{\"owner\":\"admin\",\"item\":" + entries() + "}}";
+        final ContainerNode parsed = parseInChunks(path, json);
+        Assertions.assertEquals(parseAtOnce(path, json), parsed);
+        final ContainerNode items = (ContainerNode) parsed.body().iterator().next();
+        Assertions.assertEquals(2, items.size());
+    }
+
+    @Test
+    public void listIsParsedInChunks() {
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(ITEMS, ITEM);
+        final String json = "{\"list-model:item\":" + entries() + "}";
+        final ContainerNode parsed = parseInChunks(path, json);
+        Assertions.assertEquals(parseAtOnce(path, json), parsed);
+        Assertions.assertEquals(ENTRIES, ((MapNode) parsed.body().iterator().next()).size());
+    }
+
+    @Test
+    public void keylessListIsParsedInChunks() {
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(ITEMS);
+        final StringBuilder notes = new StringBuilder("[");
+        for (int i = 0; i < ENTRIES; i++) {
+            notes.append(i > 0 ? "," : "").append("{\"text\":\"note").append(i).append("\"}");
+        }
+        final String json = "{\"list-model:items\":{\"note\":" + notes.append(']') + "}}";
+        final ContainerNode parsed = parseInChunks(path, json);
+        Assertions.assertEquals(parseAtOnce(path, json), parsed);
+        // Entries of all chunks are kept in their original order
+        final ContainerNode items = (ContainerNode) parsed.body().iterator().next();
+        final UnkeyedListNode list = (UnkeyedListNode) items.body().iterator().next();
+        Assertions.assertEquals(NOTE, list.name().getNodeType());
+        Assertions.assertEquals(ENTRIES, list.size());
+    }
+
+    @Test
+    public void containerIsWrittenInChunks() throws IOException {
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(ITEMS);
+        final NormalizedNode node = DataConverter.nodeFromJsonString(path,
+                "{\"list-model:items\":{\"owner\":\"admin\",\"item\":" + entries() + "}}", CONTEXT);
+        Assertions.assertTrue(ParallelJsonCodec.hasLargeList(node, 10));
+        Assertions.assertFalse(ParallelJsonCodec.hasLargeList(node, ENTRIES + 1));
+
+        final StringWriter expected = new StringWriter();
+        DataConverter.writeJsonValue(path, node, CODEC_CACHE, expected);
+        Assertions.assertEquals(JsonParser.parseString(expected.toString()),
+                JsonParser.parseString(writeInChunks(path, node)));
+    }
+
+    @Test
+    public void listIsWrittenInChunks() throws IOException {
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(ITEMS, ITEM);
+        final String json = "{\"list-model:item\":" + entries() + "}";
+        final NormalizedNode node = DataConverter.nodeFromJsonString(path, json, CONTEXT);
+        final StringWriter expected = new StringWriter();
+        DataConverter.writeJsonValue(path, node, CODEC_CACHE, expected);
+        // Entries are written in the same order
+        Assertions.assertEquals(JsonParser.parseString(expected.toString()),
+                JsonParser.parseString(writeInChunks(path, node)));
+    }
+
+    private static String entries() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < ENTRIES; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":\"item").append(i).append("\",\"value\":").append(i);
+            // Augmented nodes, one of them in choice
+            if (i % 2 == 0) {
+                builder.append(",\"index-model:extra\":\"extra").append(i).append("\",\"index-model:speed\":")
+                        .append(i);
+            }
+            builder.append('}');
+        }
+        return builder.append(']').toString();
+    }
+
+    private static ContainerNode parseInChunks(final YangInstanceIdentifier path, final String json) {
+        return ParallelJsonCodec.parse(new JsonReader(new StringReader(json)), CODEC_CACHE.parentInference(path),
+                CODEC_CACHE.getCodecFactory(), EXECUTOR, 64);
+    }
+
+    private static ContainerNode parseAtOnce(final YangInstanceIdentifier path, final String json) {
+        return DataConverter.parseDataContainer(new JsonReader(new StringReader(json)),
+                CODEC_CACHE.parentInference(path), CODEC_CACHE.getCodecFactory());
+    }
+
+    private static String writeInChunks(final YangInstanceIdentifier path, final NormalizedNode node)
+            throws IOException {
+        final StringWriter writer = new StringWriter();
+        try (JsonWriter jsonWriter = new JsonWriter(writer)) {
+            ParallelJsonCodec.writeValue(jsonWriter, path, node, CODEC_CACHE, 10);
+        }
+        return writer.toString();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import gnmi.Gnmi;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class SchemaPathIndexTest {
+    private static final String LIST_NAMESPACE = "tag:opendaylight.org.,2026:yang:test:v1:gnmi:converter:list";
+    private static final String INDEX_NAMESPACE = "tag:opendaylight.org.,2026:yang:test:v1:gnmi:converter:index";
+    private static final QName ITEMS = QName.create(LIST_NAMESPACE, "items");
+    private static final QName ITEM = QName.create(LIST_NAMESPACE, "item");
+    private static final QName ID = QName.create(LIST_NAMESPACE, "id");
+    private static final QName MODE = QName.create(INDEX_NAMESPACE, "mode");
+    private static final QName SPEED = QName.create(INDEX_NAMESPACE, "speed");
+    private static final QName COUNTERS = QName.create(INDEX_NAMESPACE, "counters");
+    private static final QName COUNTER = QName.create(INDEX_NAMESPACE, "counter");
+    private static final QName INDEX = QName.create(INDEX_NAMESPACE, "index");
+    private static final QName ENABLED = QName.create(INDEX_NAMESPACE, "enabled");
+
+    private static final EffectiveModelContext CONTEXT = YangParserTestUtils.parseYangResources(
+            SchemaPathIndexTest.class, "/test/schema/listModel.yang", "/test/schema/indexModel.yang");
+
+    @Test
+    public void indexIsSharedPerContext() {
+        Assertions.assertSame(SchemaPathIndex.forContext(CONTEXT), SchemaPathIndex.forContext(CONTEXT));
+    }
+
+    @Test
+    public void indexIsReleasedWithContext() throws InterruptedException {
+        EffectiveModelContext context = YangParserTestUtils.parseYangResources(SchemaPathIndexTest.class,
+                "/test/schema/listModel.yang");
+        SchemaPathIndex.forContext(context).resolve(path(elem("items"), elem("item", Map.of("id", "a"))));
+        final WeakReference<EffectiveModelContext> contextReference = new WeakReference<>(context);
+
+        // Index stays cached, but it does not keep the context reachable
+        context = null;
+        for (int i = 0; i < 50 && contextReference.get() != null; i++) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        Assertions.assertNull(contextReference.get());
+    }
+
+    @Test
+    public void augmentedElementInChoiceIsResolved() {
+        final Gnmi.Path path = path(elem("list-model:items"), elem("item", Map.of("id", "a")), elem("speed"));
+        final YangInstanceIdentifier expected = YangInstanceIdentifier.builder()
+                .node(ITEMS)
+                .node(ITEM)
+                .nodeWithKey(ITEM, ID, "a")
+                .node(MODE)
+                .node(SPEED)
+                .build();
+        Assertions.assertEquals(expected, SchemaPathIndex.forContext(CONTEXT).resolve(path));
+    }
+
+    @Test
+    public void keysAreConvertedToTheirTypes() {
+        final Gnmi.Path path = path(elem("counters"), elem("counter", Map.of("index", "7", "enabled", "true")));
+        final YangInstanceIdentifier expected = YangInstanceIdentifier.builder()
+                .node(COUNTERS)
+                .node(COUNTER)
+                .node(NodeIdentifierWithPredicates.of(COUNTER, Map.of(INDEX, Uint16.valueOf(7), ENABLED, true)))
+                .build();
+        Assertions.assertEquals(expected, SchemaPathIndex.forContext(CONTEXT).resolve(path));
+    }
+
+    @Test
+    public void pathIsResolvedRelativeToPrefix() {
+        final Gnmi.Path prefix = path(elem("items"), elem("item", Map.of("id", "a")));
+        final Gnmi.Path path = path(elem("index-model:extra"));
+        final YangInstanceIdentifier expected = YangInstanceIdentifier.builder()
+                .node(ITEMS)
+                .node(ITEM)
+                .nodeWithKey(ITEM, ID, "a")
+                .node(QName.create(INDEX_NAMESPACE, "extra"))
+                .build();
+        Assertions.assertEquals(expected, SchemaPathIndex.forContext(CONTEXT).resolve(prefix, path));
+    }
+
+    @Test
+    public void invalidPathsAreRejected() {
+        final SchemaPathIndex index = SchemaPathIndex.forContext(CONTEXT);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> index.resolve(path(elem("items"), elem("unknown"))));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> index.resolve(path(elem("index-model:items"))));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> index.resolve(path(elem("counters"), elem("counter", Map.of("index", "7")))));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> index.resolve(path(elem("counters"), elem("counter", Map.of("index", "x", "enabled", "true")))));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> index.resolve(path(elem("items"), elem("item", Map.of("id", "a")), elem("id"), elem("x"))));
+    }
+
+    private static Gnmi.Path path(final Gnmi.PathElem... elems) {
+        final Gnmi.Path.Builder builder = Gnmi.Path.newBuilder();
+        for (final Gnmi.PathElem elem : elems) {
+            builder.addElem(elem);
+        }
+        return builder.build();
+    }
+
+    private static Gnmi.PathElem elem(final String name) {
+        return Gnmi.PathElem.newBuilder().setName(name).build();
+    }
+
+    private static Gnmi.PathElem elem(final String name, final Map<String, String> keys) {
+        return Gnmi.PathElem.newBuilder().setName(name).putAllKey(keys).build();
+    }
+}
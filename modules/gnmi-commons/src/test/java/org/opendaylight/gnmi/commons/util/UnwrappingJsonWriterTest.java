@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class UnwrappingJsonWriterTest {
+    private static final String NAMESPACE = "tag:opendaylight.org.,2026:yang:test:v1:gnmi:converter:list";
+    private static final QName ITEMS = QName.create(NAMESPACE, "items");
+    private static final QName ITEM = QName.create(NAMESPACE, "item");
+    private static final QName ID = QName.create(NAMESPACE, "id");
+    private static final QName VALUE = QName.create(NAMESPACE, "value");
+
+    private static final EffectiveModelContext CONTEXT = YangParserTestUtils.parseYangResources(
+            UnwrappingJsonWriterTest.class, "/test/schema/listModel.yang");
+    private static final CodecCache CODEC_CACHE = new CodecCache(CONTEXT);
+
+    @Test
+    public void containerIsWrittenWithoutOuterObject() throws IOException {
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(ITEMS);
+        final NormalizedNode node = DataConverter.nodeFromJsonString(path,
+                "{\"list-model:items\":{\"item\":[{\"id\":\"a\",\"value\":10}]}}", CONTEXT);
+        Assertions.assertEquals("{\"item\":[{\"id\":\"a\",\"value\":10}]}", writeJsonValue(path, node));
+    }
+
+    @Test
+    public void listEntryIsWrittenAsObject() throws IOException {
+        final YangInstanceIdentifier path = itemPath();
+        final NormalizedNode node = DataConverter.nodeFromJsonString(path,
+                "{\"list-model:item\":[{\"id\":\"a\",\"value\":10}]}", CONTEXT);
+        Assertions.assertEquals("{\"id\":\"a\",\"value\":10}", writeJsonValue(path, node));
+    }
+
+    @Test
+    public void leafIsWrittenAsPrimitive() throws IOException {
+        final YangInstanceIdentifier path = itemPath().node(VALUE);
+        final NormalizedNode node = DataConverter.nodeFromJsonString(path, "{\"list-model:value\":10}", CONTEXT);
+        Assertions.assertEquals("10", writeJsonValue(path, node));
+    }
+
+    private static String writeJsonValue(final YangInstanceIdentifier path, final NormalizedNode node)
+            throws IOException {
+        final StringWriter writer = new StringWriter();
+        DataConverter.writeJsonValue(path, node, CODEC_CACHE, writer);
+        return writer.toString();
+    }
+
+    private static YangInstanceIdentifier itemPath() {
+        return YangInstanceIdentifier.builder()
+                .node(ITEMS)
+                .node(ITEM)
+                .nodeWithKey(ITEM, ID, "a")
+                .build();
+    }
+}
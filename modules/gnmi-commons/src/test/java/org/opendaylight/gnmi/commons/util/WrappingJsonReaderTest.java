@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.commons.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WrappingJsonReaderTest {
+    private static final Gson GSON = new Gson();
+    private static final String WRAPPER = "model:config";
+    private static final Predicate<String> ROOTED = name -> name.endsWith("config");
+
+    @Test
+    public void rootedJsonIsNotWrapped() {
+        final String json = "{\"model:config\":{\"name\":\"a\",\"mtu\":100}}";
+        Assertions.assertEquals(JsonParser.parseString(json),
+                read(WrappingJsonReader.wrapWithObject(new StringReader(json), WRAPPER, ROOTED)));
+    }
+
+    @Test
+    public void deeperJsonIsWrappedWithObject() {
+        final String json = "{\"name\":\"a\",\"nested\":{\"list\":[1,2,{\"x\":null}]},\"enabled\":true}";
+        Assertions.assertEquals(JsonParser.parseString(JsonUtils.wrapJsonWithObject(json, WRAPPER, GSON)),
+                read(WrappingJsonReader.wrapWithObject(new StringReader(json), WRAPPER, ROOTED)));
+    }
+
+    @Test
+    public void primitiveIsWrappedWithObject() {
+        Assertions.assertEquals(JsonParser.parseString("{\"model:config\":42}"),
+                read(WrappingJsonReader.wrapWithObject(new StringReader("42"), WRAPPER, ROOTED)));
+        Assertions.assertEquals(JsonParser.parseString("{\"model:config\":{}}"),
+                read(WrappingJsonReader.wrapWithObject(new StringReader("{}"), WRAPPER, ROOTED)));
+    }
+
+    @Test
+    public void deeperJsonIsWrappedWithArrayAndKeys() {
+        final Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", "eth0");
+        keys.put("index", 5L);
+        keys.put("enabled", true);
+        final String json = "{\"mtu\":1500,\"model:index\":5,\"state\":{\"a\":[\"b\"]}}";
+        final JsonElement result = read(WrappingJsonReader.wrapWithArray(new StringReader(json), "model:interface",
+                name -> name.endsWith("interface"), keys));
+        // Key present in JSON is not duplicated, missing keys are appended
+        Assertions.assertEquals(JsonParser.parseString("{\"model:interface\":[{\"mtu\":1500,\"model:index\":5,"
+                + "\"state\":{\"a\":[\"b\"]},\"name\":\"eth0\",\"enabled\":true}]}"), result);
+    }
+
+    @Test
+    public void nonObjectIsNotWrappedWithArray() {
+        Assertions.assertThrows(IOException.class, () -> WrappingJsonReader.wrapWithArray(
+                new StringReader("[1]"), "model:interface", ROOTED, Map.of("name", "a")).peek());
+    }
+
+    private static JsonElement read(final JsonReader reader) {
+        final JsonElement element = JsonParser.parseReader(reader);
+        try {
+            Assertions.assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return element;
+    }
+}
@@ -10,6 +10,7 @@ package org.opendaylight.gnmi.connector.gnmi.session.api;
 import com.google.common.util.concurrent.ListenableFuture;
 import gnmi.Gnmi;
 import io.grpc.stub.StreamObserver;
+import java.util.concurrent.Executor;
 
 /**
  * Interface exposes basic gNMI methods of session. For more information about gNMI see
@@ -67,4 +68,20 @@ public interface GnmiSession {
      */
     StreamObserver<Gnmi.SubscribeRequest> subscribe(StreamObserver<Gnmi.SubscribeResponse> responseObserver);
 
+    /**
+     * Subscribe with flow control of the responses. Responses are requested from the target manually and buffered
+     * in bounded buffer, from which they are delivered to response observer on provided executor. When the buffer
+     * is full, overflow policy decides if the target is slowed down or which response is discarded.
+     * Reference: gNMI Specification Section 3.5
+     *
+     * @param responseObserver {@link StreamObserver} ("listener") to the responses from the target. Responses are
+     *                         delivered to it sequentially, from threads of the executor.
+     * @param bufferSize maximal number of buffered responses
+     * @param overflowPolicy policy applied when the buffer is full
+     * @param executor executor delivering responses to response observer
+     * @return opened stream, provides observer for requests and counters of discarded responses
+     */
+    SubscribeStream subscribe(StreamObserver<Gnmi.SubscribeResponse> responseObserver, int bufferSize,
+            SubscribeOverflowPolicy overflowPolicy, Executor executor);
+
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.connector.gnmi.session.api;
+
+/**
+ * Policy applied when buffer of flow-controlled subscribe stream is full.
+ */
+public enum SubscribeOverflowPolicy {
+    /**
+     * No more responses are requested from the target until the consumer processes buffered ones. The target
+     * is slowed down by gRPC flow control, no response is lost.
+     */
+    BLOCK,
+    /**
+     * Responses are read from the target as they arrive, the oldest buffered update is dropped to make room
+     * for the new one. Sync responses and errors are never dropped, buffer exceeds its size by the ones it holds.
+     */
+    DROP_OLDEST,
+    /**
+     * Responses are read from the target as they arrive, buffered update of the same paths is replaced
+     * by the new one, unless sync response was buffered after it. If there is no such update, the oldest
+     * buffered update is dropped as with {@link #DROP_OLDEST}.
+     */
+    CONFLATE_BY_PATH
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.connector.gnmi.session.api;
+
+import gnmi.Gnmi;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Flow-controlled gNMI Subscribe RPC opened by
+ * {@link GnmiSession#subscribe(StreamObserver, int, SubscribeOverflowPolicy, java.util.concurrent.Executor)}.
+ */
+public interface SubscribeStream {
+
+    /**
+     * Returns observer of requests of the stream. SubscribeRequest is sent to target via
+     * {@link StreamObserver#onNext(Object)}, the stream is cancelled via {@link StreamObserver#onError(Throwable)}.
+     *
+     * @return observer of requests
+     */
+    StreamObserver<Gnmi.SubscribeRequest> requestObserver();
+
+    /**
+     * Returns number of responses dropped because the buffer was full.
+     */
+    long getDroppedCount();
+
+    /**
+     * Returns number of responses replaced in the buffer by newer response of the same paths.
+     */
+    long getConflatedCount();
+
+    /**
+     * Returns number of responses waiting in the buffer for the consumer.
+     */
+    int getBufferedCount();
+}
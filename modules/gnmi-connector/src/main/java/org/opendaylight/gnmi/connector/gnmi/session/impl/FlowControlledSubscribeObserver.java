@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.connector.gnmi.session.impl;
+
+import com.google.common.base.Preconditions;
+import gnmi.Gnmi.Notification;
+import gnmi.Gnmi.Path;
+import gnmi.Gnmi.SubscribeRequest;
+import gnmi.Gnmi.SubscribeResponse;
+import gnmi.Gnmi.Update;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.gnmi.connector.gnmi.session.api.SubscribeOverflowPolicy;
+import org.opendaylight.gnmi.connector.gnmi.session.api.SubscribeStream;
+
+/**
+ * Response observer of Subscribe RPC with manual inbound flow control. Responses are buffered in bounded buffer
+ * and delivered to the delegate observer sequentially on provided executor.
+ */
+final class FlowControlledSubscribeObserver
+        implements ClientResponseObserver<SubscribeRequest, SubscribeResponse>, SubscribeStream {
+
+    private final StreamObserver<SubscribeResponse> delegate;
+    private final int bufferSize;
+    private final SubscribeOverflowPolicy overflowPolicy;
+    private final Executor executor;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong conflatedCount = new AtomicLong();
+    // Buffered responses in order of arrival, keyed by unique tokens
+    private final Map<Object, BufferedResponse> buffer = new LinkedHashMap<>();
+    // Tokens of buffered updates which may be replaced by newer update of the same paths, keyed by the paths
+    private final Map<Object, Object> conflatable = new HashMap<>();
+
+    private ClientCallStreamObserver<SubscribeRequest> requestStream;
+    private boolean draining;
+    private boolean terminated;
+    private boolean terminationDelivered;
+    private volatile Throwable terminationCause;
+
+    FlowControlledSubscribeObserver(final StreamObserver<SubscribeResponse> delegate, final int bufferSize,
+            final SubscribeOverflowPolicy overflowPolicy, final Executor executor) {
+        Preconditions.checkArgument(bufferSize > 0, "Buffer size must be positive, was %s", bufferSize);
+        this.delegate = delegate;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.executor = executor;
+    }
+
+    @Override
+    public void beforeStart(final ClientCallStreamObserver<SubscribeRequest> callStreamObserver) {
+        this.requestStream = callStreamObserver;
+        // With BLOCK policy there is never more responses requested than fits in the buffer
+        callStreamObserver.disableAutoRequestWithInitial(
+                overflowPolicy == SubscribeOverflowPolicy.BLOCK ? bufferSize : 1);
+    }
+
+    @Override
+    public void onNext(final SubscribeResponse response) {
+        synchronized (this) {
+            if (terminated) {
+                // Delivery of the stream has failed, the call is being cancelled
+                return;
+            }
+            final Object key = overflowPolicy == SubscribeOverflowPolicy.CONFLATE_BY_PATH
+                    ? conflationKey(response) : null;
+            final Object conflatedToken = key != null ? conflatable.get(key) : null;
+            if (conflatedToken != null) {
+                // Replaced response keeps its position, so the newest values are delivered as soon as possible.
+                // No sync response or delete was buffered after it, so the order of responses is kept
+                buffer.put(conflatedToken, new BufferedResponse(key, response));
+                conflatedCount.incrementAndGet();
+            } else {
+                if (buffer.size() >= bufferSize && overflowPolicy != SubscribeOverflowPolicy.BLOCK) {
+                    dropOldest();
+                }
+                final Object token = new Object();
+                buffer.put(token, new BufferedResponse(key, response));
+                if (key != null) {
+                    conflatable.put(key, token);
+                } else {
+                    // Updates buffered before sync response or delete are not replaced by updates received after it
+                    conflatable.clear();
+                }
+            }
+        }
+        if (overflowPolicy != SubscribeOverflowPolicy.BLOCK) {
+            requestStream.request(1);
+        }
+        scheduleDrain();
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        synchronized (this) {
+            if (terminated) {
+                // Call is cancelled after failed delivery, which is reported to the delegate instead
+                return;
+            }
+            terminated = true;
+            terminationCause = throwable;
+        }
+        scheduleDrain();
+    }
+
+    @Override
+    public void onCompleted() {
+        synchronized (this) {
+            terminated = true;
+        }
+        scheduleDrain();
+    }
+
+    @Override
+    public StreamObserver<SubscribeRequest> requestObserver() {
+        return requestStream;
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public long getConflatedCount() {
+        return conflatedCount.get();
+    }
+
+    @Override
+    public synchronized int getBufferedCount() {
+        return buffer.size();
+    }
+
+    /*
+     Only updates are dropped. Sync responses and errors are never dropped, the subscription would not get synced
+     or would miss its failure, so the buffer exceeds its size by the control responses it holds.
+     */
+    private void dropOldest() {
+        final Iterator<Map.Entry<Object, BufferedResponse>> iterator = buffer.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Object, BufferedResponse> entry = iterator.next();
+            if (entry.getValue().response().hasUpdate()) {
+                remove(iterator, entry);
+                return;
+            }
+        }
+    }
+
+    private void remove(final Iterator<Map.Entry<Object, BufferedResponse>> iterator,
+            final Map.Entry<Object, BufferedResponse> entry) {
+        iterator.remove();
+        forgetConflatable(entry);
+        droppedCount.incrementAndGet();
+    }
+
+    private void forgetConflatable(final Map.Entry<Object, BufferedResponse> entry) {
+        final Object key = entry.getValue().conflationKey();
+        if (key != null) {
+            conflatable.remove(key, entry.getKey());
+        }
+    }
+
+    private void scheduleDrain() {
+        synchronized (this) {
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        executor.execute(this::drain);
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private void drain() {
+        while (true) {
+            final SubscribeResponse next;
+            final boolean deliverTermination;
+            synchronized (this) {
+                final Iterator<Map.Entry<Object, BufferedResponse>> iterator = buffer.entrySet().iterator();
+                if (iterator.hasNext()) {
+                    final Map.Entry<Object, BufferedResponse> entry = iterator.next();
+                    iterator.remove();
+                    forgetConflatable(entry);
+                    next = entry.getValue().response();
+                    deliverTermination = false;
+                } else {
+                    next = null;
+                    draining = false;
+                    // Termination is delivered once, after all buffered responses
+                    deliverTermination = terminated && !terminationDelivered;
+                    terminationDelivered |= deliverTermination;
+                }
+            }
+            if (next == null) {
+                if (deliverTermination) {
+                    if (terminationCause == null) {
+                        delegate.onCompleted();
+                    } else {
+                        delegate.onError(terminationCause);
+                    }
+                }
+                return;
+            }
+            try {
+                delegate.onNext(next);
+            } catch (RuntimeException e) {
+                failDelivery(e);
+                continue;
+            }
+            if (overflowPolicy == SubscribeOverflowPolicy.BLOCK) {
+                requestStream.request(1);
+            }
+        }
+    }
+
+    /*
+     Failing delegate would fail on the rest of the stream too. Buffered responses are discarded and the call is
+     cancelled, the failure is delivered to the delegate as termination of the stream.
+     */
+    private void failDelivery(final RuntimeException cause) {
+        synchronized (this) {
+            buffer.clear();
+            conflatable.clear();
+            terminated = true;
+            terminationCause = cause;
+        }
+        requestStream.cancel("Failed to deliver subscribe response", cause);
+    }
+
+    /*
+     Updates are conflated when they carry the same prefix and the same update paths and delete nothing.
+     */
+    private static Object conflationKey(final SubscribeResponse response) {
+        if (!response.hasUpdate()) {
+            return null;
+        }
+        final Notification notification = response.getUpdate();
+        if (notification.getDeleteCount() > 0 || notification.getUpdateCount() == 0) {
+            return null;
+        }
+        final List<Path> paths = notification.getUpdateList().stream()
+                .map(Update::getPath)
+                .toList();
+        return List.of(notification.getPrefix(), paths);
+    }
+
+    private record BufferedResponse(Object conflationKey, SubscribeResponse response) {
+    }
+}
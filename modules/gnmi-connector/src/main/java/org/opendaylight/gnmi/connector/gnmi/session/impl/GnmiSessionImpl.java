@@ -22,7 +22,10 @@ import gnmi.gNMIGrpc.gNMIStub;
 import io.grpc.CallCredentials;
 import io.grpc.Channel;
 import io.grpc.stub.StreamObserver;
+import java.util.concurrent.Executor;
 import org.opendaylight.gnmi.connector.gnmi.session.api.GnmiSession;
+import org.opendaylight.gnmi.connector.gnmi.session.api.SubscribeOverflowPolicy;
+import org.opendaylight.gnmi.connector.gnmi.session.api.SubscribeStream;
 
 public class GnmiSessionImpl implements GnmiSession {
 
@@ -63,4 +66,13 @@ public class GnmiSessionImpl implements GnmiSession {
             final StreamObserver<SubscribeResponse> responseObserver) {
         return stub.subscribe(responseObserver);
     }
+
+    @Override
+    public synchronized SubscribeStream subscribe(final StreamObserver<SubscribeResponse> responseObserver,
+            final int bufferSize, final SubscribeOverflowPolicy overflowPolicy, final Executor executor) {
+        final FlowControlledSubscribeObserver observer = new FlowControlledSubscribeObserver(responseObserver,
+                bufferSize, overflowPolicy, executor);
+        stub.subscribe(observer);
+        return observer;
+    }
 }
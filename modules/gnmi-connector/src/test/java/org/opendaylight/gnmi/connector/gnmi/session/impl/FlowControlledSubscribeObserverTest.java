@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.connector.gnmi.session.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import gnmi.Gnmi;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.connector.gnmi.session.api.SubscribeOverflowPolicy;
+
+public class FlowControlledSubscribeObserverTest {
+
+    private static final RuntimeException DELIVERY_FAILURE = new IllegalStateException("Delivery failure");
+
+    private final List<Gnmi.SubscribeResponse> received = new ArrayList<>();
+    private final List<Throwable> errors = new ArrayList<>();
+    private final List<Throwable> cancelCauses = new ArrayList<>();
+    // Initial request followed by requests made after it
+    private final List<Integer> requests = new ArrayList<>();
+    // Drains are run only when the test runs them, so responses stay buffered meanwhile
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private FlowControlledSubscribeObserver observer;
+
+    @BeforeEach
+    public void setUp() {
+        observer = newObserver(SubscribeOverflowPolicy.CONFLATE_BY_PATH, 10);
+    }
+
+    @Test
+    public void updateIsNotConflatedAcrossSyncResponseTest() {
+        observer.onNext(update("counter", 1));
+        observer.onNext(sync());
+        observer.onNext(update("counter", 2));
+        observer.onNext(update("counter", 3));
+        runTasks();
+
+        assertEquals(List.of(update("counter", 1), sync(), update("counter", 3)), received);
+        assertEquals(1, observer.getConflatedCount());
+    }
+
+    @Test
+    public void conflatedUpdateKeepsItsPositionTest() {
+        observer.onNext(update("first", 1));
+        observer.onNext(update("second", 2));
+        observer.onNext(update("first", 3));
+        runTasks();
+
+        assertEquals(List.of(update("first", 3), update("second", 2)), received);
+        assertEquals(1, observer.getConflatedCount());
+    }
+
+    @Test
+    public void controlResponsesAreNeverDroppedTest() {
+        observer = newObserver(SubscribeOverflowPolicy.DROP_OLDEST, 2);
+        observer.onNext(sync());
+        observer.onNext(sync());
+        // Buffer holds only sync responses, so the update exceeds its size
+        observer.onNext(update("counter", 1));
+        assertEquals(3, observer.getBufferedCount());
+        observer.onNext(update("counter", 2));
+        assertEquals(3, observer.getBufferedCount());
+        runTasks();
+
+        assertEquals(List.of(sync(), sync(), update("counter", 2)), received);
+        assertEquals(1, observer.getDroppedCount());
+    }
+
+    @Test
+    public void updatesAreDroppedInsteadOfControlResponsesTest() {
+        observer = newObserver(SubscribeOverflowPolicy.DROP_OLDEST, 2);
+        observer.onNext(update("counter", 1));
+        observer.onNext(sync());
+        observer.onNext(update("counter", 2));
+        observer.onNext(update("counter", 3));
+        assertEquals(2, observer.getBufferedCount());
+        runTasks();
+
+        assertEquals(List.of(sync(), update("counter", 3)), received);
+        assertEquals(2, observer.getDroppedCount());
+    }
+
+    @Test
+    public void failingDelegateCancelsStreamTest() {
+        observer.onNext(update("counter", 1));
+        observer.onNext(update("failing", 2));
+        observer.onNext(update("counter", 3));
+        runTasks();
+
+        assertEquals(List.of(update("counter", 1)), received);
+        assertEquals(List.of(DELIVERY_FAILURE), cancelCauses);
+        assertEquals(List.of(DELIVERY_FAILURE), errors);
+        assertEquals(0, observer.getBufferedCount());
+
+        // Responses and cancellation arriving after the failure are not delivered, draining is not stuck
+        observer.onNext(update("counter", 4));
+        observer.onError(new IllegalStateException("Cancelled"));
+        runTasks();
+        assertEquals(List.of(update("counter", 1)), received);
+        assertEquals(List.of(DELIVERY_FAILURE), errors);
+    }
+
+    @Test
+    public void blockPolicyRequestsOnlyDeliveredResponsesTest() {
+        observer = newObserver(SubscribeOverflowPolicy.BLOCK, 2);
+        // Initially as many responses are requested as fit in the buffer
+        assertEquals(List.of(2), requests);
+
+        observer.onNext(update("counter", 1));
+        observer.onNext(update("counter", 2));
+        // Buffered responses are not requested again until they are delivered
+        assertEquals(List.of(2), requests);
+        runTasks();
+        assertEquals(List.of(update("counter", 1), update("counter", 2)), received);
+        assertEquals(List.of(2, 1, 1), requests);
+
+        // Responses over the buffer size are kept, nothing is dropped or conflated
+        observer.onNext(update("counter", 3));
+        observer.onNext(sync());
+        observer.onNext(update("counter", 4));
+        assertEquals(3, observer.getBufferedCount());
+        runTasks();
+        assertEquals(List.of(update("counter", 1), update("counter", 2), update("counter", 3), sync(),
+                update("counter", 4)), received);
+        assertEquals(List.of(2, 1, 1, 1, 1, 1), requests);
+        assertEquals(0, observer.getDroppedCount());
+        assertEquals(0, observer.getConflatedCount());
+    }
+
+    private FlowControlledSubscribeObserver newObserver(final SubscribeOverflowPolicy policy, final int bufferSize) {
+        final FlowControlledSubscribeObserver newObserver = new FlowControlledSubscribeObserver(
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(final Gnmi.SubscribeResponse value) {
+                        if (value.equals(update("failing", 2))) {
+                            throw DELIVERY_FAILURE;
+                        }
+                        received.add(value);
+                    }
+
+                    @Override
+                    public void onError(final Throwable throwable) {
+                        errors.add(throwable);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        // not used
+                    }
+                }, bufferSize, policy, tasks::add);
+        // Only requests of the last created observer are recorded
+        requests.clear();
+        newObserver.beforeStart(new TestCallStreamObserver());
+        return newObserver;
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    private static Gnmi.SubscribeResponse update(final String name, final long timestamp) {
+        return Gnmi.SubscribeResponse.newBuilder()
+                .setUpdate(Gnmi.Notification.newBuilder()
+                        .setTimestamp(timestamp)
+                        .addUpdate(Gnmi.Update.newBuilder()
+                                .setPath(Gnmi.Path.newBuilder().addElem(Gnmi.PathElem.newBuilder().setName(name)))))
+                .build();
+    }
+
+    private static Gnmi.SubscribeResponse sync() {
+        return Gnmi.SubscribeResponse.newBuilder().setSyncResponse(true).build();
+    }
+
+    private final class TestCallStreamObserver extends ClientCallStreamObserver<Gnmi.SubscribeRequest> {
+        @Override
+        public void cancel(final String message, final Throwable cause) {
+            cancelCauses.add(cause);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setOnReadyHandler(final Runnable onReadyHandler) {
+            // not used
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+            // not used
+        }
+
+        @Override
+        public void disableAutoRequestWithInitial(final int request) {
+            requests.add(request);
+        }
+
+        @Override
+        public void request(final int count) {
+            // Responses are pushed by the test
+            requests.add(count);
+        }
+
+        @Override
+        public void setMessageCompression(final boolean enable) {
+            // not used
+        }
+
+        @Override
+        public void onNext(final Gnmi.SubscribeRequest value) {
+            // not used
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            // not used
+        }
+
+        @Override
+        public void onCompleted() {
+            // not used
+        }
+    }
+}
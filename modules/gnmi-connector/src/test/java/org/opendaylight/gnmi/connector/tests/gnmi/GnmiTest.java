@@ -24,7 +24,11 @@ import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -33,6 +37,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opendaylight.gnmi.connector.configuration.SessionConfiguration;
 import org.opendaylight.gnmi.connector.gnmi.session.api.GnmiSession;
+import org.opendaylight.gnmi.connector.gnmi.session.api.SubscribeOverflowPolicy;
+import org.opendaylight.gnmi.connector.gnmi.session.api.SubscribeStream;
 import org.opendaylight.gnmi.connector.gnmi.util.AddressUtil;
 import org.opendaylight.gnmi.connector.session.api.SessionManager;
 import org.opendaylight.gnmi.connector.session.api.SessionProvider;
@@ -199,6 +205,56 @@ public class GnmiTest {
         server2.shutdown();
     }
 
+    @Test
+    public void conflatingSubscribeTest() throws Exception {
+        final SessionManager sessionManager = TestUtils.createSessionManagerWithCerts();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch consumerBlocked = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        final List<Long> received = new CopyOnWriteArrayList<>();
+        try (SessionProvider session =
+                     sessionManager.createSession(new SessionConfiguration(DEFAULT_SERVER_ADDRESS, true))) {
+            final SubscribeStream stream = session.getGnmiSession().subscribe(
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(final Gnmi.SubscribeResponse value) {
+                        received.add(value.getUpdate().getTimestamp());
+                        awaitLatch(consumerBlocked);
+                    }
+
+                    @Override
+                    public void onError(final Throwable throwable) {
+                        completed.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.countDown();
+                    }
+                }, 10, SubscribeOverflowPolicy.CONFLATE_BY_PATH, executor);
+            stream.requestObserver().onNext(Gnmi.SubscribeRequest.getDefaultInstance());
+
+            // Consumer is blocked by the first response, responses received meanwhile are conflated
+            assertTrue(service.allResponsesSent.await(TimeoutUtil.TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            consumerBlocked.countDown();
+            assertTrue(completed.await(TimeoutUtil.TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+            assertEquals(Long.valueOf(TestGrpcServiceImpl.RESPONSES_COUNT), received.get(received.size() - 1));
+            assertEquals(TestGrpcServiceImpl.RESPONSES_COUNT, received.size() + stream.getConflatedCount());
+            assertEquals(0, stream.getDroppedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitLatch(final CountDownLatch latch) {
+        try {
+            latch.await(TimeoutUtil.TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void assertCapabilitiesVersion(final String expectedGnmiVersion, final Gnmi.CapabilityRequest request,
                                            final List<GnmiSession> sessionsToCheck) {
         sessionsToCheck.forEach(gnmiSession -> {
@@ -213,8 +269,44 @@ public class GnmiTest {
     }
 
     private static final class TestGrpcServiceImpl extends gNMIGrpc.gNMIImplBase {
+        private static final int RESPONSES_COUNT = 100;
+
+        private final CountDownLatch allResponsesSent = new CountDownLatch(1);
         private String gnmiVersion = null;
 
+        @Override
+        public StreamObserver<Gnmi.SubscribeRequest> subscribe(
+                final StreamObserver<Gnmi.SubscribeResponse> responseObserver) {
+            return new StreamObserver<>() {
+                @Override
+                public void onNext(final Gnmi.SubscribeRequest request) {
+                    // Values of the same path, timestamp identifies the value
+                    final Gnmi.Path path = Gnmi.Path.newBuilder()
+                            .addElem(Gnmi.PathElem.newBuilder().setName("counter"))
+                            .build();
+                    for (long i = 1; i <= RESPONSES_COUNT; i++) {
+                        responseObserver.onNext(Gnmi.SubscribeResponse.newBuilder()
+                                .setUpdate(Gnmi.Notification.newBuilder()
+                                        .setTimestamp(i)
+                                        .addUpdate(Gnmi.Update.newBuilder().setPath(path)))
+                                .build());
+                    }
+                    responseObserver.onCompleted();
+                    allResponsesSent.countDown();
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    LOG.info("Service: subscribe stream failed", throwable);
+                }
+
+                @Override
+                public void onCompleted() {
+                    LOG.info("Service: subscribe stream completed");
+                }
+            };
+        }
+
         @Override
         public void capabilities(final gnmi.Gnmi.CapabilityRequest request,
                                  final StreamObserver<Gnmi.CapabilityResponse> responseObserver) {
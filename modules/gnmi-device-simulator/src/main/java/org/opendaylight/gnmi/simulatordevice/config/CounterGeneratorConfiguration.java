@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.config;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+/**
+ * Configuration of synthetic value generator of one leaf, e.g.
+ * <pre>
+ * {
+ *   "path": "/interfaces/interface[name=br0]/state/counters/in-octets",
+ *   "type": "MONOTONIC_COUNTER",
+ *   "output": "STREAM",
+ *   "rate": 10000
+ * }
+ * </pre>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class CounterGeneratorConfiguration {
+
+    public enum Type {
+        /**
+         * Value is increased by step with every update.
+         */
+        MONOTONIC_COUNTER,
+        /**
+         * Value is changed by random amount in range [-step, step] with every update, kept within
+         * [minValue, maxValue].
+         */
+        RANDOM_WALK_GAUGE,
+        /**
+         * Value cycles through configured values, e.g. UP and DOWN of oper-status.
+         */
+        FLAPPING
+    }
+
+    public enum Output {
+        /**
+         * Generated values are written to STATE datastore, from which they are read by Get and Subscribe.
+         */
+        DATASTORE,
+        /**
+         * Generated values are published directly to open STREAM subscriptions covering the path, bypassing
+         * the datastore. They are delivered according to mode of the subscription, after its sync_response.
+         */
+        STREAM
+    }
+
+    private String path;
+    private Type type = Type.MONOTONIC_COUNTER;
+    private Output output = Output.DATASTORE;
+    private double rate = 1;
+    private long initialValue;
+    private long step = 1;
+    private long minValue;
+    private long maxValue = 100;
+    private List<String> values = List.of("UP", "DOWN");
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Output getOutput() {
+        return output;
+    }
+
+    public void setOutput(Output output) {
+        this.output = output;
+    }
+
+    /**
+     * Returns number of generated updates per second.
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    public long getInitialValue() {
+        return initialValue;
+    }
+
+    public void setInitialValue(long initialValue) {
+        this.initialValue = initialValue;
+    }
+
+    public long getStep() {
+        return step;
+    }
+
+    public void setStep(long step) {
+        this.step = step;
+    }
+
+    public long getMinValue() {
+        return minValue;
+    }
+
+    public void setMinValue(long minValue) {
+        this.minValue = minValue;
+    }
+
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    public void setMaxValue(long maxValue) {
+        this.maxValue = maxValue;
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    public void setValues(List<String> values) {
+        this.values = values;
+    }
+}
@@ -12,6 +12,7 @@ import com.google.gson.Gson;
 import gnmi.Gnmi;
 import io.netty.channel.EventLoopGroup;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
 
@@ -33,6 +34,8 @@ public final class GnmiSimulatorConfiguration {
     private Gson gson;
     private EnumSet<Gnmi.Encoding> supportedEncodings;
     private Set<YangModuleInfo> yangModulesInfo;
+    private List<CounterGeneratorConfiguration> counterGenerators = List.of();
+    private int maxVirtualTargets;
 
     public void setYangModulesInfo(Set<YangModuleInfo> yangModulesInfo) {
         this.yangModulesInfo = yangModulesInfo;
@@ -161,4 +164,23 @@ public final class GnmiSimulatorConfiguration {
     public void setSupportedEncodings(EnumSet<Gnmi.Encoding> supportedEncodings) {
         this.supportedEncodings = supportedEncodings;
     }
+
+    public List<CounterGeneratorConfiguration> getCounterGenerators() {
+        return counterGenerators;
+    }
+
+    public void setCounterGenerators(List<CounterGeneratorConfiguration> counterGenerators) {
+        this.counterGenerators = counterGenerators;
+    }
+
+    /**
+     * Returns maximal number of virtual targets hosted by the simulator, virtual targets are disabled if zero.
+     */
+    public int getMaxVirtualTargets() {
+        return maxVirtualTargets;
+    }
+
+    public void setMaxVirtualTargets(int maxVirtualTargets) {
+        this.maxVirtualTargets = maxVirtualTargets;
+    }
 }
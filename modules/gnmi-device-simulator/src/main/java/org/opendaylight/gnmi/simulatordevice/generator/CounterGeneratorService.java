@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.generator;
+
+import gnmi.Gnmi;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.opendaylight.gnmi.simulatordevice.config.CounterGeneratorConfiguration;
+import org.opendaylight.gnmi.simulatordevice.gnmi.GnmiCrudService;
+import org.opendaylight.gnmi.simulatordevice.gnmi.GnmiSubscribeService;
+import org.opendaylight.gnmi.simulatordevice.yang.DataModification;
+import org.opendaylight.gnmi.simulatordevice.yang.DatastoreType;
+import org.opendaylight.gnmi.simulatordevice.yang.YangDataService;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.BooleanTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.DecimalTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int8TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint8TypeDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drives synthetic value generators configured by {@link CounterGeneratorConfiguration}.
+ *
+ * <p>All generators of the device are driven by one task running every {@link #TICK_INTERVAL} on the shared
+ * scheduler. Every tick generates updates which are due according to rates of generators. Values of DATASTORE
+ * generators are written to STATE datastore in one transaction per tick, only the latest value of each leaf is
+ * written. Updates of STREAM generators are published to open Subscribe streams, the n-th updates of all
+ * generators of the tick are published in one Notification. Paths of both outputs have to address a leaf, generated
+ * values are encoded according to its type.</p>
+ */
+public class CounterGeneratorService implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(CounterGeneratorService.class);
+
+    static final Duration TICK_INTERVAL = Duration.ofMillis(10);
+
+    private final YangDataService dataService;
+    private final GnmiSubscribeService subscribeService;
+    private final List<DatastoreTarget> datastoreTargets = new ArrayList<>();
+    private final List<ValueGenerator> streamGenerators = new ArrayList<>();
+    private final LongAdder generatedUpdates = new LongAdder();
+    private ScheduledFuture<?> tickTask;
+
+    public CounterGeneratorService(final List<CounterGeneratorConfiguration> configurations,
+                                   final EffectiveModelContext context, final GnmiCrudService crudService,
+                                   final YangDataService dataService, final GnmiSubscribeService subscribeService) {
+        this.dataService = dataService;
+        this.subscribeService = subscribeService;
+        for (final CounterGeneratorConfiguration config : configurations) {
+            final Gnmi.Path path = parsePath(config.getPath());
+            if (config.getRate() <= 0 || (config.getType() == CounterGeneratorConfiguration.Type.FLAPPING
+                    && (config.getValues() == null || config.getValues().isEmpty()))) {
+                throw new IllegalArgumentException("Invalid configuration of generator of path " + config.getPath());
+            }
+            // Paths of both outputs have to address a leaf, values are encoded according to its type
+            final YangInstanceIdentifier identifier = crudService.resolvePath(Gnmi.Path.getDefaultInstance(), path);
+            final TypeDefinition<?> type = leafType(identifier, context);
+            final Function<String, Object> converter = leafValueConverter(type);
+            validateValues(config, type, converter);
+            final ValueGenerator generator = ValueGenerator.create(path, valueType(type), config);
+            if (config.getOutput() == CounterGeneratorConfiguration.Output.STREAM) {
+                streamGenerators.add(generator);
+            } else {
+                datastoreTargets.add(new DatastoreTarget(generator, identifier, converter));
+            }
+        }
+    }
+
+    /**
+     * Starts generating values.
+     * @param scheduler scheduler driving the generators
+     */
+    public synchronized void start(final ScheduledExecutorService scheduler) {
+        if (tickTask != null || (datastoreTargets.isEmpty() && streamGenerators.isEmpty())) {
+            return;
+        }
+        final long now = System.nanoTime();
+        datastoreTargets.forEach(target -> target.generator.start(now));
+        streamGenerators.forEach(generator -> generator.start(now));
+        LOG.info("Starting {} generators of synthetic values", datastoreTargets.size() + streamGenerators.size());
+        tickTask = scheduler.scheduleAtFixedRate(this::tick, TICK_INTERVAL.toNanos(), TICK_INTERVAL.toNanos(),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns number of updates generated since start.
+     */
+    public long getGeneratedUpdateCount() {
+        return generatedUpdates.sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (tickTask != null) {
+            tickTask.cancel(false);
+            tickTask = null;
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:illegalCatch"})
+    private void tick() {
+        try {
+            final long now = System.nanoTime();
+            tickDatastore(now);
+            tickStream(now);
+        } catch (final Exception e) {
+            // Exception would cancel the periodic task, next tick may succeed
+            LOG.warn("Failed to generate synthetic values", e);
+        }
+    }
+
+    private void tickDatastore(final long now) {
+        if (datastoreTargets.isEmpty()) {
+            return;
+        }
+        final List<DataModification> modifications = new ArrayList<>(datastoreTargets.size());
+        for (final DatastoreTarget target : datastoreTargets) {
+            final int due = target.generator.accrue(now);
+            if (due > 0) {
+                for (int i = 0; i < due; i++) {
+                    target.generator.advance();
+                }
+                generatedUpdates.add(due);
+                modifications.add(DataModification.merge(target.identifier,
+                        ImmutableNodes.leafNode(target.leafIdentifier,
+                                target.converter.apply(target.generator.currentValue()))));
+            }
+        }
+        if (!modifications.isEmpty()) {
+            dataService.modifyData(DatastoreType.STATE, modifications);
+        }
+    }
+
+    private void tickStream(final long now) {
+        if (streamGenerators.isEmpty()) {
+            return;
+        }
+        final int[] due = new int[streamGenerators.size()];
+        int rounds = 0;
+        for (int i = 0; i < due.length; i++) {
+            due[i] = streamGenerators.get(i).accrue(now);
+            rounds = Math.max(rounds, due[i]);
+        }
+        final long timestamp = currentTimeNanos();
+        for (int round = 0; round < rounds; round++) {
+            // One Notification carries at most one update of each path
+            final Gnmi.Notification.Builder notification = Gnmi.Notification.newBuilder().setTimestamp(timestamp);
+            for (int i = 0; i < due.length; i++) {
+                if (due[i] > round) {
+                    notification.addUpdate(streamGenerators.get(i).nextUpdate());
+                }
+            }
+            generatedUpdates.add(notification.getUpdateCount());
+            subscribeService.publish(notification.build());
+        }
+    }
+
+    private static long currentTimeNanos() {
+        final Instant now = Instant.now();
+        return TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+    }
+
+    /**
+     * Parses path in form /elem/list[key=value][key2=value2]/leaf.
+     */
+    static Gnmi.Path parsePath(final String path) {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("Path of generator is not configured");
+        }
+        final Gnmi.Path.Builder builder = Gnmi.Path.newBuilder();
+        int position = path.startsWith("/") ? 1 : 0;
+        while (position < path.length()) {
+            final Gnmi.PathElem.Builder elem = Gnmi.PathElem.newBuilder();
+            int end = position;
+            while (end < path.length() && path.charAt(end) != '/' && path.charAt(end) != '[') {
+                end++;
+            }
+            elem.setName(path.substring(position, end));
+            while (end < path.length() && path.charAt(end) == '[') {
+                final int separator = path.indexOf('=', end);
+                final int close = path.indexOf(']', end);
+                if (separator < 0 || close < separator) {
+                    throw new IllegalArgumentException("Invalid key of element " + elem.getName() + " in " + path);
+                }
+                elem.putKey(path.substring(end + 1, separator), path.substring(separator + 1, close));
+                end = close + 1;
+            }
+            builder.addElem(elem);
+            position = end + 1;
+        }
+        return builder.build();
+    }
+
+    private static TypeDefinition<?> leafType(final YangInstanceIdentifier identifier,
+                                              final EffectiveModelContext context) {
+        final DataSchemaNode schemaNode = DataSchemaContextTree.from(context).enterPath(identifier)
+                .map(nodeAndStack -> nodeAndStack.node().dataSchemaNode())
+                .orElseThrow(() -> new IllegalArgumentException("Unable to find schema of " + identifier));
+        if (!(schemaNode instanceof LeafSchemaNode leafNode)) {
+            throw new IllegalArgumentException("Generated values are supported only for leaves, not " + identifier);
+        }
+        TypeDefinition<?> type = leafNode.typeDefinition();
+        while (type.getBaseType() != null) {
+            type = type.getBaseType();
+        }
+        return type;
+    }
+
+    /*
+     Counters produce numbers, flapping values are checked against the type of the leaf, so the generated values
+     are valid both in datastore and in the stream.
+     */
+    private static void validateValues(final CounterGeneratorConfiguration config, final TypeDefinition<?> type,
+                                       final Function<String, Object> converter) {
+        if (config.getType() != CounterGeneratorConfiguration.Type.FLAPPING) {
+            if (type instanceof BooleanTypeDefinition) {
+                throw new IllegalArgumentException("Counter can not generate values of boolean leaf "
+                        + config.getPath());
+            }
+            return;
+        }
+        for (final String value : config.getValues()) {
+            try {
+                converter.apply(value);
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException("Value " + value + " is not valid for leaf " + config.getPath(), e);
+            }
+        }
+    }
+
+    private static ValueGenerator.ValueType valueType(final TypeDefinition<?> type) {
+        if (type instanceof Uint64TypeDefinition || type instanceof Uint32TypeDefinition
+                || type instanceof Uint16TypeDefinition || type instanceof Uint8TypeDefinition) {
+            return ValueGenerator.ValueType.UINT;
+        } else if (type instanceof Int64TypeDefinition || type instanceof Int32TypeDefinition
+                || type instanceof Int16TypeDefinition || type instanceof Int8TypeDefinition) {
+            return ValueGenerator.ValueType.INT;
+        } else if (type instanceof DecimalTypeDefinition) {
+            return ValueGenerator.ValueType.DECIMAL;
+        } else if (type instanceof BooleanTypeDefinition) {
+            return ValueGenerator.ValueType.BOOLEAN;
+        }
+        return ValueGenerator.ValueType.STRING;
+    }
+
+    private static Function<String, Object> leafValueConverter(final TypeDefinition<?> type) {
+        if (type instanceof Uint64TypeDefinition) {
+            return Uint64::valueOf;
+        } else if (type instanceof Uint32TypeDefinition) {
+            return Uint32::valueOf;
+        } else if (type instanceof Uint16TypeDefinition) {
+            return Uint16::valueOf;
+        } else if (type instanceof Uint8TypeDefinition) {
+            return Uint8::valueOf;
+        } else if (type instanceof Int64TypeDefinition) {
+            return Long::valueOf;
+        } else if (type instanceof Int32TypeDefinition) {
+            return Integer::valueOf;
+        } else if (type instanceof Int16TypeDefinition) {
+            return Short::valueOf;
+        } else if (type instanceof Int8TypeDefinition) {
+            return Byte::valueOf;
+        } else if (type instanceof DecimalTypeDefinition) {
+            return Decimal64::valueOf;
+        } else if (type instanceof BooleanTypeDefinition) {
+            return CounterGeneratorService::parseBoolean;
+        }
+        // Strings, enumerations and other types are represented by String
+        return value -> value;
+    }
+
+    private static Boolean parseBoolean(final String value) {
+        if (!"true".equals(value) && !"false".equals(value)) {
+            throw new IllegalArgumentException("Invalid boolean value " + value);
+        }
+        return Boolean.valueOf(value);
+    }
+
+    private static final class DatastoreTarget {
+        private final ValueGenerator generator;
+        private final YangInstanceIdentifier identifier;
+        private final NodeIdentifier leafIdentifier;
+        private final Function<String, Object> converter;
+
+        DatastoreTarget(final ValueGenerator generator, final YangInstanceIdentifier identifier,
+                        final Function<String, Object> converter) {
+            this.generator = generator;
+            this.identifier = identifier;
+            this.leafIdentifier = (NodeIdentifier) identifier.getLastPathArgument();
+            this.converter = converter;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.generator;
+
+import gnmi.Gnmi;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.gnmi.simulatordevice.config.CounterGeneratorConfiguration;
+
+/**
+ * Generates values of one leaf at configured rate.
+ *
+ * <p>Update and value builders are allocated once and reused for every generated update. Generator is not
+ * thread-safe, it is driven by one task of {@link CounterGeneratorService}.</p>
+ */
+abstract class ValueGenerator {
+    // Updates not generated in time (e.g. when the scheduler was late) are dropped beyond this limit
+    private static final double MAX_BURST_SECONDS = 1;
+
+    private final Gnmi.Path path;
+    private final ValueType valueType;
+    private final Gnmi.Update.Builder updateBuilder;
+    private final Gnmi.TypedValue.Builder valueBuilder = Gnmi.TypedValue.newBuilder();
+    private final double updatesPerNano;
+    private final double maxCredit;
+    private double credit;
+    private long lastAccrualNanos;
+
+    ValueGenerator(final Gnmi.Path path, final ValueType valueType, final double rate) {
+        this.path = path;
+        this.valueType = valueType;
+        this.updateBuilder = Gnmi.Update.newBuilder().setPath(path);
+        this.updatesPerNano = rate / TimeUnit.SECONDS.toNanos(1);
+        this.maxCredit = Math.max(1, rate * MAX_BURST_SECONDS);
+    }
+
+    static ValueGenerator create(final Gnmi.Path path, final ValueType valueType,
+                                 final CounterGeneratorConfiguration config) {
+        return switch (config.getType()) {
+            case MONOTONIC_COUNTER -> new MonotonicCounter(path, valueType, config);
+            case RANDOM_WALK_GAUGE -> new RandomWalkGauge(path, valueType, config);
+            case FLAPPING -> new FlappingValue(path, valueType, config);
+        };
+    }
+
+    final Gnmi.Path path() {
+        return path;
+    }
+
+    final ValueType valueType() {
+        return valueType;
+    }
+
+    /**
+     * Starts accruing updates from now.
+     */
+    final void start(final long nowNanos) {
+        lastAccrualNanos = nowNanos;
+    }
+
+    /**
+     * Returns number of updates, which are due since the last call.
+     */
+    final int accrue(final long nowNanos) {
+        credit = Math.min(credit + (nowNanos - lastAccrualNanos) * updatesPerNano, maxCredit);
+        lastAccrualNanos = nowNanos;
+        final int due = (int) credit;
+        credit -= due;
+        return due;
+    }
+
+    /**
+     * Advances the value and returns update carrying it.
+     */
+    final Gnmi.Update nextUpdate() {
+        advance();
+        fillValue(valueBuilder);
+        return updateBuilder.setVal(valueBuilder).build();
+    }
+
+    /**
+     * Advances the value without building an update.
+     */
+    abstract void advance();
+
+    /**
+     * Returns current value as string, as it is represented in JSON.
+     */
+    abstract String currentValue();
+
+    abstract void fillValue(Gnmi.TypedValue.Builder builder);
+
+    /**
+     * Encoding of generated values in TypedValue, given by type of the generated leaf.
+     */
+    enum ValueType {
+        UINT, INT, DECIMAL, BOOLEAN, STRING;
+
+        void fill(final Gnmi.TypedValue.Builder builder, final long value) {
+            switch (this) {
+                case UINT -> builder.setUintVal(value);
+                case INT -> builder.setIntVal(value);
+                case DECIMAL -> builder.setDecimalVal(Gnmi.Decimal64.newBuilder().setDigits(value));
+                default -> builder.setStringVal(Long.toString(value));
+            }
+        }
+
+        void fill(final Gnmi.TypedValue.Builder builder, final String value) {
+            switch (this) {
+                case UINT -> builder.setUintVal(Long.parseUnsignedLong(value));
+                case INT -> builder.setIntVal(Long.parseLong(value));
+                case DECIMAL -> {
+                    final BigDecimal decimal = new BigDecimal(value);
+                    builder.setDecimalVal(Gnmi.Decimal64.newBuilder()
+                            .setDigits(decimal.unscaledValue().longValueExact())
+                            .setPrecision(decimal.scale()));
+                }
+                case BOOLEAN -> builder.setBoolVal(Boolean.parseBoolean(value));
+                default -> builder.setStringVal(value);
+            }
+        }
+    }
+
+    private static final class MonotonicCounter extends ValueGenerator {
+        private final long step;
+        private long value;
+
+        MonotonicCounter(final Gnmi.Path path, final ValueType valueType,
+                         final CounterGeneratorConfiguration config) {
+            super(path, valueType, config.getRate());
+            this.step = config.getStep();
+            this.value = config.getInitialValue();
+        }
+
+        @Override
+        void advance() {
+            value += step;
+        }
+
+        @Override
+        String currentValue() {
+            return Long.toUnsignedString(value);
+        }
+
+        @Override
+        void fillValue(final Gnmi.TypedValue.Builder builder) {
+            valueType().fill(builder, value);
+        }
+    }
+
+    private static final class RandomWalkGauge extends ValueGenerator {
+        private final long step;
+        private final long minValue;
+        private final long maxValue;
+        private long value;
+
+        RandomWalkGauge(final Gnmi.Path path, final ValueType valueType,
+                        final CounterGeneratorConfiguration config) {
+            super(path, valueType, config.getRate());
+            this.step = config.getStep();
+            this.minValue = config.getMinValue();
+            this.maxValue = config.getMaxValue();
+            this.value = Math.clamp(config.getInitialValue(), minValue, maxValue);
+        }
+
+        @Override
+        void advance() {
+            final long delta = ThreadLocalRandom.current().nextLong(-step, step + 1);
+            value = Math.clamp(value + delta, minValue, maxValue);
+        }
+
+        @Override
+        String currentValue() {
+            return Long.toString(value);
+        }
+
+        @Override
+        void fillValue(final Gnmi.TypedValue.Builder builder) {
+            valueType().fill(builder, value);
+        }
+    }
+
+    private static final class FlappingValue extends ValueGenerator {
+        private final List<String> values;
+        private int index;
+
+        FlappingValue(final Gnmi.Path path, final ValueType valueType, final CounterGeneratorConfiguration config) {
+            super(path, valueType, config.getRate());
+            this.values = List.copyOf(config.getValues());
+        }
+
+        @Override
+        void advance() {
+            index = (index + 1) % values.size();
+        }
+
+        @Override
+        String currentValue() {
+            return values.get(index);
+        }
+
+        @Override
+        void fillValue(final Gnmi.TypedValue.Builder builder) {
+            valueType().fill(builder, values.get(index));
+        }
+    }
+}
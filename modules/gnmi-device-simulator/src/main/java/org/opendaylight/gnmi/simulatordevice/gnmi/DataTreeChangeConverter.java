@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.gnmi;
+
+import com.google.protobuf.ByteString;
+import gnmi.Gnmi;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+
+/**
+ * Converts changes of datastore data into minimal set of gNMI updates and deletes.
+ *
+ * <p>Only modified leaves are reported for modified containers and list entries. Newly created subtree is reported
+ * as one update containing the whole subtree, removed subtree as one delete. Leaf-lists are always reported as
+ * a whole, because gNMI paths can not address their entries.</p>
+ */
+final class DataTreeChangeConverter {
+
+    private final GnmiCrudService crudService;
+
+    DataTreeChangeConverter(final GnmiCrudService crudService) {
+        this.crudService = crudService;
+    }
+
+    /**
+     * Adds changes of data under the path to the notification.
+     *
+     * @param change change of the data, rooted at identifier or at any of its ancestors
+     * @param path gNMI path of the subscribed data
+     * @param identifier identifier of the subscribed data
+     * @param notification notification collecting updates and deletes
+     */
+    void collectChanges(final DataTreeCandidate change, final Gnmi.Path path,
+                        final YangInstanceIdentifier identifier, final Gnmi.Notification.Builder notification) {
+        final YangInstanceIdentifier rootPath = change.getRootPath();
+        if (!rootPath.contains(identifier)) {
+            return;
+        }
+        final List<PathArgument> arguments = identifier.getPathArguments();
+        DataTreeCandidateNode node = change.getRootNode();
+        for (final PathArgument argument : arguments.subList(rootPath.getPathArguments().size(), arguments.size())) {
+            node = node.modifiedChild(argument);
+            if (node == null) {
+                return;
+            }
+        }
+        collect(node, path, identifier, notification);
+    }
+
+    private void collect(final DataTreeCandidateNode node, final Gnmi.Path path,
+                         final YangInstanceIdentifier identifier, final Gnmi.Notification.Builder notification) {
+        final NormalizedNode before = node.dataBefore();
+        final NormalizedNode after = node.dataAfter();
+        switch (node.modificationType()) {
+            case UNMODIFIED:
+                break;
+            case DELETE:
+            case DISAPPEARED:
+                if (before instanceof ChoiceNode) {
+                    // Choice has no gNMI path of its own, report its children
+                    collectChildren(node, path, identifier, notification);
+                } else if (before != null) {
+                    notification.addDelete(path);
+                }
+                break;
+            default:
+                if (after == null || Objects.equals(before, after)) {
+                    break;
+                }
+                if (after instanceof ChoiceNode
+                        || (before != null && (after instanceof DataContainerNode || after instanceof MapNode))) {
+                    collectChildren(node, path, identifier, notification);
+                } else {
+                    notification.addUpdate(toUpdate(path, identifier, after));
+                }
+                break;
+        }
+    }
+
+    private void collectChildren(final DataTreeCandidateNode node, final Gnmi.Path path,
+                                 final YangInstanceIdentifier identifier,
+                                 final Gnmi.Notification.Builder notification) {
+        for (final DataTreeCandidateNode child : node.childNodes()) {
+            collect(child, childPath(path, child), identifier.node(child.name()), notification);
+        }
+    }
+
+    private Gnmi.Update toUpdate(final Gnmi.Path path, final YangInstanceIdentifier identifier,
+                                 final NormalizedNode data) {
+        final String json = crudService.getResultInJsonFormat(Map.entry(path, identifier), data).getValue();
+        return Gnmi.Update.newBuilder()
+                .setPath(path)
+                .setVal(Gnmi.TypedValue.newBuilder().setJsonIetfVal(ByteString.copyFromUtf8(json)))
+                .build();
+    }
+
+    private Gnmi.Path childPath(final Gnmi.Path parentPath, final DataTreeCandidateNode child) {
+        final NormalizedNode data = child.dataAfter() != null ? child.dataAfter() : child.dataBefore();
+        if (data instanceof ChoiceNode) {
+            return parentPath;
+        }
+        if (child.name() instanceof NodeIdentifierWithPredicates entryIdentifier) {
+            // List entry is addressed by keys of the last element, which represents the list
+            final int lastIndex = parentPath.getElemCount() - 1;
+            final Gnmi.PathElem.Builder entryElem = parentPath.getElem(lastIndex).toBuilder();
+            for (final Map.Entry<QName, Object> key : entryIdentifier.entrySet()) {
+                entryElem.putKey(key.getKey().getLocalName(), keyValue(key.getValue()));
+            }
+            return parentPath.toBuilder().setElem(lastIndex, entryElem).build();
+        }
+        return parentPath.toBuilder()
+                .addElem(Gnmi.PathElem.newBuilder().setName(child.name().getNodeType().getLocalName()))
+                .build();
+    }
+
+    private String keyValue(final Object value) {
+        // Identityref keys are encoded with module name prefix, as in JSON_IETF values
+        return value instanceof QName identity ? crudService.identityToJsonValue(identity) : String.valueOf(value);
+    }
+}
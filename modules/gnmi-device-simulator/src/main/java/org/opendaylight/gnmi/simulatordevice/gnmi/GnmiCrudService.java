@@ -11,46 +11,32 @@ import com.google.common.collect.Iterables;
 import com.google.gson.Gson;
 import com.google.protobuf.ByteString;
 import gnmi.Gnmi;
-import gnmi.Gnmi.Path;
-import gnmi.Gnmi.PathElem;
 import io.grpc.Metadata;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import org.opendaylight.gnmi.commons.util.CodecCache;
 import org.opendaylight.gnmi.commons.util.DataConverter;
-import org.opendaylight.gnmi.commons.util.ElementNameWithModuleName;
 import org.opendaylight.gnmi.commons.util.JsonUtils;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
+import org.opendaylight.gnmi.commons.util.SchemaPathIndex;
+import org.opendaylight.gnmi.simulatordevice.yang.DataModification;
 import org.opendaylight.gnmi.simulatordevice.yang.DatastoreType;
 import org.opendaylight.gnmi.simulatordevice.yang.YangDataService;
-import org.opendaylight.yangtools.yang.common.Decimal64;
 import org.opendaylight.yangtools.yang.common.QName;
-import org.opendaylight.yangtools.yang.common.QNameModule;
-import org.opendaylight.yangtools.yang.common.Uint16;
-import org.opendaylight.yangtools.yang.common.Uint32;
-import org.opendaylight.yangtools.yang.common.Uint64;
-import org.opendaylight.yangtools.yang.common.Uint8;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
-import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
-import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.Module;
-import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
-import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
-import org.opendaylight.yangtools.yang.model.api.meta.BuiltInType;
-import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
-import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
-import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,18 +46,27 @@ public class GnmiCrudService {
 
     private final YangDataService dataService;
     private final EffectiveModelContext context;
+    // Codecs of the context, used by all conversions of data of the device
+    private final CodecCache codecCache;
     private final Gson gson;
 
     public GnmiCrudService(final YangDataService dataService, final EffectiveModelContext context, final Gson gson) {
+        this(dataService, context, gson, ParallelCodecExecutor.sequential());
+    }
+
+    public GnmiCrudService(final YangDataService dataService, final EffectiveModelContext context, final Gson gson,
+                           final ParallelCodecExecutor codecExecutor) {
         this.dataService = dataService;
         this.context = context;
+        this.codecCache = new CodecCache(context, codecExecutor);
         this.gson = gson;
     }
 
     // The response is always in json format, even with simple types
     Gnmi.GetResponse get(final Gnmi.GetRequest request) {
         // create YANG instance identifiers from the Gnmi.Path
-        final Map<Gnmi.Path, YangInstanceIdentifier> identifierMap = pathToIdentifierMap(request.getPathList());
+        final Map<Gnmi.Path, YangInstanceIdentifier> identifierMap = pathToIdentifierMap(request.getPrefix(),
+                request.getPathList());
 
         // Get config data from in-memory storage and store under the map
         final Map<Gnmi.Path, String> resultMap = new HashMap<>();
@@ -105,6 +100,7 @@ public class GnmiCrudService {
             final Gnmi.Update update = Gnmi.Update.newBuilder().setPath(entry.getKey()).setVal(typedValue).build();
             final long timeStampMillis = Instant.now().toEpochMilli();
             final Gnmi.Notification notification = Gnmi.Notification.newBuilder().addUpdate(update)
+                    .setPrefix(request.getPrefix())
                     .setTimestamp(timeStampMillis).build();
             responseBuilder.addNotification(notification);
         }
@@ -119,25 +115,45 @@ public class GnmiCrudService {
 
     Gnmi.SetResponse set(final Gnmi.SetRequest request) {
         final Gnmi.SetResponse.Builder builder = Gnmi.SetResponse.newBuilder();
+        // All modifications of the request are committed in one transaction
+        final List<DataModification> modifications = new ArrayList<>();
 
         if (request.getReplaceCount() > 0) {
-            final List<Gnmi.UpdateResult> replaceResults = processUpdateList(request.getReplaceList(), true);
+            final List<Gnmi.UpdateResult> replaceResults = processUpdateList(request.getPrefix(),
+                    request.getReplaceList(), true, modifications);
             builder.addAllResponse(replaceResults);
         }
 
         // delete section
         if (request.getDeleteCount() > 0) {
-            final List<Gnmi.UpdateResult> deleteResults = processDelete(request.getDeleteList());
+            final List<Gnmi.UpdateResult> deleteResults = processDelete(request.getPrefix(), request.getDeleteList(),
+                    modifications);
             builder.addAllResponse(deleteResults);
         }
 
         // update section
         if (request.getUpdateCount() > 0) {
-            final List<Gnmi.UpdateResult> updateResults = processUpdateList(request.getUpdateList(), false);
+            final List<Gnmi.UpdateResult> updateResults = processUpdateList(request.getPrefix(),
+                    request.getUpdateList(), false, modifications);
             builder.addAllResponse(updateResults);
         }
 
-        return builder.build();
+        if (!modifications.isEmpty()) {
+            dataService.modifyData(DatastoreType.CONFIGURATION, modifications);
+        }
+        return builder.setPrefix(request.getPrefix()).build();
+    }
+
+    /**
+     * Returns value of identity as encoded in JSON, i.e. prefixed by name of its module.
+     *
+     * @param identity identity value, e.g. key of list entry
+     * @return name of the identity prefixed by module name, only the name if the module is unknown
+     */
+    String identityToJsonValue(final QName identity) {
+        return DataConverter.findModuleByQName(identity, context)
+                .map(module -> module.getName() + ":" + identity.getLocalName())
+                .orElse(identity.getLocalName());
     }
 
     Map.Entry<Gnmi.Path, String> getResultInJsonFormat(final Map.Entry<Gnmi.Path, YangInstanceIdentifier> entry,
@@ -146,16 +162,17 @@ public class GnmiCrudService {
                 = DataConverter.findModuleByQName(node.name().getNodeType(), context);
         final String moduleName = module.map(Module::getName).orElse(null);
 
-        final String jsonValue = DataConverter.jsonStringFromNormalizedNodes(entry.getValue(), node, context);
+        final String jsonValue = DataConverter.jsonStringFromNormalizedNodes(entry.getValue(), node, codecCache);
         final String jsonWithModuleNamePrefix = JsonUtils.addModuleNamePrefixToJson(jsonValue, moduleName, gson);
         return new SimpleEntry<>(entry.getKey(), jsonWithModuleNamePrefix);
     }
 
-    private List<Gnmi.UpdateResult> processDelete(final List<Gnmi.Path> paths) {
+    private List<Gnmi.UpdateResult> processDelete(final Gnmi.Path prefix, final List<Gnmi.Path> paths,
+                                                  final List<DataModification> modifications) {
         final List<Gnmi.UpdateResult> deleteResults = new ArrayList<>();
-        final Map<Gnmi.Path, YangInstanceIdentifier> identifierMap = pathToIdentifierMap(paths);
+        final Map<Gnmi.Path, YangInstanceIdentifier> identifierMap = pathToIdentifierMap(prefix, paths);
         for (final Gnmi.Path path : paths) {
-            dataService.deleteDataByPath(DatastoreType.CONFIGURATION, identifierMap.get(path));
+            modifications.add(DataModification.delete(identifierMap.get(path)));
             deleteResults.add(Gnmi.UpdateResult.newBuilder()
                     .setPath(path)
                     .setOp(Gnmi.UpdateResult.Operation.DELETE)
@@ -164,11 +181,13 @@ public class GnmiCrudService {
         return deleteResults;
     }
 
-    private List<Gnmi.UpdateResult> processUpdateList(final List<Gnmi.Update> updateList, final boolean isReplace) {
+    private List<Gnmi.UpdateResult> processUpdateList(final Gnmi.Path prefix, final List<Gnmi.Update> updateList,
+                                                      final boolean isReplace,
+                                                      final List<DataModification> modifications) {
         final List<Gnmi.UpdateResult> results = new ArrayList<>();
         final List<Gnmi.Path> pathList = updateList.stream().map(Gnmi.Update::getPath)
                 .collect(Collectors.toList());
-        final Map<Gnmi.Path, YangInstanceIdentifier> identifierMap = pathToIdentifierMap(pathList);
+        final Map<Gnmi.Path, YangInstanceIdentifier> identifierMap = pathToIdentifierMap(prefix, pathList);
 
         for (final Gnmi.Update update : updateList) {
             final YangInstanceIdentifier identifier = identifierMap.get(update.getPath());
@@ -181,9 +200,9 @@ public class GnmiCrudService {
                 if (!update.getVal().getJsonIetfVal().isEmpty()) {
                     // Json sets are permitted only for non simple types
                     updateResult = processUpdateListNonSimpleValue(update, identifier, optModule.orElseThrow(),
-                        isReplace);
+                        isReplace, modifications);
                 } else {
-                    updateResult = processUpdateListSimpleValue(update, identifier);
+                    updateResult = processUpdateListSimpleValue(update, identifier, modifications);
                 }
                 results.add(updateResult);
 
@@ -194,7 +213,8 @@ public class GnmiCrudService {
 
     private Gnmi.UpdateResult processUpdateListNonSimpleValue(final Gnmi.Update update,
                                                               final YangInstanceIdentifier identifier,
-                                                              final Module module, final boolean isReplace) {
+                                                              final Module module, final boolean isReplace,
+                                                              final List<DataModification> modifications) {
         // list entries need to also be wrapped in a list
         final String json;
         final NormalizedNode node;
@@ -206,7 +226,7 @@ public class GnmiCrudService {
                     String.format("%s:%s",
                             module.getName(),
                             Iterables.getLast(identifier.getPathArguments()).getNodeType().getLocalName()), gson);
-            node = DataConverter.nodeFromJsonString(identifier, json, context);
+            node = DataConverter.nodeFromJsonString(identifier, json, codecCache);
         } else {
             final NodeIdentifierWithPredicates lastPathArgument
                     = (NodeIdentifierWithPredicates) identifier.getLastPathArgument();
@@ -215,20 +235,18 @@ public class GnmiCrudService {
                             module.getName(),
                             Iterables.getLast(identifier.getPathArguments()).getNodeType().getLocalName()), gson,
                     lastPathArgument, context);
-            node = DataConverter.nodeFromJsonString(identifier, json, context);
+            node = DataConverter.nodeFromJsonString(identifier, json, codecCache);
             // In case of list entry, point to the list itself
             resultingIdentifier = identifier.getParent();
         }
 
         if (isReplace) {
-            dataService.writeDataByPath(DatastoreType.CONFIGURATION, resultingIdentifier,
-                    node);
+            modifications.add(DataModification.write(resultingIdentifier, node));
             result = Gnmi.UpdateResult.newBuilder().setPath(update.getPath())
                     .setOp(Gnmi.UpdateResult.Operation.REPLACE).build();
 
         } else {
-            dataService.mergeDataByPath(DatastoreType.CONFIGURATION, resultingIdentifier,
-                    node);
+            modifications.add(DataModification.merge(resultingIdentifier, node));
             result = Gnmi.UpdateResult.newBuilder().setPath(update.getPath())
                     .setOp(Gnmi.UpdateResult.Operation.UPDATE).build();
         }
@@ -236,9 +254,11 @@ public class GnmiCrudService {
     }
 
     private Gnmi.UpdateResult processUpdateListSimpleValue(final Gnmi.Update update,
-                                                           final YangInstanceIdentifier identifier) {
+                                                           final YangInstanceIdentifier identifier,
+                                                           final List<DataModification> modifications) {
+        // Earlier modifications of the same request, e.g. replace of the parent container, are taken into account
         final Optional<NormalizedNode> updatingNode
-                = dataService.readDataByPath(DatastoreType.CONFIGURATION, identifier);
+                = dataService.readDataByPath(DatastoreType.CONFIGURATION, identifier, modifications);
         if (updatingNode.isEmpty()) {
             LOG.error("Update for non existing simple value is not permitted");
             throw Status.NOT_FOUND.withDescription("Update for non existing simple value is not permitted")
@@ -246,8 +266,8 @@ public class GnmiCrudService {
         }
         // Modify existing simple value
         final String simpleJson = getSimpleJsonValue(update.getVal(), update.getPath());
-        final NormalizedNode resultNode = DataConverter.nodeFromJsonString(identifier, simpleJson, context);
-        dataService.mergeDataByPath(DatastoreType.CONFIGURATION, identifier, resultNode);
+        final NormalizedNode resultNode = DataConverter.nodeFromJsonString(identifier, simpleJson, codecCache);
+        modifications.add(DataModification.merge(identifier, resultNode));
         return Gnmi.UpdateResult.newBuilder()
                 .setPath(update.getPath())
                 .setOp(Gnmi.UpdateResult.Operation.UPDATE)
@@ -283,7 +303,8 @@ public class GnmiCrudService {
                 jsonValue.append(value.getFloatVal());
                 break;
             case DECIMAL_VAL:
-                jsonValue.append(value.getDecimalVal());
+                jsonValue.append(BigDecimal.valueOf(value.getDecimalVal().getDigits(),
+                        value.getDecimalVal().getPrecision()).toPlainString());
                 break;
             default:
                 LOG.error("ValueType {} not supported", value);
@@ -294,132 +315,45 @@ public class GnmiCrudService {
         return jsonValue.toString();
     }
 
-    Map<Gnmi.Path, YangInstanceIdentifier> pathToIdentifierMap(final List<Gnmi.Path> pathList) {
-        // Assumption: we always have path with at least one element
-        final String pathFirstElem = pathList.get(0).getElem(0).getName();
-
-        final Optional<? extends Module> rootModule = DataConverter.findModuleByElement(pathFirstElem, context);
-        if (rootModule.isEmpty()) {
-            LOG.error("Unable to guess correct module for provided path (first elem: {})", pathFirstElem);
-            return Collections.emptyMap();
-        }
-        final QNameModule qNameModule = rootModule.orElseThrow().getQNameModule();
+    public Map<Gnmi.Path, YangInstanceIdentifier> pathToIdentifierMap(final List<Gnmi.Path> pathList) {
+        return pathToIdentifierMap(Gnmi.Path.getDefaultInstance(), pathList);
+    }
 
+    /**
+     * Resolves paths relative to prefix of the request.
+     *
+     * @param prefix   prefix of the request
+     * @param pathList paths of the request
+     * @return identifiers of the paths
+     * @throws StatusRuntimeException with INVALID_ARGUMENT status if any path does not match the schema
+     */
+    public Map<Gnmi.Path, YangInstanceIdentifier> pathToIdentifierMap(final Gnmi.Path prefix,
+                                                                      final List<Gnmi.Path> pathList) {
         final Map<Gnmi.Path, YangInstanceIdentifier> resultMap = new HashMap<>();
         for (final Gnmi.Path reqPath : pathList) {
-            resultMap.computeIfAbsent(reqPath, v -> instanceIdentifierFromPath(qNameModule, v));
-        }
-        return resultMap;
-    }
-
-    private YangInstanceIdentifier instanceIdentifierFromPath(final QNameModule rootModule, final Path path) {
-        var resultIdentifier = YangInstanceIdentifier.of();
-        for (final PathElem pathElem : path.getElemList()) {
-            final var pathElemName = ElementNameWithModuleName.parseFromString(pathElem.getName()).getElementName();
-            if (resultIdentifier.isEmpty()) {
-                resultIdentifier = YangInstanceIdentifier.of(QName.create(rootModule, pathElemName));
-            } else {
-                resultIdentifier = getYIIDWithNewNode(resultIdentifier, pathElemName);
-            }
-            if (!pathElem.getKeyMap().isEmpty()) {
-                resultIdentifier = getYIIDWithNewPredicateNode(resultIdentifier, pathElem);
+            if (resultMap.containsKey(reqPath)) {
+                continue;
             }
-        }
-        return resultIdentifier;
-    }
-
-    private YangInstanceIdentifier getYIIDWithNewNode(final YangInstanceIdentifier identifier,
-            final String pathElement) {
-        final QName expectedQname = QName.create(identifier.getLastPathArgument().getNodeType(), pathElement);
-        final YangInstanceIdentifier expectedYIID = identifier.node(expectedQname);
-        final var foundNode = DataSchemaContextTree.from(context).enterPath(expectedYIID);
-        if (foundNode.isPresent()) {
-            return expectedYIID;
-        } else {
-            // If an element by name is not found inside parent yang model, then is augmented from other YANG model.
-            final var foundAug = findAugmentationFromOuterModel(pathElement, identifier);
-            return identifier.node(foundAug.orElseThrow().getQName());
-        }
-    }
-
-    private Optional<DataSchemaNode> findAugmentationFromOuterModel(final String element,
-            final YangInstanceIdentifier parentYIID) {
-        final Absolute parentPath = DataSchemaContextTree.from(context)
-                .enterPath(parentYIID)
-                .orElseThrow()
-                .stack()
-                .toSchemaNodeIdentifier();
-        return context.getModules()
-                .stream()
-                .flatMap(module -> module.getAugmentations().stream())
-                .filter(aug -> aug.getTargetPath().equals(parentPath))
-                .flatMap(augmentation -> augmentation.getChildNodes().stream())
-                .filter(childNode -> childNode.getQName().getLocalName().equals(element))
-                .map(DataSchemaNode.class::cast)
-                .findFirst();
-    }
-
-    private YangInstanceIdentifier getYIIDWithNewPredicateNode(final YangInstanceIdentifier resultIdentifier,
-            final PathElem currentElement) {
-        final var qname = resultIdentifier.getLastPathArgument().getNodeType();
-        final Map<QName, Object> keysMap = currentElement.getKeyMap().entrySet().stream()
-            .collect(Collectors.toMap(e -> QName.create(qname, e.getKey()), Map.Entry::getValue));
-
-        for (final var entry : keysMap.entrySet()) {
-            final var keyNode = resultIdentifier.node(NodeIdentifierWithPredicates.of(qname, keysMap))
-                .node(entry.getKey());
-            final var baseTypeDef = getBaseTypeDef(keyNode);
-            entry.setValue(mapToCorrectDataType(baseTypeDef, (String) entry.getValue()));
-        }
-        return resultIdentifier.node(NodeIdentifierWithPredicates.of(qname, keysMap));
-    }
-
-    private TypeDefinition<?> getBaseTypeDef(final YangInstanceIdentifier identifier) {
-        final var nodeAndStack = DataSchemaContextTree.from(context).enterPath(identifier).get();
-        final var dataSchemaNode = nodeAndStack.node().dataSchemaNode();
-        var resultDataSchemaType = ((TypedDataSchemaNode) dataSchemaNode).typeDefinition();
-        if (resultDataSchemaType instanceof LeafrefTypeDefinition leafRefType) {
-            final var leafRefPathOrig = leafRefType.getPathStatement().getOriginalString();
-            final var leafRefPathList = Arrays.stream(leafRefPathOrig.split("/")).filter(s -> !s.isEmpty()).toList();
-            final var stack = nodeAndStack.stack();
-            for (final var path : leafRefPathList) {
-                if ("..".equals(path)) {
-                    stack.exit();
-                } else {
-                    stack.enterSchemaTree(QName.create(stack.currentModule().localQNameModule(), path));
-                }
+            try {
+                resultMap.put(reqPath, resolvePath(prefix, reqPath));
+            } catch (IllegalArgumentException e) {
+                LOG.debug("Unable to resolve path {} with prefix {}", reqPath, prefix, e);
+                throw Status.INVALID_ARGUMENT.withDescription("Unable to resolve path " + reqPath + ": "
+                        + e.getMessage()).withCause(e).asRuntimeException();
             }
-            resultDataSchemaType = ((TypedDataSchemaNode) stack.currentStatement()).typeDefinition();
         }
-        return resultDataSchemaType.getBaseType() != null ? resultDataSchemaType.getBaseType() : resultDataSchemaType;
+        return resultMap;
     }
 
-    private Object mapToCorrectDataType(final TypeDefinition<?> typeDefinition, final String value) {
-        final var qname = typeDefinition.getQName();
-        if (typeDefinition instanceof IdentityrefTypeDefinition identityType) {
-            final var firstIdentity = identityType.getIdentities().iterator().next();
-            final var identityQname = firstIdentity.getQName();
-            final var values = value.split(":");
-            final var identityRefName = values[values.length - 1];
-            return QName.create(identityQname, identityRefName);
-        } else if (qname.equals(BuiltInType.BOOLEAN.typeName())) {
-            return Boolean.valueOf(value);
-        } else if (qname.equals(BuiltInType.DECIMAL64.typeName())) {
-            return Decimal64.valueOf(value);
-        } else if (qname.equals(BuiltInType.INT8.typeName()) || qname.equals(BuiltInType.INT16.typeName())
-                || qname.equals(BuiltInType.INT32.typeName()) || qname.equals(BuiltInType.INT64.typeName())) {
-            return Integer.parseInt(value);
-        } else if (qname.equals(BuiltInType.UINT8.typeName())) {
-            return Uint8.valueOf(value);
-        } else if (qname.equals(BuiltInType.UINT16.typeName())) {
-            return Uint16.valueOf(value);
-        } else if (qname.equals(BuiltInType.UINT32.typeName())) {
-            return Uint32.valueOf(value);
-        } else if (qname.equals(BuiltInType.UINT64.typeName())) {
-            return Uint64.valueOf(value);
-        } else {
-            // Other types which can be sent as a String type.
-            return value;
-        }
+    /**
+     * Resolves path relative to prefix.
+     *
+     * @param prefix prefix of the path
+     * @param path   path relative to prefix
+     * @return identifier of the path
+     * @throws IllegalArgumentException if the path does not match the schema
+     */
+    public YangInstanceIdentifier resolvePath(final Gnmi.Path prefix, final Gnmi.Path path) {
+        return SchemaPathIndex.forContext(context).resolve(prefix, path);
     }
 }
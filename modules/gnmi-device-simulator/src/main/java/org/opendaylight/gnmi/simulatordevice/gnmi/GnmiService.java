@@ -17,13 +17,15 @@ import gnmi.gNMIGrpc;
 import io.grpc.stub.StreamObserver;
 import java.util.EnumSet;
 import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
 import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
 import org.opendaylight.gnmi.simulatordevice.yang.YangDataService;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class GnmiService extends gNMIGrpc.gNMIImplBase {
+public class GnmiService extends gNMIGrpc.gNMIImplBase implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(GnmiService.class);
 
@@ -31,12 +33,22 @@ public class GnmiService extends gNMIGrpc.gNMIImplBase {
 
     private final GnmiCapabilitiesService gnmiCapabilitiesService;
     private final GnmiCrudService gnmiCrudService;
+    private final GnmiSubscribeService gnmiSubscribeService;
 
     public GnmiService(final EffectiveModelContext schemaContext, final YangDataService dataService,
-                       @Nullable final Gson gson, @Nullable final EnumSet<Gnmi.Encoding> supportedEncodings) {
+                       @Nullable final Gson gson, @Nullable final EnumSet<Gnmi.Encoding> supportedEncodings,
+                       final ScheduledExecutorService subscribeScheduler) {
+        this(schemaContext, dataService, gson, supportedEncodings, subscribeScheduler,
+                ParallelCodecExecutor.sequential());
+    }
+
+    public GnmiService(final EffectiveModelContext schemaContext, final YangDataService dataService,
+                       @Nullable final Gson gson, @Nullable final EnumSet<Gnmi.Encoding> supportedEncodings,
+                       final ScheduledExecutorService subscribeScheduler, final ParallelCodecExecutor codecExecutor) {
         this.gnmiCapabilitiesService = new GnmiCapabilitiesService(schemaContext, supportedEncodings);
         final Gson nonNullGson = Objects.requireNonNullElse(gson, new Gson());
-        this.gnmiCrudService = new GnmiCrudService(dataService, schemaContext,  nonNullGson);
+        this.gnmiCrudService = new GnmiCrudService(dataService, schemaContext, nonNullGson, codecExecutor);
+        this.gnmiSubscribeService = new GnmiSubscribeService(gnmiCrudService, dataService, subscribeScheduler);
     }
 
     /**
@@ -118,8 +130,26 @@ public class GnmiService extends gNMIGrpc.gNMIImplBase {
      * </pre>
      */
     @Override
-    public StreamObserver<Gnmi.SubscribeRequest> subscribe(StreamObserver<Gnmi.SubscribeResponse> responseObserver) {
-        throw new UnsupportedOperationException("Not implemented yet");
+    public StreamObserver<Gnmi.SubscribeRequest> subscribe(
+            final StreamObserver<Gnmi.SubscribeResponse> responseObserver) {
+        LOG.debug("Subscribe stream opened");
+        return gnmiSubscribeService.subscribe(responseObserver);
+    }
+
+    public GnmiCrudService getGnmiCrudService() {
+        return gnmiCrudService;
+    }
+
+    public GnmiSubscribeService getGnmiSubscribeService() {
+        return gnmiSubscribeService;
+    }
+
+    /**
+     * Completes all open Subscribe streams.
+     */
+    @Override
+    public void close() {
+        gnmiSubscribeService.close();
     }
 
     @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT",
@@ -0,0 +1,584 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.gnmi;
+
+import com.google.protobuf.ByteString;
+import gnmi.Gnmi;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.gnmi.simulatordevice.yang.DataModification;
+import org.opendaylight.gnmi.simulatordevice.yang.DatastoreType;
+import org.opendaylight.gnmi.simulatordevice.yang.YangDataService;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves gNMI Subscribe RPC of the simulator.
+ *
+ * <p>Supported modes are ONCE, POLL and STREAM. Values of subscribed paths are read from configuration and state
+ * datastore and merged, so each path produces one Notification with JSON_IETF encoded value, as it does in Get.
+ * In STREAM mode SAMPLE subscriptions are sampled with their own sample_interval. Samples of all streams are
+ * scheduled on one shared scheduler, so number of concurrent subscriptions is not limited by number of threads.</p>
+ *
+ * <p>ON_CHANGE and TARGET_DEFINED subscriptions are driven by data tree change listeners of the datastores. Each
+ * committed transaction produces one Notification with minimal updates and deletes of all such subscriptions
+ * of the stream, a Set request is therefore reported by one Notification. Their initial values are sampled once
+ * both listeners are registered. If heartbeat_interval is set, value of the path is also sent once per interval,
+ * regardless of whether it changed.</p>
+ */
+public class GnmiSubscribeService implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(GnmiSubscribeService.class);
+
+    // Lowest sample interval supported by simulator, used also when client leaves the interval up to target
+    static final Duration MIN_SAMPLE_INTERVAL = Duration.ofMillis(100);
+    private static final DatastoreType[] SAMPLED_DATASTORES = {DatastoreType.CONFIGURATION, DatastoreType.STATE};
+    private static final String WILDCARD = "*";
+
+    private final GnmiCrudService crudService;
+    private final YangDataService dataService;
+    private final ScheduledExecutorService scheduler;
+    private final DataTreeChangeConverter changeConverter;
+    private final Set<SubscribeSession> sessions = ConcurrentHashMap.newKeySet();
+
+    public GnmiSubscribeService(final GnmiCrudService crudService, final YangDataService dataService,
+                                final ScheduledExecutorService scheduler) {
+        this.crudService = crudService;
+        this.dataService = dataService;
+        this.scheduler = scheduler;
+        this.changeConverter = new DataTreeChangeConverter(crudService);
+    }
+
+    StreamObserver<Gnmi.SubscribeRequest> subscribe(final StreamObserver<Gnmi.SubscribeResponse> responseObserver) {
+        final SubscribeSession session = new SubscribeSession(responseObserver);
+        sessions.add(session);
+        return session;
+    }
+
+    /**
+     * Returns number of open Subscribe streams.
+     */
+    public int getActiveSubscriptionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Sends notification, which was not produced by datastore change (e.g. generated values), to all STREAM
+     * subscriptions covering paths of its updates. ON_CHANGE subscriptions receive the updates once sync_response
+     * was sent and the stream is ready, SAMPLE subscriptions with their next sample. Only the latest update of each
+     * path is held until then.
+     *
+     * @param notification notification to send
+     */
+    public void publish(final Gnmi.Notification notification) {
+        for (final SubscribeSession session : sessions) {
+            session.publish(notification);
+        }
+    }
+
+    /**
+     * Completes all open Subscribe streams, so the server can be shut down.
+     */
+    @Override
+    public void close() {
+        for (final SubscribeSession session : sessions) {
+            session.complete();
+        }
+    }
+
+    private static long currentTimeNanos() {
+        final Instant now = Instant.now();
+        return TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+    }
+
+    private static Gnmi.Path withPrefix(final Gnmi.Path prefix, final Gnmi.Path path) {
+        if (prefix.getElemCount() == 0) {
+            return path;
+        }
+        return Gnmi.Path.newBuilder(path).clearElem()
+                .addAllElem(prefix.getElemList())
+                .addAllElem(path.getElemList())
+                .build();
+    }
+
+    private static YangInstanceIdentifier commonAncestor(final List<SampledPath> paths) {
+        List<PathArgument> common = paths.get(0).identifier.getPathArguments();
+        for (final SampledPath path : paths) {
+            final List<PathArgument> arguments = path.identifier.getPathArguments();
+            int length = 0;
+            while (length < common.size() && length < arguments.size()
+                    && common.get(length).equals(arguments.get(length))) {
+                length++;
+            }
+            common = common.subList(0, length);
+        }
+        return YangInstanceIdentifier.of(common);
+    }
+
+    private static boolean isPrefix(final Gnmi.Path prefix, final Gnmi.Path path) {
+        if (prefix.getElemCount() > path.getElemCount()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.getElemCount(); i++) {
+            final Gnmi.PathElem prefixElem = prefix.getElem(i);
+            final Gnmi.PathElem pathElem = path.getElem(i);
+            if (!WILDCARD.equals(prefixElem.getName())
+                    && !localName(prefixElem.getName()).equals(localName(pathElem.getName()))) {
+                return false;
+            }
+            for (final Map.Entry<String, String> key : prefixElem.getKeyMap().entrySet()) {
+                if (!WILDCARD.equals(key.getValue())
+                        && !key.getValue().equals(pathElem.getKeyMap().get(key.getKey()))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String localName(final String elementName) {
+        return elementName.substring(elementName.indexOf(':') + 1);
+    }
+
+    /**
+     * Subscription with path resolved to YangInstanceIdentifier and values of its last sample.
+     */
+    private static final class SampledPath {
+        private final Gnmi.Subscription subscription;
+        private final Gnmi.Path path;
+        private final YangInstanceIdentifier identifier;
+        // suppress_redundant applies only to SAMPLE subscriptions of STREAM mode
+        private final boolean suppressRedundant;
+        private @Nullable String lastValue;
+        private long lastSentNanos;
+        // Latest published updates of SAMPLE subscription, sent with its next sample, guarded by the session
+        private final Map<Gnmi.Path, Gnmi.Update> publishedUpdates = new LinkedHashMap<>();
+
+        SampledPath(final Gnmi.Subscription subscription, final Gnmi.Path path,
+                    final YangInstanceIdentifier identifier, final Gnmi.SubscriptionList.Mode listMode) {
+            this.subscription = subscription;
+            this.path = path;
+            this.identifier = identifier;
+            this.suppressRedundant = subscription.getSuppressRedundant()
+                    && listMode == Gnmi.SubscriptionList.Mode.STREAM
+                    && subscription.getMode() == Gnmi.SubscriptionMode.SAMPLE;
+        }
+
+        boolean isOnChange() {
+            return subscription.getMode() == Gnmi.SubscriptionMode.ON_CHANGE
+                    || subscription.getMode() == Gnmi.SubscriptionMode.TARGET_DEFINED;
+        }
+
+        long sampleIntervalNanos() {
+            return Math.max(subscription.getSampleInterval(), MIN_SAMPLE_INTERVAL.toNanos());
+        }
+
+        long heartbeatIntervalNanos() {
+            return Math.max(subscription.getHeartbeatInterval(), MIN_SAMPLE_INTERVAL.toNanos());
+        }
+
+        /**
+         * Returns true if the value has to be sent, considering suppress_redundant and heartbeat_interval
+         * of the subscription. Sent value is recorded together with time of sending.
+         */
+        boolean shouldSend(final String value, final long nowNanos) {
+            final String previous = lastValue;
+            lastValue = value;
+            final long heartbeat = subscription.getHeartbeatInterval();
+            if (!suppressRedundant || !value.equals(previous)
+                    || heartbeat > 0 && nowNanos - lastSentNanos >= heartbeat) {
+                lastSentNanos = nowNanos;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Data of the path are not present, so the next value is not redundant.
+         */
+        void clear() {
+            lastValue = null;
+        }
+    }
+
+    private final class SubscribeSession implements StreamObserver<Gnmi.SubscribeRequest> {
+        private final StreamObserver<Gnmi.SubscribeResponse> responseObserver;
+        private final List<ScheduledFuture<?>> sampleTasks = new ArrayList<>();
+        private final List<Registration> listenerRegistrations = new ArrayList<>();
+        private Gnmi.SubscriptionList subscriptionList;
+        private List<SampledPath> sampledPaths;
+        private List<SampledPath> onChangePaths = List.of();
+        // Latest published updates of ON_CHANGE subscriptions, held until sync_response is sent and the stream
+        // is ready, so their number is bounded by number of published paths
+        private final Map<Gnmi.Path, Gnmi.Update> pendingUpdates = new LinkedHashMap<>();
+        private long pendingTimestamp;
+        private boolean synced;
+        // Number of change listeners, which did not report initial data yet
+        private int pendingInitialChanges;
+        private boolean closed;
+
+        SubscribeSession(final StreamObserver<Gnmi.SubscribeResponse> responseObserver) {
+            this.responseObserver = responseObserver;
+            if (responseObserver instanceof ServerCallStreamObserver<Gnmi.SubscribeResponse> serverObserver) {
+                serverObserver.setOnCancelHandler(this::release);
+                serverObserver.setOnReadyHandler(this::onReady);
+            }
+        }
+
+        @Override
+        @SuppressWarnings({"checkstyle:illegalCatch"})
+        public synchronized void onNext(final Gnmi.SubscribeRequest request) {
+            if (closed) {
+                return;
+            }
+            try {
+                switch (request.getRequestCase()) {
+                    case SUBSCRIBE:
+                        onSubscribe(request.getSubscribe());
+                        break;
+                    case POLL:
+                        onPoll();
+                        break;
+                    default:
+                        throw Status.INVALID_ARGUMENT
+                                .withDescription("Unsupported SubscribeRequest " + request.getRequestCase())
+                                .asRuntimeException();
+                }
+            } catch (final Exception e) {
+                LOG.warn("Failed to process SubscribeRequest: {}", request, e);
+                fail(e);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            LOG.debug("Subscribe stream was terminated by client", throwable);
+            release();
+        }
+
+        @Override
+        public synchronized void onCompleted() {
+            // Client will not send more requests, ONCE and POLL subscriptions have nothing more to send
+            if (subscriptionList == null || subscriptionList.getMode() != Gnmi.SubscriptionList.Mode.STREAM) {
+                complete();
+            }
+        }
+
+        private void onSubscribe(final Gnmi.SubscriptionList list) {
+            if (subscriptionList != null) {
+                throw Status.INVALID_ARGUMENT.withDescription("Subscription is already established on the stream")
+                        .asRuntimeException();
+            }
+            if (list.getEncoding() != Gnmi.Encoding.JSON_IETF && list.getEncoding() != Gnmi.Encoding.JSON) {
+                throw Status.UNIMPLEMENTED.withDescription("Simulator only supports JSON_IETF encoding.")
+                        .asRuntimeException();
+            }
+            sampledPaths = resolve(list);
+            subscriptionList = list;
+
+            switch (list.getMode()) {
+                case ONCE:
+                    sendSamples(sampledPaths);
+                    sendSyncResponse();
+                    complete();
+                    break;
+                case POLL:
+                    sendSamples(sampledPaths);
+                    sendSyncResponse();
+                    break;
+                case STREAM:
+                    startStream(list);
+                    break;
+                default:
+                    throw Status.INVALID_ARGUMENT.withDescription("Unsupported subscription mode " + list.getMode())
+                            .asRuntimeException();
+            }
+        }
+
+        private void startStream(final Gnmi.SubscriptionList list) {
+            final List<SampledPath> samplePaths = sampledPaths.stream().filter(path -> !path.isOnChange()).toList();
+            onChangePaths = sampledPaths.stream().filter(SampledPath::isOnChange).toList();
+            if (!list.getUpdatesOnly()) {
+                sendSamples(samplePaths);
+            }
+            for (final SampledPath sampledPath : samplePaths) {
+                final long interval = sampledPath.sampleIntervalNanos();
+                sampleTasks.add(scheduler.scheduleAtFixedRate(() -> sample(sampledPath), interval, interval,
+                        TimeUnit.NANOSECONDS));
+            }
+            if (onChangePaths.isEmpty()) {
+                sendSyncResponse();
+                return;
+            }
+            for (final SampledPath onChangePath : onChangePaths) {
+                if (onChangePath.subscription.getHeartbeatInterval() > 0) {
+                    final long interval = onChangePath.heartbeatIntervalNanos();
+                    sampleTasks.add(scheduler.scheduleAtFixedRate(() -> sample(onChangePath), interval, interval,
+                            TimeUnit.NANOSECONDS));
+                }
+            }
+            // One listener per datastore, so all changes of one transaction end up in one Notification. It listens
+            // on the nearest common ancestor of subscribed paths, so commits not touching them are not delivered.
+            // Once both listeners reported initial data, merged values of subscribed paths are sampled as initial
+            // values and sync_response follows them.
+            final YangInstanceIdentifier listenedPath = commonAncestor(onChangePaths);
+            pendingInitialChanges = SAMPLED_DATASTORES.length;
+            for (final DatastoreType datastoreType : SAMPLED_DATASTORES) {
+                listenerRegistrations.add(dataService.registerListener(datastoreType, listenedPath,
+                        new ChangeListener()));
+            }
+        }
+
+        @SuppressWarnings({"checkstyle:illegalCatch"})
+        private synchronized void onDataChanged(final ChangeListener listener, final List<DataTreeCandidate> changes) {
+            if (closed) {
+                return;
+            }
+            final boolean initial = listener.initial;
+            listener.initial = false;
+            try {
+                if (!initial) {
+                    for (final DataTreeCandidate change : changes) {
+                        final Gnmi.Notification.Builder notification = Gnmi.Notification.newBuilder()
+                                .setTimestamp(currentTimeNanos());
+                        for (final SampledPath path : onChangePaths) {
+                            changeConverter.collectChanges(change, path.path, path.identifier, notification);
+                        }
+                        if (notification.getUpdateCount() > 0 || notification.getDeleteCount() > 0) {
+                            sendNotification(notification.build());
+                        }
+                    }
+                }
+                if (initial && --pendingInitialChanges == 0) {
+                    if (!subscriptionList.getUpdatesOnly()) {
+                        sendSamples(onChangePaths);
+                    }
+                    sendSyncResponse();
+                }
+            } catch (final Exception e) {
+                LOG.warn("Failed to process change of subscribed data", e);
+                fail(e);
+            }
+        }
+
+        private synchronized void publish(final Gnmi.Notification notification) {
+            if (closed || subscriptionList == null
+                    || subscriptionList.getMode() != Gnmi.SubscriptionList.Mode.STREAM) {
+                return;
+            }
+            boolean pending = false;
+            for (final Gnmi.Update update : notification.getUpdateList()) {
+                final SampledPath sampledPath = coveringPath(update.getPath());
+                if (sampledPath == null) {
+                    continue;
+                }
+                // Only the latest value of each path is held, older ones are not sent
+                if (sampledPath.isOnChange()) {
+                    pendingUpdates.put(update.getPath(), update);
+                    pending = true;
+                } else {
+                    sampledPath.publishedUpdates.put(update.getPath(), update);
+                }
+            }
+            if (pending) {
+                pendingTimestamp = Math.max(pendingTimestamp, notification.getTimestamp());
+                sendPendingUpdates();
+            }
+        }
+
+        private synchronized void onReady() {
+            if (!closed) {
+                sendPendingUpdates();
+            }
+        }
+
+        private void sendPendingUpdates() {
+            if (!synced || pendingUpdates.isEmpty() || !isReady()) {
+                return;
+            }
+            sendNotification(Gnmi.Notification.newBuilder()
+                    .setTimestamp(pendingTimestamp)
+                    .addAllUpdate(pendingUpdates.values())
+                    .build());
+            pendingUpdates.clear();
+        }
+
+        private void sendPublishedSample(final SampledPath sampledPath) {
+            if (!synced || sampledPath.publishedUpdates.isEmpty() || !isReady()) {
+                return;
+            }
+            sendNotification(Gnmi.Notification.newBuilder()
+                    .setTimestamp(currentTimeNanos())
+                    .addAllUpdate(sampledPath.publishedUpdates.values())
+                    .build());
+            sampledPath.publishedUpdates.clear();
+        }
+
+        private boolean isReady() {
+            return !(responseObserver instanceof ServerCallStreamObserver<Gnmi.SubscribeResponse> serverObserver)
+                    || serverObserver.isReady();
+        }
+
+        private @Nullable SampledPath coveringPath(final Gnmi.Path path) {
+            for (final SampledPath sampledPath : sampledPaths) {
+                if (isPrefix(sampledPath.path, path)) {
+                    return sampledPath;
+                }
+            }
+            return null;
+        }
+
+        private void onPoll() {
+            if (subscriptionList == null || subscriptionList.getMode() != Gnmi.SubscriptionList.Mode.POLL) {
+                throw Status.INVALID_ARGUMENT.withDescription("Poll is allowed only on POLL subscription")
+                        .asRuntimeException();
+            }
+            sendSamples(sampledPaths);
+            sendSyncResponse();
+        }
+
+        private List<SampledPath> resolve(final Gnmi.SubscriptionList list) {
+            final List<SampledPath> resolved = new ArrayList<>(list.getSubscriptionCount());
+            for (final Gnmi.Subscription subscription : list.getSubscriptionList()) {
+                final Gnmi.Path path = withPrefix(list.getPrefix(), subscription.getPath());
+                final YangInstanceIdentifier identifier;
+                try {
+                    // Path without elements is the root, resolved to empty identifier
+                    identifier = crudService.resolvePath(Gnmi.Path.getDefaultInstance(), path);
+                } catch (final IllegalArgumentException e) {
+                    throw Status.INVALID_ARGUMENT.withDescription("Unable to resolve path " + path + ": "
+                            + e.getMessage()).withCause(e).asRuntimeException();
+                }
+                resolved.add(new SampledPath(subscription, path, identifier, list.getMode()));
+            }
+            return resolved;
+        }
+
+        @SuppressWarnings({"checkstyle:illegalCatch"})
+        private void sample(final SampledPath sampledPath) {
+            try {
+                final Optional<Gnmi.Notification> notification = readNotification(sampledPath);
+                synchronized (this) {
+                    // Heartbeat of ON_CHANGE subscription does not precede its initial values
+                    if (!closed && (synced || !sampledPath.isOnChange())) {
+                        notification.ifPresent(this::sendNotification);
+                        sendPublishedSample(sampledPath);
+                    }
+                }
+            } catch (final Exception e) {
+                LOG.warn("Failed to sample path {}", sampledPath.path, e);
+                synchronized (this) {
+                    fail(e);
+                }
+            }
+        }
+
+        private void sendSamples(final List<SampledPath> paths) {
+            for (final SampledPath sampledPath : paths) {
+                readNotification(sampledPath).ifPresent(this::sendNotification);
+            }
+        }
+
+        private Optional<Gnmi.Notification> readNotification(final SampledPath sampledPath) {
+            final long timestamp = currentTimeNanos();
+            final long now = System.nanoTime();
+            // State data are merged to configuration data in a transaction which is never committed
+            final List<DataModification> stateData = dataService.readDataByPath(DatastoreType.STATE,
+                            sampledPath.identifier)
+                    .map(state -> List.of(DataModification.merge(sampledPath.identifier, state)))
+                    .orElse(List.of());
+            final Optional<NormalizedNode> node = dataService.readDataByPath(DatastoreType.CONFIGURATION,
+                    sampledPath.identifier, stateData);
+            if (node.isEmpty()) {
+                sampledPath.clear();
+                return Optional.empty();
+            }
+            final String json = crudService.getResultInJsonFormat(
+                    Map.entry(sampledPath.path, sampledPath.identifier), node.orElseThrow()).getValue();
+            if (!sampledPath.shouldSend(json, now)) {
+                return Optional.empty();
+            }
+            return Optional.of(Gnmi.Notification.newBuilder()
+                    .setTimestamp(timestamp)
+                    .addUpdate(Gnmi.Update.newBuilder()
+                            .setPath(sampledPath.path)
+                            .setVal(Gnmi.TypedValue.newBuilder().setJsonIetfVal(ByteString.copyFromUtf8(json))))
+                    .build());
+        }
+
+        private void sendNotification(final Gnmi.Notification notification) {
+            responseObserver.onNext(Gnmi.SubscribeResponse.newBuilder().setUpdate(notification).build());
+        }
+
+        private void sendSyncResponse() {
+            responseObserver.onNext(Gnmi.SubscribeResponse.newBuilder().setSyncResponse(true).build());
+            // Published updates are not initial values, they follow sync_response
+            synced = true;
+            sendPendingUpdates();
+        }
+
+        private synchronized void complete() {
+            if (!closed) {
+                release();
+                responseObserver.onCompleted();
+            }
+        }
+
+        private void fail(final Exception cause) {
+            if (!closed) {
+                release();
+                responseObserver.onError(cause instanceof StatusRuntimeException ? cause
+                        : Status.INTERNAL.withDescription(cause.getMessage()).withCause(cause).asRuntimeException());
+            }
+        }
+
+        private synchronized void release() {
+            closed = true;
+            sampleTasks.forEach(task -> task.cancel(false));
+            sampleTasks.clear();
+            listenerRegistrations.forEach(Registration::close);
+            listenerRegistrations.clear();
+            sessions.remove(this);
+        }
+
+        private final class ChangeListener implements DOMDataTreeChangeListener {
+            // Guarded by the session
+            private boolean initial = true;
+
+            @Override
+            public void onDataTreeChanged(final List<DataTreeCandidate> changes) {
+                onDataChanged(this, changes);
+            }
+
+            @Override
+            public void onInitialData() {
+                onDataChanged(this, List.of());
+            }
+        }
+    }
+}
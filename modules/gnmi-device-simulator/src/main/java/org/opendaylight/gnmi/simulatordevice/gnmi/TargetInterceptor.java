@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.gnmi;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.Metadata.Key;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * Propagates virtual target selected by {@value #TARGET_HEADER} metadata header to {@link VirtualTargetService}.
+ */
+public class TargetInterceptor implements ServerInterceptor {
+    public static final String TARGET_HEADER = "target";
+
+    static final Context.Key<String> TARGET_CONTEXT_KEY = Context.key(TARGET_HEADER);
+
+    private static final Key<String> TARGET_KEY = Key.of(TARGET_HEADER, Metadata.ASCII_STRING_MARSHALLER);
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            final ServerCall<ReqT, RespT> serverCall, final Metadata metadata,
+            final ServerCallHandler<ReqT, RespT> serverCallHandler) {
+        final String target = metadata.get(TARGET_KEY);
+        if (target == null || target.isEmpty()) {
+            return serverCallHandler.startCall(serverCall, metadata);
+        }
+        return Contexts.interceptCall(Context.current().withValue(TARGET_CONTEXT_KEY, target), serverCall, metadata,
+                serverCallHandler);
+    }
+}
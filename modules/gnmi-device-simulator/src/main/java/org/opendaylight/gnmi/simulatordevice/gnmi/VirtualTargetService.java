@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.gnmi;
+
+import gnmi.Gnmi;
+import gnmi.gNMIGrpc;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * gNMI service hosting multiple virtual targets on one server.
+ *
+ * <p>Target of a request is selected by target of the request prefix, or by {@link TargetInterceptor#TARGET_HEADER}
+ * metadata header when the prefix has no target. Requests without target are served by the default target. Each
+ * virtual target is served by its own {@link GnmiService} with its own data, which is created by the target factory
+ * when the target is used for the first time. Selected target is reflected in prefixes of responses.</p>
+ */
+public class VirtualTargetService extends gNMIGrpc.gNMIImplBase implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualTargetService.class);
+
+    private final GnmiService defaultService;
+    private final Function<String, GnmiService> targetFactory;
+    private final int maxTargets;
+    private final Map<String, GnmiService> targets = new ConcurrentHashMap<>();
+    private boolean closed;
+
+    /**
+     * Creates service of virtual targets.
+     *
+     * @param defaultService service of requests without target
+     * @param targetFactory creates service of virtual target with given name
+     * @param maxTargets maximal number of virtual targets, requests of other targets are rejected
+     */
+    public VirtualTargetService(final GnmiService defaultService, final Function<String, GnmiService> targetFactory,
+                                final int maxTargets) {
+        this.defaultService = defaultService;
+        this.targetFactory = targetFactory;
+        this.maxTargets = maxTargets;
+    }
+
+    @Override
+    public void capabilities(final Gnmi.CapabilityRequest request,
+                             final StreamObserver<Gnmi.CapabilityResponse> responseObserver) {
+        // All targets share the same schema
+        defaultService.capabilities(request, responseObserver);
+    }
+
+    @SuppressWarnings({"checkstyle:illegalCatch"})
+    @Override
+    public void get(final Gnmi.GetRequest request, final StreamObserver<Gnmi.GetResponse> responseObserver) {
+        final String target = selectTarget(request.getPrefix().getTarget());
+        try {
+            targetService(target).get(request, TargetResponseObserver.forCall(responseObserver, target,
+                    response -> withTarget(response, target)));
+        } catch (final Exception e) {
+            responseObserver.onError(e);
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:illegalCatch"})
+    @Override
+    public void set(final Gnmi.SetRequest request, final StreamObserver<Gnmi.SetResponse> responseObserver) {
+        final String target = selectTarget(request.getPrefix().getTarget());
+        try {
+            targetService(target).set(request, TargetResponseObserver.forCall(responseObserver, target,
+                    response -> response.toBuilder().setPrefix(response.getPrefix().toBuilder().setTarget(target))
+                            .build()));
+        } catch (final Exception e) {
+            responseObserver.onError(e);
+        }
+    }
+
+    @Override
+    public StreamObserver<Gnmi.SubscribeRequest> subscribe(
+            final StreamObserver<Gnmi.SubscribeResponse> responseObserver) {
+        return new TargetSubscription(responseObserver);
+    }
+
+    /**
+     * Returns number of virtual targets created so far.
+     */
+    public int getTargetCount() {
+        return targets.size();
+    }
+
+    /**
+     * Completes Subscribe streams of all virtual targets. Default target is not closed.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        targets.values().forEach(GnmiService::close);
+        targets.clear();
+    }
+
+    private static String selectTarget(final String prefixTarget) {
+        if (!prefixTarget.isEmpty()) {
+            return prefixTarget;
+        }
+        final String headerTarget = TargetInterceptor.TARGET_CONTEXT_KEY.get();
+        return headerTarget != null ? headerTarget : "";
+    }
+
+    private GnmiService targetService(final String target) {
+        if (target.isEmpty()) {
+            return defaultService;
+        }
+        final GnmiService existing = targets.get(target);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (this) {
+            if (closed) {
+                throw Status.UNAVAILABLE.withDescription("Simulator is shutting down").asRuntimeException();
+            }
+            GnmiService service = targets.get(target);
+            if (service == null) {
+                if (targets.size() >= maxTargets) {
+                    throw Status.RESOURCE_EXHAUSTED
+                            .withDescription("Maximal number of virtual targets " + maxTargets + " reached")
+                            .asRuntimeException();
+                }
+                LOG.debug("Creating virtual target {}", target);
+                service = targetFactory.apply(target);
+                targets.put(target, service);
+            }
+            return service;
+        }
+    }
+
+    private static Gnmi.GetResponse withTarget(final Gnmi.GetResponse response, final String target) {
+        final Gnmi.GetResponse.Builder builder = response.toBuilder();
+        for (final Gnmi.Notification.Builder notification : builder.getNotificationBuilderList()) {
+            notification.getPrefixBuilder().setTarget(target);
+        }
+        return builder.build();
+    }
+
+    private static Gnmi.SubscribeResponse withTarget(final Gnmi.SubscribeResponse response, final String target) {
+        if (!response.hasUpdate()) {
+            return response;
+        }
+        final Gnmi.SubscribeResponse.Builder builder = response.toBuilder();
+        builder.getUpdateBuilder().getPrefixBuilder().setTarget(target);
+        return builder.build();
+    }
+
+    /**
+     * Reflects target of the request in responses. Responses of default target are not modified. Flow control and
+     * cancellation are delegated to the observer of the call.
+     *
+     * <p>Handlers of the call can be set only while the call starts, before the target session exists, so they are
+     * set on the observer of the call by the owner of this observer and forwarded by {@link #onReady()} and
+     * {@link #onCancel()}.</p>
+     */
+    private static final class TargetResponseObserver<T> extends ServerCallStreamObserver<T> {
+        private final StreamObserver<T> delegate;
+        private final UnaryOperator<T> targetSetter;
+        private volatile Runnable onReadyHandler;
+        private volatile Runnable onCancelHandler;
+
+        TargetResponseObserver(final StreamObserver<T> delegate, final String target,
+                               final UnaryOperator<T> targetSetter) {
+            this.delegate = delegate;
+            this.targetSetter = target.isEmpty() ? UnaryOperator.identity() : targetSetter;
+        }
+
+        /**
+         * Creates observer of a call, which is starting, and forwards handlers of the call to it.
+         */
+        static <T> TargetResponseObserver<T> forCall(final StreamObserver<T> delegate, final String target,
+                                                     final UnaryOperator<T> targetSetter) {
+            final TargetResponseObserver<T> observer = new TargetResponseObserver<>(delegate, target, targetSetter);
+            if (delegate instanceof ServerCallStreamObserver<T> serverObserver) {
+                serverObserver.setOnReadyHandler(observer::onReady);
+                serverObserver.setOnCancelHandler(observer::onCancel);
+            }
+            return observer;
+        }
+
+        void onReady() {
+            final Runnable handler = onReadyHandler;
+            if (handler != null) {
+                handler.run();
+            }
+        }
+
+        void onCancel() {
+            final Runnable handler = onCancelHandler;
+            if (handler != null) {
+                handler.run();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return !(delegate instanceof ServerCallStreamObserver<T> serverObserver) || serverObserver.isReady();
+        }
+
+        @Override
+        public void setOnReadyHandler(final Runnable handler) {
+            onReadyHandler = handler;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return delegate instanceof ServerCallStreamObserver<T> serverObserver && serverObserver.isCancelled();
+        }
+
+        @Override
+        public void setOnCancelHandler(final Runnable handler) {
+            onCancelHandler = handler;
+        }
+
+        @Override
+        public void request(final int count) {
+            if (delegate instanceof ServerCallStreamObserver<T> serverObserver) {
+                serverObserver.request(count);
+            }
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+            if (delegate instanceof ServerCallStreamObserver<T> serverObserver) {
+                serverObserver.disableAutoInboundFlowControl();
+            }
+        }
+
+        @Override
+        public void setCompression(final String compression) {
+            if (delegate instanceof ServerCallStreamObserver<T> serverObserver) {
+                serverObserver.setCompression(compression);
+            }
+        }
+
+        @Override
+        public void setMessageCompression(final boolean enable) {
+            if (delegate instanceof ServerCallStreamObserver<T> serverObserver) {
+                serverObserver.setMessageCompression(enable);
+            }
+        }
+
+        @Override
+        public void onNext(final T value) {
+            delegate.onNext(targetSetter.apply(value));
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            delegate.onError(throwable);
+        }
+
+        @Override
+        public void onCompleted() {
+            delegate.onCompleted();
+        }
+    }
+
+    /**
+     * Subscribe stream, which is bound to a target by its first request.
+     */
+    private final class TargetSubscription implements StreamObserver<Gnmi.SubscribeRequest> {
+        private final StreamObserver<Gnmi.SubscribeResponse> responseObserver;
+        // Header is accessible only in context of the call, not in context of later requests
+        private final String headerTarget = selectTarget("");
+        private volatile TargetResponseObserver<Gnmi.SubscribeResponse> targetObserver;
+        private StreamObserver<Gnmi.SubscribeRequest> session;
+        private boolean cancelled;
+
+        TargetSubscription(final StreamObserver<Gnmi.SubscribeResponse> responseObserver) {
+            this.responseObserver = responseObserver;
+            // Handlers can be set only before the first request, session of target is created later
+            if (responseObserver instanceof ServerCallStreamObserver<Gnmi.SubscribeResponse> serverObserver) {
+                serverObserver.setOnReadyHandler(this::onReady);
+                serverObserver.setOnCancelHandler(this::onCancel);
+            }
+        }
+
+        @Override
+        @SuppressWarnings({"checkstyle:illegalCatch"})
+        public synchronized void onNext(final Gnmi.SubscribeRequest request) {
+            if (cancelled) {
+                return;
+            }
+            if (session == null) {
+                final String prefixTarget = request.getSubscribe().getPrefix().getTarget();
+                final String target = prefixTarget.isEmpty() ? headerTarget : prefixTarget;
+                final TargetResponseObserver<Gnmi.SubscribeResponse> observer = new TargetResponseObserver<>(
+                        responseObserver, target, response -> withTarget(response, target));
+                try {
+                    session = targetService(target).subscribe(observer);
+                } catch (final Exception e) {
+                    cancelled = true;
+                    responseObserver.onError(e);
+                    return;
+                }
+                targetObserver = observer;
+            }
+            session.onNext(request);
+        }
+
+        @Override
+        public synchronized void onError(final Throwable throwable) {
+            if (session != null) {
+                session.onError(throwable);
+            }
+        }
+
+        @Override
+        public synchronized void onCompleted() {
+            if (session != null) {
+                session.onCompleted();
+            } else if (!cancelled) {
+                responseObserver.onCompleted();
+            }
+        }
+
+        private void onReady() {
+            final TargetResponseObserver<Gnmi.SubscribeResponse> observer = targetObserver;
+            if (observer != null) {
+                observer.onReady();
+            }
+        }
+
+        private void onCancel() {
+            final TargetResponseObserver<Gnmi.SubscribeResponse> observer;
+            synchronized (this) {
+                cancelled = true;
+                observer = targetObserver;
+            }
+            if (observer != null) {
+                observer.onCancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.impl;
+
+import io.netty.channel.EventLoopGroup;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * Resources shared by all devices of {@link SimulatorFarm}. Resources are owned by the farm, devices never
+ * shut them down.
+ *
+ * @param schemaContext schema context built once for all devices
+ * @param initialConfigData parsed initial configuration data, immutable and shared until modified by a device
+ * @param initialStateData parsed initial state data, immutable and shared until modified by a device
+ * @param bossGroup event loop group accepting connections of all devices
+ * @param workerGroup event loop group serving connections of all devices
+ * @param changeListenerExecutor executor delivering data change notifications of all datastores
+ * @param scheduler scheduler of Subscribe samples and synthetic value generators
+ * @param codecExecutor executor converting large data of all devices
+ */
+record SharedDeviceResources(EffectiveModelContext schemaContext, @Nullable NormalizedNode initialConfigData,
+        @Nullable NormalizedNode initialStateData, EventLoopGroup bossGroup, EventLoopGroup workerGroup,
+        ExecutorService changeListenerExecutor, ScheduledExecutorService scheduler,
+        ParallelCodecExecutor codecExecutor) {
+}
@@ -7,9 +7,11 @@
  */
 package org.opendaylight.gnmi.simulatordevice.impl;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import gnmi.Gnmi;
 import io.grpc.Server;
+import io.grpc.ServerInterceptors;
 import io.grpc.netty.InternalProtocolNegotiators;
 import io.grpc.netty.NettyServerBuilder;
 import io.netty.channel.ChannelOption;
@@ -21,11 +23,21 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.file.Path;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
+import org.opendaylight.gnmi.simulatordevice.config.CounterGeneratorConfiguration;
 import org.opendaylight.gnmi.simulatordevice.config.GnmiSimulatorConfiguration;
+import org.opendaylight.gnmi.simulatordevice.generator.CounterGeneratorService;
 import org.opendaylight.gnmi.simulatordevice.gnmi.AuthenticationInterceptor;
 import org.opendaylight.gnmi.simulatordevice.gnmi.GnmiService;
+import org.opendaylight.gnmi.simulatordevice.gnmi.TargetInterceptor;
+import org.opendaylight.gnmi.simulatordevice.gnmi.VirtualTargetService;
 import org.opendaylight.gnmi.simulatordevice.gnoi.GnoiCertService;
 import org.opendaylight.gnmi.simulatordevice.gnoi.GnoiFileService;
 import org.opendaylight.gnmi.simulatordevice.gnoi.GnoiOSService;
@@ -36,7 +48,10 @@ import org.opendaylight.gnmi.simulatordevice.utils.EffectiveModelContextBuilder.
 import org.opendaylight.gnmi.simulatordevice.utils.FileUtils;
 import org.opendaylight.gnmi.simulatordevice.utils.UsernamePasswordAuth;
 import org.opendaylight.gnmi.simulatordevice.yang.YangDataService;
+import org.opendaylight.mdsal.dom.store.inmemory.InMemoryDOMDataStore;
 import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
+import org.opendaylight.yangtools.util.concurrent.SpecialExecutors;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +63,9 @@ public class SimulatedGnmiDevice {
 
     private static final String DEFAULT_SERVER_CRT_FILE_PATH = "certs/server.crt";
     private static final String DEFAULT_SERVER_KEY_FILE_PATH = "certs/server-pkcs8.key";
+    private static final int SUBSCRIBE_SCHEDULER_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int VIRTUAL_TARGET_DCL_THREADS = 20;
+    private static final int VIRTUAL_TARGET_DCL_QUEUE_SIZE = 1000;
 
     private final EventLoopGroup bossGroup;
     private final EventLoopGroup workerGroup;
@@ -64,6 +82,9 @@ public class SimulatedGnmiDevice {
     private final boolean plaintext;
     private final Gson gson;
     private final EnumSet<Gnmi.Encoding> supportedEncodings;
+    private final List<CounterGeneratorConfiguration> counterGenerators;
+    private final int maxVirtualTargets;
+    private final @Nullable SharedDeviceResources sharedResources;
     private Server server;
     private GnoiSystemService gnoiSystemService;
     private GnoiCertService gnoiCertService;
@@ -73,16 +94,37 @@ public class SimulatedGnmiDevice {
     private GnmiService gnmiService;
     private EffectiveModelContext schemaContext;
     private YangDataService dataService;
+    private ScheduledExecutorService subscribeScheduler;
+    private CounterGeneratorService counterGeneratorService;
+    private VirtualTargetService virtualTargetService;
+    private ExecutorService virtualTargetExecutor;
+    private ParallelCodecExecutor codecExecutor;
 
 
     public SimulatedGnmiDevice(final GnmiSimulatorConfiguration simulatorConfig) {
-        this.bossGroup = Objects.requireNonNullElseGet(simulatorConfig.getBossGroup(),
-                () -> new NioEventLoopGroup(1));
-        this.workerGroup = Objects.requireNonNullElseGet(simulatorConfig.getWorkerGroup(), NioEventLoopGroup::new);
+        this(simulatorConfig, simulatorConfig.getTargetPort(), null);
+    }
+
+    /**
+     * Creates device of {@link SimulatorFarm}, which listens on given port and uses resources shared with other
+     * devices of the farm instead of creating its own.
+     */
+    SimulatedGnmiDevice(final GnmiSimulatorConfiguration simulatorConfig, final int port,
+                        final @Nullable SharedDeviceResources sharedResources) {
+        this.sharedResources = sharedResources;
+        if (sharedResources != null) {
+            this.bossGroup = sharedResources.bossGroup();
+            this.workerGroup = sharedResources.workerGroup();
+        } else {
+            this.bossGroup = Objects.requireNonNullElseGet(simulatorConfig.getBossGroup(),
+                    () -> new NioEventLoopGroup(1));
+            this.workerGroup = Objects.requireNonNullElseGet(simulatorConfig.getWorkerGroup(),
+                    NioEventLoopGroup::new);
+        }
         this.yangsPath = simulatorConfig.getYangsPath();
         this.modulesInfoSet = simulatorConfig.getYangModulesInfo();
         this.host = simulatorConfig.getTargetAddress();
-        this.port = simulatorConfig.getTargetPort();
+        this.port = port;
         this.maxConnections = simulatorConfig.getMaxConnections();
         this.certificatePath = simulatorConfig.getCertPath();
         this.keyPath = simulatorConfig.getCertKeyPath();
@@ -93,6 +135,8 @@ public class SimulatedGnmiDevice {
         this.plaintext = simulatorConfig.isUsePlaintext();
         this.gson = simulatorConfig.getGson();
         this.supportedEncodings = simulatorConfig.getSupportedEncodings();
+        this.counterGenerators = Objects.requireNonNullElse(simulatorConfig.getCounterGenerators(), List.of());
+        this.maxVirtualTargets = simulatorConfig.getMaxVirtualTargets();
     }
 
     public void start() throws IOException, EffectiveModelContextBuilderException {
@@ -122,18 +166,43 @@ public class SimulatedGnmiDevice {
             }
         }
 
-        // Initialize schema context from yang models
-        schemaContext = new EffectiveModelContextBuilder()
-                .addYangModulesPath(yangsPath)
-                .addYangModulesInfo(modulesInfoSet)
-                .build();
-
-        // Initialize data service
-        dataService = new YangDataService(schemaContext, initialConfigDataPath, initialStateDataPath);
+        if (sharedResources != null) {
+            // Device of a farm starts from data parsed once for all devices
+            schemaContext = sharedResources.schemaContext();
+            dataService = new YangDataService(schemaContext, sharedResources.initialConfigData(),
+                    sharedResources.initialStateData(), sharedResources.changeListenerExecutor());
+            subscribeScheduler = sharedResources.scheduler();
+            codecExecutor = sharedResources.codecExecutor();
+        } else {
+            // Initialize schema context from yang models
+            schemaContext = new EffectiveModelContextBuilder()
+                    .addYangModulesPath(yangsPath)
+                    .addYangModulesInfo(modulesInfoSet)
+                    .build();
+
+            // Initialize data service
+            dataService = new YangDataService(schemaContext, initialConfigDataPath, initialStateDataPath);
+
+            // Samples of all Subscribe streams are scheduled on one shared scheduler
+            subscribeScheduler = Executors.newScheduledThreadPool(SUBSCRIBE_SCHEDULER_THREADS,
+                    new ThreadFactoryBuilder().setNameFormat("gnmi-simulator-subscribe-%d").setDaemon(true).build());
+            codecExecutor = ParallelCodecExecutor.create("gnmi-simulator-codec-", ParallelCodecExecutor.DEFAULT_THREADS,
+                    ParallelCodecExecutor.DEFAULT_QUEUE_CAPACITY);
+        }
 
         // Route gNMI calls towards gNMI service facade
-        gnmiService = new GnmiService(schemaContext, dataService, gson, supportedEncodings);
-        serverBuilder.addService(gnmiService);
+        gnmiService = new GnmiService(schemaContext, dataService, gson, supportedEncodings, subscribeScheduler,
+                codecExecutor);
+        if (maxVirtualTargets > 0) {
+            virtualTargetService = createVirtualTargetService();
+            serverBuilder.addService(ServerInterceptors.intercept(virtualTargetService, new TargetInterceptor()));
+        } else {
+            serverBuilder.addService(gnmiService);
+        }
+
+        // Synthetic values are generated on the same scheduler as samples of Subscribe streams
+        counterGeneratorService = new CounterGeneratorService(counterGenerators, schemaContext,
+                gnmiService.getGnmiCrudService(), dataService, gnmiService.getGnmiSubscribeService());
 
         gnoiSystemService = new GnoiSystemService();
         serverBuilder.addService(gnoiSystemService);
@@ -154,11 +223,25 @@ public class SimulatedGnmiDevice {
         LOG.info("Starting gNMI device simulator on {}:{} ...", host, port);
         this.server = serverBuilder.build();
         this.server.start();
+        counterGeneratorService.start(subscribeScheduler);
         LOG.info("gNMI device simulator is up and running");
     }
 
     public void stop() {
         LOG.debug("Shutting down simulator...");
+        counterGeneratorService.close();
+        // Subscribe streams are long-lived, they have to be completed before the server can terminate
+        if (virtualTargetService != null) {
+            virtualTargetService.close();
+        }
+        if (virtualTargetExecutor != null) {
+            virtualTargetExecutor.shutdownNow();
+        }
+        gnmiService.close();
+        if (sharedResources == null) {
+            subscribeScheduler.shutdownNow();
+            codecExecutor.close();
+        }
         if (!server.isShutdown()) {
             try {
                 server.shutdown();
@@ -202,6 +285,14 @@ public class SimulatedGnmiDevice {
         return gnmiService;
     }
 
+    public @Nullable VirtualTargetService getVirtualTargetService() {
+        return virtualTargetService;
+    }
+
+    public CounterGeneratorService getCounterGeneratorService() {
+        return counterGeneratorService;
+    }
+
     public YangDataService getDataService() {
         return dataService;
     }
@@ -210,6 +301,31 @@ public class SimulatedGnmiDevice {
         return schemaContext;
     }
 
+    /**
+     * Creates service of virtual targets. Data of each virtual target start as the initial data of the device,
+     * parsed once and shared by all targets until modified.
+     */
+    private VirtualTargetService createVirtualTargetService() throws IOException {
+        final NormalizedNode templateConfigData;
+        final NormalizedNode templateStateData;
+        final ExecutorService changeListenerExecutor;
+        if (sharedResources != null) {
+            templateConfigData = sharedResources.initialConfigData();
+            templateStateData = sharedResources.initialStateData();
+            changeListenerExecutor = sharedResources.changeListenerExecutor();
+        } else {
+            templateConfigData = YangDataService.loadInitialData(initialConfigDataPath, schemaContext);
+            templateStateData = YangDataService.loadInitialData(initialStateDataPath, schemaContext);
+            virtualTargetExecutor = SpecialExecutors.newBlockingBoundedFastThreadPool(VIRTUAL_TARGET_DCL_THREADS,
+                    VIRTUAL_TARGET_DCL_QUEUE_SIZE, "gnmi-simulator-targets-DCL", InMemoryDOMDataStore.class);
+            changeListenerExecutor = virtualTargetExecutor;
+        }
+        LOG.info("Hosting up to {} virtual targets", maxVirtualTargets);
+        return new VirtualTargetService(gnmiService, target -> new GnmiService(schemaContext,
+                new YangDataService(schemaContext, templateConfigData, templateStateData, changeListenerExecutor),
+                gson, supportedEncodings, subscribeScheduler, codecExecutor), maxVirtualTargets);
+    }
+
     static final class SimulatedGnmiDeviceException extends RuntimeException {
         SimulatedGnmiDeviceException(String message, Throwable cause) {
             super(message, cause);
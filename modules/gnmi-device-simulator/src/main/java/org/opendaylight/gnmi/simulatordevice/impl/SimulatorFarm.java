@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
+import org.opendaylight.gnmi.simulatordevice.config.GnmiSimulatorConfiguration;
+import org.opendaylight.gnmi.simulatordevice.utils.EffectiveModelContextBuilder;
+import org.opendaylight.gnmi.simulatordevice.utils.EffectiveModelContextBuilder.EffectiveModelContextBuilderException;
+import org.opendaylight.gnmi.simulatordevice.yang.YangDataService;
+import org.opendaylight.mdsal.dom.store.inmemory.InMemoryDOMDataStore;
+import org.opendaylight.yangtools.util.concurrent.SpecialExecutors;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs multiple simulated devices in one JVM. Devices are configured by the same configuration and listen
+ * on consecutive ports starting with configured target port.
+ *
+ * <p>Schema context is built and initial data are parsed only once. All devices start with the same immutable
+ * data trees, which are copied only by modifications of a device. Devices share one pair of event loop groups,
+ * one executor of data change notifications and one scheduler, so the number of threads does not depend on
+ * the number of devices.</p>
+ */
+public class SimulatorFarm implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SimulatorFarm.class);
+
+    private static final int MAX_PORT = 65535;
+    private static final int CHANGE_LISTENER_THREADS = 20;
+    private static final int CHANGE_LISTENER_QUEUE_SIZE = 1000;
+    private static final int SCHEDULER_THREADS = Runtime.getRuntime().availableProcessors();
+
+    private final GnmiSimulatorConfiguration configuration;
+    private final int deviceCount;
+    private final List<SimulatedGnmiDevice> devices = new ArrayList<>();
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private ExecutorService changeListenerExecutor;
+    private ScheduledExecutorService scheduler;
+    private ParallelCodecExecutor codecExecutor;
+
+    /**
+     * Creates farm of devices.
+     *
+     * @param configuration configuration of all devices, target port is the port of the first device
+     * @param deviceCount number of devices
+     */
+    public SimulatorFarm(final GnmiSimulatorConfiguration configuration, final int deviceCount) {
+        if (deviceCount < 1) {
+            throw new IllegalArgumentException("Number of devices must be positive, got " + deviceCount);
+        }
+        if (configuration.getTargetPort() + deviceCount - 1 > MAX_PORT) {
+            throw new IllegalArgumentException(String.format("Ports of %d devices starting with %d exceed %d",
+                    deviceCount, configuration.getTargetPort(), MAX_PORT));
+        }
+        this.configuration = configuration;
+        this.deviceCount = deviceCount;
+    }
+
+    /**
+     * Starts all devices. Devices started before a failure are stopped.
+     */
+    public synchronized void start() throws IOException, EffectiveModelContextBuilderException {
+        if (!devices.isEmpty()) {
+            throw new IllegalStateException("Simulator farm is already started");
+        }
+        LOG.info("Starting {} gNMI device simulators on ports {}-{} ...", deviceCount,
+                configuration.getTargetPort(), configuration.getTargetPort() + deviceCount - 1);
+        final EffectiveModelContext schemaContext = new EffectiveModelContextBuilder()
+                .addYangModulesPath(configuration.getYangsPath())
+                .addYangModulesInfo(configuration.getYangModulesInfo())
+                .build();
+        final NormalizedNode initialConfigData = YangDataService.loadInitialData(
+                configuration.getInitialConfigDataPath(), schemaContext);
+        final NormalizedNode initialStateData = YangDataService.loadInitialData(
+                configuration.getInitialStateDataPath(), schemaContext);
+
+        bossGroup = configuration.getBossGroup() != null ? configuration.getBossGroup() : new NioEventLoopGroup(1);
+        workerGroup = configuration.getWorkerGroup() != null ? configuration.getWorkerGroup()
+                : new NioEventLoopGroup();
+        changeListenerExecutor = SpecialExecutors.newBlockingBoundedFastThreadPool(CHANGE_LISTENER_THREADS,
+                CHANGE_LISTENER_QUEUE_SIZE, "gnmi-simulator-farm-DCL", InMemoryDOMDataStore.class);
+        scheduler = Executors.newScheduledThreadPool(SCHEDULER_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("gnmi-simulator-farm-%d").setDaemon(true).build());
+        codecExecutor = ParallelCodecExecutor.create("gnmi-simulator-farm-codec-",
+                ParallelCodecExecutor.DEFAULT_THREADS, ParallelCodecExecutor.DEFAULT_QUEUE_CAPACITY);
+        final SharedDeviceResources resources = new SharedDeviceResources(schemaContext, initialConfigData,
+                initialStateData, bossGroup, workerGroup, changeListenerExecutor, scheduler, codecExecutor);
+
+        try {
+            for (int i = 0; i < deviceCount; i++) {
+                final SimulatedGnmiDevice device = new SimulatedGnmiDevice(configuration,
+                        configuration.getTargetPort() + i, resources);
+                device.start();
+                devices.add(device);
+            }
+        } catch (final IOException | RuntimeException e) {
+            LOG.error("Failed to start device on port {}", configuration.getTargetPort() + devices.size(), e);
+            close();
+            throw e;
+        }
+        LOG.info("{} gNMI device simulators are up and running", deviceCount);
+    }
+
+    /**
+     * Returns started devices, ordered by port.
+     */
+    public synchronized List<SimulatedGnmiDevice> getDevices() {
+        return List.copyOf(devices);
+    }
+
+    @Override
+    public synchronized void close() {
+        LOG.debug("Shutting down {} simulators...", devices.size());
+        devices.forEach(SimulatedGnmiDevice::stop);
+        devices.clear();
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            changeListenerExecutor.shutdownNow();
+            codecExecutor.close();
+            // Event loop groups provided by configuration are owned by the caller
+            if (bossGroup != configuration.getBossGroup()) {
+                bossGroup.shutdownGracefully();
+            }
+            if (workerGroup != configuration.getWorkerGroup()) {
+                workerGroup.shutdownGracefully();
+            }
+            scheduler = null;
+        }
+    }
+}
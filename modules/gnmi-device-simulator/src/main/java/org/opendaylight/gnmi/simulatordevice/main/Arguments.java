@@ -15,7 +15,15 @@ public class Arguments {
             + " (If absent, the default will be used)")
     private String configPath;
 
+    @Parameter(names = {"-n", "--device-count"}, description = "Number of simulated devices listening on consecutive"
+            + " ports starting with configured target port. (Default 1)")
+    private int deviceCount = 1;
+
     public String getConfigPath() {
         return configPath;
     }
+
+    public int getDeviceCount() {
+        return deviceCount;
+    }
 }
@@ -13,6 +13,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import org.opendaylight.gnmi.simulatordevice.config.GnmiSimulatorConfiguration;
 import org.opendaylight.gnmi.simulatordevice.impl.SimulatedGnmiDevice;
+import org.opendaylight.gnmi.simulatordevice.impl.SimulatorFarm;
 import org.opendaylight.gnmi.simulatordevice.utils.EffectiveModelContextBuilder.EffectiveModelContextBuilderException;
 import org.opendaylight.gnmi.simulatordevice.utils.GnmiSimulatorConfUtils;
 import org.slf4j.Logger;
@@ -23,6 +24,7 @@ public class GnmiSimulatorApp {
     private static final Logger LOG = LoggerFactory.getLogger(GnmiSimulatorApp.class);
 
     private SimulatedGnmiDevice device;
+    private SimulatorFarm farm;
 
     public static void main(String[] args) {
         final GnmiSimulatorApp gnmiSimulatorApp = new GnmiSimulatorApp();
@@ -46,8 +48,13 @@ public class GnmiSimulatorApp {
                 gnmiSimulatorConfiguration = GnmiSimulatorConfUtils
                         .loadGnmiSimulatorConfiguration(Files.newInputStream(Path.of(arguments.getConfigPath())));
             }
-            device = new SimulatedGnmiDevice(gnmiSimulatorConfiguration);
-            device.start();
+            if (arguments.getDeviceCount() > 1) {
+                farm = new SimulatorFarm(gnmiSimulatorConfiguration, arguments.getDeviceCount());
+                farm.start();
+            } else {
+                device = new SimulatedGnmiDevice(gnmiSimulatorConfiguration);
+                device.start();
+            }
 
         } catch (EffectiveModelContextBuilderException e) {
             LOG.error("ODL gNMI application - failed during creating schema context: ", e);
@@ -66,5 +73,9 @@ public class GnmiSimulatorApp {
             device.stop();
             device = null;
         }
+        if (farm != null) {
+            farm.close();
+            farm = null;
+        }
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.yang;
+
+import static java.util.Objects.requireNonNull;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * One modification of datastore data, modifications applied by {@link YangDataService#modifyData} are committed
+ * in one transaction.
+ *
+ * @param type type of the modification
+ * @param path path of modified data
+ * @param data written or merged data, null in case of delete
+ */
+public record DataModification(Type type, YangInstanceIdentifier path, @Nullable NormalizedNode data) {
+
+    public enum Type {
+        WRITE,
+        MERGE,
+        DELETE
+    }
+
+    public DataModification {
+        requireNonNull(type);
+        requireNonNull(path);
+        if (type != Type.DELETE) {
+            requireNonNull(data);
+        }
+    }
+
+    public static DataModification write(final YangInstanceIdentifier path, final NormalizedNode data) {
+        return new DataModification(Type.WRITE, path, data);
+    }
+
+    public static DataModification merge(final YangInstanceIdentifier path, final NormalizedNode data) {
+        return new DataModification(Type.MERGE, path, data);
+    }
+
+    public static DataModification delete(final YangInstanceIdentifier path) {
+        return new DataModification(Type.DELETE, path, null);
+    }
+}
@@ -15,10 +15,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.gnmi.commons.util.DataConverter;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
@@ -26,6 +28,7 @@ import org.opendaylight.mdsal.dom.spi.store.DOMStoreReadTransaction;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreReadWriteTransaction;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort;
 import org.opendaylight.mdsal.dom.store.inmemory.InMemoryDOMDataStore;
+import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.util.concurrent.SpecialExecutors;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -42,10 +45,51 @@ public class YangDataService {
 
     public YangDataService(final EffectiveModelContext schemaContext, final String initialConfigDataPath,
                            final String initialStateDataPath) throws IOException {
-        this.datastoreMap = createDatastoreMap(schemaContext);
+        this.datastoreMap = createDatastoreMap(schemaContext, null);
         initializeDataStore(initialConfigDataPath, initialStateDataPath, schemaContext);
     }
 
+    /**
+     * Creates data service initialized with already parsed data. Immutable data are shared with other services
+     * initialized with the same data, until they are modified. Change listeners of all datastores are notified
+     * on the given executor.
+     *
+     * @param schemaContext schema context of the data
+     * @param initialConfigData initial configuration data, returned by {@link #loadInitialData}
+     * @param initialStateData initial state data, returned by {@link #loadInitialData}
+     * @param changeListenerExecutor executor delivering notifications of change listeners
+     */
+    public YangDataService(final EffectiveModelContext schemaContext, final @Nullable NormalizedNode initialConfigData,
+                           final @Nullable NormalizedNode initialStateData,
+                           final ExecutorService changeListenerExecutor) {
+        this.datastoreMap = createDatastoreMap(schemaContext, changeListenerExecutor);
+        if (initialConfigData != null) {
+            writeInitialData(DatastoreType.CONFIGURATION, initialConfigData);
+        }
+        if (initialStateData != null) {
+            writeInitialData(DatastoreType.STATE, initialStateData);
+        }
+    }
+
+    /**
+     * Parses initial data from JSON file.
+     *
+     * @param dataPath path of the file, no data are loaded if empty
+     * @param schemaContext schema context of the data
+     * @return parsed data, null if path is empty
+     * @throws IOException if the file can not be read
+     */
+    public static @Nullable NormalizedNode loadInitialData(final @Nullable String dataPath,
+                                                           final EffectiveModelContext schemaContext)
+            throws IOException {
+        if (StringUtils.isEmpty(dataPath)) {
+            return null;
+        }
+        try (InputStream stream = Files.newInputStream(Path.of(dataPath))) {
+            return parseInitialData(stream, schemaContext);
+        }
+    }
+
     public Optional<NormalizedNode> readDataByPath(final DatastoreType datastoreType,
                                                          final YangInstanceIdentifier path) {
         try (DOMStoreReadTransaction tx = datastoreMap.get(datastoreType).newReadOnlyTransaction()) {
@@ -59,30 +103,56 @@ public class YangDataService {
         return Optional.empty();
     }
 
+    /**
+     * Reads data as they would be after the pending modifications are applied. Modifications are applied
+     * to a transaction which is never committed, so the datastore is not changed.
+     *
+     * @param datastoreType read datastore
+     * @param path path to read
+     * @param pendingModifications modifications not yet committed, applied in the given order
+     * @return data of the path, empty if there are no data
+     */
+    public Optional<NormalizedNode> readDataByPath(final DatastoreType datastoreType,
+                                                   final YangInstanceIdentifier path,
+                                                   final List<DataModification> pendingModifications) {
+        if (pendingModifications.isEmpty()) {
+            return readDataByPath(datastoreType, path);
+        }
+        try (DOMStoreReadWriteTransaction tx = datastoreMap.get(datastoreType).newReadWriteTransaction()) {
+            applyModifications(tx, pendingModifications);
+            return tx.read(path).get();
+        } catch (final ExecutionException e) {
+            LOG.error("Unable to fetch data from DataStore", e);
+        } catch (InterruptedException e) {
+            LOG.error("Interrupted while fetching data from DataStore", e);
+            Thread.currentThread().interrupt();
+        }
+        return Optional.empty();
+    }
+
     public void mergeDataByPath(final DatastoreType datastoreType, final YangInstanceIdentifier path,
                                 final NormalizedNode node) {
-        modifyDataByPath(datastoreType, path, node, ModificationType.MERGE);
+        modifyData(datastoreType, List.of(DataModification.merge(path, node)));
     }
 
     public void writeDataByPath(final DatastoreType datastoreType, final YangInstanceIdentifier path,
                                 final NormalizedNode node) {
-        modifyDataByPath(datastoreType, path, node, ModificationType.WRITE);
+        modifyData(datastoreType, List.of(DataModification.write(path, node)));
     }
 
     public void deleteDataByPath(final DatastoreType datastoreType, final YangInstanceIdentifier path) {
-        modifyDataByPath(datastoreType, path, null, ModificationType.DELETE);
+        modifyData(datastoreType, List.of(DataModification.delete(path)));
     }
 
-    private void modifyDataByPath(final DatastoreType datastoreType, final YangInstanceIdentifier path,
-                                  final NormalizedNode node, final ModificationType modificationType) {
+    /**
+     * Applies modifications in one transaction, so registered listeners are notified about them at once.
+     *
+     * @param datastoreType modified datastore
+     * @param modifications modifications applied in the given order
+     */
+    public void modifyData(final DatastoreType datastoreType, final List<DataModification> modifications) {
         try (DOMStoreReadWriteTransaction tx = datastoreMap.get(datastoreType).newReadWriteTransaction()) {
-            if (modificationType == ModificationType.WRITE) {
-                tx.write(path, node);
-            } else if (modificationType == ModificationType.DELETE) {
-                tx.delete(path);
-            } else {
-                tx.merge(path, node);
-            }
+            applyModifications(tx, modifications);
             final DOMStoreThreePhaseCommitCohort tpcc = tx.ready();
             tpcc.canCommit().get();
             tpcc.preCommit().get();
@@ -97,6 +167,17 @@ public class YangDataService {
         }
     }
 
+    private static void applyModifications(final DOMStoreReadWriteTransaction tx,
+                                           final List<DataModification> modifications) {
+        for (final DataModification modification : modifications) {
+            switch (modification.type()) {
+                case WRITE -> tx.write(modification.path(), modification.data());
+                case DELETE -> tx.delete(modification.path());
+                default -> tx.merge(modification.path(), modification.data());
+            }
+        }
+    }
+
     private void initializeDataStore(final String initialConfigDataPath, final String initialStateDataPath,
                                      final EffectiveModelContext schemaContext)
             throws IOException {
@@ -114,48 +195,55 @@ public class YangDataService {
     private void initDataTree(final InputStream stream, final DatastoreType datastoreType,
                               final EffectiveModelContext schemaContext) {
         try {
-            // read json configuration from file
-            final String configJson = CharStreams.toString(new InputStreamReader(stream, StandardCharsets.UTF_8));
-            /*
-             ROOT YII because we are writing one/or multiple top-level elements
-              (interfaces,alarms, components ...).
-            */
-            final NormalizedNode node =
-                    DataConverter.nodeFromJsonString(YangInstanceIdentifier.of(), configJson, schemaContext);
-            /*
-             If QName of parsed node is a root node (SchemaContext.NAME), that means we parsed multiple
-              top-level element, in that case we need to write this node on ROOT YII.
-            */
-            if (node.name().getNodeType().equals(SchemaContext.NAME)) {
-                writeDataByPath(datastoreType, YangInstanceIdentifier.of(), node);
-            // Else we parsed only one top-level element, in that case we write this node on it's identifier.
-            } else {
-                writeDataByPath(datastoreType, YangInstanceIdentifier.of(node.name().getNodeType()), node);
-            }
-
+            writeInitialData(datastoreType, parseInitialData(stream, schemaContext));
         } catch (final IOException e) {
             LOG.error("Unable to get data from stream {}", stream, e);
         }
     }
 
-    public void registerListener(final DatastoreType datastoreType, final YangInstanceIdentifier identifier,
-                                 final DOMDataTreeChangeListener listener) {
-        datastoreMap.get(datastoreType).registerTreeChangeListener(identifier, listener);
+    private static NormalizedNode parseInitialData(final InputStream stream,
+                                                   final EffectiveModelContext schemaContext) throws IOException {
+        // read json configuration from file
+        final String configJson = CharStreams.toString(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        /*
+         ROOT YII because we are writing one/or multiple top-level elements
+          (interfaces,alarms, components ...).
+        */
+        return DataConverter.nodeFromJsonString(YangInstanceIdentifier.of(), configJson, schemaContext);
     }
 
-    private EnumMap<DatastoreType, InMemoryDOMDataStore> createDatastoreMap(EffectiveModelContext schemaContext) {
+    private void writeInitialData(final DatastoreType datastoreType, final NormalizedNode node) {
+        /*
+         If QName of parsed node is a root node (SchemaContext.NAME), that means we parsed multiple
+          top-level element, in that case we need to write this node on ROOT YII.
+        */
+        if (node.name().getNodeType().equals(SchemaContext.NAME)) {
+            writeDataByPath(datastoreType, YangInstanceIdentifier.of(), node);
+        // Else we parsed only one top-level element, in that case we write this node on it's identifier.
+        } else {
+            writeDataByPath(datastoreType, YangInstanceIdentifier.of(node.name().getNodeType()), node);
+        }
+    }
+
+    public Registration registerListener(final DatastoreType datastoreType, final YangInstanceIdentifier identifier,
+                                         final DOMDataTreeChangeListener listener) {
+        return datastoreMap.get(datastoreType).registerTreeChangeListener(identifier, listener);
+    }
+
+    private EnumMap<DatastoreType, InMemoryDOMDataStore> createDatastoreMap(EffectiveModelContext schemaContext,
+            final @Nullable ExecutorService sharedExecutor) {
         final InMemoryDOMDataStore configStore = new InMemoryDOMDataStore(DatastoreType.CONFIGURATION.getName(),
-                LogicalDatastoreType.CONFIGURATION, createExecutorService(DatastoreType.CONFIGURATION.getName()),
+                LogicalDatastoreType.CONFIGURATION, executorService(DatastoreType.CONFIGURATION, sharedExecutor),
                 20, false);
         configStore.onModelContextUpdated(schemaContext);
 
         final InMemoryDOMDataStore operStore = new InMemoryDOMDataStore(DatastoreType.OPERATIONAL.getName(),
-                LogicalDatastoreType.OPERATIONAL, createExecutorService(DatastoreType.OPERATIONAL.getName()),
+                LogicalDatastoreType.OPERATIONAL, executorService(DatastoreType.OPERATIONAL, sharedExecutor),
                 20, false);
         operStore.onModelContextUpdated(schemaContext);
 
         final InMemoryDOMDataStore stateStore = new InMemoryDOMDataStore(DatastoreType.STATE.getName(),
-                LogicalDatastoreType.OPERATIONAL, createExecutorService(DatastoreType.STATE.getName()),
+                LogicalDatastoreType.OPERATIONAL, executorService(DatastoreType.STATE, sharedExecutor),
                 20, false);
         stateStore.onModelContextUpdated(schemaContext);
 
@@ -166,13 +254,12 @@ public class YangDataService {
         return dataStoreTypeMap;
     }
 
-    private ExecutorService createExecutorService(final String name) {
-        return SpecialExecutors.newBlockingBoundedFastThreadPool(20, 20, name + "-DCL", InMemoryDOMDataStore.class);
+    private ExecutorService executorService(final DatastoreType datastoreType,
+                                            final @Nullable ExecutorService sharedExecutor) {
+        return sharedExecutor != null ? sharedExecutor : createExecutorService(datastoreType.getName());
     }
 
-    private enum ModificationType {
-        WRITE,
-        MERGE,
-        DELETE
+    private ExecutorService createExecutorService(final String name) {
+        return SpecialExecutors.newBlockingBoundedFastThreadPool(20, 20, name + "-DCL", InMemoryDOMDataStore.class);
     }
 }
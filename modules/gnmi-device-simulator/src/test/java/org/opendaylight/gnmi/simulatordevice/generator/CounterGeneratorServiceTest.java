@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+import gnmi.Gnmi;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.simulatordevice.config.CounterGeneratorConfiguration;
+import org.opendaylight.gnmi.simulatordevice.config.GnmiSimulatorConfiguration;
+import org.opendaylight.gnmi.simulatordevice.gnmi.GnmiCrudService;
+import org.opendaylight.gnmi.simulatordevice.gnmi.GnmiService;
+import org.opendaylight.gnmi.simulatordevice.gnmi.GnmiSubscribeService;
+import org.opendaylight.gnmi.simulatordevice.utils.EffectiveModelContextBuilder;
+import org.opendaylight.gnmi.simulatordevice.utils.EffectiveModelContextBuilder.EffectiveModelContextBuilderException;
+import org.opendaylight.gnmi.simulatordevice.utils.GnmiSimulatorConfUtils;
+import org.opendaylight.gnmi.simulatordevice.yang.DatastoreType;
+import org.opendaylight.gnmi.simulatordevice.yang.YangDataService;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+public class CounterGeneratorServiceTest {
+
+    private static final String SIMULATOR_CONFIG = "/initData/simulator_config.json";
+    private static final String INIT_DATA_PATH = "src/test/resources/initData";
+    private static final String IN_OCTETS_PATH = "/interfaces/interface[name=br0]/state/counters/in-octets";
+    private static final String OTHER_INTERFACE_PATH = "/interfaces/interface[name=eth3]/state/counters/in-octets";
+
+    private ScheduledExecutorService scheduler;
+    private EffectiveModelContext schemaContext;
+    private YangDataService dataService;
+    private GnmiService gnmiService;
+    private CounterGeneratorService generatorService;
+
+    @BeforeEach
+    public void startUp() throws IOException, EffectiveModelContextBuilderException {
+        final GnmiSimulatorConfiguration simulatorConfiguration = GnmiSimulatorConfUtils
+                .loadGnmiSimulatorConfiguration(this.getClass().getResourceAsStream(SIMULATOR_CONFIG));
+        schemaContext = new EffectiveModelContextBuilder()
+                .addYangModulesInfo(simulatorConfiguration.getYangModulesInfo())
+                .build();
+        dataService = new YangDataService(schemaContext, INIT_DATA_PATH + "/config.json",
+                INIT_DATA_PATH + "/state.json");
+        scheduler = Executors.newScheduledThreadPool(1);
+        gnmiService = new GnmiService(schemaContext, dataService, new Gson(), null, scheduler);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (generatorService != null) {
+            generatorService.close();
+        }
+        gnmiService.close();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void parsePathTest() {
+        final Gnmi.Path path = CounterGeneratorService.parsePath(IN_OCTETS_PATH);
+        assertEquals(5, path.getElemCount());
+        assertEquals("interface", path.getElem(1).getName());
+        assertEquals("br0", path.getElem(1).getKeyOrThrow("name"));
+        assertEquals("in-octets", path.getElem(4).getName());
+
+        assertThrows(IllegalArgumentException.class, () -> CounterGeneratorService.parsePath("/interface[name"));
+    }
+
+    @Test
+    public void datastoreCounterTest() throws InterruptedException {
+        final CounterGeneratorConfiguration config = generator(IN_OCTETS_PATH,
+                CounterGeneratorConfiguration.Output.DATASTORE);
+        config.setInitialValue(1000);
+        generatorService = createGeneratorService(List.of(config));
+        generatorService.start(scheduler);
+
+        final YangInstanceIdentifier identifier = gnmiService.getGnmiCrudService().pathToIdentifierMap(
+                List.of(CounterGeneratorService.parsePath(IN_OCTETS_PATH))).values().iterator().next();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        long value = 0;
+        while (value <= 1000 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(20);
+            final Optional<NormalizedNode> node = dataService.readDataByPath(DatastoreType.STATE, identifier);
+            value = node.map(leaf -> ((Uint64) ((LeafNode<?>) leaf).body()).longValue()).orElse(0L);
+        }
+        assertTrue(value > 1000, "Counter was not increased");
+        assertTrue(generatorService.getGeneratedUpdateCount() > 0);
+    }
+
+    @Test
+    public void streamCounterTest() throws InterruptedException {
+        generatorService = createGeneratorService(List.of(
+                generator(IN_OCTETS_PATH, CounterGeneratorConfiguration.Output.STREAM),
+                generator(OTHER_INTERFACE_PATH, CounterGeneratorConfiguration.Output.STREAM)));
+        final List<Gnmi.Notification> notifications = new CopyOnWriteArrayList<>();
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = gnmiService.subscribe(
+                new NotificationCollector(notifications));
+        requestObserver.onNext(Gnmi.SubscribeRequest.newBuilder()
+                .setSubscribe(Gnmi.SubscriptionList.newBuilder()
+                        .setMode(Gnmi.SubscriptionList.Mode.STREAM)
+                        .setEncoding(Gnmi.Encoding.JSON_IETF)
+                        .setUpdatesOnly(true)
+                        .addSubscription(Gnmi.Subscription.newBuilder()
+                                .setPath(CounterGeneratorService.parsePath("/interfaces/interface[name=br0]"))
+                                .setMode(Gnmi.SubscriptionMode.ON_CHANGE)))
+                .build());
+        generatorService.start(scheduler);
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (notifications.size() < 10 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        assertTrue(notifications.size() >= 10);
+        // Only updates of the subscribed interface are received, values are increasing
+        long previous = 0;
+        for (final Gnmi.Notification notification : notifications) {
+            assertEquals(1, notification.getUpdateCount());
+            final Gnmi.Update update = notification.getUpdate(0);
+            assertEquals(CounterGeneratorService.parsePath(IN_OCTETS_PATH), update.getPath());
+            assertTrue(update.getVal().getUintVal() > previous);
+            previous = update.getVal().getUintVal();
+        }
+    }
+
+    @Test
+    public void streamValueMatchesLeafTypeTest() throws InterruptedException {
+        final String enabledPath = "/interfaces/interface[name=br0]/config/enabled";
+        final CounterGeneratorConfiguration config = generator(enabledPath,
+                CounterGeneratorConfiguration.Output.STREAM);
+        config.setType(CounterGeneratorConfiguration.Type.FLAPPING);
+        config.setValues(List.of("true", "false"));
+        generatorService = createGeneratorService(List.of(config));
+        final List<Gnmi.Notification> notifications = new CopyOnWriteArrayList<>();
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = gnmiService.subscribe(
+                new NotificationCollector(notifications));
+        requestObserver.onNext(Gnmi.SubscribeRequest.newBuilder()
+                .setSubscribe(Gnmi.SubscriptionList.newBuilder()
+                        .setMode(Gnmi.SubscriptionList.Mode.STREAM)
+                        .setEncoding(Gnmi.Encoding.JSON_IETF)
+                        .setUpdatesOnly(true)
+                        .addSubscription(Gnmi.Subscription.newBuilder()
+                                .setPath(CounterGeneratorService.parsePath(enabledPath))
+                                .setMode(Gnmi.SubscriptionMode.ON_CHANGE)))
+                .build());
+        generatorService.start(scheduler);
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (notifications.isEmpty() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        assertFalse(notifications.isEmpty());
+        // Boolean leaf is encoded as bool_val
+        assertEquals(Gnmi.TypedValue.ValueCase.BOOL_VAL, notifications.get(0).getUpdate(0).getVal().getValueCase());
+    }
+
+    @Test
+    public void invalidStreamGeneratorTest() {
+        final CounterGeneratorConfiguration unknownPath = generator("/interfaces/interface[name=br0]/unknown",
+                CounterGeneratorConfiguration.Output.STREAM);
+        assertThrows(IllegalArgumentException.class, () -> createGeneratorService(List.of(unknownPath)));
+
+        // Flapping values have to match type of the leaf
+        final CounterGeneratorConfiguration invalidValues = generator(IN_OCTETS_PATH,
+                CounterGeneratorConfiguration.Output.STREAM);
+        invalidValues.setType(CounterGeneratorConfiguration.Type.FLAPPING);
+        invalidValues.setValues(List.of("UP", "DOWN"));
+        assertThrows(IllegalArgumentException.class, () -> createGeneratorService(List.of(invalidValues)));
+    }
+
+    private CounterGeneratorService createGeneratorService(final List<CounterGeneratorConfiguration> configs) {
+        final GnmiCrudService crudService = gnmiService.getGnmiCrudService();
+        final GnmiSubscribeService subscribeService = gnmiService.getGnmiSubscribeService();
+        return new CounterGeneratorService(configs, schemaContext, crudService, dataService, subscribeService);
+    }
+
+    private static CounterGeneratorConfiguration generator(final String path,
+            final CounterGeneratorConfiguration.Output output) {
+        final CounterGeneratorConfiguration config = new CounterGeneratorConfiguration();
+        config.setPath(path);
+        config.setType(CounterGeneratorConfiguration.Type.MONOTONIC_COUNTER);
+        config.setOutput(output);
+        config.setRate(1000);
+        return config;
+    }
+
+    private static final class NotificationCollector implements StreamObserver<Gnmi.SubscribeResponse> {
+        private final List<Gnmi.Notification> notifications;
+
+        NotificationCollector(final List<Gnmi.Notification> notifications) {
+            this.notifications = notifications;
+        }
+
+        @Override
+        public void onNext(final Gnmi.SubscribeResponse response) {
+            if (response.hasUpdate()) {
+                notifications.add(response.getUpdate());
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            // Not expected
+        }
+
+        @Override
+        public void onCompleted() {
+            // Not expected
+        }
+    }
+}
@@ -0,0 +1,557 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.gnmi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.protobuf.ByteString;
+import gnmi.Gnmi;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.simulatordevice.config.GnmiSimulatorConfiguration;
+import org.opendaylight.gnmi.simulatordevice.utils.EffectiveModelContextBuilder;
+import org.opendaylight.gnmi.simulatordevice.utils.EffectiveModelContextBuilder.EffectiveModelContextBuilderException;
+import org.opendaylight.gnmi.simulatordevice.utils.GnmiSimulatorConfUtils;
+import org.opendaylight.gnmi.simulatordevice.yang.YangDataService;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+public class GnmiSubscribeServiceTest {
+
+    private static final String SIMULATOR_CONFIG = "/initData/simulator_config.json";
+    private static final String INIT_DATA_PATH = "src/test/resources/initData";
+    private static final Gnmi.Path INTERFACE_PATH = Gnmi.Path.newBuilder()
+            .addElem(Gnmi.PathElem.newBuilder().setName("interfaces").build())
+            .addElem(Gnmi.PathElem.newBuilder().setName("interface").putKey("name", "br0").build())
+            .build();
+    private static final Gnmi.Path COUNTER_PATH = INTERFACE_PATH.toBuilder()
+            .addElem(Gnmi.PathElem.newBuilder().setName("state").build())
+            .addElem(Gnmi.PathElem.newBuilder().setName("counters").build())
+            .addElem(Gnmi.PathElem.newBuilder().setName("in-octets").build())
+            .build();
+
+    private ScheduledExecutorService scheduler;
+    private GnmiCrudService crudService;
+    private GnmiSubscribeService subscribeService;
+
+    @BeforeEach
+    public void startUp() throws IOException, EffectiveModelContextBuilderException {
+        final GnmiSimulatorConfiguration simulatorConfiguration = GnmiSimulatorConfUtils
+                .loadGnmiSimulatorConfiguration(this.getClass().getResourceAsStream(SIMULATOR_CONFIG));
+        final EffectiveModelContext schemaContext = new EffectiveModelContextBuilder()
+                .addYangModulesInfo(simulatorConfiguration.getYangModulesInfo())
+                .build();
+        final YangDataService dataService = new YangDataService(schemaContext, INIT_DATA_PATH + "/config.json",
+                INIT_DATA_PATH + "/state.json");
+        scheduler = Executors.newScheduledThreadPool(1);
+        crudService = new GnmiCrudService(dataService, schemaContext, new Gson());
+        subscribeService = new GnmiSubscribeService(crudService, dataService, scheduler);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        subscribeService.close();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void onceSubscriptionTest() throws InterruptedException {
+        final ResponseCollector collector = new ResponseCollector(0);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(subscribeRequest(Gnmi.SubscriptionList.Mode.ONCE, 0));
+
+        assertTrue(collector.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(collector.error.isEmpty());
+        final List<Gnmi.SubscribeResponse> responses = collector.responses;
+        // Interface is present in configuration and state datastore, both are reported by one update
+        assertEquals(2, responses.size());
+        assertEquals(1, responses.get(0).getUpdate().getUpdateCount());
+        assertEquals(INTERFACE_PATH, responses.get(0).getUpdate().getUpdate(0).getPath());
+        final String value = responses.get(0).getUpdate().getUpdate(0).getVal().getJsonIetfVal().toStringUtf8();
+        // Leaf present only in configuration datastore and leaf present only in state datastore
+        assertTrue(value.contains("\"name\":\"admin\""));
+        assertTrue(value.contains("\"hw-mac-address\""));
+        assertTrue(responses.get(1).getSyncResponse());
+        assertEquals(0, subscribeService.getActiveSubscriptionCount());
+    }
+
+    @Test
+    public void pollSubscriptionTest() {
+        final ResponseCollector collector = new ResponseCollector(0);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(subscribeRequest(Gnmi.SubscriptionList.Mode.POLL, 0));
+        assertEquals(1, collector.syncCount());
+
+        requestObserver.onNext(Gnmi.SubscribeRequest.newBuilder().setPoll(Gnmi.Poll.getDefaultInstance()).build());
+        assertEquals(2, collector.syncCount());
+        assertEquals(4, collector.responses.size());
+
+        requestObserver.onCompleted();
+        assertEquals(0, collector.completed.getCount());
+        assertEquals(0, subscribeService.getActiveSubscriptionCount());
+    }
+
+    @Test
+    public void pollSubscriptionIgnoresSuppressRedundantTest() {
+        final ResponseCollector collector = new ResponseCollector(0);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(suppressRedundant(subscribeRequest(Gnmi.SubscriptionList.Mode.POLL, 0), 0));
+
+        // Unchanged values are sent on each poll
+        requestObserver.onNext(Gnmi.SubscribeRequest.newBuilder().setPoll(Gnmi.Poll.getDefaultInstance()).build());
+        assertEquals(2, collector.syncCount());
+        assertEquals(4, collector.responses.size());
+        requestObserver.onCompleted();
+    }
+
+    @Test
+    public void streamSuppressRedundantTest() throws InterruptedException {
+        final ResponseCollector collector = new ResponseCollector(0);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(suppressRedundant(subscribeRequest(Gnmi.SubscriptionList.Mode.STREAM,
+                TimeUnit.MILLISECONDS.toNanos(100)), 0));
+        assertTrue(collector.awaitSync());
+
+        // Values do not change, so only initial values are sent
+        TimeUnit.MILLISECONDS.sleep(350);
+        assertEquals(2, collector.responses.size());
+        requestObserver.onError(Status.CANCELLED.asRuntimeException());
+    }
+
+    @Test
+    public void heartbeatOfSuppressedSampleTest() throws InterruptedException {
+        // Initial value, sync response and heartbeat
+        final ResponseCollector collector = new ResponseCollector(3);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(suppressRedundant(subscribeRequest(Gnmi.SubscriptionList.Mode.STREAM,
+                TimeUnit.MILLISECONDS.toNanos(100)), TimeUnit.MILLISECONDS.toNanos(250)));
+
+        assertTrue(collector.received.await(5, TimeUnit.SECONDS));
+        // Unchanged value is sent again with the heartbeat
+        assertEquals(collector.responses.get(0).getUpdate().getUpdate(0),
+                collector.responses.get(2).getUpdate().getUpdate(0));
+        requestObserver.onError(Status.CANCELLED.asRuntimeException());
+    }
+
+    @Test
+    public void heartbeatOfOnChangeSubscriptionTest() throws InterruptedException {
+        // Initial value, sync response and two heartbeats, data are not changed
+        final ResponseCollector collector = new ResponseCollector(4);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        final Gnmi.SubscribeRequest.Builder request = onChangeUpdatesOnlyRequest().toBuilder();
+        request.getSubscribeBuilder().setUpdatesOnly(false).getSubscriptionBuilder(0)
+                .setHeartbeatInterval(TimeUnit.MILLISECONDS.toNanos(150));
+        requestObserver.onNext(request.build());
+
+        assertTrue(collector.received.await(5, TimeUnit.SECONDS));
+        assertTrue(collector.responses.get(1).getSyncResponse());
+        final Gnmi.Update initial = collector.responses.get(0).getUpdate().getUpdate(0);
+        assertEquals(INTERFACE_PATH, initial.getPath());
+        assertEquals(initial, collector.responses.get(2).getUpdate().getUpdate(0));
+        assertEquals(initial, collector.responses.get(3).getUpdate().getUpdate(0));
+        requestObserver.onError(Status.CANCELLED.asRuntimeException());
+    }
+
+    @Test
+    public void streamSampleSubscriptionTest() throws InterruptedException {
+        // Initial values, sync response and two samples
+        final ResponseCollector collector = new ResponseCollector(4);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(subscribeRequest(Gnmi.SubscriptionList.Mode.STREAM,
+                TimeUnit.MILLISECONDS.toNanos(100)));
+
+        assertTrue(collector.received.await(5, TimeUnit.SECONDS));
+        assertTrue(collector.responses.get(1).getSyncResponse());
+        assertEquals(1, collector.syncCount());
+        assertEquals(1, subscribeService.getActiveSubscriptionCount());
+
+        requestObserver.onError(Status.CANCELLED.asRuntimeException());
+        assertEquals(0, subscribeService.getActiveSubscriptionCount());
+    }
+
+    @Test
+    public void streamOnChangeSubscriptionTest() throws InterruptedException {
+        final Gnmi.Path configPath = INTERFACE_PATH.toBuilder()
+                .addElem(Gnmi.PathElem.newBuilder().setName("config").build())
+                .build();
+        // Initial value, sync response and one change
+        final ResponseCollector collector = new ResponseCollector(3);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(Gnmi.SubscribeRequest.newBuilder()
+                .setSubscribe(Gnmi.SubscriptionList.newBuilder()
+                        .setMode(Gnmi.SubscriptionList.Mode.STREAM)
+                        .setEncoding(Gnmi.Encoding.JSON_IETF)
+                        .addSubscription(Gnmi.Subscription.newBuilder()
+                                .setPath(configPath)
+                                .setMode(Gnmi.SubscriptionMode.ON_CHANGE)))
+                .build());
+        assertTrue(collector.awaitSync());
+
+        crudService.set(Gnmi.SetRequest.newBuilder()
+                .addUpdate(Gnmi.Update.newBuilder()
+                        .setPath(configPath.toBuilder().addElem(Gnmi.PathElem.newBuilder().setName("mtu")))
+                        .setVal(Gnmi.TypedValue.newBuilder().setUintVal(200)))
+                .addUpdate(Gnmi.Update.newBuilder()
+                        .setPath(configPath.toBuilder().addElem(Gnmi.PathElem.newBuilder().setName("enabled")))
+                        .setVal(Gnmi.TypedValue.newBuilder().setBoolVal(true)))
+                .build());
+
+        assertTrue(collector.received.await(5, TimeUnit.SECONDS));
+        assertEquals(3, collector.responses.size());
+        assertTrue(collector.responses.get(1).getSyncResponse());
+        // Both leaves modified by one SetRequest are reported in one Notification
+        final Gnmi.Notification change = collector.responses.get(2).getUpdate();
+        assertEquals(2, change.getUpdateCount());
+        assertEquals(0, change.getDeleteCount());
+        assertTrue(change.getUpdateList().stream()
+                .allMatch(update -> update.getPath().getElemCount() == configPath.getElemCount() + 1));
+
+        requestObserver.onError(Status.CANCELLED.asRuntimeException());
+        assertEquals(0, subscribeService.getActiveSubscriptionCount());
+    }
+
+    @Test
+    public void publishedUpdateFollowsSyncResponseTest() throws InterruptedException {
+        final ResponseCollector collector = new ResponseCollector(2);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(onChangeUpdatesOnlyRequest());
+        subscribeService.publish(counterNotification(1));
+
+        assertTrue(collector.received.await(5, TimeUnit.SECONDS));
+        assertTrue(collector.responses.get(0).getSyncResponse());
+        assertEquals(1, collector.responses.get(1).getUpdate().getUpdate(0).getVal().getUintVal());
+        requestObserver.onError(Status.CANCELLED.asRuntimeException());
+    }
+
+    @Test
+    public void publishedUpdatesWaitForReadyStreamTest() throws InterruptedException {
+        final ResponseCollector collector = new ResponseCollector(0);
+        final FlowControlledObserver observer = new FlowControlledObserver(collector);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(observer);
+        requestObserver.onNext(onChangeUpdatesOnlyRequest());
+        assertTrue(collector.awaitSync());
+
+        for (int value = 1; value <= 100; value++) {
+            subscribeService.publish(counterNotification(value));
+        }
+        // Stream is not ready, only the latest update is held
+        assertEquals(1, collector.responses.size());
+        observer.becomeReady();
+        assertEquals(2, collector.responses.size());
+        assertEquals(1, collector.responses.get(1).getUpdate().getUpdateCount());
+        assertEquals(100, collector.responses.get(1).getUpdate().getUpdate(0).getVal().getUintVal());
+        requestObserver.onError(Status.CANCELLED.asRuntimeException());
+    }
+
+    @Test
+    public void publishedUpdateIsSentWithSampleTest() throws InterruptedException {
+        final ResponseCollector collector = new ResponseCollector(0);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(subscribeRequest(Gnmi.SubscriptionList.Mode.STREAM,
+                TimeUnit.MILLISECONDS.toNanos(100)));
+        for (int value = 1; value <= 5; value++) {
+            subscribeService.publish(counterNotification(value));
+        }
+        // Published updates wait for the next sample
+        assertEquals(0, publishedUpdates(collector).size());
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (publishedUpdates(collector).isEmpty() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        TimeUnit.MILLISECONDS.sleep(250);
+        final List<Gnmi.Update> published = publishedUpdates(collector);
+        assertEquals(1, published.size());
+        assertEquals(5, published.get(0).getVal().getUintVal());
+        requestObserver.onError(Status.CANCELLED.asRuntimeException());
+    }
+
+    @Test
+    public void replaceFollowedByLeafUpdateTest() {
+        final Gnmi.Path configPath = INTERFACE_PATH.toBuilder()
+                .addElem(Gnmi.PathElem.newBuilder().setName("config").build())
+                .build();
+        final Gnmi.Path descriptionPath = configPath.toBuilder()
+                .addElem(Gnmi.PathElem.newBuilder().setName("description"))
+                .build();
+        // Description does not exist in committed data, it is created by replace of the same request
+        final Gnmi.SetResponse response = crudService.set(Gnmi.SetRequest.newBuilder()
+                .addReplace(Gnmi.Update.newBuilder()
+                        .setPath(configPath)
+                        .setVal(Gnmi.TypedValue.newBuilder().setJsonIetfVal(ByteString.copyFromUtf8(
+                                "{\"name\":\"br0\",\"type\":\"openconfig-if-types:IF_ETHERNET\","
+                                        + "\"description\":\"replaced\"}"))))
+                .addUpdate(Gnmi.Update.newBuilder()
+                        .setPath(descriptionPath)
+                        .setVal(Gnmi.TypedValue.newBuilder().setStringVal("updated")))
+                .build());
+        assertEquals(2, response.getResponseCount());
+
+        final Gnmi.GetResponse getResponse = crudService.get(Gnmi.GetRequest.newBuilder()
+                .addPath(configPath)
+                .setType(Gnmi.GetRequest.DataType.CONFIG)
+                .setEncoding(Gnmi.Encoding.JSON_IETF)
+                .build());
+        final String config = getResponse.getNotification(0).getUpdate(0).getVal().getJsonIetfVal().toStringUtf8();
+        assertTrue(config.contains("updated"));
+        // Replaced container does not contain leaves of the original one
+        assertFalse(config.contains("mtu"));
+    }
+
+    @Test
+    public void onceRootSubscriptionTest() throws InterruptedException {
+        final ResponseCollector collector = new ResponseCollector(0);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(rootRequest(Gnmi.SubscriptionList.Mode.ONCE, Gnmi.SubscriptionMode.SAMPLE));
+
+        assertTrue(collector.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(collector.error.isEmpty());
+        final List<Gnmi.SubscribeResponse> responses = collector.responses;
+        // Whole configuration and state datastore merged
+        assertEquals(2, responses.size());
+        assertEquals(Gnmi.Path.getDefaultInstance(), responses.get(0).getUpdate().getUpdate(0).getPath());
+        assertTrue(responses.get(0).getUpdate().getUpdate(0).getVal().getJsonIetfVal().toStringUtf8()
+                .contains("br0"));
+        assertTrue(responses.get(1).getSyncResponse());
+    }
+
+    @Test
+    public void onChangeRootSubscriptionTest() throws InterruptedException {
+        final ResponseCollector collector = new ResponseCollector(0);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(rootRequest(Gnmi.SubscriptionList.Mode.STREAM, Gnmi.SubscriptionMode.ON_CHANGE));
+        assertTrue(collector.awaitSync());
+        assertTrue(collector.error.isEmpty());
+        final int initialResponses = collector.responses.size();
+
+        crudService.set(Gnmi.SetRequest.newBuilder()
+                .addUpdate(Gnmi.Update.newBuilder()
+                        .setPath(INTERFACE_PATH.toBuilder()
+                                .addElem(Gnmi.PathElem.newBuilder().setName("config"))
+                                .addElem(Gnmi.PathElem.newBuilder().setName("mtu")))
+                        .setVal(Gnmi.TypedValue.newBuilder().setUintVal(300)))
+                .build());
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (collector.responses.size() == initialResponses && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        // Change is reported by its own path, under the subscribed root
+        final Gnmi.Notification change = collector.responses.get(initialResponses).getUpdate();
+        assertEquals(1, change.getUpdateCount());
+        assertEquals("mtu", change.getUpdate(0).getPath().getElem(change.getUpdate(0).getPath().getElemCount() - 1)
+                .getName());
+        requestObserver.onError(Status.CANCELLED.asRuntimeException());
+        assertEquals(0, subscribeService.getActiveSubscriptionCount());
+    }
+
+    @Test
+    public void invalidPathTest() {
+        final ResponseCollector collector = new ResponseCollector(0);
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = subscribeService.subscribe(collector);
+        requestObserver.onNext(Gnmi.SubscribeRequest.newBuilder()
+                .setSubscribe(Gnmi.SubscriptionList.newBuilder()
+                        .setMode(Gnmi.SubscriptionList.Mode.ONCE)
+                        .setEncoding(Gnmi.Encoding.JSON_IETF)
+                        .addSubscription(Gnmi.Subscription.newBuilder()
+                                .setPath(Gnmi.Path.newBuilder()
+                                        .addElem(Gnmi.PathElem.newBuilder().setName("unknown-element").build()))))
+                .build());
+
+        assertEquals(1, collector.error.size());
+        assertEquals(Status.Code.INVALID_ARGUMENT, Status.fromThrowable(collector.error.get(0)).getCode());
+        assertTrue(collector.responses.isEmpty());
+    }
+
+    private static Gnmi.SubscribeRequest subscribeRequest(final Gnmi.SubscriptionList.Mode mode,
+            final long sampleInterval) {
+        return Gnmi.SubscribeRequest.newBuilder()
+                .setSubscribe(Gnmi.SubscriptionList.newBuilder()
+                        .setMode(mode)
+                        .setEncoding(Gnmi.Encoding.JSON_IETF)
+                        .addSubscription(Gnmi.Subscription.newBuilder()
+                                .setPath(INTERFACE_PATH)
+                                .setMode(Gnmi.SubscriptionMode.SAMPLE)
+                                .setSampleInterval(sampleInterval)))
+                .build();
+    }
+
+    private static Gnmi.SubscribeRequest rootRequest(final Gnmi.SubscriptionList.Mode listMode,
+            final Gnmi.SubscriptionMode mode) {
+        return Gnmi.SubscribeRequest.newBuilder()
+                .setSubscribe(Gnmi.SubscriptionList.newBuilder()
+                        .setMode(listMode)
+                        .setEncoding(Gnmi.Encoding.JSON_IETF)
+                        .addSubscription(Gnmi.Subscription.newBuilder()
+                                .setPath(Gnmi.Path.getDefaultInstance())
+                                .setMode(mode)))
+                .build();
+    }
+
+    private static Gnmi.SubscribeRequest onChangeUpdatesOnlyRequest() {
+        return Gnmi.SubscribeRequest.newBuilder()
+                .setSubscribe(Gnmi.SubscriptionList.newBuilder()
+                        .setMode(Gnmi.SubscriptionList.Mode.STREAM)
+                        .setEncoding(Gnmi.Encoding.JSON_IETF)
+                        .setUpdatesOnly(true)
+                        .addSubscription(Gnmi.Subscription.newBuilder()
+                                .setPath(INTERFACE_PATH)
+                                .setMode(Gnmi.SubscriptionMode.ON_CHANGE)))
+                .build();
+    }
+
+    private static Gnmi.Notification counterNotification(final long value) {
+        return Gnmi.Notification.newBuilder()
+                .setTimestamp(value)
+                .addUpdate(Gnmi.Update.newBuilder()
+                        .setPath(COUNTER_PATH)
+                        .setVal(Gnmi.TypedValue.newBuilder().setUintVal(value)))
+                .build();
+    }
+
+    private static List<Gnmi.Update> publishedUpdates(final ResponseCollector collector) {
+        return collector.responses.stream()
+                .flatMap(response -> response.getUpdate().getUpdateList().stream())
+                .filter(update -> update.getPath().equals(COUNTER_PATH))
+                .toList();
+    }
+
+    private static Gnmi.SubscribeRequest suppressRedundant(final Gnmi.SubscribeRequest request,
+            final long heartbeatInterval) {
+        final Gnmi.SubscribeRequest.Builder builder = request.toBuilder();
+        builder.getSubscribeBuilder().getSubscriptionBuilder(0)
+                .setSuppressRedundant(true)
+                .setHeartbeatInterval(heartbeatInterval);
+        return builder.build();
+    }
+
+    private static final class ResponseCollector implements StreamObserver<Gnmi.SubscribeResponse> {
+        private final List<Gnmi.SubscribeResponse> responses = new CopyOnWriteArrayList<>();
+        private final List<Throwable> error = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch synced = new CountDownLatch(1);
+        private final CountDownLatch received;
+
+        ResponseCollector(final int expectedResponses) {
+            this.received = new CountDownLatch(expectedResponses);
+        }
+
+        boolean awaitSync() throws InterruptedException {
+            return synced.await(5, TimeUnit.SECONDS);
+        }
+
+        long syncCount() {
+            return responses.stream().filter(Gnmi.SubscribeResponse::getSyncResponse).count();
+        }
+
+        @Override
+        public void onNext(final Gnmi.SubscribeResponse response) {
+            responses.add(response);
+            received.countDown();
+            if (response.getSyncResponse()) {
+                synced.countDown();
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error.add(throwable);
+        }
+
+        @Override
+        public void onCompleted() {
+            completed.countDown();
+        }
+    }
+
+    /**
+     * Server observer, which is not ready until {@link #becomeReady()} is called.
+     */
+    private static final class FlowControlledObserver extends ServerCallStreamObserver<Gnmi.SubscribeResponse> {
+        private final ResponseCollector delegate;
+        private volatile boolean ready;
+        private volatile Runnable onReadyHandler;
+
+        FlowControlledObserver(final ResponseCollector delegate) {
+            this.delegate = delegate;
+        }
+
+        void becomeReady() {
+            ready = true;
+            onReadyHandler.run();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void setOnCancelHandler(final Runnable onCancelHandler) {
+            // Stream is not cancelled by the test
+        }
+
+        @Override
+        public void setCompression(final String compression) {
+            // Not used
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setOnReadyHandler(final Runnable handler) {
+            this.onReadyHandler = handler;
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+            // Not used
+        }
+
+        @Override
+        public void request(final int count) {
+            // Not used
+        }
+
+        @Override
+        public void setMessageCompression(final boolean enable) {
+            // Not used
+        }
+
+        @Override
+        public void onNext(final Gnmi.SubscribeResponse response) {
+            delegate.onNext(response);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            delegate.onError(throwable);
+        }
+
+        @Override
+        public void onCompleted() {
+            delegate.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.gnmi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+import gnmi.Gnmi;
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.simulatordevice.config.GnmiSimulatorConfiguration;
+import org.opendaylight.gnmi.simulatordevice.utils.EffectiveModelContextBuilder;
+import org.opendaylight.gnmi.simulatordevice.utils.EffectiveModelContextBuilder.EffectiveModelContextBuilderException;
+import org.opendaylight.gnmi.simulatordevice.utils.GnmiSimulatorConfUtils;
+import org.opendaylight.gnmi.simulatordevice.yang.YangDataService;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+public class VirtualTargetServiceTest {
+
+    private static final String SIMULATOR_CONFIG = "/initData/simulator_config.json";
+    private static final String INIT_DATA_PATH = "src/test/resources/initData";
+    private static final int MAX_TARGETS = 2;
+    private static final Gnmi.Path INTERFACE_PATH = Gnmi.Path.newBuilder()
+            .addElem(Gnmi.PathElem.newBuilder().setName("interfaces").build())
+            .addElem(Gnmi.PathElem.newBuilder().setName("interface").putKey("name", "br0").build())
+            .build();
+    private static final Gnmi.Path COUNTER_PATH = INTERFACE_PATH.toBuilder()
+            .addElem(Gnmi.PathElem.newBuilder().setName("state").build())
+            .addElem(Gnmi.PathElem.newBuilder().setName("counters").build())
+            .addElem(Gnmi.PathElem.newBuilder().setName("in-octets").build())
+            .build();
+
+    private final Map<String, GnmiService> targetServices = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private ExecutorService changeListenerExecutor;
+    private GnmiService defaultService;
+    private VirtualTargetService virtualTargetService;
+
+    @BeforeEach
+    public void startUp() throws IOException, EffectiveModelContextBuilderException {
+        final GnmiSimulatorConfiguration simulatorConfiguration = GnmiSimulatorConfUtils
+                .loadGnmiSimulatorConfiguration(this.getClass().getResourceAsStream(SIMULATOR_CONFIG));
+        final EffectiveModelContext schemaContext = new EffectiveModelContextBuilder()
+                .addYangModulesInfo(simulatorConfiguration.getYangModulesInfo())
+                .build();
+        final NormalizedNode configData = YangDataService.loadInitialData(INIT_DATA_PATH + "/config.json",
+                schemaContext);
+        final NormalizedNode stateData = YangDataService.loadInitialData(INIT_DATA_PATH + "/state.json",
+                schemaContext);
+        scheduler = Executors.newScheduledThreadPool(1);
+        changeListenerExecutor = Executors.newSingleThreadExecutor();
+        defaultService = new GnmiService(schemaContext,
+                new YangDataService(schemaContext, configData, stateData, changeListenerExecutor), new Gson(), null,
+                scheduler);
+        virtualTargetService = new VirtualTargetService(defaultService, target -> {
+            final GnmiService service = new GnmiService(schemaContext,
+                    new YangDataService(schemaContext, configData, stateData, changeListenerExecutor), new Gson(),
+                    null, scheduler);
+            targetServices.put(target, service);
+            return service;
+        }, MAX_TARGETS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        virtualTargetService.close();
+        defaultService.close();
+        changeListenerExecutor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void targetsHaveSeparateDataTest() {
+        final ResponseCollector<Gnmi.SetResponse> setResponse = new ResponseCollector<>();
+        virtualTargetService.set(Gnmi.SetRequest.newBuilder()
+                .setPrefix(Gnmi.Path.newBuilder().setTarget("a"))
+                .addDelete(INTERFACE_PATH)
+                .build(), setResponse);
+        assertNull(setResponse.error);
+        assertEquals("a", setResponse.response.getPrefix().getTarget());
+
+        // Interface was deleted only from target a
+        assertEquals(Status.Code.NOT_FOUND, Status.fromThrowable(get("a").error).getCode());
+        final ResponseCollector<Gnmi.GetResponse> otherTarget = get("b");
+        assertNotNull(otherTarget.response);
+        assertEquals("b", otherTarget.response.getNotification(0).getPrefix().getTarget());
+        final ResponseCollector<Gnmi.GetResponse> defaultTarget = get("");
+        assertNotNull(defaultTarget.response);
+        assertEquals("", defaultTarget.response.getNotification(0).getPrefix().getTarget());
+        assertEquals(2, virtualTargetService.getTargetCount());
+    }
+
+    @Test
+    public void unresolvablePathIsInvalidArgumentTest() {
+        final ResponseCollector<Gnmi.GetResponse> collector = new ResponseCollector<>();
+        virtualTargetService.get(Gnmi.GetRequest.newBuilder()
+                .addPath(INTERFACE_PATH.toBuilder().addElem(Gnmi.PathElem.newBuilder().setName("unknown")))
+                .setType(Gnmi.GetRequest.DataType.CONFIG)
+                .setEncoding(Gnmi.Encoding.JSON_IETF)
+                .build(), collector);
+        assertEquals(Status.Code.INVALID_ARGUMENT, Status.fromThrowable(collector.error).getCode());
+    }
+
+    @Test
+    public void targetSelectedByHeaderTest() throws Exception {
+        final ResponseCollector<Gnmi.GetResponse> response = Context.current()
+                .withValue(TargetInterceptor.TARGET_CONTEXT_KEY, "c")
+                .call(() -> get(""));
+        assertNotNull(response.response);
+        assertEquals("c", response.response.getNotification(0).getPrefix().getTarget());
+        assertEquals(1, virtualTargetService.getTargetCount());
+    }
+
+    @Test
+    public void maxTargetsTest() {
+        for (int i = 0; i < MAX_TARGETS; i++) {
+            assertNotNull(get("target-" + i).response);
+        }
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, Status.fromThrowable(get("over-limit").error).getCode());
+        // Existing targets are still served
+        assertNotNull(get("target-0").response);
+    }
+
+    @Test
+    public void targetSubscriptionUsesFlowControlOfCallTest() throws InterruptedException {
+        final FlowControlledObserver observer = new FlowControlledObserver();
+        final StreamObserver<Gnmi.SubscribeRequest> requestObserver = virtualTargetService.subscribe(observer);
+        requestObserver.onNext(Gnmi.SubscribeRequest.newBuilder()
+                .setSubscribe(Gnmi.SubscriptionList.newBuilder()
+                        .setPrefix(Gnmi.Path.newBuilder().setTarget("a"))
+                        .setMode(Gnmi.SubscriptionList.Mode.STREAM)
+                        .setEncoding(Gnmi.Encoding.JSON_IETF)
+                        .setUpdatesOnly(true)
+                        .addSubscription(Gnmi.Subscription.newBuilder()
+                                .setPath(INTERFACE_PATH)
+                                .setMode(Gnmi.SubscriptionMode.ON_CHANGE)))
+                .build());
+        assertTrue(observer.synced.await(5, TimeUnit.SECONDS));
+
+        final GnmiSubscribeService targetSubscribeService = targetServices.get("a").getGnmiSubscribeService();
+        targetSubscribeService.publish(Gnmi.Notification.newBuilder()
+                .addUpdate(Gnmi.Update.newBuilder()
+                        .setPath(COUNTER_PATH)
+                        .setVal(Gnmi.TypedValue.newBuilder().setUintVal(1)))
+                .build());
+        // Stream of the call is not ready, update is held by session of the target
+        assertEquals(1, observer.responses.size());
+        observer.becomeReady();
+        assertEquals(2, observer.responses.size());
+        assertEquals("a", observer.responses.get(1).getUpdate().getPrefix().getTarget());
+
+        // Cancellation of the call releases session of the target
+        assertEquals(1, targetSubscribeService.getActiveSubscriptionCount());
+        observer.cancel();
+        assertEquals(0, targetSubscribeService.getActiveSubscriptionCount());
+    }
+
+    private ResponseCollector<Gnmi.GetResponse> get(final String target) {
+        final ResponseCollector<Gnmi.GetResponse> collector = new ResponseCollector<>();
+        virtualTargetService.get(Gnmi.GetRequest.newBuilder()
+                .setPrefix(Gnmi.Path.newBuilder().setTarget(target))
+                .addPath(INTERFACE_PATH)
+                .setType(Gnmi.GetRequest.DataType.CONFIG)
+                .setEncoding(Gnmi.Encoding.JSON_IETF)
+                .build(), collector);
+        return collector;
+    }
+
+    private static final class ResponseCollector<T> implements StreamObserver<T> {
+        private T response;
+        private Throwable error;
+
+        @Override
+        public void onNext(final T value) {
+            response = value;
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onCompleted() {
+            // Response is already collected
+        }
+    }
+
+    /**
+     * Observer of Subscribe call, which is not ready until {@link #becomeReady()} is called.
+     */
+    private static final class FlowControlledObserver extends ServerCallStreamObserver<Gnmi.SubscribeResponse> {
+        private final List<Gnmi.SubscribeResponse> responses = new CopyOnWriteArrayList<>();
+        private final CountDownLatch synced = new CountDownLatch(1);
+        private volatile boolean ready;
+        private volatile boolean cancelled;
+        private volatile Runnable onReadyHandler;
+        private volatile Runnable onCancelHandler;
+
+        void becomeReady() {
+            ready = true;
+            onReadyHandler.run();
+        }
+
+        void cancel() {
+            cancelled = true;
+            onCancelHandler.run();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setOnCancelHandler(final Runnable handler) {
+            this.onCancelHandler = handler;
+        }
+
+        @Override
+        public void setCompression(final String compression) {
+            // Not used
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setOnReadyHandler(final Runnable handler) {
+            this.onReadyHandler = handler;
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+            // Not used
+        }
+
+        @Override
+        public void request(final int count) {
+            // Not used
+        }
+
+        @Override
+        public void setMessageCompression(final boolean enable) {
+            // Not used
+        }
+
+        @Override
+        public void onNext(final Gnmi.SubscribeResponse response) {
+            responses.add(response);
+            if (response.getSyncResponse()) {
+                synced.countDown();
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            // Stream is cancelled by the test
+        }
+
+        @Override
+        public void onCompleted() {
+            // Stream is cancelled by the test
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.simulatordevice.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.simulatordevice.config.GnmiSimulatorConfiguration;
+import org.opendaylight.gnmi.simulatordevice.impl.SimulatedGnmiDevice;
+import org.opendaylight.gnmi.simulatordevice.impl.SimulatorFarm;
+import org.opendaylight.gnmi.simulatordevice.utils.EffectiveModelContextBuilder.EffectiveModelContextBuilderException;
+import org.opendaylight.gnmi.simulatordevice.utils.GnmiSimulatorConfUtils;
+import org.opendaylight.gnmi.simulatordevice.yang.DatastoreType;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+public class SimulatorFarmTest {
+
+    private static final String INIT_DATA_PATH = "src/test/resources/initData";
+    private static final String SIMULATOR_CONFIG = "/initData/simulator_config.json";
+    private static final int FIRST_PORT = 10181;
+    private static final int DEVICE_COUNT = 3;
+    private static final YangInstanceIdentifier INTERFACES = YangInstanceIdentifier.of(QName.create(
+            QName.create("http://openconfig.net/yang/interfaces", "2021-04-06", "openconfig-interfaces"),
+            "interfaces"));
+
+    @Test
+    public void farmDevicesShareInitialDataTest() throws IOException, EffectiveModelContextBuilderException {
+        final GnmiSimulatorConfiguration simulatorConfiguration = GnmiSimulatorConfUtils
+                .loadGnmiSimulatorConfiguration(this.getClass().getResourceAsStream(SIMULATOR_CONFIG));
+        simulatorConfiguration.setTargetPort(FIRST_PORT);
+        simulatorConfiguration.setInitialConfigDataPath(INIT_DATA_PATH + "/config.json");
+        simulatorConfiguration.setInitialStateDataPath(INIT_DATA_PATH + "/state.json");
+
+        try (SimulatorFarm farm = new SimulatorFarm(simulatorConfiguration, DEVICE_COUNT)) {
+            farm.start();
+            final List<SimulatedGnmiDevice> devices = farm.getDevices();
+            assertEquals(DEVICE_COUNT, devices.size());
+            for (int i = 0; i < DEVICE_COUNT; i++) {
+                final SimulatedGnmiDevice device = devices.get(i);
+                assertEquals(FIRST_PORT + i, device.getPort());
+                assertSame(devices.get(0).getSchemaContext(), device.getSchemaContext());
+                assertTrue(device.getDataService().readDataByPath(DatastoreType.CONFIGURATION, INTERFACES)
+                        .isPresent());
+                assertTrue(device.getDataService().readDataByPath(DatastoreType.STATE, INTERFACES).isPresent());
+            }
+
+            // Modification of one device is not visible by other devices
+            devices.get(0).getDataService().deleteDataByPath(DatastoreType.CONFIGURATION, INTERFACES);
+            assertFalse(devices.get(0).getDataService().readDataByPath(DatastoreType.CONFIGURATION, INTERFACES)
+                    .isPresent());
+            assertTrue(devices.get(1).getDataService().readDataByPath(DatastoreType.CONFIGURATION, INTERFACES)
+                    .isPresent());
+        }
+    }
+
+    @Test
+    public void invalidDeviceCountTest() {
+        final GnmiSimulatorConfiguration simulatorConfiguration = GnmiSimulatorConfUtils
+                .loadGnmiSimulatorConfiguration(this.getClass().getResourceAsStream(SIMULATOR_CONFIG));
+        assertThrows(IllegalArgumentException.class, () -> new SimulatorFarm(simulatorConfiguration, 0));
+        simulatorConfiguration.setTargetPort(65530);
+        assertThrows(IllegalArgumentException.class, () -> new SimulatorFarm(simulatorConfiguration, 10));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.datatree;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * In-memory data tree into which gNMI updates are merged. Updates may be sent by device for any nested path,
+ * e.g. one update per leaf, merged updates describe the data of the device.
+ */
+public class GnmiDataTree {
+
+    private final DataTree dataTree;
+
+    public GnmiDataTree(final EffectiveModelContext schemaContext) {
+        this.dataTree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+                schemaContext);
+    }
+
+    /**
+     * Applies deletes and updates to the data tree. Deletes are processed before updates, as required by gNMI
+     * specification, updates are merged into existing data.
+     *
+     * @param updates updated paths with their data
+     * @param deletes deleted paths
+     * @return candidate which was committed to the data tree
+     * @throws DataValidationFailedException if data of the updates are not valid against the schema
+     */
+    public synchronized DataTreeCandidate apply(
+            final Collection<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updates,
+            final Collection<YangInstanceIdentifier> deletes) throws DataValidationFailedException {
+        final DataTreeModification modification = dataTree.takeSnapshot().newModification();
+        try {
+            for (final YangInstanceIdentifier delete : deletes) {
+                modification.delete(delete);
+            }
+            for (final ImmutablePair<YangInstanceIdentifier, NormalizedNode> update : updates) {
+                ensureParentEntries(modification, update.getLeft());
+                modification.merge(update.getLeft(), update.getRight());
+            }
+        } catch (IllegalArgumentException e) {
+            throw new DataValidationFailedException(YangInstanceIdentifier.of(),
+                    "Updates do not match schema of the device", e);
+        }
+        return commit(modification);
+    }
+
+    /**
+     * Removes data of provided paths.
+     *
+     * @param paths paths to remove
+     * @return candidate which was committed to the data tree
+     * @throws DataValidationFailedException if removal of data is not valid
+     */
+    public synchronized DataTreeCandidate delete(final Collection<YangInstanceIdentifier> paths)
+            throws DataValidationFailedException {
+        final DataTreeModification modification = dataTree.takeSnapshot().newModification();
+        paths.forEach(modification::delete);
+        return commit(modification);
+    }
+
+    /**
+     * Replaces data of the path, e.g. by data read from device by GetRequest.
+     *
+     * @param path path of the data
+     * @param data new data of the path, empty if the device has no data on the path
+     * @return candidate which was committed to the data tree
+     * @throws DataValidationFailedException if data are not valid against the schema
+     */
+    public synchronized DataTreeCandidate write(final YangInstanceIdentifier path,
+            final Optional<NormalizedNode> data) throws DataValidationFailedException {
+        final DataTreeModification modification = dataTree.takeSnapshot().newModification();
+        final Optional<NormalizedNode> node = data.flatMap(value -> unwrapListEntry(path, value));
+        try {
+            if (node.isPresent()) {
+                ensureParentEntries(modification, path);
+                modification.write(path, node.orElseThrow());
+            } else {
+                modification.delete(path);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new DataValidationFailedException(path, "Data do not match schema of the device", e);
+        }
+        return commit(modification);
+    }
+
+    public Optional<NormalizedNode> read(final YangInstanceIdentifier path) {
+        return dataTree.takeSnapshot().readNode(path);
+    }
+
+    private DataTreeCandidate commit(final DataTreeModification modification) throws DataValidationFailedException {
+        modification.ready();
+        dataTree.validate(modification);
+        final DataTreeCandidate candidate = dataTree.prepare(modification);
+        dataTree.commit(candidate);
+        return candidate;
+    }
+
+    /**
+     * Updates are sent by device for nested paths, e.g. for a leaf of list entry. Data tree accepts such write
+     * only if all list entries on the path exist, so they are created (with key leaves only) first.
+     */
+    private static void ensureParentEntries(final DataTreeModification modification,
+            final YangInstanceIdentifier path) {
+        final List<PathArgument> arguments = path.getPathArguments();
+        for (int i = 0; i < arguments.size() - 1; i++) {
+            if (arguments.get(i) instanceof NodeIdentifierWithPredicates entryId) {
+                modification.merge(YangInstanceIdentifier.of(arguments.subList(0, i + 1)), keysOnlyEntry(entryId));
+            }
+        }
+    }
+
+    /**
+     * Data of list entry may be parsed as list containing the single entry, the entry itself is the data of the path.
+     *
+     * @param path path of the data
+     * @param data parsed data
+     * @return data of the path, empty if the list does not contain the entry of the path
+     */
+    public static Optional<NormalizedNode> unwrapListEntry(final YangInstanceIdentifier path,
+            final NormalizedNode data) {
+        if (data instanceof MapNode mapNode
+                && path.getLastPathArgument() instanceof NodeIdentifierWithPredicates entryId) {
+            return Optional.ofNullable(mapNode.childByArg(entryId));
+        }
+        return Optional.of(data);
+    }
+
+    /**
+     * Creates list entry containing only its key leaves.
+     *
+     * @param entryId identifier of the entry
+     * @return list entry with key leaves
+     */
+    public static MapEntryNode keysOnlyEntry(final NodeIdentifierWithPredicates entryId) {
+        final MapEntryNode.Builder builder = ImmutableNodes.newMapEntryBuilder().withNodeIdentifier(entryId);
+        for (final Map.Entry<QName, Object> key : entryId.entrySet()) {
+            builder.withChild(ImmutableNodes.leafNode(key.getKey(), key.getValue()));
+        }
+        return builder.build();
+    }
+}
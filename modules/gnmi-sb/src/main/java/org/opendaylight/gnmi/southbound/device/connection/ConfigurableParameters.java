@@ -8,6 +8,7 @@
 package org.opendaylight.gnmi.southbound.device.connection;
 
 import gnmi.Gnmi;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -21,6 +22,14 @@ public class ConfigurableParameters {
     private final Optional<Boolean> useModelNamePrefix;
     private final Optional<GnmiParameters.OverwriteDataType> overwriteDataType;
     private final Optional<String> pathTarget;
+    private final Optional<Duration> stateCacheStaleness;
+    private final Optional<Boolean> preferProtoEncoding;
+    private final Optional<Duration> readBatchWindow;
+    private final Optional<Integer> readBatchSize;
+    private final Optional<Duration> configCacheTtl;
+    private final Optional<Duration> setCoalesceWindow;
+    private final Optional<Integer> setCoalesceSize;
+    private final Optional<Integer> setQueueDepth;
 
     public ConfigurableParameters(final ExtensionsParameters extensionsParameters) {
         final GnmiParameters gnmiParameters;
@@ -39,6 +48,29 @@ public class ConfigurableParameters {
             .map(GnmiParameters::getOverwriteDataType);
         pathTarget = Optional.ofNullable(gnmiParameters)
             .map(GnmiParameters::getPathTarget);
+        stateCacheStaleness = Optional.ofNullable(gnmiParameters)
+            .map(GnmiParameters::getStateCacheStaleness)
+            .map(staleness -> Duration.ofMillis(staleness.longValue()));
+        preferProtoEncoding = Optional.ofNullable(gnmiParameters)
+            .map(GnmiParameters::getPreferProtoEncoding);
+        readBatchWindow = Optional.ofNullable(gnmiParameters)
+            .map(GnmiParameters::getReadBatchWindow)
+            .map(window -> Duration.ofMillis(window.longValue()));
+        readBatchSize = Optional.ofNullable(gnmiParameters)
+            .map(GnmiParameters::getReadBatchSize)
+            .map(size -> (int) Math.min(size.longValue(), Integer.MAX_VALUE));
+        configCacheTtl = Optional.ofNullable(gnmiParameters)
+            .map(GnmiParameters::getConfigCacheTtl)
+            .map(ttl -> Duration.ofMillis(ttl.longValue()));
+        setCoalesceWindow = Optional.ofNullable(gnmiParameters)
+            .map(GnmiParameters::getSetCoalesceWindow)
+            .map(window -> Duration.ofMillis(window.longValue()));
+        setCoalesceSize = Optional.ofNullable(gnmiParameters)
+            .map(GnmiParameters::getSetCoalesceSize)
+            .map(size -> (int) Math.min(size.longValue(), Integer.MAX_VALUE));
+        setQueueDepth = Optional.ofNullable(gnmiParameters)
+            .map(GnmiParameters::getSetQueueDepth)
+            .map(depth -> (int) Math.min(depth.longValue(), Integer.MAX_VALUE));
     }
 
     private static Optional<List<Gnmi.ModelData>> loadModelDataList(final ForceCapabilities forceCapabilities) {
@@ -67,6 +99,38 @@ public class ConfigurableParameters {
         return pathTarget;
     }
 
+    public Optional<Duration> getStateCacheStaleness() {
+        return stateCacheStaleness;
+    }
+
+    public Optional<Boolean> getPreferProtoEncoding() {
+        return preferProtoEncoding;
+    }
+
+    public Optional<Duration> getReadBatchWindow() {
+        return readBatchWindow;
+    }
+
+    public Optional<Integer> getReadBatchSize() {
+        return readBatchSize;
+    }
+
+    public Optional<Duration> getConfigCacheTtl() {
+        return configCacheTtl;
+    }
+
+    public Optional<Duration> getSetCoalesceWindow() {
+        return setCoalesceWindow;
+    }
+
+    public Optional<Integer> getSetCoalesceSize() {
+        return setCoalesceSize;
+    }
+
+    public Optional<Integer> getSetQueueDepth() {
+        return setQueueDepth;
+    }
+
     public Optional<List<Gnmi.ModelData>> getModelDataList() {
         return this.modelDataList;
     }
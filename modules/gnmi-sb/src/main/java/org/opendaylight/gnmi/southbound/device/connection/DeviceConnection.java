@@ -8,17 +8,27 @@
 package org.opendaylight.gnmi.southbound.device.connection;
 
 import com.google.common.util.concurrent.FluentFuture;
+import gnmi.Gnmi;
+import io.grpc.ConnectivityState;
+import java.util.List;
+import java.util.function.Consumer;
+import org.opendaylight.gnmi.commons.util.CodecCache;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
 import org.opendaylight.gnmi.connector.gnmi.session.api.GnmiSession;
 import org.opendaylight.gnmi.connector.session.api.SessionProvider;
 import org.opendaylight.gnmi.southbound.device.session.listener.GnmiConnectionStatusException;
 import org.opendaylight.gnmi.southbound.device.session.listener.GnmiConnectionStatusListener;
 import org.opendaylight.gnmi.southbound.device.session.provider.GnmiSessionProvider;
+import org.opendaylight.gnmi.southbound.device.subscription.GnmiSubscriptionManager;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.ConfigDataCache;
 import org.opendaylight.gnmi.southbound.schema.provider.SchemaContextProvider;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GnmiNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.connection.parameters.ExtensionsParameters;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.subscription.parameters.SubscriptionParameters;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 /**
@@ -30,11 +40,31 @@ public class DeviceConnection implements GnmiSessionProvider, SchemaContextProvi
     private final GnmiConnectionStatusListener connectionStatusListener;
     private final Node node;
     private final ConfigurableParameters configurableParameters;
-    private EffectiveModelContext schemaContext;
+    private final ParallelCodecExecutor codecExecutor;
+    // Holds schema context of the device and keeps its codecs cached while the device is connected
+    private CodecCache codecCache;
+    private GnmiSubscriptionManager subscriptionManager;
+    private ConfigDataCache configDataCache;
+    private List<Gnmi.Encoding> supportedEncodings = List.of();
 
     public DeviceConnection(final SessionProvider sessionProvider,
                             final GnmiConnectionStatusListener connectionStatusListener, final Node node) {
+        this(sessionProvider, connectionStatusListener, node, ParallelCodecExecutor.sequential());
+    }
+
+    /**
+     * Creates connection of the device.
+     *
+     * @param sessionProvider provider of gNMI session of the device
+     * @param connectionStatusListener listener of connectivity of the session
+     * @param node node of the device
+     * @param codecExecutor executor converting large data of the device, shared by devices and closed by its owner
+     */
+    public DeviceConnection(final SessionProvider sessionProvider,
+                            final GnmiConnectionStatusListener connectionStatusListener, final Node node,
+                            final ParallelCodecExecutor codecExecutor) {
         this.sessionProvider = sessionProvider;
+        this.codecExecutor = codecExecutor;
         this.connectionStatusListener = connectionStatusListener;
         this.node = node;
         final ExtensionsParameters extensionsParameters = resolveExtensionsParameters();
@@ -47,6 +77,12 @@ public class DeviceConnection implements GnmiSessionProvider, SchemaContextProvi
         return gnmiNode == null ? null : gnmiNode.getExtensionsParameters();
     }
 
+    public SubscriptionParameters getSubscriptionParameters() {
+        final GnmiNode gnmiNode = node.augmentation(GnmiNode.class);
+
+        return gnmiNode == null ? null : gnmiNode.getSubscriptionParameters();
+    }
+
     public FluentFuture<CommitInfo> setDeviceStatusReady() throws GnmiConnectionStatusException {
         return connectionStatusListener.copyDeviceStatusReadyToDatastore();
     }
@@ -56,11 +92,54 @@ public class DeviceConnection implements GnmiSessionProvider, SchemaContextProvi
     }
 
     public EffectiveModelContext getSchemaContext() {
-        return schemaContext;
+        return codecCache == null ? null : codecCache.getContext();
     }
 
     public void setSchemaContext(final EffectiveModelContext schemaContext) {
-        this.schemaContext = schemaContext;
+        this.codecCache = schemaContext == null ? null : new CodecCache(schemaContext, codecExecutor);
+    }
+
+    public CodecCache getCodecCache() {
+        return codecCache;
+    }
+
+    public GnmiSubscriptionManager getSubscriptionManager() {
+        return subscriptionManager;
+    }
+
+    public void setSubscriptionManager(final GnmiSubscriptionManager subscriptionManager) {
+        this.subscriptionManager = subscriptionManager;
+    }
+
+    /**
+     * Returns cache of configuration data of the device, null if it is not enabled.
+     */
+    public ConfigDataCache getConfigDataCache() {
+        return configDataCache;
+    }
+
+    public void setConfigDataCache(final ConfigDataCache configDataCache) {
+        this.configDataCache = configDataCache;
+    }
+
+    /**
+     * Returns encodings the device advertised in its CapabilityResponse.
+     */
+    public List<Gnmi.Encoding> getSupportedEncodings() {
+        return supportedEncodings;
+    }
+
+    public void setSupportedEncodings(final List<Gnmi.Encoding> supportedEncodings) {
+        this.supportedEncodings = List.copyOf(supportedEncodings);
+    }
+
+    /**
+     * Registers observer of the connectivity state of the gRPC channel of this device.
+     * @param observer consumer of the new state
+     * @return registration of the observer
+     */
+    public Registration registerConnectivityStateObserver(final Consumer<ConnectivityState> observer) {
+        return connectionStatusListener.registerStateObserver(observer);
     }
 
     public GnmiSession getGnmiSession() {
@@ -69,6 +148,9 @@ public class DeviceConnection implements GnmiSessionProvider, SchemaContextProvi
 
     @Override
     public void close() throws Exception {
+        if (subscriptionManager != null) {
+            subscriptionManager.close();
+        }
         sessionProvider.close();
         connectionStatusListener.close();
     }
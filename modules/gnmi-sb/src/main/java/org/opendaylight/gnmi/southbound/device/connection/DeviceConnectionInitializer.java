@@ -16,6 +16,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
 import org.opendaylight.gnmi.connector.configuration.SessionConfiguration;
 import org.opendaylight.gnmi.connector.session.SessionManagerFactory;
 import org.opendaylight.gnmi.connector.session.api.SessionManager;
@@ -46,15 +47,26 @@ public class DeviceConnectionInitializer implements AutoCloseable {
     private final Map<NodeId, SessionInitializationHolder> activeInitializers;
     private final ExecutorService executorService;
     private final SessionManagerFactory sessionManagerFactory;
+    private final ParallelCodecExecutor codecExecutor;
 
     public DeviceConnectionInitializer(final GnmiSecurityProvider securityProvider,
             final SessionManagerFactory sessionManagerFactory,
             final DataBroker dataBroker,
             final ExecutorService executorService) {
+        this(securityProvider, sessionManagerFactory, dataBroker, executorService,
+            ParallelCodecExecutor.sequential());
+    }
+
+    public DeviceConnectionInitializer(final GnmiSecurityProvider securityProvider,
+            final SessionManagerFactory sessionManagerFactory,
+            final DataBroker dataBroker,
+            final ExecutorService executorService,
+            final ParallelCodecExecutor codecExecutor) {
         this.securityProvider = securityProvider;
         this.sessionManagerFactory = sessionManagerFactory;
         this.dataBroker = dataBroker;
         this.executorService = executorService;
+        this.codecExecutor = codecExecutor;
         this.activeInitializers = new ConcurrentHashMap<>();
     }
 
@@ -138,7 +150,7 @@ public class DeviceConnectionInitializer implements AutoCloseable {
 
         // Called when session reaches status READY
         public void onSessionReady() {
-            final DeviceConnection manager = new DeviceConnection(sessionProvider, listener, node);
+            final DeviceConnection manager = new DeviceConnection(sessionProvider, listener, node, codecExecutor);
             activeInitializers.remove(node.getNodeId());
             futureManager.set(manager);
         }
@@ -13,6 +13,7 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import gnmi.Gnmi;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -22,10 +23,14 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.gnmi.southbound.capabilities.GnmiDeviceCapability;
 import org.opendaylight.gnmi.southbound.capabilities.MissingEncodingException;
 import org.opendaylight.gnmi.southbound.device.session.listener.GnmiConnectionStatusException;
 import org.opendaylight.gnmi.southbound.device.session.security.SessionSecurityException;
+import org.opendaylight.gnmi.southbound.device.subscription.DatastoreTelemetrySink;
+import org.opendaylight.gnmi.southbound.device.subscription.GnmiSubscriptionManager;
+import org.opendaylight.gnmi.southbound.device.subscription.SubscribeRequestFactory;
 import org.opendaylight.gnmi.southbound.identifier.IdentifierUtils;
 import org.opendaylight.gnmi.southbound.mountpoint.GnmiMountPointRegistrator;
 import org.opendaylight.gnmi.southbound.mountpoint.broker.GnmiDataBroker;
@@ -38,11 +43,13 @@ import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.WriteTransaction;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GnmiNodeBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.node.state.NodeStateBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.node.state.node.state.AvailableCapabilitiesBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.node.state.node.state.available.capabilities.AvailableCapability;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.node.state.node.state.available.capabilities.AvailableCapabilityBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.subscription.parameters.SubscriptionParameters;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeBuilder;
@@ -63,17 +70,31 @@ public class DeviceConnectionManager implements AutoCloseable {
     private final Map<NodeId, DeviceConnection> activeDevices;
     private final DeviceConnectionInitializer connectionInitializer;
     private final DataBroker dataBroker;
+    private final @Nullable DOMDataBroker domDataBroker;
     private final ExecutorService executorService;
 
     public DeviceConnectionManager(final GnmiMountPointRegistrator mountPointRegistrator,
             final SchemaContextHolder schemaContextHolder, final GnmiDataBrokerFactory gnmiDataBrokerFactory,
             final DeviceConnectionInitializer connectionInitializer, final DataBroker dataBroker,
             final ExecutorService executors) {
+        this(mountPointRegistrator, schemaContextHolder, gnmiDataBrokerFactory, connectionInitializer, dataBroker,
+                null, executors);
+    }
+
+    /**
+     * Creates manager, which exports streamed data of devices to the operational datastore of the controller if
+     * requested by subscription parameters of the node.
+     */
+    public DeviceConnectionManager(final GnmiMountPointRegistrator mountPointRegistrator,
+            final SchemaContextHolder schemaContextHolder, final GnmiDataBrokerFactory gnmiDataBrokerFactory,
+            final DeviceConnectionInitializer connectionInitializer, final DataBroker dataBroker,
+            final @Nullable DOMDataBroker domDataBroker, final ExecutorService executors) {
         this.mountPointRegistrator = mountPointRegistrator;
         this.schemaContextHolder = schemaContextHolder;
         this.gnmiDataBrokerFactory = gnmiDataBrokerFactory;
         this.connectionInitializer = connectionInitializer;
         this.dataBroker = dataBroker;
+        this.domDataBroker = domDataBroker;
         this.executorService = executors;
         this.activeDevices = new ConcurrentHashMap<>();
     }
@@ -136,6 +157,7 @@ public class DeviceConnectionManager implements AutoCloseable {
                             new MissingEncodingException("gNMI Device must support JSON_IETF encoding"));
                 }
 
+                deviceConnection.setSupportedEncodings(capabilityResponse.getSupportedEncodingsList());
                 final List<GnmiDeviceCapability> capabilitiesList = new ArrayList<>();
                 final Optional<List<Gnmi.ModelData>> forceCapabilities =
                     deviceConnection.getConfigurableParameters().getModelDataList();
@@ -149,10 +171,19 @@ public class DeviceConnectionManager implements AutoCloseable {
                 try {
                     final EffectiveModelContext schemaContext = schemaContextHolder.getSchemaContext(capabilitiesList);
                     deviceConnection.setSchemaContext(schemaContext);
+                    // Subscription manager is required by data tree change service of the mount point
+                    final GnmiSubscriptionManager subscriptionManager = new GnmiSubscriptionManager(
+                        deviceConnection,
+                        SubscribeRequestFactory.fromSubscriptionParameters(
+                            deviceConnection.getSubscriptionParameters()),
+                        dataBroker, executorService);
+                    deviceConnection.setSubscriptionManager(subscriptionManager);
+                    registerDatastoreExport(deviceConnection, subscriptionManager);
                     final GnmiDataBroker gnmiDataBroker = gnmiDataBrokerFactory.create(deviceConnection);
                     mountPointRegistrator.registerMountPoint(node, schemaContext, gnmiDataBroker);
                     activeDevices.put(node.getNodeId(), deviceConnection);
                     saveCapabilitiesList(node.getNodeId(), capabilitiesList);
+                    subscriptionManager.start();
                     return Futures.immediateFuture(null);
 
                 } catch (SchemaException | ExecutionException | TimeoutException e) {
@@ -165,6 +196,21 @@ public class DeviceConnectionManager implements AutoCloseable {
             executorService);
     }
 
+    private void registerDatastoreExport(final DeviceConnection deviceConnection,
+            final GnmiSubscriptionManager subscriptionManager) {
+        final SubscriptionParameters parameters = deviceConnection.getSubscriptionParameters();
+        if (parameters == null || !Boolean.TRUE.equals(parameters.getIngestionDatastoreExport())) {
+            return;
+        }
+        if (domDataBroker == null) {
+            LOG.warn("[{}] Datastore export of streamed data is not available",
+                    deviceConnection.getIdentifier().getValue());
+            return;
+        }
+        subscriptionManager.registerTelemetrySink(DatastoreTelemetrySink.SINK_NAME,
+                new DatastoreTelemetrySink(deviceConnection.getIdentifier(), domDataBroker));
+    }
+
     private void saveCapabilitiesList(final NodeId nodeId, final List<GnmiDeviceCapability> gnmiDeviceCapabilities)
             throws InterruptedException, ExecutionException, TimeoutException {
 
@@ -188,6 +234,20 @@ public class DeviceConnectionManager implements AutoCloseable {
         tx.commit().get(TimeoutUtils.DATASTORE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Returns connection of the node, if the node is connected.
+     */
+    public Optional<DeviceConnection> getDeviceConnection(final NodeId nodeId) {
+        return Optional.ofNullable(activeDevices.get(nodeId));
+    }
+
+    /**
+     * Returns connections of all connected nodes.
+     */
+    public Collection<DeviceConnection> getDeviceConnections() {
+        return List.copyOf(activeDevices.values());
+    }
+
     public boolean nodeActive(final NodeId nodeId) {
         return activeDevices.containsKey(nodeId);
     }
@@ -8,11 +8,16 @@
 package org.opendaylight.gnmi.southbound.device.session.listener;
 
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.grpc.ConnectivityState;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.gnmi.connector.session.api.SessionProvider;
 import org.opendaylight.gnmi.southbound.identifier.IdentifierUtils;
@@ -27,6 +32,8 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnm
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeBuilder;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.concepts.Registration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,7 +50,8 @@ public class GnmiConnectionStatusListener implements AutoCloseable {
     // Callback related attributes
     private Runnable onStatusCallback;
     private ConnectivityState callbackDesiredState;
-
+    // Observers notified on every state change, each of them gets the states in order of their changes
+    private final List<StateObserver> stateObservers = new CopyOnWriteArrayList<>();
 
     public GnmiConnectionStatusListener(final SessionProvider sessionBroker, final DataBroker dataBroker,
                                         final NodeId nodeId, final ExecutorService executorService) {
@@ -88,6 +96,7 @@ public class GnmiConnectionStatusListener implements AutoCloseable {
             this.currentState = newState;
             // Trigger registered callback on status change, if exists
             triggerCallbackIfPresent();
+            notifyStateObservers(newState);
 
             sessionProvider.notifyOnStateChangedOneOff(currentState, this::updateStateStatus);
             if (this.currentState != ConnectivityState.READY) {
@@ -108,6 +117,12 @@ public class GnmiConnectionStatusListener implements AutoCloseable {
         }
     }
 
+    private void notifyStateObservers(final ConnectivityState state) {
+        for (final StateObserver observer : stateObservers) {
+            observer.executor().execute(() -> observer.consumer().accept(state));
+        }
+    }
+
     private synchronized void writeStateToDataStore(final ConnectivityState state) {
         try {
             final FluentFuture<CommitInfo> commitFuture = writeStateToDataStoreAsync(state);
@@ -173,4 +188,29 @@ public class GnmiConnectionStatusListener implements AutoCloseable {
         callbackDesiredState = state;
     }
 
+    /**
+     * Registers observer which will be notified about every change of the connectivity state, until
+     * the returned registration is closed.
+     * @param observer consumer of the new state
+     * @return registration of the observer
+     */
+    public Registration registerStateObserver(final Consumer<ConnectivityState> observer) {
+        LOG.debug("Registering observer of node {} connectivity status", nodeId.getValue());
+        final StateObserver registered = new StateObserver(observer,
+                MoreExecutors.newSequentialExecutor(executorService));
+        stateObservers.add(registered);
+        return new AbstractRegistration() {
+            @Override
+            protected void removeRegistration() {
+                stateObservers.remove(registered);
+            }
+        };
+    }
+
+    /*
+     Threads of the executor service may run notifications of successive states in any order, so notifications of
+     one observer are run sequentially.
+     */
+    private record StateObserver(Consumer<ConnectivityState> consumer, Executor executor) {
+    }
 }
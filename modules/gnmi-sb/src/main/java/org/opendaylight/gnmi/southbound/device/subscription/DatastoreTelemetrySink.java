@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.gnmi.southbound.datatree.GnmiDataTree;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Commits telemetry updates of one device to the operational datastore of the controller.
+ *
+ * <p>Each batch flushed by {@link TelemetryIngestionStage} is committed in one write transaction, so the datastore
+ * is written once per flush interval instead of once per notification. Data are written at their own paths, models
+ * of the device therefore have to be part of the schema of the controller.</p>
+ */
+public class DatastoreTelemetrySink implements TelemetrySink {
+
+    /**
+     * Name of the sink in metrics of ingestion stages.
+     */
+    public static final String SINK_NAME = "operational-datastore";
+
+    private static final Logger LOG = LoggerFactory.getLogger(DatastoreTelemetrySink.class);
+
+    private final NodeId nodeId;
+    private final DOMDataBroker dataBroker;
+
+    public DatastoreTelemetrySink(final NodeId nodeId, final DOMDataBroker dataBroker) {
+        this.nodeId = nodeId;
+        this.dataBroker = dataBroker;
+    }
+
+    @Override
+    public ListenableFuture<? extends CommitInfo> commit(final List<SubscriptionNotification> batch) {
+        final DOMDataTreeWriteTransaction tx = dataBroker.newWriteOnlyTransaction();
+        try {
+            for (final SubscriptionNotification notification : batch) {
+                for (final YangInstanceIdentifier delete : notification.deletes()) {
+                    tx.delete(LogicalDatastoreType.OPERATIONAL, delete);
+                }
+                for (final ImmutablePair<YangInstanceIdentifier, NormalizedNode> update : notification.updates()) {
+                    ensureParentEntries(tx, update.getLeft());
+                    tx.merge(LogicalDatastoreType.OPERATIONAL, update.getLeft(), update.getRight());
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            LOG.debug("[{}] Telemetry updates do not match schema of the datastore", nodeId.getValue(), e);
+            tx.cancel();
+            return Futures.immediateFailedFuture(e);
+        }
+        return tx.commit();
+    }
+
+    /*
+     Device sends updates of nested paths, list entries on the path are created (with key leaves only) first.
+     */
+    private static void ensureParentEntries(final DOMDataTreeWriteTransaction tx, final YangInstanceIdentifier path) {
+        final List<PathArgument> arguments = path.getPathArguments();
+        for (int i = 0; i < arguments.size() - 1; i++) {
+            if (arguments.get(i) instanceof NodeIdentifierWithPredicates entryId) {
+                tx.merge(LogicalDatastoreType.OPERATIONAL, YangInstanceIdentifier.of(arguments.subList(0, i + 1)),
+                        GnmiDataTree.keysOnlyEntry(entryId));
+            }
+        }
+    }
+}
@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.MoreExecutors;
+import gnmi.Gnmi;
+import io.grpc.ConnectivityState;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.gnmi.connector.gnmi.session.api.SubscribeOverflowPolicy;
+import org.opendaylight.gnmi.connector.gnmi.session.api.SubscribeStream;
+import org.opendaylight.gnmi.southbound.device.connection.DeviceConnection;
+import org.opendaylight.gnmi.southbound.identifier.IdentifierUtils;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.Codec;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.GnmiCodecException;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.PathToYangInstanceIdentifierCodec;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.UpdateToNormalizedNodeCodec;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.node.state.node.state.SubscriptionState;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.node.state.node.state.SubscriptionStateBuilder;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds long-lived gNMI Subscribe RPCs of one connected device.
+ *
+ * <p>All subscriptions configured on the node are requested in one SubscribeRequest in STREAM mode. Received
+ * notifications are decoded into NormalizedNodes and passed to registered {@link SubscriptionListener}s. When the
+ * stream is terminated, it is reopened once the gRPC channel of the device is READY again, or after a back-off delay
+ * if the channel stayed READY. Status of the configured subscriptions is written to subscription-state of the node
+ * in operational datastore.</p>
+ *
+ * <p>Responses are buffered in bounded buffer of the stream, when notifications are processed slower than the device
+ * sends them, newer notification of the same paths replaces the buffered one.</p>
+ *
+ * <p>Besides subscriptions configured on the node, subscriptions can be added at runtime with
+ * {@link #addSubscription(Gnmi.Subscription, SubscriptionListener)}. gNMI does not allow to change subscriptions of an
+ * open stream, so every added subscription is requested in its own Subscribe RPC on the shared channel. Adding or
+ * removing a subscription therefore does not interrupt other streams of the device.</p>
+ */
+public class GnmiSubscriptionManager implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GnmiSubscriptionManager.class);
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1_000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+    // Maximal number of responses buffered when notifications are processed slower than they are received
+    private static final int RESPONSE_BUFFER_SIZE = 1_000;
+
+    private final DeviceConnection deviceConnection;
+    private final NodeId nodeId;
+    private final SubscribeRequestFactory requestFactory;
+    private final Codec<Gnmi.Notification, SubscriptionNotification> notificationCodec;
+    private final DataBroker dataBroker;
+    private final ExecutorService executorService;
+    private final Set<SubscriptionListener> listeners = new CopyOnWriteArraySet<>();
+    private final List<TelemetryIngestionStage> ingestionStages = new CopyOnWriteArrayList<>();
+    private final SubscriptionStream configuredStream;
+    private final List<SubscriptionStream> addedStreams = new CopyOnWriteArrayList<>();
+
+    private Registration stateObserverRegistration;
+    private boolean started;
+    // Read without the lock by streams reporting their status
+    private volatile boolean closed;
+
+    public GnmiSubscriptionManager(final DeviceConnection deviceConnection,
+            final List<Gnmi.Subscription> subscriptions, final DataBroker dataBroker,
+            final ExecutorService executorService) {
+        this.deviceConnection = deviceConnection;
+        this.nodeId = deviceConnection.getIdentifier();
+        this.requestFactory = new SubscribeRequestFactory(deviceConnection.getConfigurableParameters());
+        this.notificationCodec = new NotificationCodec(new PathToYangInstanceIdentifierCodec(deviceConnection),
+                new UpdateToNormalizedNodeCodec(deviceConnection));
+        this.dataBroker = dataBroker;
+        this.executorService = executorService;
+        this.configuredStream = new SubscriptionStream(List.copyOf(subscriptions), listeners, true);
+    }
+
+    /**
+     * Opens the subscription streams and starts observing connectivity state of the device.
+     */
+    public synchronized void start() {
+        if (started || closed) {
+            return;
+        }
+        started = true;
+        stateObserverRegistration = deviceConnection.registerConnectivityStateObserver(
+                this::onConnectivityStateChanged);
+        configuredStream.open();
+        addedStreams.forEach(SubscriptionStream::open);
+    }
+
+    /**
+     * Returns configured subscriptions followed by subscriptions added at runtime.
+     */
+    public List<Gnmi.Subscription> getSubscriptions() {
+        final List<Gnmi.Subscription> subscriptions = new ArrayList<>(configuredStream.subscriptions);
+        for (final SubscriptionStream stream : addedStreams) {
+            subscriptions.addAll(stream.subscriptions);
+        }
+        return subscriptions;
+    }
+
+    /**
+     * Adds subscription in its own stream of the device. Streams of other subscriptions are not affected.
+     * @param subscription subscription to add
+     * @param listener listener of notifications received for the subscription
+     * @return registration, closing it cancels the stream of the subscription
+     */
+    public Registration addSubscription(final Gnmi.Subscription subscription, final SubscriptionListener listener) {
+        final SubscriptionStream stream = new SubscriptionStream(List.of(subscription), Set.of(listener), false);
+        synchronized (this) {
+            if (closed) {
+                return new AbstractRegistration() {
+                    @Override
+                    protected void removeRegistration() {
+                        // Nothing was subscribed
+                    }
+                };
+            }
+            addedStreams.add(stream);
+            if (started) {
+                stream.open();
+            }
+        }
+        return new AbstractRegistration() {
+            @Override
+            protected void removeRegistration() {
+                addedStreams.remove(stream);
+                stream.close("Subscription removed");
+            }
+        };
+    }
+
+    /**
+     * Registers listener of notifications received in the stream of configured subscriptions.
+     * @param listener listener to register
+     * @return registration of the listener
+     */
+    public Registration registerListener(final SubscriptionListener listener) {
+        listeners.add(listener);
+        return new AbstractRegistration() {
+            @Override
+            protected void removeRegistration() {
+                listeners.remove(listener);
+            }
+        };
+    }
+
+    /**
+     * Registers sink of telemetry updates. Notifications received in the stream of configured subscriptions are
+     * coalesced by {@link TelemetryIngestionStage} configured by subscription parameters of the node and committed
+     * to the sink in batches. The sink stays registered until the manager is closed.
+     * @param name name of the sink, identifies metrics of its ingestion stage
+     * @param sink sink to register
+     * @return ingestion stage in front of the sink, provides its metrics
+     */
+    public TelemetryIngestionStage registerTelemetrySink(final String name, final TelemetrySink sink) {
+        final TelemetryIngestionStage stage = TelemetryIngestionStage.create(nodeId, name, sink,
+                deviceConnection.getSubscriptionParameters(), executorService);
+        ingestionStages.add(stage);
+        registerListener(stage);
+        return stage;
+    }
+
+    /**
+     * Returns ingestion stages of registered telemetry sinks.
+     */
+    public List<TelemetryIngestionStage> getIngestionStages() {
+        return List.copyOf(ingestionStages);
+    }
+
+    private synchronized void onConnectivityStateChanged(final ConnectivityState state) {
+        if (closed) {
+            return;
+        }
+        configuredStream.onConnectivityStateChanged(state);
+        addedStreams.forEach(stream -> stream.onConnectivityStateChanged(state));
+    }
+
+    private void writeStatus(final SubscriptionState.SubscriptionStatus status,
+            final @Nullable String failureDetails) {
+        if (closed) {
+            return;
+        }
+        final SubscriptionState subscriptionState = new SubscriptionStateBuilder()
+                .setSubscriptionStatus(status)
+                .setFailureDetails(failureDetails)
+                .build();
+        final WriteTransaction tx = dataBroker.newWriteOnlyTransaction();
+        tx.mergeParentStructurePut(LogicalDatastoreType.OPERATIONAL, IdentifierUtils.subscriptionStateID(nodeId),
+                subscriptionState);
+        tx.commit().addCallback(new FutureCallback<CommitInfo>() {
+            @Override
+            public void onSuccess(final CommitInfo result) {
+                LOG.debug("[{}] Subscription status {} written to datastore", nodeId.getValue(), status);
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                LOG.warn("[{}] Unable to write subscription status {} to datastore", nodeId.getValue(), status,
+                        throwable);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        LOG.info("[{}] Closing subscription streams", nodeId.getValue());
+        if (stateObserverRegistration != null) {
+            stateObserverRegistration.close();
+        }
+        configuredStream.close("Subscription closed");
+        addedStreams.forEach(stream -> stream.close("Subscription closed"));
+        addedStreams.clear();
+        closed = true;
+        listeners.clear();
+        ingestionStages.forEach(TelemetryIngestionStage::close);
+        ingestionStages.clear();
+    }
+
+    /**
+     * One Subscribe RPC of the device, requesting fixed set of subscriptions.
+     */
+    private final class SubscriptionStream {
+        private final List<Gnmi.Subscription> subscriptions;
+        private final Set<SubscriptionListener> streamListeners;
+        // Only stream of configured subscriptions reports its status in subscription-state of the node
+        private final boolean reportsStatus;
+
+        private SubscribeStream subscribeStream;
+        private StreamObserver<Gnmi.SubscribeRequest> requestObserver;
+        // Identifies current stream, callbacks of previous (cancelled) streams are ignored
+        private long streamId;
+        private long retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+        private boolean streamClosed;
+
+        SubscriptionStream(final List<Gnmi.Subscription> subscriptions,
+                final Set<SubscriptionListener> streamListeners, final boolean reportsStatus) {
+            this.subscriptions = subscriptions;
+            this.streamListeners = streamListeners;
+            this.reportsStatus = reportsStatus;
+        }
+
+        synchronized void onConnectivityStateChanged(final ConnectivityState state) {
+            if (streamClosed) {
+                return;
+            }
+            if (state == ConnectivityState.READY) {
+                if (requestObserver == null) {
+                    retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+                    open();
+                }
+            } else if (requestObserver != null) {
+                // Stream can not survive loss of the channel, it is reopened when the channel is READY again
+                cancel(String.format("Channel state changed to %s", state));
+                notifyStreamTerminated();
+                writeStatus(SubscriptionState.SubscriptionStatus.INACTIVE, null);
+            }
+        }
+
+        synchronized void open() {
+            if (streamClosed || requestObserver != null) {
+                return;
+            }
+            if (subscriptions.isEmpty()) {
+                LOG.debug("[{}] No subscriptions requested, subscription stream is not opened", nodeId.getValue());
+                return;
+            }
+            final long id = ++streamId;
+            final Gnmi.SubscribeRequest request = requestFactory.newRequest(subscriptions);
+            LOG.debug("[{}] Sending gNMI SubscribeRequest:\n{}", nodeId.getValue(), request);
+            try {
+                subscribeStream = deviceConnection.getGnmiSession().subscribe(new SubscribeResponseObserver(this, id),
+                        RESPONSE_BUFFER_SIZE, SubscribeOverflowPolicy.CONFLATE_BY_PATH, executorService);
+                requestObserver = subscribeStream.requestObserver();
+                requestObserver.onNext(request);
+                writeStatus(SubscriptionState.SubscriptionStatus.SUBSCRIBING, null);
+            } catch (IllegalStateException e) {
+                LOG.warn("[{}] Unable to open subscription stream", nodeId.getValue(), e);
+                requestObserver = null;
+                subscribeStream = null;
+                writeStatus(SubscriptionState.SubscriptionStatus.FAILED, e.getMessage());
+            }
+        }
+
+        synchronized void close(final String reason) {
+            if (streamClosed) {
+                return;
+            }
+            cancel(reason);
+            streamClosed = true;
+        }
+
+        private void cancel(final String reason) {
+            if (requestObserver != null) {
+                LOG.debug("[{}] Cancelling subscription stream: {}", nodeId.getValue(), reason);
+                // Invalidate the stream first, so its termination is not handled as a failure
+                streamId++;
+                requestObserver.onError(Status.CANCELLED.withDescription(reason).asRuntimeException());
+                logDiscardedResponses();
+                requestObserver = null;
+                subscribeStream = null;
+            }
+        }
+
+        void onNotification(final long id, final Gnmi.Notification notification) {
+            if (!isCurrentStream(id) || streamListeners.isEmpty()) {
+                return;
+            }
+            final SubscriptionNotification decoded;
+            try {
+                decoded = notificationCodec.apply(notification);
+            } catch (GnmiCodecException e) {
+                LOG.warn("[{}] Failed to decode notification received in subscription stream, ignoring it: {}",
+                        nodeId.getValue(), notification, e);
+                return;
+            }
+            for (final SubscriptionListener listener : streamListeners) {
+                listener.onNotification(decoded);
+            }
+        }
+
+        void onSyncResponse(final long id) {
+            synchronized (this) {
+                if (id != streamId || streamClosed) {
+                    return;
+                }
+                LOG.debug("[{}] Initial values of subscriptions {} were received", nodeId.getValue(),
+                        subscriptions);
+                retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+                writeStatus(SubscriptionState.SubscriptionStatus.SYNCED, null);
+            }
+            for (final SubscriptionListener listener : streamListeners) {
+                listener.onSynced();
+            }
+        }
+
+        synchronized void onStreamTerminated(final long id, final @Nullable Throwable cause) {
+            if (id != streamId || streamClosed) {
+                return;
+            }
+            logDiscardedResponses();
+            requestObserver = null;
+            subscribeStream = null;
+            notifyStreamTerminated();
+            if (cause == null) {
+                LOG.info("[{}] Subscription stream was completed by device", nodeId.getValue());
+                writeStatus(SubscriptionState.SubscriptionStatus.FAILED,
+                        "Subscription stream was completed by device");
+            } else {
+                LOG.warn("[{}] Subscription stream failed", nodeId.getValue(), cause);
+                writeStatus(SubscriptionState.SubscriptionStatus.FAILED, cause.toString());
+            }
+
+            // If the channel is still READY, the stream will not be reopened by channel state change
+            final long delay = retryDelayMillis;
+            retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+            LOG.debug("[{}] Subscription stream will be reopened in {} ms", nodeId.getValue(), delay);
+            CompletableFuture.runAsync(() -> reopen(id),
+                    CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executorService));
+        }
+
+        private synchronized void reopen(final long terminatedId) {
+            // Stream may be already reopened by channel state change
+            if (terminatedId == streamId) {
+                open();
+            }
+        }
+
+        private void logDiscardedResponses() {
+            if (subscribeStream != null
+                    && (subscribeStream.getDroppedCount() > 0 || subscribeStream.getConflatedCount() > 0)) {
+                LOG.warn("[{}] Notifications were processed slower than received, {} responses were dropped"
+                        + " and {} were replaced by newer ones", nodeId.getValue(), subscribeStream.getDroppedCount(),
+                        subscribeStream.getConflatedCount());
+            }
+        }
+
+        private void notifyStreamTerminated() {
+            for (final SubscriptionListener listener : streamListeners) {
+                listener.onStreamTerminated();
+            }
+        }
+
+        private synchronized boolean isCurrentStream(final long id) {
+            return id == streamId && !streamClosed;
+        }
+
+        private void writeStatus(final SubscriptionState.SubscriptionStatus status,
+                final @Nullable String failureDetails) {
+            if (reportsStatus) {
+                GnmiSubscriptionManager.this.writeStatus(status, failureDetails);
+            }
+        }
+    }
+
+    private final class SubscribeResponseObserver implements StreamObserver<Gnmi.SubscribeResponse> {
+        private final SubscriptionStream stream;
+        private final long id;
+
+        SubscribeResponseObserver(final SubscriptionStream stream, final long id) {
+            this.stream = stream;
+            this.id = id;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public void onNext(final Gnmi.SubscribeResponse response) {
+            switch (response.getResponseCase()) {
+                case UPDATE:
+                    stream.onNotification(id, response.getUpdate());
+                    break;
+                case SYNC_RESPONSE:
+                    stream.onSyncResponse(id);
+                    break;
+                case ERROR:
+                    LOG.warn("[{}] Device reported error in subscription stream: {}", nodeId.getValue(),
+                            response.getError());
+                    break;
+                default:
+                    LOG.debug("[{}] Ignoring empty SubscribeResponse", nodeId.getValue());
+                    break;
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            stream.onStreamTerminated(id, throwable);
+        }
+
+        @Override
+        public void onCompleted() {
+            stream.onStreamTerminated(id, null);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Answer to read from a cache of device data, together with time elapsed since the data were received from device.
+ *
+ * @param data data of the read path, empty if the device has no data on the path
+ * @param age age of the data, zero if the data were just read from device
+ */
+public record LastKnownValue(Optional<NormalizedNode> data, Duration age) {
+}
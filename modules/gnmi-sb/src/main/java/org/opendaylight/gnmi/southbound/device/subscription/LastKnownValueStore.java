@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Last-known-value cache of state data of one device.
+ *
+ * <p>Cache is fed by notifications of SAMPLE subscriptions, coalesced by {@link TelemetryIngestionStage}, and by
+ * responses to STATE GetRequests. Refresh time is tracked per received path: an update refreshes only its own
+ * subtree, the whole subscribed path is refreshed only when the device reports that initial values of all
+ * subscriptions were sent. Data received from subscriptions are used only while the stream is synced. Read is
+ * answered from the cache only if the read path or one of its ancestors was refreshed within the staleness
+ * bound.</p>
+ */
+public class LastKnownValueStore implements TelemetrySink {
+
+    /**
+     * Name of the sink in metrics of ingestion stages.
+     */
+    public static final String SINK_NAME = "state-cache";
+
+    private static final Logger LOG = LoggerFactory.getLogger(LastKnownValueStore.class);
+
+    private final NodeId nodeId;
+    private final long stalenessNanos;
+    private final List<YangInstanceIdentifier> sampledPaths;
+    private final SubscriptionDataTree dataTree;
+    // Paths received in subscription stream and System.nanoTime() of their last refresh
+    private final Map<YangInstanceIdentifier, Long> sampledRefreshTimes = new ConcurrentHashMap<>();
+    // Paths read by GetRequests and System.nanoTime() of their last refresh
+    private final Map<YangInstanceIdentifier, Long> readRefreshTimes = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean synced;
+    private volatile long lastExpirationNanos = System.nanoTime();
+
+    public LastKnownValueStore(final NodeId nodeId, final Duration staleness,
+            final List<YangInstanceIdentifier> sampledPaths, final SubscriptionDataTree dataTree) {
+        this.nodeId = nodeId;
+        this.stalenessNanos = staleness.toNanos();
+        this.sampledPaths = List.copyOf(sampledPaths);
+        this.dataTree = dataTree;
+    }
+
+    /**
+     * Reads data of the path from the cache.
+     *
+     * @param path path to read
+     * @return cached data with their age, empty if the path is not cached or the cached data are stale
+     */
+    public Optional<LastKnownValue> read(final YangInstanceIdentifier path) {
+        final long now = System.nanoTime();
+        final long refreshTime = lastRefreshTime(path);
+        if (refreshTime == Long.MIN_VALUE || now - refreshTime > stalenessNanos) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(new LastKnownValue(dataTree.read(path), Duration.ofNanos(now - refreshTime)));
+    }
+
+    /**
+     * Stores data read from device by STATE GetRequest.
+     *
+     * @param path read path
+     * @param data data returned by device
+     */
+    public void recordGetResponse(final YangInstanceIdentifier path, final Optional<NormalizedNode> data) {
+        try {
+            dataTree.write(path, data);
+        } catch (DataValidationFailedException e) {
+            LOG.debug("[{}] Unable to cache data of path {}", nodeId.getValue(), path, e);
+            return;
+        }
+        final long now = System.nanoTime();
+        readRefreshTimes.put(path, now);
+        expireRefreshTimes(now);
+    }
+
+    @Override
+    public ListenableFuture<? extends CommitInfo> commit(final List<SubscriptionNotification> batch) {
+        for (final SubscriptionNotification notification : batch) {
+            try {
+                apply(notification);
+            } catch (DataValidationFailedException e) {
+                LOG.debug("[{}] Unable to cache notification", nodeId.getValue(), e);
+                return Futures.immediateFailedFuture(e);
+            }
+        }
+        return CommitInfo.emptyFluentFuture();
+    }
+
+    private void apply(final SubscriptionNotification notification) throws DataValidationFailedException {
+        final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updates = notification.updates().stream()
+                .filter(update -> isSampled(update.getLeft()))
+                .toList();
+        final List<YangInstanceIdentifier> deletes = notification.deletes().stream()
+                .filter(this::isSampled)
+                .toList();
+        if (updates.isEmpty() && deletes.isEmpty()) {
+            return;
+        }
+        dataTree.apply(new SubscriptionNotification(notification.timestamp(), updates, deletes));
+        // Absence of deleted data is known as well as the updated values
+        final long now = System.nanoTime();
+        deletes.forEach(delete -> sampledRefreshTimes.put(delete, now));
+        updates.forEach(update -> sampledRefreshTimes.put(update.getLeft(), now));
+        expireRefreshTimes(now);
+    }
+
+    /**
+     * Initial values of all sampled paths were committed, so the sampled paths are complete.
+     */
+    @Override
+    public void onSynced() {
+        final long now = System.nanoTime();
+        sampledPaths.forEach(sampled -> sampledRefreshTimes.put(sampled, now));
+        synced = true;
+        LOG.debug("[{}] Sampled state data are synced", nodeId.getValue());
+    }
+
+    /**
+     * Sampled data are not refreshed anymore, they are not used until the stream is synced again.
+     */
+    @Override
+    public void onStreamTerminated() {
+        synced = false;
+        sampledRefreshTimes.clear();
+        LOG.debug("[{}] Sampled state data are invalidated", nodeId.getValue());
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private boolean isSampled(final YangInstanceIdentifier path) {
+        for (final YangInstanceIdentifier sampled : sampledPaths) {
+            if (sampled.contains(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     Path is covered by refresh of itself or of any of its ancestors, so only ancestors of the path are looked up.
+     */
+    private long lastRefreshTime(final YangInstanceIdentifier path) {
+        final boolean useSampled = synced;
+        long refreshTime = Long.MIN_VALUE;
+        for (YangInstanceIdentifier current = path; current != null; current = current.getParent()) {
+            final Long read = readRefreshTimes.get(current);
+            if (read != null) {
+                refreshTime = Math.max(refreshTime, read);
+            }
+            final Long sampled = useSampled ? sampledRefreshTimes.get(current) : null;
+            if (sampled != null) {
+                refreshTime = Math.max(refreshTime, sampled);
+            }
+        }
+        return refreshTime;
+    }
+
+    /*
+     Paths which are not refreshed anymore would accumulate, expired ones are forgotten once per staleness bound.
+     */
+    private void expireRefreshTimes(final long now) {
+        if (now - lastExpirationNanos <= stalenessNanos) {
+            return;
+        }
+        lastExpirationNanos = now;
+        readRefreshTimes.values().removeIf(refreshTime -> now - refreshTime > stalenessNanos);
+        sampledRefreshTimes.values().removeIf(refreshTime -> now - refreshTime > stalenessNanos);
+    }
+}
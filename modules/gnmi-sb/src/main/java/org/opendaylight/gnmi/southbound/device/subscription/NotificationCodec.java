@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import gnmi.Gnmi;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.gnmi.southbound.datatree.GnmiDataTree;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.BiCodec;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.Codec;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.GnmiCodecException;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Codec which transforms gNMI Notification received in SubscribeResponse to {@link SubscriptionNotification}.
+ * Paths of updates and deletes are resolved relative to the prefix of the notification.
+ */
+public class NotificationCodec implements Codec<Gnmi.Notification, SubscriptionNotification> {
+
+    private final BiCodec<Gnmi.Path, Gnmi.Path, YangInstanceIdentifier> pathCodec;
+    private final BiCodec<Gnmi.Update, YangInstanceIdentifier, NormalizedNode> updateCodec;
+
+    public NotificationCodec(final BiCodec<Gnmi.Path, Gnmi.Path, YangInstanceIdentifier> pathCodec,
+            final BiCodec<Gnmi.Update, YangInstanceIdentifier, NormalizedNode> updateCodec) {
+        this.pathCodec = pathCodec;
+        this.updateCodec = updateCodec;
+    }
+
+    @Override
+    public SubscriptionNotification apply(final Gnmi.Notification notification) throws GnmiCodecException {
+        final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updates =
+                new ArrayList<>(notification.getUpdateCount());
+        for (final Gnmi.Update update : notification.getUpdateList()) {
+            final YangInstanceIdentifier identifier = pathCodec.apply(notification.getPrefix(), update.getPath());
+            updates.add(ImmutablePair.of(identifier, unwrapListEntry(identifier,
+                    updateCodec.apply(update, identifier))));
+        }
+        final List<YangInstanceIdentifier> deletes = new ArrayList<>(notification.getDeleteCount());
+        for (final Gnmi.Path deletePath : notification.getDeleteList()) {
+            deletes.add(pathCodec.apply(notification.getPrefix(), deletePath));
+        }
+        return new SubscriptionNotification(notification.getTimestamp(), updates, deletes);
+    }
+
+    /*
+     List entries are parsed as list containing the single entry, the entry itself is the value of the update.
+     */
+    private static NormalizedNode unwrapListEntry(final YangInstanceIdentifier identifier,
+            final NormalizedNode node) throws GnmiCodecException {
+        return GnmiDataTree.unwrapListEntry(identifier, node).orElseThrow(() -> new GnmiCodecException(
+                String.format("Value of %s does not contain the list entry", identifier)));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import gnmi.Gnmi;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.gnmi.connector.gnmi.util.GnmiHelper;
+import org.opendaylight.gnmi.southbound.device.connection.ConfigurableParameters;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.subscription.parameters.SubscriptionParameters;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.subscription.parameters.subscription.parameters.Subscription;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+/**
+ * Creates gNMI SubscribeRequest of STREAM subscriptions of one device.
+ */
+public class SubscribeRequestFactory {
+
+    private final ConfigurableParameters configurableParameters;
+
+    public SubscribeRequestFactory(final ConfigurableParameters configurableParameters) {
+        this.configurableParameters = configurableParameters;
+    }
+
+    /**
+     * Creates SubscribeRequest which requests all provided subscriptions in one STREAM.
+     *
+     * @param subscriptions subscriptions which should be requested
+     * @return SubscribeRequest which is sent as first message of the Subscribe RPC.
+     */
+    public Gnmi.SubscribeRequest newRequest(final Collection<Gnmi.Subscription> subscriptions) {
+        final Gnmi.SubscriptionList.Builder subscriptionList = Gnmi.SubscriptionList.newBuilder()
+                .setMode(Gnmi.SubscriptionList.Mode.STREAM)
+                .setEncoding(Gnmi.Encoding.JSON_IETF)
+                .addAllSubscription(subscriptions);
+        configurableParameters.getPathTarget().ifPresent(target -> subscriptionList.setPrefix(
+                Gnmi.Path.newBuilder().setTarget(target).build()));
+        configurableParameters.getModelDataList().ifPresent(subscriptionList::addAllUseModels);
+        return Gnmi.SubscribeRequest.newBuilder()
+                .setSubscribe(subscriptionList)
+                .build();
+    }
+
+    /**
+     * Converts subscriptions configured in gnmi-topology node to gNMI Subscriptions.
+     *
+     * @param parameters subscription parameters of the node, may be null
+     * @return gNMI subscriptions
+     */
+    public static List<Gnmi.Subscription> fromSubscriptionParameters(final SubscriptionParameters parameters) {
+        if (parameters == null) {
+            return List.of();
+        }
+        return parameters.nonnullSubscription().values().stream()
+                .map(SubscribeRequestFactory::toGnmiSubscription)
+                .toList();
+    }
+
+    /**
+     * Creates ON_CHANGE subscription of the path.
+     *
+     * @param path subscribed path
+     * @return gNMI subscription
+     */
+    public static Gnmi.Subscription onChangeSubscription(final Gnmi.Path path) {
+        return Gnmi.Subscription.newBuilder()
+                .setPath(path)
+                .setMode(Gnmi.SubscriptionMode.ON_CHANGE)
+                .build();
+    }
+
+    private static Gnmi.Subscription toGnmiSubscription(final Subscription subscription) {
+        final Gnmi.Subscription.Builder builder = Gnmi.Subscription.newBuilder()
+                .setPath(GnmiHelper.pathBuilder(subscription.getPath()))
+                .setMode(toSubscriptionMode(subscription.getSubscriptionMode()))
+                .setSuppressRedundant(Boolean.TRUE.equals(subscription.getSuppressRedundant()));
+        if (subscription.getSampleInterval() != null) {
+            builder.setSampleInterval(toNanos(subscription.getSampleInterval()));
+        }
+        if (subscription.getHeartbeatInterval() != null) {
+            builder.setHeartbeatInterval(toNanos(subscription.getHeartbeatInterval()));
+        }
+        return builder.build();
+    }
+
+    private static Gnmi.SubscriptionMode toSubscriptionMode(final Subscription.SubscriptionMode mode) {
+        if (mode == null) {
+            return Gnmi.SubscriptionMode.SAMPLE;
+        }
+        switch (mode) {
+            case ONCHANGE:
+                return Gnmi.SubscriptionMode.ON_CHANGE;
+            case TARGETDEFINED:
+                return Gnmi.SubscriptionMode.TARGET_DEFINED;
+            default:
+                return Gnmi.SubscriptionMode.SAMPLE;
+        }
+    }
+
+    private static long toNanos(final Uint64 millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis.longValue());
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import org.opendaylight.gnmi.southbound.datatree.GnmiDataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * Local copy of data streamed by gNMI device. Notifications are applied to an in-memory data tree, resulting
+ * candidates describe what actually changed in the data of the device.
+ */
+public class SubscriptionDataTree extends GnmiDataTree {
+
+    public SubscriptionDataTree(final EffectiveModelContext schemaContext) {
+        super(schemaContext);
+    }
+
+    /**
+     * Applies notification to the data tree. Deletes are processed before updates, as required by gNMI
+     * specification, updates are merged into existing data.
+     *
+     * @param notification notification received from device
+     * @return candidate which was committed to the data tree
+     * @throws DataValidationFailedException if data of the notification are not valid against the schema
+     */
+    public DataTreeCandidate apply(final SubscriptionNotification notification)
+            throws DataValidationFailedException {
+        return apply(notification.updates(), notification.deletes());
+    }
+}
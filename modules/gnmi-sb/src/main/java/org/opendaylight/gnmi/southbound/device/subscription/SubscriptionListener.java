@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+/**
+ * Listener of data streamed by gNMI device in subscription opened by {@link GnmiSubscriptionManager}.
+ */
+public interface SubscriptionListener {
+
+    /**
+     * Invoked for every notification received from device.
+     *
+     * @param notification decoded notification
+     */
+    void onNotification(SubscriptionNotification notification);
+
+    /**
+     * Invoked when device reported that initial values of all subscribed paths were sent (sync_response).
+     */
+    default void onSynced() {
+        // no-op by default
+    }
+
+    /**
+     * Invoked when the subscription stream was terminated. The stream is reopened once the device is reachable,
+     * initial values of all subscribed paths are sent again after that.
+     */
+    default void onStreamTerminated() {
+        // no-op by default
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import java.util.List;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Decoded gNMI Notification received in SubscribeResponse.
+ *
+ * @param timestamp time of the notification reported by device, nanoseconds since Unix epoch
+ * @param updates updated nodes together with their identifiers
+ * @param deletes identifiers of deleted nodes
+ */
+public record SubscriptionNotification(long timestamp,
+        List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updates,
+        List<YangInstanceIdentifier> deletes) {
+
+    public SubscriptionNotification {
+        updates = List.copyOf(updates);
+        deletes = List.copyOf(deletes);
+    }
+}
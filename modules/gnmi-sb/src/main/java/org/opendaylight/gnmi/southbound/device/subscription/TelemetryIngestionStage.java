@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.subscription.parameters.SubscriptionParameters;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers telemetry updates of one device and commits them to {@link TelemetrySink} in batches.
+ *
+ * <p>Updates of the same path are merged in the buffer, so only the newest one is committed. Deletes drop buffered
+ * updates and deletes of the deleted subtree. Batch is a sequence of notifications, each with deletes applied before
+ * its updates: a delete of a path whose ancestor has a buffered update starts next notification of the batch, so the
+ * older update does not resurrect the deleted data. Buffer is flushed once the flush interval elapsed since the first
+ * buffered update, or immediately when it holds the maximal batch size of paths. Only one commit is in flight at
+ * a time, updates received meanwhile are merged into the next batch.</p>
+ *
+ * <p>Sync of the subscription is reported to the sink once all updates received before sync_response are committed.
+ * Termination of the stream is reported immediately.</p>
+ */
+public class TelemetryIngestionStage implements SubscriptionListener, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TelemetryIngestionStage.class);
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 100;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final NodeId nodeId;
+    private final String name;
+    private final TelemetrySink sink;
+    private final int maxBatchSize;
+    private final Executor delayedExecutor;
+    private final LongAdder commitCount = new LongAdder();
+    private final LongAdder failedCommitCount = new LongAdder();
+    private final LongAdder coalescedUpdateCount = new LongAdder();
+
+    // Buffered notifications in the order they are committed, the last one receives new updates
+    private List<BufferedNotification> buffer = new ArrayList<>();
+    private int bufferedSize;
+    private long bufferedTimestamp;
+    private long oldestBufferedNanos;
+    private boolean flushScheduled;
+    private boolean commitInFlight;
+    private long flushedBatches;
+    private long completedBatches;
+    // Number of completed batches after which the sink is synced, zero if no sync is pending
+    private long syncAfterBatches;
+    private boolean closed;
+    private volatile int lastBatchSize;
+    private volatile long lastIngestionLagNanos;
+
+    public TelemetryIngestionStage(final NodeId nodeId, final String name, final TelemetrySink sink,
+            final Duration flushInterval, final int maxBatchSize, final ExecutorService executorService) {
+        this.nodeId = nodeId;
+        this.name = name;
+        this.sink = sink;
+        this.maxBatchSize = maxBatchSize;
+        this.delayedExecutor = CompletableFuture.delayedExecutor(flushInterval.toMillis(), TimeUnit.MILLISECONDS,
+                executorService);
+    }
+
+    /**
+     * Creates stage configured by subscription parameters of the node.
+     *
+     * @param nodeId node of the device
+     * @param name name of the stage, identifies its metrics
+     * @param sink destination of the updates
+     * @param parameters subscription parameters of the node, may be null
+     * @param executorService executor used for timed flushes
+     * @return ingestion stage
+     */
+    public static TelemetryIngestionStage create(final NodeId nodeId, final String name, final TelemetrySink sink,
+            final SubscriptionParameters parameters, final ExecutorService executorService) {
+        long flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+        int batchSize = DEFAULT_BATCH_SIZE;
+        if (parameters != null) {
+            if (parameters.getIngestionFlushInterval() != null) {
+                flushIntervalMillis = parameters.getIngestionFlushInterval().longValue();
+            }
+            if (parameters.getIngestionBatchSize() != null) {
+                batchSize = (int) Math.min(parameters.getIngestionBatchSize().longValue(), Integer.MAX_VALUE);
+            }
+        }
+        return new TelemetryIngestionStage(nodeId, name, sink, Duration.ofMillis(flushIntervalMillis), batchSize,
+                executorService);
+    }
+
+    @Override
+    public void onNotification(final SubscriptionNotification notification) {
+        final Batch batch;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (isBufferEmpty()) {
+                oldestBufferedNanos = System.nanoTime();
+            }
+            bufferedTimestamp = Math.max(bufferedTimestamp, notification.timestamp());
+            for (final YangInstanceIdentifier delete : notification.deletes()) {
+                bufferDelete(delete);
+            }
+            for (final ImmutablePair<YangInstanceIdentifier, NormalizedNode> update : notification.updates()) {
+                bufferUpdate(update.getLeft(), update.getRight());
+            }
+
+            if (bufferedSize >= maxBatchSize) {
+                batch = takeBatch();
+            } else {
+                batch = null;
+                if (!flushScheduled) {
+                    flushScheduled = true;
+                    CompletableFuture.runAsync(this::onFlushTimeout, delayedExecutor);
+                }
+            }
+        }
+        commit(batch);
+    }
+
+    private void bufferDelete(final YangInstanceIdentifier delete) {
+        for (final BufferedNotification buffered : buffer) {
+            buffered.updates.keySet().removeIf(path -> {
+                final boolean deleted = delete.contains(path);
+                if (deleted) {
+                    coalescedUpdateCount.increment();
+                    bufferedSize--;
+                }
+                return deleted;
+            });
+            buffered.deletes.removeIf(path -> {
+                final boolean deleted = delete.contains(path);
+                if (deleted) {
+                    bufferedSize--;
+                }
+                return deleted;
+            });
+        }
+        // Deletes are applied before updates of the same notification, so delete of data of a buffered update
+        // goes to the next one
+        BufferedNotification target = lastBufferedNotification();
+        if (target.updates.keySet().stream().anyMatch(path -> path.contains(delete))) {
+            target = appendBufferedNotification();
+        }
+        target.deletes.add(delete);
+        bufferedSize++;
+    }
+
+    private void bufferUpdate(final YangInstanceIdentifier path, final NormalizedNode data) {
+        for (final BufferedNotification buffered : buffer) {
+            if (buffered.updates.remove(path) != null) {
+                coalescedUpdateCount.increment();
+                bufferedSize--;
+            }
+        }
+        // Re-inserted, so the newest update of the path is committed after updates of its parents
+        lastBufferedNotification().updates.put(path, data);
+        bufferedSize++;
+    }
+
+    private BufferedNotification lastBufferedNotification() {
+        return buffer.isEmpty() ? appendBufferedNotification() : buffer.get(buffer.size() - 1);
+    }
+
+    private BufferedNotification appendBufferedNotification() {
+        final BufferedNotification notification = new BufferedNotification();
+        buffer.add(notification);
+        return notification;
+    }
+
+    @Override
+    public void onSynced() {
+        final boolean synced;
+        final Batch batch;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            final long required = isBufferEmpty() ? flushedBatches : flushedBatches + 1;
+            synced = completedBatches >= required;
+            if (synced) {
+                batch = null;
+            } else {
+                // Updates received before sync are committed without waiting for flush interval
+                syncAfterBatches = required;
+                batch = takeBatch();
+            }
+        }
+        commit(batch);
+        if (synced) {
+            sink.onSynced();
+        }
+    }
+
+    @Override
+    public void onStreamTerminated() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            syncAfterBatches = 0;
+        }
+        sink.onStreamTerminated();
+    }
+
+    private void onFlushTimeout() {
+        final Batch batch;
+        synchronized (this) {
+            flushScheduled = false;
+            batch = takeBatch();
+        }
+        commit(batch);
+    }
+
+    /*
+     Batch is taken under the lock, but committed outside of it, so a sink completing the commit synchronously
+     does not run callbacks of the stage while the lock is held.
+     */
+    private @Nullable Batch takeBatch() {
+        if (closed || commitInFlight || isBufferEmpty()) {
+            // Buffer is flushed once the commit in flight completes
+            return null;
+        }
+        final List<SubscriptionNotification> batch = new ArrayList<>(buffer.size());
+        for (final BufferedNotification buffered : buffer) {
+            if (!buffered.updates.isEmpty() || !buffered.deletes.isEmpty()) {
+                batch.add(buffered.toNotification(bufferedTimestamp));
+            }
+        }
+        final int batchSize = bufferedSize;
+        final long oldestNanos = oldestBufferedNanos;
+        buffer = new ArrayList<>();
+        bufferedSize = 0;
+        lastBatchSize = batchSize;
+        commitInFlight = true;
+        flushedBatches++;
+        return new Batch(batch, batchSize, oldestNanos);
+    }
+
+    private void commit(final @Nullable Batch batch) {
+        if (batch == null) {
+            return;
+        }
+        final ListenableFuture<? extends CommitInfo> commitFuture = sink.commit(batch.notifications());
+        Futures.addCallback(commitFuture, new FutureCallback<CommitInfo>() {
+            @Override
+            public void onSuccess(final CommitInfo result) {
+                commitCount.increment();
+                lastIngestionLagNanos = System.nanoTime() - batch.oldestNanos();
+                onCommitCompleted();
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                LOG.warn("[{}] Unable to commit batch of {} telemetry updates to {}", nodeId.getValue(),
+                        batch.size(), name, throwable);
+                failedCommitCount.increment();
+                onCommitCompleted();
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void onCommitCompleted() {
+        final boolean synced;
+        final Batch next;
+        synchronized (this) {
+            commitInFlight = false;
+            completedBatches++;
+            synced = !closed && syncAfterBatches != 0 && completedBatches >= syncAfterBatches;
+            if (synced) {
+                syncAfterBatches = 0;
+            }
+            if (bufferedSize >= maxBatchSize || syncAfterBatches != 0
+                    || (!flushScheduled && !isBufferEmpty())) {
+                next = takeBatch();
+            } else {
+                next = null;
+            }
+        }
+        commit(next);
+        if (synced) {
+            sink.onSynced();
+        }
+    }
+
+    private boolean isBufferEmpty() {
+        return bufferedSize == 0;
+    }
+
+    /**
+     * Returns name of the stage.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns number of successfully committed batches.
+     */
+    public long getCommitCount() {
+        return commitCount.sum();
+    }
+
+    /**
+     * Returns number of batches which failed to commit.
+     */
+    public long getFailedCommitCount() {
+        return failedCommitCount.sum();
+    }
+
+    /**
+     * Returns number of updates which were replaced by newer update or delete before they were committed.
+     */
+    public long getCoalescedUpdateCount() {
+        return coalescedUpdateCount.sum();
+    }
+
+    /**
+     * Returns number of updates and deletes in the last flushed batch.
+     */
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * Returns time between receiving the oldest update of the last committed batch and completion of its commit.
+     */
+    public Duration getLastIngestionLag() {
+        return Duration.ofNanos(lastIngestionLagNanos);
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        buffer.clear();
+        bufferedSize = 0;
+    }
+
+    private record Batch(List<SubscriptionNotification> notifications, int size, long oldestNanos) {
+    }
+
+    private static final class BufferedNotification {
+        private final Map<YangInstanceIdentifier, NormalizedNode> updates = new LinkedHashMap<>();
+        private final Set<YangInstanceIdentifier> deletes = new LinkedHashSet<>();
+
+        SubscriptionNotification toNotification(final long timestamp) {
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList =
+                    new ArrayList<>(updates.size());
+            updates.forEach((path, data) -> updateList.add(ImmutablePair.of(path, data)));
+            return new SubscriptionNotification(timestamp, updateList, List.copyOf(deletes));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+
+/**
+ * Destination of telemetry updates flushed by {@link TelemetryIngestionStage}.
+ */
+@FunctionalInterface
+public interface TelemetrySink {
+
+    /**
+     * Commits batch of coalesced updates. Notifications of the batch are applied in order, deletes of each
+     * notification are applied before its updates.
+     *
+     * @param batch notifications to commit
+     * @return future completed once the whole batch is committed
+     */
+    ListenableFuture<? extends CommitInfo> commit(List<SubscriptionNotification> batch);
+
+    /**
+     * Invoked once initial values of all subscribed paths were committed to the sink.
+     */
+    default void onSynced() {
+        // no-op by default
+    }
+
+    /**
+     * Invoked when the subscription stream was terminated, committed data are not kept up to date until the sink
+     * is synced again.
+     */
+    default void onStreamTerminated() {
+        // no-op by default
+    }
+}
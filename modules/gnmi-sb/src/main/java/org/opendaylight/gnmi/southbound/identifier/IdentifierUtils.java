@@ -7,6 +7,9 @@
  */
 package org.opendaylight.gnmi.southbound.identifier;
 
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GnmiNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.node.state.NodeState;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.node.state.node.state.SubscriptionState;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.TopologyId;
@@ -61,4 +64,12 @@ public final class IdentifierUtils {
     public static DataObjectIdentifier<Node> gnmiNodeID(final NodeId nodeId) {
         return GNMI_TOPOLOGY_PATH.toBuilder().child(Node.class, new NodeKey(nodeId)).build();
     }
+
+    public static DataObjectIdentifier<SubscriptionState> subscriptionStateID(final NodeId nodeId) {
+        return gnmiNodeID(nodeId).toBuilder()
+            .augmentation(GnmiNode.class)
+            .child(NodeState.class)
+            .child(SubscriptionState.class)
+            .build();
+    }
 }
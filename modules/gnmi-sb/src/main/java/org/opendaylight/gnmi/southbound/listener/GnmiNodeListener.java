@@ -143,7 +143,8 @@ public class GnmiNodeListener implements DataTreeChangeListener<Node> {
             final GnmiNode after = requireNonNull(nodeAfter.augmentation(GnmiNode.class),
                     "Node must be augmented by gNMI");
             return !Objects.equals(before.getConnectionParameters(), after.getConnectionParameters())
-                || !Objects.equals(before.getExtensionsParameters(), after.getExtensionsParameters());
+                || !Objects.equals(before.getExtensionsParameters(), after.getExtensionsParameters())
+                || !Objects.equals(before.getSubscriptionParameters(), after.getSubscriptionParameters());
         }
     }
 
@@ -7,11 +7,16 @@
  */
 package org.opendaylight.gnmi.southbound.mountpoint.broker;
 
-import com.google.common.util.concurrent.Futures;
-import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.gnmi.southbound.mountpoint.ops.GnmiGet;
 import org.opendaylight.gnmi.southbound.mountpoint.ops.GnmiSet;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.SetCoalescer;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.SetSequencer;
 import org.opendaylight.gnmi.southbound.mountpoint.transactions.ReadOnlyTx;
 import org.opendaylight.gnmi.southbound.mountpoint.transactions.ReadWriteTx;
 import org.opendaylight.gnmi.southbound.mountpoint.transactions.WriteOnlyTx;
@@ -20,51 +25,74 @@ import org.opendaylight.mdsal.dom.api.DOMDataTreeReadWriteTransaction;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
 import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
 import org.opendaylight.mdsal.dom.spi.PingPongMergingDOMDataBroker;
-import org.opendaylight.yangtools.yang.common.Empty;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 
 public class GnmiDataBroker implements PingPongMergingDOMDataBroker {
 
-    private static final Logger LOG = LoggerFactory.getLogger(GnmiDataBroker.class);
+    public static final int DEFAULT_SET_COALESCE_SIZE = 100;
 
     private final GnmiGet gnmiGet;
     private final GnmiSet gnmiSet;
+    private final @Nullable GnmiDataTreeChangeService dataTreeChangeService;
+    private final Duration setCoalesceWindow;
+    private final int setCoalesceSize;
+    private final Executor setExecutor;
+    // Orders SetRequests of all transactions and transaction chains of the device
+    private final SetSequencer setSequencer;
 
     public GnmiDataBroker(final GnmiGet getProvider, final GnmiSet setProvider) {
-        this.gnmiGet = getProvider;
-        this.gnmiSet = setProvider;
+        this(getProvider, setProvider, null);
     }
 
-    @Override
-    public @NonNull DOMTransactionChain createTransactionChain() {
-        return new DOMTransactionChain() {
-            @Override
-            public DOMDataTreeReadTransaction newReadOnlyTransaction() {
-                return GnmiDataBroker.this.newReadOnlyTransaction();
-            }
+    public GnmiDataBroker(final GnmiGet getProvider, final GnmiSet setProvider,
+                          final @Nullable GnmiDataTreeChangeService dataTreeChangeService) {
+        this(getProvider, setProvider, dataTreeChangeService, Duration.ZERO, DEFAULT_SET_COALESCE_SIZE,
+                SetSequencer.DEFAULT_MAX_QUEUE_DEPTH, MoreExecutors.directExecutor());
+    }
 
-            @Override
-            public DOMDataTreeReadWriteTransaction newReadWriteTransaction() {
-                return GnmiDataBroker.this.newReadWriteTransaction();
-            }
+    /**
+     * Creates data broker of a device.
+     *
+     * @param getProvider gNMI GET operation of the device
+     * @param setProvider gNMI SET operation of the device
+     * @param dataTreeChangeService data tree change service of the device, null if not supported
+     * @param setCoalesceWindow time for which transactions committed in a transaction chain are gathered
+     *                          into one SetRequest
+     * @param setCoalesceSize maximal number of transactions gathered into one SetRequest
+     * @param maxSetQueueDepth maximal number of SetRequests waiting for the previous SetRequest to be answered
+     * @param setExecutor executor sending SetRequests and chained transactions which waited for the previous
+     *                    SetRequest to be answered
+     */
+    public GnmiDataBroker(final GnmiGet getProvider, final GnmiSet setProvider,
+                          final @Nullable GnmiDataTreeChangeService dataTreeChangeService,
+                          final Duration setCoalesceWindow, final int setCoalesceSize,
+                          final int maxSetQueueDepth, final Executor setExecutor) {
+        this.gnmiGet = getProvider;
+        this.gnmiSet = setProvider;
+        this.dataTreeChangeService = dataTreeChangeService;
+        this.setCoalesceWindow = setCoalesceWindow;
+        this.setCoalesceSize = setCoalesceSize;
+        this.setExecutor = setExecutor;
+        this.setSequencer = new SetSequencer(setProvider, maxSetQueueDepth, setExecutor);
+    }
 
-            //Since transactions are not chained, just return completed future.
-            @Override
-            public @NonNull ListenableFuture<Empty> future() {
-                return Futures.immediateFuture(Empty.value());
-            }
+    /**
+     * Returns number of SetRequests of the device waiting for the previous SetRequest to be answered.
+     */
+    public int getSetQueueDepth() {
+        return setSequencer.getQueueDepth();
+    }
 
-            @Override
-            public DOMDataTreeWriteTransaction newWriteOnlyTransaction() {
-                return GnmiDataBroker.this.newWriteOnlyTransaction();
-            }
+    @Override
+    public List<Extension> supportedExtensions() {
+        return dataTreeChangeService == null ? List.of() : List.of(dataTreeChangeService);
+    }
 
-            @Override
-            public void close() {
-                LOG.debug("Closing {} resources", this.getClass().getSimpleName());
-            }
-        };
+    @Override
+    public @NonNull DOMTransactionChain createTransactionChain() {
+        final NodeId nodeId = gnmiSet.getNodeId();
+        return new GnmiTransactionChain(this, nodeId,
+                new SetCoalescer(nodeId, setSequencer, setCoalesceWindow, setCoalesceSize, setExecutor));
     }
 
     @Override
@@ -74,7 +102,7 @@ public class GnmiDataBroker implements PingPongMergingDOMDataBroker {
 
     @Override
     public DOMDataTreeWriteTransaction newWriteOnlyTransaction() {
-        return new WriteOnlyTx(gnmiSet);
+        return new WriteOnlyTx(gnmiSet.getNodeId(), setSequencer);
     }
 
     @Override
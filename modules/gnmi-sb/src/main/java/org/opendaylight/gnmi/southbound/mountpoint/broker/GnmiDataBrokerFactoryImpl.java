@@ -7,36 +7,131 @@
  */
 package org.opendaylight.gnmi.southbound.mountpoint.broker;
 
-import com.google.gson.Gson;
+import com.google.common.util.concurrent.MoreExecutors;
+import gnmi.Gnmi;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
+import org.opendaylight.gnmi.southbound.device.connection.ConfigurableParameters;
 import org.opendaylight.gnmi.southbound.device.connection.DeviceConnection;
+import org.opendaylight.gnmi.southbound.device.subscription.GnmiSubscriptionManager;
+import org.opendaylight.gnmi.southbound.device.subscription.LastKnownValueStore;
+import org.opendaylight.gnmi.southbound.device.subscription.SubscriptionDataTree;
 import org.opendaylight.gnmi.southbound.mountpoint.codecs.GetResponseToNormalizedNodeCodec;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.GnmiCodecException;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.PathToYangInstanceIdentifierCodec;
 import org.opendaylight.gnmi.southbound.mountpoint.codecs.YangInstanceIdentifierToPathCodec;
 import org.opendaylight.gnmi.southbound.mountpoint.codecs.YangInstanceNormToGnmiUpdateCodec;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.ConfigDataCache;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.GetResponseDecoder;
 import org.opendaylight.gnmi.southbound.mountpoint.ops.GnmiGet;
 import org.opendaylight.gnmi.southbound.mountpoint.ops.GnmiSet;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.SetListener;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.SetSequencer;
 import org.opendaylight.gnmi.southbound.mountpoint.requests.GnmiGetRequestFactoryImpl;
 import org.opendaylight.gnmi.southbound.mountpoint.requests.GnmiSetRequestFactoryImpl;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class GnmiDataBrokerFactoryImpl implements GnmiDataBrokerFactory {
+    private static final Logger LOG = LoggerFactory.getLogger(GnmiDataBrokerFactoryImpl.class);
+
+    private static final int DEFAULT_READ_BATCH_SIZE = 100;
+
+    private final GetResponseDecoder responseDecoder;
+    private final Executor setExecutor;
+    private final ParallelCodecExecutor codecExecutor;
+
+    public GnmiDataBrokerFactoryImpl() {
+        this(GetResponseDecoder.inline(), MoreExecutors.directExecutor(), ParallelCodecExecutor.sequential());
+    }
+
+    /**
+     * Creates factory of data brokers.
+     *
+     * @param responseDecoder decoder of GetResponses shared by all devices
+     * @param setExecutor executor sending queued SetRequests of devices, so they are not built on gRPC threads
+     * @param codecExecutor executor converting large number of updates of SetRequests, shared by all devices
+     */
+    public GnmiDataBrokerFactoryImpl(final GetResponseDecoder responseDecoder, final Executor setExecutor,
+            final ParallelCodecExecutor codecExecutor) {
+        this.responseDecoder = responseDecoder;
+        this.setExecutor = setExecutor;
+        this.codecExecutor = codecExecutor;
+    }
+
     @Override
     public GnmiDataBroker create(DeviceConnection deviceConnection) {
 
-        final Gson gson = new Gson();
         final boolean prefixFirstElement =
                 deviceConnection.getConfigurableParameters().getUseModelNamePrefix().orElse(false);
 
         YangInstanceIdentifierToPathCodec yiiToPathCodec
                 = new YangInstanceIdentifierToPathCodec(deviceConnection, prefixFirstElement);
+        final ConfigurableParameters parameters = deviceConnection.getConfigurableParameters();
+        final ConfigDataCache configCache = parameters.getConfigCacheTtl()
+                .map(ttl -> new ConfigDataCache(deviceConnection.getIdentifier(), ttl,
+                        deviceConnection.getSchemaContext()))
+                .orElse(null);
+        deviceConnection.setConfigDataCache(configCache);
         final GnmiGet getOperation = new GnmiGet(deviceConnection, deviceConnection.getIdentifier(),
-                new GetResponseToNormalizedNodeCodec(deviceConnection, gson),
-                new GnmiGetRequestFactoryImpl(deviceConnection, yiiToPathCodec));
+                new GetResponseToNormalizedNodeCodec(deviceConnection),
+                new GnmiGetRequestFactoryImpl(deviceConnection, yiiToPathCodec),
+                createStateCache(deviceConnection), responseDecoder, parameters.getReadBatchWindow().orElse(null),
+                parameters.getReadBatchSize().orElse(DEFAULT_READ_BATCH_SIZE), configCache);
 
+        // Sets invalidate reads in flight and patch cached configuration
+        final List<SetListener> setListeners = configCache == null ? List.of(getOperation)
+                : List.of(getOperation, configCache);
         final GnmiSet setOperation = new GnmiSet(deviceConnection,
                 new GnmiSetRequestFactoryImpl(yiiToPathCodec,
-                        new YangInstanceNormToGnmiUpdateCodec(deviceConnection, yiiToPathCodec, gson)),
-                deviceConnection.getIdentifier());
+                        new YangInstanceNormToGnmiUpdateCodec(deviceConnection, yiiToPathCodec), codecExecutor),
+                deviceConnection.getIdentifier(), setListeners);
+
+        // Data tree change notifications are available only when subscriptions of the device are managed
+        final GnmiSubscriptionManager subscriptionManager = deviceConnection.getSubscriptionManager();
+        final GnmiDataTreeChangeService dataTreeChangeService = subscriptionManager == null ? null
+                : new GnmiDataTreeChangeService(deviceConnection.getIdentifier(), subscriptionManager,
+                        yiiToPathCodec, new SubscriptionDataTree(deviceConnection.getSchemaContext()));
+
+        return new GnmiDataBroker(getOperation, setOperation, dataTreeChangeService,
+                parameters.getSetCoalesceWindow().orElse(Duration.ZERO),
+                parameters.getSetCoalesceSize().orElse(GnmiDataBroker.DEFAULT_SET_COALESCE_SIZE),
+                parameters.getSetQueueDepth().orElse(SetSequencer.DEFAULT_MAX_QUEUE_DEPTH), setExecutor);
+    }
+
+    private static LastKnownValueStore createStateCache(final DeviceConnection deviceConnection) {
+        final Optional<Duration> staleness = deviceConnection.getConfigurableParameters().getStateCacheStaleness();
+        if (staleness.isEmpty()) {
+            return null;
+        }
+        final GnmiSubscriptionManager subscriptionManager = deviceConnection.getSubscriptionManager();
+        final List<YangInstanceIdentifier> sampledPaths = new ArrayList<>();
+        if (subscriptionManager != null) {
+            final PathToYangInstanceIdentifierCodec pathCodec = new PathToYangInstanceIdentifierCodec(deviceConnection);
+            for (final Gnmi.Subscription subscription : subscriptionManager.getSubscriptions()) {
+                if (subscription.getMode() != Gnmi.SubscriptionMode.SAMPLE) {
+                    continue;
+                }
+                try {
+                    sampledPaths.add(pathCodec.apply(subscription.getPath()));
+                } catch (GnmiCodecException e) {
+                    LOG.warn("[{}] Subscribed path {} can not be cached", deviceConnection.getIdentifier().getValue(),
+                            subscription.getPath(), e);
+                }
+            }
+        }
 
-        return new GnmiDataBroker(getOperation, setOperation);
+        final LastKnownValueStore stateCache = new LastKnownValueStore(deviceConnection.getIdentifier(),
+                staleness.orElseThrow(), sampledPaths, new SubscriptionDataTree(deviceConnection.getSchemaContext()));
+        if (subscriptionManager != null && !sampledPaths.isEmpty()) {
+            subscriptionManager.registerTelemetrySink(LastKnownValueStore.SINK_NAME, stateCache);
+        }
+        return stateCache;
     }
 
 }
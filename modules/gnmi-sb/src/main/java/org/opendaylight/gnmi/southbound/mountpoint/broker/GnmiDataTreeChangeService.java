@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.broker;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.gnmi.southbound.device.subscription.GnmiSubscriptionManager;
+import org.opendaylight.gnmi.southbound.device.subscription.SubscribeRequestFactory;
+import org.opendaylight.gnmi.southbound.device.subscription.SubscriptionDataTree;
+import org.opendaylight.gnmi.southbound.device.subscription.SubscriptionListener;
+import org.opendaylight.gnmi.southbound.device.subscription.SubscriptionNotification;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.YangInstanceIdentifierToPathCodec;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Data tree change service of gNMI mount point, backed by gNMI ON_CHANGE subscriptions.
+ *
+ * <p>Every registered listener path is subscribed in ON_CHANGE mode. Paths nested in other listener paths are
+ * not subscribed separately, so overlapping listeners share one subscription. Each subscribed path has its own
+ * Subscribe stream held by {@link GnmiSubscriptionManager}, so registering or unregistering a listener does not
+ * interrupt streams of other paths.</p>
+ *
+ * <p>Received notifications are applied to a local copy of the subscribed data, listeners are notified only about
+ * subtrees which actually changed. gNMI does not distinguish configuration and operational data in subscriptions,
+ * so listeners registered in both datastores receive the same data.</p>
+ *
+ * <p>Notifications are applied and dispatched under the same lock as initial data of a new listener are read and
+ * delivered, so the listener gets its initial data first and then only changes made after them.</p>
+ */
+public class GnmiDataTreeChangeService implements DOMDataBroker.DataTreeChangeExtension, SubscriptionListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GnmiDataTreeChangeService.class);
+
+    private final NodeId nodeId;
+    private final GnmiSubscriptionManager subscriptionManager;
+    private final YangInstanceIdentifierToPathCodec pathCodec;
+    private final SubscriptionDataTree dataTree;
+    private final List<ListenerRegistration> listeners = new CopyOnWriteArrayList<>();
+    // Subscribed paths (paths not nested in other listener paths) and registrations of their subscriptions
+    private final Map<YangInstanceIdentifier, Registration> subscriptions = new HashMap<>();
+    // Orders delivery of initial data of new listeners with delivery of received notifications
+    private final Object notificationLock = new Object();
+
+    public GnmiDataTreeChangeService(final NodeId nodeId, final GnmiSubscriptionManager subscriptionManager,
+            final YangInstanceIdentifierToPathCodec pathCodec, final SubscriptionDataTree dataTree) {
+        this.nodeId = nodeId;
+        this.subscriptionManager = subscriptionManager;
+        this.pathCodec = pathCodec;
+        this.dataTree = dataTree;
+    }
+
+    @Override
+    public @NonNull Registration registerTreeChangeListener(final @NonNull DOMDataTreeIdentifier treeId,
+            final @NonNull DOMDataTreeChangeListener listener) {
+        final ListenerRegistration registration = new ListenerRegistration(treeId.path(), listener);
+        LOG.debug("[{}] Registering data tree change listener {} on {}", nodeId.getValue(), listener,
+                treeId.path());
+        synchronized (notificationLock) {
+            synchronized (this) {
+                listeners.add(registration);
+                updateSubscriptions();
+            }
+            registration.notifyInitialData();
+        }
+        return registration;
+    }
+
+    /**
+     * Registers listener regardless of its clustering semantics, gNMI mount point is local to this node.
+     */
+    @Override
+    public @NonNull Registration registerLegacyTreeChangeListener(final @NonNull DOMDataTreeIdentifier treeId,
+            final @NonNull DOMDataTreeChangeListener listener) {
+        return registerTreeChangeListener(treeId, listener);
+    }
+
+    @Override
+    public void onNotification(final SubscriptionNotification notification) {
+        synchronized (notificationLock) {
+            final SubscriptionNotification subscribed = filterSubscribed(notification);
+            if (subscribed.updates().isEmpty() && subscribed.deletes().isEmpty()) {
+                return;
+            }
+            final DataTreeCandidate candidate;
+            try {
+                candidate = dataTree.apply(subscribed);
+            } catch (DataValidationFailedException e) {
+                LOG.warn("[{}] Unable to apply notification to subscribed data, ignoring it", nodeId.getValue(), e);
+                return;
+            }
+            for (final ListenerRegistration listener : listeners) {
+                listener.notifyChanged(candidate);
+            }
+        }
+    }
+
+    private synchronized void unregister(final ListenerRegistration registration) {
+        listeners.remove(registration);
+        updateSubscriptions();
+    }
+
+    /**
+     * Subscribes paths of listeners which are not nested in paths of other listeners and removes subscriptions
+     * which are no longer needed. Data of removed subscriptions are removed from the local copy, since they would
+     * not be kept up to date anymore.
+     */
+    private synchronized void updateSubscriptions() {
+        final Set<YangInstanceIdentifier> required = new HashSet<>();
+        for (final ListenerRegistration listener : listeners) {
+            if (listeners.stream().noneMatch(other -> isStrictlyNested(listener.path, other.path))) {
+                required.add(listener.path);
+            }
+        }
+
+        final List<YangInstanceIdentifier> removed = new ArrayList<>();
+        subscriptions.entrySet().removeIf(entry -> {
+            if (required.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().close();
+            removed.add(entry.getKey());
+            return true;
+        });
+        for (final YangInstanceIdentifier path : required) {
+            subscriptions.computeIfAbsent(path, newPath -> {
+                LOG.debug("[{}] Subscribing {} in ON_CHANGE mode", nodeId.getValue(), newPath);
+                return subscriptionManager.addSubscription(
+                        SubscribeRequestFactory.onChangeSubscription(pathCodec.apply(newPath)), this);
+            });
+        }
+
+        final List<YangInstanceIdentifier> unsubscribed = removed.stream()
+                .filter(path -> !isSubscribed(path))
+                .toList();
+        if (!unsubscribed.isEmpty()) {
+            try {
+                dataTree.delete(unsubscribed);
+            } catch (DataValidationFailedException e) {
+                LOG.warn("[{}] Unable to remove data of paths {} which are no longer subscribed",
+                        nodeId.getValue(), unsubscribed, e);
+            }
+        }
+    }
+
+    private synchronized SubscriptionNotification filterSubscribed(final SubscriptionNotification notification) {
+        final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updates = notification.updates().stream()
+                .filter(update -> isSubscribed(update.getLeft()))
+                .toList();
+        final List<YangInstanceIdentifier> deletes = notification.deletes().stream()
+                .filter(this::isSubscribed)
+                .toList();
+        return new SubscriptionNotification(notification.timestamp(), updates, deletes);
+    }
+
+    private synchronized boolean isSubscribed(final YangInstanceIdentifier path) {
+        return subscriptions.keySet().stream().anyMatch(subscribed -> subscribed.contains(path));
+    }
+
+    private static boolean isStrictlyNested(final YangInstanceIdentifier path, final YangInstanceIdentifier parent) {
+        return !path.equals(parent) && parent.contains(path);
+    }
+
+    private static @Nullable DataTreeCandidateNode findNode(final DataTreeCandidateNode root,
+            final YangInstanceIdentifier path) {
+        DataTreeCandidateNode node = root;
+        for (final PathArgument argument : path.getPathArguments()) {
+            node = node.modifiedChild(argument);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private final class ListenerRegistration extends AbstractRegistration {
+        private final YangInstanceIdentifier path;
+        private final DOMDataTreeChangeListener listener;
+
+        ListenerRegistration(final YangInstanceIdentifier path, final DOMDataTreeChangeListener listener) {
+            this.path = path;
+            this.listener = listener;
+        }
+
+        /**
+         * Data already received for the path are reported as initial data of the listener.
+         */
+        void notifyInitialData() {
+            final Optional<NormalizedNode> data = dataTree.read(path);
+            if (data.isPresent()) {
+                listener.onDataTreeChanged(List.of(DataTreeCandidates.fromNormalizedNode(path, data.orElseThrow())));
+            } else {
+                listener.onInitialData();
+            }
+        }
+
+        @SuppressWarnings("IllegalCatch")
+        void notifyChanged(final DataTreeCandidate candidate) {
+            if (isClosed()) {
+                return;
+            }
+            final DataTreeCandidateNode node = findNode(candidate.getRootNode(), path);
+            if (node == null || node.modificationType() == ModificationType.UNMODIFIED
+                    || Objects.equals(node.dataBefore(), node.dataAfter())) {
+                return;
+            }
+            try {
+                listener.onDataTreeChanged(List.of(DataTreeCandidates.newDataTreeCandidate(path, node)));
+            } catch (RuntimeException e) {
+                LOG.warn("[{}] Data tree change listener {} failed", nodeId.getValue(), listener, e);
+            }
+        }
+
+        @Override
+        protected void removeRegistration() {
+            unregister(this);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.broker;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.List;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.SetCoalescer;
+import org.opendaylight.gnmi.southbound.mountpoint.transactions.ChainedReadOnlyTx;
+import org.opendaylight.gnmi.southbound.mountpoint.transactions.ReadWriteTx;
+import org.opendaylight.gnmi.southbound.mountpoint.transactions.WriteOnlyTx;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadWriteTransaction;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transaction chain of gNMI mount point.
+ *
+ * <p>Transactions of the chain are applied to device in the order of their commits, so a transaction can be
+ * committed without waiting for the previous one to complete. Back-to-back committed transactions are folded into
+ * one SetRequest. Reads of the chain wait for transactions committed before them.</p>
+ *
+ * <p>Once a transaction fails, all transactions committed after it fail, the chain fails and no more transactions
+ * can be created. Otherwise {@link #future()} completes once the chain is closed and all its transactions
+ * completed.</p>
+ */
+final class GnmiTransactionChain implements DOMTransactionChain {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GnmiTransactionChain.class);
+
+    private final GnmiDataBroker broker;
+    private final NodeId nodeId;
+    private final SetCoalescer setCoalescer;
+    private final SettableFuture<Empty> future = SettableFuture.create();
+    private ListenableFuture<?> lastCommit = Futures.immediateVoidFuture();
+    private int pendingCommits;
+    private boolean closed;
+    private Throwable failure;
+
+    GnmiTransactionChain(final GnmiDataBroker broker, final NodeId nodeId, final SetCoalescer setCoalescer) {
+        this.broker = broker;
+        this.nodeId = nodeId;
+        this.setCoalescer = setCoalescer;
+    }
+
+    @Override
+    public synchronized DOMDataTreeReadTransaction newReadOnlyTransaction() {
+        checkUsable();
+        return new ChainedReadOnlyTx(broker.newReadOnlyTransaction(), lastCommit);
+    }
+
+    @Override
+    public synchronized DOMDataTreeWriteTransaction newWriteOnlyTransaction() {
+        checkUsable();
+        return new WriteOnlyTx(nodeId, this::submit);
+    }
+
+    @Override
+    public synchronized DOMDataTreeReadWriteTransaction newReadWriteTransaction() {
+        checkUsable();
+        return new ReadWriteTx(new ChainedReadOnlyTx(broker.newReadOnlyTransaction(), lastCommit),
+                new WriteOnlyTx(nodeId, this::submit));
+    }
+
+    @Override
+    public @NonNull ListenableFuture<Empty> future() {
+        return future;
+    }
+
+    @Override
+    public void close() {
+        final boolean completed;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            completed = pendingCommits == 0 && failure == null;
+        }
+        LOG.debug("[{}] Closing transaction chain", nodeId.getValue());
+        if (completed) {
+            future.set(Empty.value());
+        }
+    }
+
+    private void checkUsable() {
+        Preconditions.checkState(!closed, "[%s] Transaction chain %s is closed", nodeId.getValue(), this);
+        Preconditions.checkState(failure == null, "[%s] Transaction chain %s failed", nodeId.getValue(), this);
+    }
+
+    private ListenableFuture<CommitInfo> submit(
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
+            final List<YangInstanceIdentifier> deleteList) {
+        final ListenableFuture<CommitInfo> result;
+        synchronized (this) {
+            pendingCommits++;
+            result = setCoalescer.set(replaceList, updateList, deleteList);
+            lastCommit = result;
+        }
+        Futures.addCallback(result, new FutureCallback<>() {
+            @Override
+            public void onSuccess(final CommitInfo commitInfo) {
+                onCommitCompleted(null);
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                onCommitCompleted(throwable);
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+
+    private void onCommitCompleted(final @Nullable Throwable cause) {
+        final boolean failed;
+        final boolean completed;
+        synchronized (this) {
+            pendingCommits--;
+            failed = cause != null && failure == null;
+            if (failed) {
+                failure = cause;
+            }
+            completed = closed && pendingCommits == 0 && failure == null;
+        }
+        if (failed) {
+            LOG.warn("[{}] Transaction of chain failed, failing the chain", nodeId.getValue(), cause);
+            future.setException(cause);
+        } else if (completed) {
+            future.set(Empty.value());
+        }
+    }
+}
@@ -7,35 +7,40 @@
  */
 package org.opendaylight.gnmi.southbound.mountpoint.codecs;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import gnmi.Gnmi;
-import gnmi.Gnmi.Update;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import org.opendaylight.gnmi.commons.util.DataConverter;
-import org.opendaylight.gnmi.commons.util.JsonUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.gnmi.southbound.datatree.GnmiDataTree;
 import org.opendaylight.gnmi.southbound.schema.provider.SchemaContextProvider;
-import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
-import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
 
 /**
  * Default codec which transforms (Gnmi.GetResponse, YangInstanceIdentifier) to NormalizedNode.
+ *
+ * <p>Response with single JSON update is parsed as the value of requested identifier, regardless of path of the
+ * update. Otherwise (e.g. one update per leaf with scalar values, as sent with PROTO encoding), path of each update
+ * is resolved against the schema, relative to prefix of its notification, and values of all updates of all
+ * notifications are merged into one tree, which is then read at requested identifier.</p>
  */
 public class GetResponseToNormalizedNodeCodec implements BiCodec<Gnmi.GetResponse, YangInstanceIdentifier,
         Optional<NormalizedNode>> {
 
     private final SchemaContextProvider schemaContextProvider;
-    private final Gson gson;
+    private final UpdateToNormalizedNodeCodec updateCodec;
+    private final PathToYangInstanceIdentifierCodec pathCodec;
 
-    public GetResponseToNormalizedNodeCodec(final SchemaContextProvider schemaContextProvider,
-            final Gson gson) {
+    public GetResponseToNormalizedNodeCodec(final SchemaContextProvider schemaContextProvider) {
         this.schemaContextProvider = schemaContextProvider;
-        this.gson = gson;
+        this.updateCodec = new UpdateToNormalizedNodeCodec(schemaContextProvider);
+        this.pathCodec = new PathToYangInstanceIdentifierCodec(schemaContextProvider);
     }
 
     /**
@@ -54,114 +59,59 @@ public class GetResponseToNormalizedNodeCodec implements BiCodec<Gnmi.GetRespons
     @Override
     public Optional<NormalizedNode> apply(Gnmi.GetResponse response, YangInstanceIdentifier identifier)
             throws GnmiCodecException {
+        Gnmi.Update singleUpdate = null;
+        int updateCount = 0;
         for (Gnmi.Notification notification : response.getNotificationList()) {
-            if (!notification.getUpdateList().isEmpty()) {
-                // Json to NormalizedNode
-                final var update = notification.getUpdateList().get(0);
-                final var codecResult = updateToNormalizedNode(update, identifier);
-                /*
-                If the serialized normalized node is of type AugmentationNode we need to return the child
-                 because the AugmentationNode has no QName so later post processing (for example restconf)
-                  can correctly deal with that.
-                 */
-                return Optional.of(codecResult);
+            if (notification.getUpdateCount() > 0) {
+                singleUpdate = notification.getUpdate(0);
+                updateCount += notification.getUpdateCount();
             }
         }
-        return Optional.empty();
-    }
-
-    private NormalizedNode updateToNormalizedNode(final Update update, final YangInstanceIdentifier identifier)
-        throws GnmiCodecException {
-        switch (update.getVal().getValueCase()) {
-            case JSON_VAL:
-            case JSON_IETF_VAL:
-                String responseJson = update.getVal().getValueCase() == Gnmi.TypedValue.ValueCase.JSON_VAL
-                    ? update.getVal().getJsonVal().toStringUtf8()
-                    : update.getVal().getJsonIetfVal().toStringUtf8();
-
-                /*
-                 Check if response is rooted deeper than requested, if yes, wrap it so it is rooted at
-                 the same level as identifier last path arg points to.
-                */
-                if (!identifier.isEmpty() && isResponseJsonDeeperThanRequested(identifier, responseJson)) {
-                    final QName lastName = identifier.getLastPathArgument().getNodeType();
-                    final Module moduleByQName =
-                            DataConverter.findModuleByQName(lastName, schemaContextProvider.getSchemaContext())
-                                    .orElseThrow(() -> new GnmiCodecException(
-                                            String.format("Unable to find module of node %s", lastName)));
-
-                    final String wrapWith = String.format("%s:%s", moduleByQName.getName(),
-                            lastName.getLocalName());
-                    if (identifier.getLastPathArgument() instanceof NodeIdentifierWithPredicates) {
-                        final NodeIdentifierWithPredicates lastPathArgument
-                                = (NodeIdentifierWithPredicates) identifier.getLastPathArgument();
-                        responseJson = JsonUtils.wrapJsonWithArray(responseJson, wrapWith, gson, lastPathArgument,
-                            schemaContextProvider.getSchemaContext());
-                    } else {
-                        responseJson = JsonUtils.wrapJsonWithObject(responseJson, wrapWith, gson);
-                    }
-                }
-                return resolveJsonResponse(identifier, responseJson);
-                /*
-                 In the case of primitive values, only the value is present in response.
-                 Since json parser works only with object, always wrap the value (wrapPrimitive()).
-                */
-            case STRING_VAL:
-                return resolveJsonResponse(identifier, JsonUtils.wrapPrimitive(
-                    identifier.getLastPathArgument().getNodeType().getLocalName(),
-                    update.getVal().getStringVal(), gson));
-            case UINT_VAL:
-                return resolveJsonResponse(identifier, JsonUtils.wrapPrimitive(
-                    identifier.getLastPathArgument().getNodeType().getLocalName(),
-                    update.getVal().getUintVal(), gson));
-            case INT_VAL:
-                return resolveJsonResponse(identifier, JsonUtils.wrapPrimitive(
-                    identifier.getLastPathArgument().getNodeType().getLocalName(),
-                    update.getVal().getIntVal(), gson));
-            case FLOAT_VAL:
-                return resolveJsonResponse(identifier, JsonUtils.wrapPrimitive(
-                    identifier.getLastPathArgument().getNodeType().getLocalName(),
-                    update.getVal().getFloatVal(), gson));
-            case BOOL_VAL:
-                return resolveJsonResponse(identifier, JsonUtils.wrapPrimitive(
-                    identifier.getLastPathArgument().getNodeType().getLocalName(),
-                    update.getVal().getBoolVal(), gson));
-            default:
-                throw new GnmiCodecException(String.format("Unsupported response type %s of response %s",
-                    update.getVal().getValueCase(), update));
+        if (updateCount == 0) {
+            return Optional.empty();
         }
+        if (updateCount == 1 && isJson(singleUpdate.getVal())) {
+            return Optional.of(updateCodec.apply(singleUpdate, identifier));
+        }
+        return mergeUpdates(response, identifier);
     }
 
-    private static boolean isResponseJsonDeeperThanRequested(final YangInstanceIdentifier identifier,
-                                                             final String responseJson) {
-        final String lastPathArgName = identifier.getLastPathArgument().getNodeType().getLocalName();
-        final JsonElement jsonObject = JsonParser.parseString(responseJson);
-        if (!jsonObject.isJsonObject()) {
-            return true;
-        }
-        for (Map.Entry<String, JsonElement> entry : jsonObject.getAsJsonObject().entrySet()) {
-            // Don't consider model prefix, if present
-            String nameOfElement = entry.getKey();
-            if (entry.getKey().contains(":")) {
-                String[] split = nameOfElement.split(":");
-                nameOfElement = split[split.length - 1];
-            }
-            if (nameOfElement.contains(lastPathArgName)) {
-                return false;
+    private Optional<NormalizedNode> mergeUpdates(final Gnmi.GetResponse response,
+            final YangInstanceIdentifier identifier) throws GnmiCodecException {
+        final GnmiDataTree dataTree = new GnmiDataTree(schemaContextProvider.getSchemaContext());
+        try {
+            for (Gnmi.Notification notification : response.getNotificationList()) {
+                final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updates =
+                        new ArrayList<>(notification.getUpdateCount());
+                for (Gnmi.Update update : notification.getUpdateList()) {
+                    final YangInstanceIdentifier path = pathCodec.apply(notification.getPrefix(), update.getPath());
+                    final NormalizedNode data = GnmiDataTree.unwrapListEntry(path, updateCodec.apply(update, path))
+                            .orElseThrow(() -> new GnmiCodecException(String.format(
+                                    "Value of %s does not contain the list entry", path)));
+                    updates.add(ImmutablePair.of(path, data));
+                }
+                dataTree.apply(updates, List.of());
             }
+        } catch (DataValidationFailedException e) {
+            throw new GnmiCodecException(String.format("Updates of response to %s do not match schema",
+                    identifier), e);
+        }
+        final Optional<NormalizedNode> data = dataTree.read(identifier);
+        /*
+         List entry is returned as list containing the single entry, the same way as it is parsed from JSON.
+         */
+        if (data.orElse(null) instanceof MapEntryNode entry
+                && identifier.getLastPathArgument() instanceof NodeIdentifierWithPredicates entryId) {
+            return Optional.of(ImmutableNodes.newSystemMapBuilder()
+                    .withNodeIdentifier(NodeIdentifier.create(entryId.getNodeType()))
+                    .withChild(entry)
+                    .build());
         }
-        return true;
+        return data;
     }
 
-    @SuppressWarnings("IllegalCatch")
-    private NormalizedNode resolveJsonResponse(YangInstanceIdentifier identifier, String inputJson)
-            throws GnmiCodecException {
-        try {
-            return DataConverter.nodeFromJsonString(identifier,inputJson,
-                    schemaContextProvider.getSchemaContext());
-        } catch (Exception e) {
-            throw new GnmiCodecException(String.format("Failed to deserialize json response %s",
-                    inputJson), e);
-        }
+    private static boolean isJson(final Gnmi.TypedValue value) {
+        return value.getValueCase() == Gnmi.TypedValue.ValueCase.JSON_VAL
+                || value.getValueCase() == Gnmi.TypedValue.ValueCase.JSON_IETF_VAL;
     }
 }
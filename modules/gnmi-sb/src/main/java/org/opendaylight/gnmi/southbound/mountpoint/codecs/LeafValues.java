@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.codecs;
+
+import gnmi.Gnmi;
+import java.math.BigDecimal;
+import org.opendaylight.gnmi.commons.util.LeafValueParser;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.BinaryTypeDefinition;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+
+/**
+ * Conversions of values of leaves and leaf-lists received from device to their Java representation
+ * defined by the schema type of the node.
+ */
+final class LeafValues {
+
+    private LeafValues() {
+        // Utility class
+    }
+
+    /**
+     * Returns type of typed node the stack points to, leafrefs are resolved to the type of referenced node.
+     *
+     * @param stack stack pointing to leaf, leaf-list or list key
+     * @return type of the values of the node
+     */
+    static TypeDefinition<?> resolveType(final SchemaInferenceStack stack) {
+        return LeafValueParser.resolveType(stack);
+    }
+
+    /**
+     * Converts scalar gNMI value to the Java representation of its type.
+     *
+     * @param type type of the value
+     * @param value scalar value received from device
+     * @param context schema context of the device
+     * @return value of the type
+     * @throws GnmiCodecException if the value is not scalar or can't be converted to the type
+     */
+    static Object fromTypedValue(final TypeDefinition<?> type, final Gnmi.TypedValue value,
+            final EffectiveModelContext context) throws GnmiCodecException {
+        return switch (value.getValueCase()) {
+            case STRING_VAL -> fromString(type, value.getStringVal(), context);
+            case ASCII_VAL -> fromString(type, value.getAsciiVal(), context);
+            case INT_VAL -> fromString(type, Long.toString(value.getIntVal()), context);
+            case UINT_VAL -> fromString(type, Long.toUnsignedString(value.getUintVal()), context);
+            case BOOL_VAL -> fromString(type, Boolean.toString(value.getBoolVal()), context);
+            // Float has no exact decimal representation, its shortest string is the closest one
+            case FLOAT_VAL -> fromString(type, new BigDecimal(Float.toString(value.getFloatVal())).toPlainString(),
+                    context);
+            case DECIMAL_VAL -> fromString(type, BigDecimal.valueOf(value.getDecimalVal().getDigits(),
+                    value.getDecimalVal().getPrecision()).toPlainString(), context);
+            case BYTES_VAL -> {
+                if (type instanceof BinaryTypeDefinition) {
+                    yield value.getBytesVal().toByteArray();
+                }
+                throw new GnmiCodecException(String.format("Bytes value can't be converted to type %s",
+                        type.getQName()));
+            }
+            default -> throw new GnmiCodecException(String.format("Value %s is not a scalar value",
+                    value.getValueCase()));
+        };
+    }
+
+    /**
+     * Converts string representation of value to the Java representation of its type.
+     *
+     * @param type type of the value
+     * @param value string representation of the value
+     * @param context schema context of the device
+     * @return value of the type
+     * @throws GnmiCodecException if the value can't be converted to the type
+     */
+    private static Object fromString(final TypeDefinition<?> type, final String value,
+            final EffectiveModelContext context) throws GnmiCodecException {
+        try {
+            return LeafValueParser.parse(type, value, context);
+        } catch (IllegalArgumentException e) {
+            throw new GnmiCodecException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.codecs;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.protobuf.ByteString;
+import gnmi.Gnmi;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.opendaylight.gnmi.commons.util.CodecCache;
+import org.opendaylight.gnmi.commons.util.DataConverter;
+import org.opendaylight.gnmi.southbound.schema.provider.SchemaContextProvider;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+
+/**
+ * Codec which transforms (YangInstanceIdentifier, NormalizedNode) to Gnmi.TypedValue without intermediate JSON
+ * string.
+ * <ul>
+ *     <li>Containers and list entries are streamed as RFC7951 JSON directly to json_ietf_val bytes. Outer object
+ *     holding name of container is dropped while writing.</li>
+ *     <li>Leaves are mapped by the Java representation of their value: integers to int_val/uint_val, boolean to
+ *     bool_val, decimal64 to decimal_val, string and enumeration to string_val, identityref to "module:identity"
+ *     string_val, binary to bytes_val and empty to json_ietf_val. Only bits and instance-identifier values are
+ *     encoded by their JSON codec, to string_val.</li>
+ * </ul>
+ */
+public class NormalizedNodeToTypedValueCodec implements
+        BiCodec<YangInstanceIdentifier, NormalizedNode, Gnmi.TypedValue> {
+
+    // RFC7951 representation of value of empty type
+    private static final ByteString EMPTY_JSON_VALUE = ByteString.copyFromUtf8("[null]");
+
+    private final SchemaContextProvider schemaContextProvider;
+
+    public NormalizedNodeToTypedValueCodec(final SchemaContextProvider schemaContextProvider) {
+        this.schemaContextProvider = schemaContextProvider;
+    }
+
+    @Override
+    public Gnmi.TypedValue apply(final YangInstanceIdentifier identifier, final NormalizedNode node)
+            throws GnmiCodecException {
+        final CodecCache codecCache = schemaContextProvider.getCodecCache();
+        if (node instanceof MapEntryNode || node instanceof ContainerNode) {
+            return Gnmi.TypedValue.newBuilder().setJsonIetfVal(toJsonBytes(identifier, node, codecCache)).build();
+        } else if (node instanceof LeafNode<?> leaf) {
+            return leafValue(identifier, leaf, codecCache);
+        }
+        throw new GnmiCodecException(String.format("Unsupported type of node %s", node));
+    }
+
+    private static Gnmi.TypedValue leafValue(final YangInstanceIdentifier identifier, final LeafNode<?> leaf,
+            final CodecCache codecCache) throws GnmiCodecException {
+        final Gnmi.TypedValue value = scalarValue(leaf.body(), codecCache.getContext());
+        if (value != null) {
+            return value;
+        }
+        // Bits and instance-identifier need schema to be formatted, their JSON codec is reused for that
+        final ByteString json = toJsonBytes(identifier, leaf, codecCache);
+        try (JsonReader reader = new JsonReader(new StringReader(json.toStringUtf8()))) {
+            if (reader.peek() == JsonToken.STRING) {
+                return Gnmi.TypedValue.newBuilder().setStringVal(reader.nextString()).build();
+            }
+        } catch (IOException e) {
+            throw new GnmiCodecException(String.format("Failed to read JSON value of leaf %s", leaf), e);
+        }
+        return Gnmi.TypedValue.newBuilder().setJsonIetfVal(json).build();
+    }
+
+    /**
+     * Maps value of leaf by its Java representation, which also covers values of union members. Returns null if
+     * the value has to be formatted by its schema type.
+     */
+    private static Gnmi.TypedValue scalarValue(final Object body, final EffectiveModelContext context)
+            throws GnmiCodecException {
+        final Gnmi.TypedValue.Builder builder = Gnmi.TypedValue.newBuilder();
+        switch (body) {
+            case Boolean bool -> builder.setBoolVal(bool);
+            // Values of string and enumeration types
+            case String string -> builder.setStringVal(string);
+            case Decimal64 decimal -> builder.setDecimalVal(Gnmi.Decimal64.newBuilder()
+                    .setDigits(decimal.unscaledValue())
+                    .setPrecision(decimal.scale()));
+            // uint64 is carried in bits of signed long, same as protobuf does
+            case Uint8 uint -> builder.setUintVal(uint.longValue());
+            case Uint16 uint -> builder.setUintVal(uint.longValue());
+            case Uint32 uint -> builder.setUintVal(uint.longValue());
+            case Uint64 uint -> builder.setUintVal(uint.longValue());
+            case Byte number -> builder.setIntVal(number);
+            case Short number -> builder.setIntVal(number);
+            case Integer number -> builder.setIntVal(number);
+            case Long number -> builder.setIntVal(number);
+            case QName identity -> builder.setStringVal(identityName(identity, context));
+            case byte[] bytes -> builder.setBytesVal(ByteString.copyFrom(bytes));
+            case Empty empty -> builder.setJsonIetfVal(EMPTY_JSON_VALUE);
+            default -> {
+                return null;
+            }
+        }
+        return builder.build();
+    }
+
+    private static String identityName(final QName identity, final EffectiveModelContext context)
+            throws GnmiCodecException {
+        final Optional<Module> module = context.findModule(identity.getModule());
+        if (module.isEmpty()) {
+            throw new GnmiCodecException(String.format("Unable to find module of identity %s", identity));
+        }
+        return module.orElseThrow().getName() + ":" + identity.getLocalName();
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private static ByteString toJsonBytes(final YangInstanceIdentifier identifier, final NormalizedNode node,
+            final CodecCache codecCache) throws GnmiCodecException {
+        final ByteString.Output output = ByteString.newOutput();
+        try (Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8)) {
+            DataConverter.writeJsonValue(identifier, node, codecCache, writer);
+        } catch (IOException | RuntimeException e) {
+            throw new GnmiCodecException(String.format("Failed to serialize node %s to JSON", node), e);
+        }
+        return output.toByteString();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.codecs;
+
+import gnmi.Gnmi;
+import org.opendaylight.gnmi.commons.util.SchemaPathIndex;
+import org.opendaylight.gnmi.southbound.schema.provider.SchemaContextProvider;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+/**
+ * Codec which transforms gNMI Path (e.g. received in SubscribeResponse) to YangInstanceIdentifier.
+ * Elements of the path are resolved by their names against the schema context of the device, including
+ * elements augmented from other modules and elements nested in choices. Values of list keys are converted
+ * to the types defined by the schema. Resolution is backed by {@link SchemaPathIndex} shared by all devices
+ * with the same schema context.
+ */
+public class PathToYangInstanceIdentifierCodec implements Codec<Gnmi.Path, YangInstanceIdentifier>,
+        BiCodec<Gnmi.Path, Gnmi.Path, YangInstanceIdentifier> {
+
+    private final SchemaContextProvider schemaContextProvider;
+
+    public PathToYangInstanceIdentifierCodec(final SchemaContextProvider schemaContextProvider) {
+        this.schemaContextProvider = schemaContextProvider;
+    }
+
+    @Override
+    public YangInstanceIdentifier apply(final Gnmi.Path path) throws GnmiCodecException {
+        return apply(Gnmi.Path.getDefaultInstance(), path);
+    }
+
+    /**
+     * Resolves path relative to prefix, e.g. prefix of gNMI Notification.
+     *
+     * @param prefix prefix of the path
+     * @param path   path relative to prefix
+     * @return identifier of the node addressed by prefix and path
+     * @throws GnmiCodecException if path does not match the schema
+     */
+    @Override
+    public YangInstanceIdentifier apply(final Gnmi.Path prefix, final Gnmi.Path path) throws GnmiCodecException {
+        try {
+            return SchemaPathIndex.forContext(schemaContextProvider.getSchemaContext()).resolve(prefix, path);
+        } catch (IllegalArgumentException e) {
+            throw new GnmiCodecException(e.getMessage(), e);
+        }
+    }
+}
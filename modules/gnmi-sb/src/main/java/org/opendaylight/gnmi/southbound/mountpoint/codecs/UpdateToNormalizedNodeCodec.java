@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.codecs;
+
+import com.google.gson.stream.JsonReader;
+import com.google.protobuf.ByteString;
+import gnmi.Gnmi;
+import gnmi.Gnmi.Update;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.opendaylight.gnmi.commons.util.CodecCache;
+import org.opendaylight.gnmi.commons.util.DataConverter;
+import org.opendaylight.gnmi.commons.util.JsonUtils;
+import org.opendaylight.gnmi.commons.util.WrappingJsonReader;
+import org.opendaylight.gnmi.southbound.schema.provider.SchemaContextProvider;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+
+/**
+ * Codec which transforms value of one (Gnmi.Update, YangInstanceIdentifier) to NormalizedNode.
+ * It is shared by decoding of Get responses and Subscribe responses.
+ */
+public class UpdateToNormalizedNodeCodec implements BiCodec<Gnmi.Update, YangInstanceIdentifier, NormalizedNode> {
+
+    private final SchemaContextProvider schemaContextProvider;
+
+    public UpdateToNormalizedNodeCodec(final SchemaContextProvider schemaContextProvider) {
+        this.schemaContextProvider = schemaContextProvider;
+    }
+
+    /**
+     * Apply codec, the result of transformation is NormalizedNode.
+     * It also works for cases when the value is rooted one level deeper than requested.
+     * ----Example:----
+     * Client requested : interfaces/interface=br0/config
+     * Device #1 response : "{"openconfig-interfaces:config":{data}}" - we are expecting this
+     * Device #2 response : "{data}" - in this case we need to do the wrapping so it becomes #1
+     * Scalar values (e.g. with PROTO encoding) are converted directly to the type of the leaf or leaf-list
+     * identified by identifier.
+     *
+     * @param update     update received from device.
+     * @param identifier yang identifier of the node, which is the value of the update.
+     * @return normalized node parsed from the update.
+     * @throws GnmiCodecException if parsing failed.
+     */
+    @Override
+    public NormalizedNode apply(final Update update, final YangInstanceIdentifier identifier)
+            throws GnmiCodecException {
+        return switch (update.getVal().getValueCase()) {
+            case JSON_VAL -> resolveJsonResponse(identifier, update.getVal().getJsonVal());
+            case JSON_IETF_VAL -> resolveJsonResponse(identifier, update.getVal().getJsonIetfVal());
+            case STRING_VAL, ASCII_VAL, UINT_VAL, INT_VAL, FLOAT_VAL, DECIMAL_VAL, BOOL_VAL, BYTES_VAL,
+                 LEAFLIST_VAL -> resolveScalarResponse(identifier, update.getVal());
+            default -> throw new GnmiCodecException(String.format("Unsupported response type %s of response %s",
+                    update.getVal().getValueCase(), update));
+        };
+    }
+
+    /**
+     * Builds leaf, leaf-list or leaf-list entry identified by identifier directly from scalar value.
+     */
+    @SuppressWarnings("IllegalCatch")
+    private NormalizedNode resolveScalarResponse(final YangInstanceIdentifier identifier,
+            final Gnmi.TypedValue value) throws GnmiCodecException {
+        final CodecCache codecCache = schemaContextProvider.getCodecCache();
+        final EffectiveModelContext context = codecCache.getContext();
+        final SchemaInferenceStack stack;
+        try {
+            stack = codecCache.inference(identifier).toSchemaInferenceStack();
+        } catch (RuntimeException e) {
+            throw new GnmiCodecException(String.format("Unable to find schema of %s", identifier), e);
+        }
+        final EffectiveStatement<?, ?> statement = stack.isEmpty() ? null : stack.currentStatement();
+        final PathArgument lastArgument = identifier.getLastPathArgument();
+        if (statement instanceof LeafSchemaNode && value.getValueCase() != Gnmi.TypedValue.ValueCase.LEAFLIST_VAL) {
+            return ImmutableNodes.leafNode(NodeIdentifier.create(lastArgument.getNodeType()),
+                    LeafValues.fromTypedValue(LeafValues.resolveType(stack), value, context));
+        }
+        if (statement instanceof LeafListSchemaNode leafList) {
+            final TypeDefinition<?> type = LeafValues.resolveType(stack);
+            if (lastArgument instanceof NodeWithValue<?>) {
+                return leafSetEntry(leafList.getQName(), LeafValues.fromTypedValue(type, value, context));
+            }
+            final List<LeafSetEntryNode<Object>> entries = new ArrayList<>();
+            if (value.getValueCase() == Gnmi.TypedValue.ValueCase.LEAFLIST_VAL) {
+                for (final Gnmi.TypedValue element : value.getLeaflistVal().getElementList()) {
+                    entries.add(leafSetEntry(leafList.getQName(), LeafValues.fromTypedValue(type, element, context)));
+                }
+            } else {
+                entries.add(leafSetEntry(leafList.getQName(), LeafValues.fromTypedValue(type, value, context)));
+            }
+            final NodeIdentifier leafListId = NodeIdentifier.create(leafList.getQName());
+            if (leafList.isUserOrdered()) {
+                final var builder = ImmutableNodes.newUserLeafSetBuilder().withNodeIdentifier(leafListId);
+                entries.forEach(builder::withChild);
+                return builder.build();
+            }
+            final var builder = ImmutableNodes.newSystemLeafSetBuilder().withNodeIdentifier(leafListId);
+            entries.forEach(builder::withChild);
+            return builder.build();
+        }
+        throw new GnmiCodecException(String.format("Scalar value %s can't be a value of %s",
+                value.getValueCase(), identifier));
+    }
+
+    private static LeafSetEntryNode<Object> leafSetEntry(final QName name, final Object value) {
+        return ImmutableNodes.newLeafSetEntryBuilder()
+                .withNodeIdentifier(new NodeWithValue<>(name, value))
+                .withValue(value)
+                .build();
+    }
+
+    /**
+     * Parses JSON payload in a single pass, directly from its bytes. If the payload is rooted deeper than
+     * requested, it is wrapped on the fly so it is rooted at the same level as identifier last path arg points to.
+     * Only the first element name of the payload is inspected to decide that. Very large payloads are parsed in
+     * parallel chunks.
+     */
+    @SuppressWarnings("IllegalCatch")
+    private NormalizedNode resolveJsonResponse(final YangInstanceIdentifier identifier, final ByteString payload)
+            throws GnmiCodecException {
+        final CodecCache codecCache = schemaContextProvider.getCodecCache();
+        final EffectiveModelContext context = codecCache.getContext();
+        final Reader reader = new InputStreamReader(payload.newInput(), StandardCharsets.UTF_8);
+        final JsonReader jsonReader;
+        if (identifier.isEmpty()) {
+            jsonReader = new JsonReader(reader);
+        } else {
+            final QName lastName = identifier.getLastPathArgument().getNodeType();
+            final Module moduleByQName = DataConverter.findModuleByQName(lastName, context)
+                    .orElseThrow(() -> new GnmiCodecException(
+                            String.format("Unable to find module of node %s", lastName)));
+            final String wrapWith = String.format("%s:%s", moduleByQName.getName(), lastName.getLocalName());
+            final String lastPathArgName = lastName.getLocalName();
+            // Don't consider model prefix, if present
+            final Predicate<String> rootedName = name -> name.substring(name.lastIndexOf(':') + 1)
+                    .contains(lastPathArgName);
+            if (identifier.getLastPathArgument() instanceof NodeIdentifierWithPredicates lastPathArgument) {
+                jsonReader = WrappingJsonReader.wrapWithArray(reader, wrapWith, rootedName,
+                        JsonUtils.jsonKeyValues(lastPathArgument, context));
+            } else {
+                jsonReader = WrappingJsonReader.wrapWithObject(reader, wrapWith, rootedName);
+            }
+        }
+        try {
+            return DataConverter.nodeFromJsonReader(identifier, jsonReader, codecCache, payload.size());
+        } catch (Exception e) {
+            throw new GnmiCodecException(String.format("Failed to deserialize json response of %s (%d bytes)",
+                    identifier, payload.size()), e);
+        }
+    }
+}
@@ -7,6 +7,9 @@
  */
 package org.opendaylight.gnmi.southbound.mountpoint.codecs;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
 import gnmi.Gnmi;
@@ -15,12 +18,22 @@ import java.util.Optional;
 import org.opendaylight.gnmi.southbound.schema.provider.SchemaContextProvider;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.Module;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Codec which transforms YangInstanceIdentifier to gNMI Path.
+ *
+ * <p>Resulting paths are immutable, so up to {@link #MAX_CACHED_PATHS} most recently used of them are cached by
+ * identifier and reused by subsequent requests. Cache is cleared when schema context of the device changes, since
+ * module prefix of the first element is resolved from it.</p>
+ */
 public class YangInstanceIdentifierToPathCodec implements Codec<YangInstanceIdentifier, Gnmi.Path> {
     private static final Logger LOG = LoggerFactory.getLogger(YangInstanceIdentifierToPathCodec.class);
+    @VisibleForTesting
+    static final int MAX_CACHED_PATHS = 1000;
 
     private final SchemaContextProvider schemaContextProvider;
     /**
@@ -29,14 +42,33 @@ public class YangInstanceIdentifierToPathCodec implements Codec<YangInstanceIden
      * This approach for example is required in SONIC device.
      */
     private final boolean prefixFirstElement;
+    private final Cache<YangInstanceIdentifier, Gnmi.Path> paths;
+    private volatile EffectiveModelContext cachedContext;
 
     public YangInstanceIdentifierToPathCodec(final SchemaContextProvider schemaContextProvider,
                                              final boolean prefixFirstElement) {
         this.schemaContextProvider = schemaContextProvider;
         this.prefixFirstElement = prefixFirstElement;
+        this.paths = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PATHS).build();
     }
 
+    @Override
     public Gnmi.Path apply(final YangInstanceIdentifier path) {
+        final EffectiveModelContext context = schemaContextProvider.getSchemaContext();
+        if (context != cachedContext) {
+            paths.invalidateAll();
+            cachedContext = context;
+        }
+        final Gnmi.Path cached = paths.getIfPresent(path);
+        if (cached != null) {
+            return cached;
+        }
+        final Gnmi.Path resultingPath = toPath(path, context);
+        paths.put(path, resultingPath);
+        return resultingPath;
+    }
+
+    private Gnmi.Path toPath(final YangInstanceIdentifier path, final EffectiveModelContext context) {
         final Gnmi.Path.Builder pathBuilder = Gnmi.Path.newBuilder();
         final PeekingIterator<YangInstanceIdentifier.PathArgument> iterator =
                 Iterators.peekingIterator(path.getPathArguments().iterator());
@@ -65,8 +97,8 @@ public class YangInstanceIdentifierToPathCodec implements Codec<YangInstanceIden
             final Gnmi.PathElem firstElement = pathBuilder.getElem(0);
             final QName nodeType = path.getPathArguments().get(0).getNodeType();
 
-            final Optional<Module> firstElemModule = schemaContextProvider
-                    .getSchemaContext().findModule(nodeType.getNamespace(), nodeType.getRevision());
+            final Optional<Module> firstElemModule = context.findModule(nodeType.getNamespace(),
+                    nodeType.getRevision());
             firstElemModule.ifPresent(module -> pathBuilder.setElem(0, firstElement.toBuilder()
                     .setName(String.format("%s:%s", module.getName(), firstElement.getName()))));
         }
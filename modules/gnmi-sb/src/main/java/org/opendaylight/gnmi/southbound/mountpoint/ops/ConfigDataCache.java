@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.gnmi.southbound.device.subscription.LastKnownValue;
+import org.opendaylight.gnmi.southbound.device.subscription.SubscriptionDataTree;
+import org.opendaylight.gnmi.southbound.device.subscription.SubscriptionNotification;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-through cache of configuration data of one device.
+ *
+ * <p>Each path read by CONFIG GetRequest is a root, read of a path is answered from the cache if the path is covered
+ * by a root loaded within the time to live. Successful SetRequests sent by this controller are applied to cached data
+ * overlapping their paths, the same way as device applies them, failed SetRequests drop overlapping roots. Changes
+ * made to the device by other clients are visible once the roots expire or the cache is flushed.</p>
+ *
+ * <p>Expired roots are dropped on every access of the cache. Number of roots is bounded, the oldest roots are dropped
+ * when a new root would exceed the bound.</p>
+ *
+ * <p>Every SetRequest and flush changes generation of the cache. Data read by GetRequest are cached only if
+ * the generation did not change since the read started, so data read before a change never overwrite it.</p>
+ */
+public class ConfigDataCache implements SetListener {
+
+    public static final int DEFAULT_MAX_ROOTS = 1000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigDataCache.class);
+
+    private final NodeId nodeId;
+    private final long ttlNanos;
+    private final int maxRoots;
+    private final EffectiveModelContext schemaContext;
+    // Roots of cached data and System.nanoTime() of their load
+    private final Map<YangInstanceIdentifier, Long> loadTimes = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private SubscriptionDataTree dataTree;
+    private long generation;
+
+    public ConfigDataCache(final NodeId nodeId, final Duration ttl, final EffectiveModelContext schemaContext) {
+        this(nodeId, ttl, schemaContext, DEFAULT_MAX_ROOTS);
+    }
+
+    public ConfigDataCache(final NodeId nodeId, final Duration ttl, final EffectiveModelContext schemaContext,
+            final int maxRoots) {
+        this.nodeId = nodeId;
+        this.ttlNanos = ttl.toNanos();
+        this.maxRoots = maxRoots;
+        this.schemaContext = schemaContext;
+        this.dataTree = new SubscriptionDataTree(schemaContext);
+    }
+
+    /**
+     * Reads data of the path from the cache.
+     *
+     * @param path path to read
+     * @return cached data with their age, empty if the path is not cached or the cached data expired
+     */
+    public synchronized Optional<LastKnownValue> read(final YangInstanceIdentifier path) {
+        final long now = System.nanoTime();
+        expire(now);
+        final OptionalLong loadTime = loadTime(path);
+        if (loadTime.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(new LastKnownValue(wrapListEntry(path, dataTree.read(path)),
+                Duration.ofNanos(now - loadTime.getAsLong())));
+    }
+
+    /**
+     * Returns current generation of the cache, which has to be passed to
+     * {@link #recordGetResponse(long, YangInstanceIdentifier, Optional)} once the read completes.
+     *
+     * @return current generation
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Stores data read from device by CONFIG GetRequest.
+     *
+     * @param readGeneration generation of the cache when the read started
+     * @param path read path
+     * @param data data returned by device
+     */
+    public synchronized void recordGetResponse(final long readGeneration, final YangInstanceIdentifier path,
+            final Optional<NormalizedNode> data) {
+        final long now = System.nanoTime();
+        expire(now);
+        if (readGeneration != generation) {
+            LOG.debug("[{}] Configuration of {} changed during read, not caching it", nodeId.getValue(), path);
+            return;
+        }
+        try {
+            dataTree.write(path, data);
+        } catch (DataValidationFailedException e) {
+            LOG.debug("[{}] Unable to cache data of path {}", nodeId.getValue(), path, e);
+            return;
+        }
+        // Nested roots are covered by the new one
+        loadTimes.keySet().removeIf(path::contains);
+        loadTimes.put(path, now);
+        evictOldest();
+    }
+
+    @Override
+    public synchronized void onSetStarted() {
+        generation++;
+    }
+
+    @Override
+    public synchronized void onSetCompleted(
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
+            final List<YangInstanceIdentifier> deleteList, final boolean applied) {
+        generation++;
+        // Expired roots are not patched
+        expire(System.nanoTime());
+        final List<YangInstanceIdentifier> paths = new ArrayList<>(deleteList);
+        replaceList.forEach(replace -> paths.add(replace.getLeft()));
+        updateList.forEach(update -> paths.add(update.getLeft()));
+        if (paths.stream().noneMatch(this::overlapsRoot)) {
+            return;
+        }
+        if (!applied) {
+            // Device may have applied part of the request
+            invalidate(paths);
+            return;
+        }
+        try {
+            // Deletes are processed before replaces and replaces before updates, as required by gNMI specification
+            final List<YangInstanceIdentifier> deletes = deleteList.stream().filter(this::overlapsRoot).toList();
+            if (!deletes.isEmpty()) {
+                dataTree.delete(deletes);
+            }
+            for (final ImmutablePair<YangInstanceIdentifier, NormalizedNode> replace : replaceList) {
+                if (overlapsRoot(replace.getLeft())) {
+                    dataTree.write(replace.getLeft(), Optional.of(replace.getRight()));
+                }
+            }
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updates = updateList.stream()
+                    .filter(update -> overlapsRoot(update.getLeft()))
+                    .toList();
+            if (!updates.isEmpty()) {
+                dataTree.apply(new SubscriptionNotification(0, updates, List.of()));
+            }
+        } catch (DataValidationFailedException | IllegalArgumentException e) {
+            LOG.debug("[{}] Unable to apply SetRequest to cached configuration", nodeId.getValue(), e);
+            invalidate(paths);
+        }
+    }
+
+    /**
+     * Drops all cached data.
+     */
+    public synchronized void flush() {
+        generation++;
+        invalidations.add(loadTimes.size());
+        loadTimes.clear();
+        dataTree = new SubscriptionDataTree(schemaContext);
+        LOG.debug("[{}] Configuration cache flushed", nodeId.getValue());
+    }
+
+    public NodeId getNodeId() {
+        return nodeId;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns number of roots dropped because of failed SetRequests and flushes.
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    /**
+     * Returns number of cached roots, including expired roots not dropped yet.
+     */
+    public synchronized int getRootCount() {
+        return loadTimes.size();
+    }
+
+    private void invalidate(final List<YangInstanceIdentifier> paths) {
+        final List<YangInstanceIdentifier> dropped = loadTimes.keySet().stream()
+                .filter(root -> paths.stream().anyMatch(path -> overlaps(root, path)))
+                .toList();
+        invalidations.add(dropped.size());
+        removeRoots(dropped);
+    }
+
+    private void expire(final long now) {
+        removeRoots(loadTimes.entrySet().stream()
+                .filter(entry -> now - entry.getValue() > ttlNanos)
+                .map(Map.Entry::getKey)
+                .toList());
+    }
+
+    private void evictOldest() {
+        if (loadTimes.size() <= maxRoots) {
+            return;
+        }
+        final List<YangInstanceIdentifier> oldest = loadTimes.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .limit(loadTimes.size() - maxRoots)
+                .map(Map.Entry::getKey)
+                .toList();
+        LOG.debug("[{}] Configuration cache is full, dropping roots {}", nodeId.getValue(), oldest);
+        removeRoots(oldest);
+    }
+
+    private void removeRoots(final List<YangInstanceIdentifier> roots) {
+        if (roots.isEmpty()) {
+            return;
+        }
+        roots.forEach(loadTimes::remove);
+        if (loadTimes.isEmpty()) {
+            dataTree = new SubscriptionDataTree(schemaContext);
+            return;
+        }
+        // Data of removed roots are dropped, unless they are still covered by other roots
+        final List<YangInstanceIdentifier> uncovered = roots.stream()
+                .filter(root -> loadTime(root).isEmpty())
+                .toList();
+        // Roots nested in dropped data lose their data as well
+        loadTimes.keySet().removeIf(root -> uncovered.stream().anyMatch(dropped -> dropped.contains(root)));
+        try {
+            dataTree.delete(uncovered);
+        } catch (DataValidationFailedException e) {
+            LOG.debug("[{}] Unable to drop cached configuration, dropping whole cache", nodeId.getValue(), e);
+            loadTimes.clear();
+            dataTree = new SubscriptionDataTree(schemaContext);
+        }
+    }
+
+    private boolean overlapsRoot(final YangInstanceIdentifier path) {
+        return loadTimes.keySet().stream().anyMatch(root -> overlaps(root, path));
+    }
+
+    private static boolean overlaps(final YangInstanceIdentifier first, final YangInstanceIdentifier second) {
+        return first.contains(second) || second.contains(first);
+    }
+
+    private OptionalLong loadTime(final YangInstanceIdentifier path) {
+        return loadTimes.entrySet().stream()
+                .filter(entry -> entry.getKey().contains(path))
+                .mapToLong(Map.Entry::getValue)
+                .max();
+    }
+
+    /*
+     List entry is returned as list containing the single entry, the same way as it is read from device.
+     */
+    private static Optional<NormalizedNode> wrapListEntry(final YangInstanceIdentifier path,
+            final Optional<NormalizedNode> data) {
+        if (data.orElse(null) instanceof MapEntryNode entry
+                && path.getLastPathArgument() instanceof NodeIdentifierWithPredicates entryId) {
+            return Optional.of(ImmutableNodes.newSystemMapBuilder()
+                    .withNodeIdentifier(NodeIdentifier.create(entryId.getNodeType()))
+                    .withChild(entry)
+                    .build());
+        }
+        return data;
+    }
+}
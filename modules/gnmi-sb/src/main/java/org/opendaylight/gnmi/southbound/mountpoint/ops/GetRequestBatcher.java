@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import gnmi.Gnmi;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.gnmi.southbound.device.session.provider.GnmiSessionProvider;
+import org.opendaylight.gnmi.southbound.mountpoint.requests.GnmiGetRequestFactory;
+import org.opendaylight.gnmi.southbound.mountpoint.requests.GnmiRequestException;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Gathers reads of one device into GetRequests with multiple paths.
+ *
+ * <p>Reads of the same data type arriving within the batch window are sent together in one GetRequest, or sooner
+ * when the batch holds the maximal number of paths. Reads of the same path share one path of the request. Read
+ * of a path overlapping with a path already in the batch starts a new batch, so each update of the response belongs
+ * to exactly one read. The response is split back to the reads by paths of its updates.</p>
+ *
+ * <p>Devices fail whole GetRequest if any of its paths can not be read, so when the batched request fails, or its
+ * response contains updates which can not be attributed to any read, reads without updates are sent separately.
+ * Reads matching updates which match other reads as well, are sent separately too.</p>
+ */
+final class GetRequestBatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(GetRequestBatcher.class);
+
+    /**
+     * Decodes response of a single read.
+     */
+    @FunctionalInterface
+    interface ResponseHandler {
+        void handle(Gnmi.GetResponse response, YangInstanceIdentifier path,
+                    SettableFuture<Optional<NormalizedNode>> ret);
+    }
+
+    /**
+     * Sends a single read in its own GetRequest, already built for the path.
+     */
+    @FunctionalInterface
+    interface SingleReader {
+        ListenableFuture<Optional<NormalizedNode>> read(Gnmi.GetRequest.DataType dataType,
+                                                        YangInstanceIdentifier path, Gnmi.GetRequest request);
+    }
+
+    private final NodeId nodeId;
+    private final GnmiSessionProvider sessionProvider;
+    private final GnmiGetRequestFactory requestFactory;
+    private final int maxPaths;
+    private final Executor delayedExecutor;
+    private final ResponseHandler responseHandler;
+    private final SingleReader singleReader;
+    private final Map<Gnmi.GetRequest.DataType, Batch> batches = new EnumMap<>(Gnmi.GetRequest.DataType.class);
+    private final LongAdder batchedRequestCount = new LongAdder();
+    private final LongAdder batchedReadCount = new LongAdder();
+    private final LongAdder separatedReadCount = new LongAdder();
+
+    GetRequestBatcher(final NodeId nodeId, final GnmiSessionProvider sessionProvider,
+                      final GnmiGetRequestFactory requestFactory, final Duration window, final int maxPaths,
+                      final ResponseHandler responseHandler, final SingleReader singleReader) {
+        this.nodeId = nodeId;
+        this.sessionProvider = sessionProvider;
+        this.requestFactory = requestFactory;
+        this.maxPaths = maxPaths;
+        this.delayedExecutor = CompletableFuture.delayedExecutor(window.toMillis(), TimeUnit.MILLISECONDS);
+        this.responseHandler = responseHandler;
+        this.singleReader = singleReader;
+    }
+
+    ListenableFuture<Optional<NormalizedNode>> read(final Gnmi.GetRequest.DataType dataType,
+                                                    final YangInstanceIdentifier path) {
+        final Gnmi.GetRequest request;
+        try {
+            request = requestFactory.newRequest(path, dataType);
+        } catch (GnmiRequestException ex) {
+            LOG.warn("[{}] Can't make gNMI GET request", nodeId.getValue(), ex);
+            return Futures.immediateFailedFuture(ex);
+        }
+        return read(dataType, path, request);
+    }
+
+    /**
+     * Adds read of the path to the batch of its data type.
+     *
+     * @param dataType data type of the read
+     * @param path path to read
+     * @param request GetRequest of the single path, sent as it is if the read ends up alone
+     * @return data of the path
+     */
+    ListenableFuture<Optional<NormalizedNode>> read(final Gnmi.GetRequest.DataType dataType,
+                                                    final YangInstanceIdentifier path,
+                                                    final Gnmi.GetRequest request) {
+        final List<Batch> full = new ArrayList<>(2);
+        final SettableFuture<Optional<NormalizedNode>> result;
+        synchronized (this) {
+            Batch batch = batches.get(dataType);
+            if (batch != null && batch.overlaps(path)) {
+                batches.remove(dataType);
+                full.add(batch);
+                batch = null;
+            }
+            if (batch == null) {
+                final Batch created = new Batch(dataType, request);
+                batches.put(dataType, created);
+                CompletableFuture.runAsync(() -> onWindowElapsed(created), delayedExecutor);
+                batch = created;
+            }
+            result = batch.add(path, request);
+            if (batch.reads.size() >= maxPaths) {
+                batches.remove(dataType);
+                full.add(batch);
+            }
+        }
+        full.forEach(this::send);
+        return Futures.nonCancellationPropagating(result);
+    }
+
+    private void onWindowElapsed(final Batch batch) {
+        synchronized (this) {
+            if (batches.get(batch.dataType) != batch) {
+                // Already sent, because it was full
+                return;
+            }
+            batches.remove(batch.dataType);
+        }
+        send(batch);
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private void send(final Batch batch) {
+        if (batch.reads.size() == 1) {
+            sendSingle(batch.dataType, batch.reads.values().iterator().next());
+            return;
+        }
+
+        final Gnmi.GetRequest.Builder requestBuilder = batch.template.toBuilder().clearPath();
+        batch.reads.values().forEach(read -> requestBuilder.addPath(read.gnmiPath));
+        final Gnmi.GetRequest request = requestBuilder.build();
+        batchedRequestCount.increment();
+        batchedReadCount.add(batch.reads.size());
+        LOG.debug("[{}] Sending batched gNMI GetRequest:\n{}", nodeId.getValue(), request);
+        final ListenableFuture<Gnmi.GetResponse> responseFuture;
+        try {
+            responseFuture = sessionProvider.getGnmiSession().get(request);
+        } catch (RuntimeException e) {
+            // Batch may be sent by thread of the window, which would lose the exception
+            LOG.warn("[{}] Failed to send batched gNMI GetRequest", nodeId.getValue(), e);
+            batch.reads.values().forEach(read -> read.result.setException(e));
+            return;
+        }
+        Futures.addCallback(responseFuture, new FutureCallback<>() {
+            @Override
+            public void onSuccess(final Gnmi.GetResponse response) {
+                split(batch, response);
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                LOG.debug("[{}] Batched gNMI GetRequest failed, sending its {} paths separately",
+                        nodeId.getValue(), batch.reads.size(), throwable);
+                batch.reads.values().forEach(read -> sendSeparately(batch.dataType, read));
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void split(final Batch batch, final Gnmi.GetResponse response) {
+        final Map<PendingRead, Gnmi.GetResponse.Builder> responses = new LinkedHashMap<>();
+        // Reads matching updates, which match other reads too, e.g. updates without keys of a list
+        final Set<PendingRead> ambiguous = new HashSet<>();
+        boolean unattributed = false;
+        for (final Gnmi.Notification notification : response.getNotificationList()) {
+            final Map<PendingRead, Gnmi.Notification.Builder> notifications = new LinkedHashMap<>();
+            for (final Gnmi.Update update : notification.getUpdateList()) {
+                final List<PendingRead> reads = findReads(batch, notification.getPrefix(), update.getPath());
+                if (reads.isEmpty()) {
+                    unattributed = true;
+                } else if (reads.size() > 1) {
+                    ambiguous.addAll(reads);
+                } else {
+                    notifications.computeIfAbsent(reads.get(0), unused -> notification.toBuilder().clearUpdate()
+                            .clearDelete()).addUpdate(update);
+                }
+            }
+            notifications.forEach((read, builder) -> responses
+                    .computeIfAbsent(read, unused -> Gnmi.GetResponse.newBuilder())
+                    .addNotification(builder));
+        }
+
+        for (final PendingRead read : batch.reads.values()) {
+            final Gnmi.GetResponse.Builder builder = responses.get(read);
+            if (ambiguous.contains(read)) {
+                // Response does not tell, which of the reads the data belong to
+                sendSeparately(batch.dataType, read);
+            } else if (builder != null) {
+                handle(builder.build(), read);
+            } else if (unattributed) {
+                // Data of the read may be among updates with unexpected paths
+                sendSeparately(batch.dataType, read);
+            } else {
+                read.result.set(Optional.empty());
+            }
+        }
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private void handle(final Gnmi.GetResponse response, final PendingRead read) {
+        try {
+            responseHandler.handle(response, read.path, read.result);
+        } catch (RuntimeException e) {
+            LOG.warn("[{}] Failed to decode response of path {}", nodeId.getValue(), read.path, e);
+            read.result.setException(e);
+        }
+    }
+
+    private void sendSeparately(final Gnmi.GetRequest.DataType dataType, final PendingRead read) {
+        separatedReadCount.increment();
+        sendSingle(dataType, read);
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private void sendSingle(final Gnmi.GetRequest.DataType dataType, final PendingRead read) {
+        try {
+            read.result.setFuture(singleReader.read(dataType, read.path, read.request));
+        } catch (RuntimeException e) {
+            LOG.warn("[{}] Failed to send gNMI GetRequest of path {}", nodeId.getValue(), read.path, e);
+            read.result.setException(e);
+        }
+    }
+
+    private static List<PendingRead> findReads(final Batch batch, final Gnmi.Path prefix, final Gnmi.Path path) {
+        final List<Gnmi.PathElem> elems = new ArrayList<>(prefix.getElemCount() + path.getElemCount());
+        elems.addAll(prefix.getElemList());
+        elems.addAll(path.getElemList());
+        final List<PendingRead> found = new ArrayList<>(1);
+        for (final PendingRead read : batch.reads.values()) {
+            if (startsWith(elems, read.gnmiPath.getElemList())) {
+                found.add(read);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Checks whether path of an update lies at or under requested path. Module names are ignored, because devices
+     * may answer without them, and path elements without keys match any keys.
+     */
+    @VisibleForTesting
+    static boolean startsWith(final List<Gnmi.PathElem> updatePath, final List<Gnmi.PathElem> requestedPath) {
+        if (updatePath.size() < requestedPath.size()) {
+            return false;
+        }
+        for (int i = 0; i < requestedPath.size(); i++) {
+            final Gnmi.PathElem updateElem = updatePath.get(i);
+            final Gnmi.PathElem requestedElem = requestedPath.get(i);
+            if (!localName(updateElem.getName()).equals(localName(requestedElem.getName()))) {
+                return false;
+            }
+            if (updateElem.getKeyCount() > 0 && requestedElem.getKeyCount() > 0
+                    && !updateElem.getKeyMap().equals(requestedElem.getKeyMap())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String localName(final String name) {
+        return name.substring(name.indexOf(':') + 1);
+    }
+
+    /**
+     * Returns number of GetRequests sent with multiple paths.
+     */
+    public long getBatchedRequestCount() {
+        return batchedRequestCount.sum();
+    }
+
+    /**
+     * Returns number of paths sent in GetRequests with multiple paths.
+     */
+    public long getBatchedReadCount() {
+        return batchedReadCount.sum();
+    }
+
+    /**
+     * Returns number of paths sent separately after their batched GetRequest failed or was not attributable.
+     */
+    public long getSeparatedReadCount() {
+        return separatedReadCount.sum();
+    }
+
+    private static final class Batch {
+        private final Gnmi.GetRequest.DataType dataType;
+        private final Gnmi.GetRequest template;
+        private final Map<YangInstanceIdentifier, PendingRead> reads = new LinkedHashMap<>();
+
+        Batch(final Gnmi.GetRequest.DataType dataType, final Gnmi.GetRequest template) {
+            this.dataType = dataType;
+            this.template = template;
+        }
+
+        boolean overlaps(final YangInstanceIdentifier path) {
+            for (final YangInstanceIdentifier batched : reads.keySet()) {
+                if (!batched.equals(path) && (batched.contains(path) || path.contains(batched))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        SettableFuture<Optional<NormalizedNode>> add(final YangInstanceIdentifier path,
+                                                     final Gnmi.GetRequest request) {
+            return reads.computeIfAbsent(path, unused -> new PendingRead(path, request)).result;
+        }
+    }
+
+    private static final class PendingRead {
+        private final YangInstanceIdentifier path;
+        private final Gnmi.GetRequest request;
+        private final Gnmi.Path gnmiPath;
+        private final SettableFuture<Optional<NormalizedNode>> result = SettableFuture.create();
+
+        PendingRead(final YangInstanceIdentifier path, final Gnmi.GetRequest request) {
+            this.path = path;
+            this.request = request;
+            this.gnmiPath = request.getPath(0);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Executor of decoding of gNMI GetResponses, shared by all devices, so large responses are not decoded on the
+ * gRPC thread which delivered them and which is shared by other devices.
+ *
+ * <p>Responses smaller than the inline threshold are decoded directly on the delivering thread, larger ones are
+ * decoded by dedicated platform threads or by virtual threads. Number of responses waiting for decoding or being
+ * decoded is bounded, decoding of responses over the bound is rejected. Results of responses still waiting for
+ * decoding are failed when the decoder is closed, decoding of responses delivered later is rejected.</p>
+ */
+public final class GetResponseDecoder implements AutoCloseable {
+    public static final int DEFAULT_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    public static final int DEFAULT_INLINE_THRESHOLD = 64 * 1024;
+
+    private static final GetResponseDecoder INLINE = new GetResponseDecoder(null, 0, Integer.MAX_VALUE);
+
+    private final @Nullable ExecutorService executorService;
+    private final Semaphore permits;
+    private final int inlineThreshold;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder inlineCount = new LongAdder();
+    private final LongAdder offloadedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder offloadedDecodeNanos = new LongAdder();
+
+    private GetResponseDecoder(final @Nullable ExecutorService executorService, final int maxPending,
+            final int inlineThreshold) {
+        this.executorService = executorService;
+        this.permits = new Semaphore(maxPending);
+        this.inlineThreshold = inlineThreshold;
+    }
+
+    /**
+     * Returns decoder which decodes all responses on the thread which delivered them.
+     *
+     * @return shared inline decoder
+     */
+    public static GetResponseDecoder inline() {
+        return INLINE;
+    }
+
+    /**
+     * Creates decoder with dedicated threads.
+     *
+     * @param threads number of platform threads, ignored if virtual threads are used
+     * @param queueCapacity maximal number of responses waiting for decoding
+     * @param virtualThreads whether responses are decoded by virtual threads
+     * @param inlineThreshold serialized size of response in bytes, from which it is not decoded inline
+     * @return decoder, which has to be closed
+     */
+    public static GetResponseDecoder create(final int threads, final int queueCapacity, final boolean virtualThreads,
+            final int inlineThreshold) {
+        if (virtualThreads) {
+            return new GetResponseDecoder(Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("gnmi-get-decoder-", 0).factory()), queueCapacity, inlineThreshold);
+        }
+        // Queue of the pool is bounded by permits
+        return new GetResponseDecoder(Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("gnmi-get-decoder-%d")
+                .setDaemon(true)
+                .build()), threads + queueCapacity, inlineThreshold);
+    }
+
+    /**
+     * Returns executor which decodes response of given size. Decoding submitted to the executor, which did not start
+     * before the decoder is closed, is never run and its result is failed instead.
+     *
+     * @param responseSize serialized size of the response in bytes
+     * @param result result completed by decodings submitted to the executor
+     * @return direct executor for small responses, executor of this decoder otherwise, which throws
+     *     {@link RejectedExecutionException} if too many responses are pending or the decoder is closed
+     */
+    public Executor executorFor(final long responseSize, final SettableFuture<?> result) {
+        if (executorService == null || responseSize < inlineThreshold) {
+            inlineCount.increment();
+            return MoreExecutors.directExecutor();
+        }
+        return decoding -> submit(decoding, result);
+    }
+
+    /**
+     * Decodes response of given size. Its result is failed if the decoder is closed before the decoding started.
+     *
+     * @param responseSize serialized size of the response in bytes
+     * @param decoding decoding of the response, which completes the result
+     * @param result result of the decoding
+     * @throws RejectedExecutionException if too many responses are pending or the decoder is closed
+     */
+    public void decode(final long responseSize, final Runnable decoding, final SettableFuture<?> result) {
+        executorFor(responseSize, result).execute(decoding);
+    }
+
+    private void submit(final Runnable decoding, final SettableFuture<?> result) {
+        if (!permits.tryAcquire()) {
+            rejectedCount.increment();
+            throw new RejectedExecutionException(String.format("Decoding of GetResponse rejected, %d responses "
+                    + "are waiting for decoding", queueDepth.get()));
+        }
+        queueDepth.incrementAndGet();
+        try {
+            executorService.execute(new OffloadedDecoding(decoding, result));
+        } catch (RejectedExecutionException e) {
+            queueDepth.decrementAndGet();
+            permits.release();
+            rejectedCount.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns number of responses waiting for a decoding thread.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns number of responses decoded on the thread which delivered them.
+     */
+    public long getInlineCount() {
+        return inlineCount.sum();
+    }
+
+    /**
+     * Returns number of responses decoded by threads of this decoder.
+     */
+    public long getOffloadedCount() {
+        return offloadedCount.sum();
+    }
+
+    /**
+     * Returns number of responses, which were not decoded, because too many responses were pending.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Returns total time spent by decoding of responses by threads of this decoder.
+     */
+    public Duration getOffloadedDecodeTime() {
+        return Duration.ofNanos(offloadedDecodeNanos.sum());
+    }
+
+    @Override
+    public void close() {
+        if (executorService != null) {
+            // Decodings which did not start are never run, their results would never complete otherwise
+            for (final Runnable notStarted : executorService.shutdownNow()) {
+                if (notStarted instanceof OffloadedDecoding offloaded) {
+                    offloaded.reject();
+                }
+            }
+        }
+    }
+
+    private final class OffloadedDecoding implements Runnable {
+        private final Runnable decoding;
+        private final SettableFuture<?> result;
+
+        OffloadedDecoding(final Runnable decoding, final SettableFuture<?> result) {
+            this.decoding = decoding;
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            queueDepth.decrementAndGet();
+            final long start = System.nanoTime();
+            try {
+                decoding.run();
+            } finally {
+                offloadedDecodeNanos.add(System.nanoTime() - start);
+                offloadedCount.increment();
+                permits.release();
+            }
+        }
+
+        void reject() {
+            queueDepth.decrementAndGet();
+            permits.release();
+            rejectedCount.increment();
+            result.setException(new RejectedExecutionException("Decoder of GetResponses was closed"));
+        }
+    }
+}
@@ -15,8 +15,19 @@ import com.google.common.util.concurrent.SettableFuture;
 import gnmi.Gnmi;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.gnmi.southbound.device.session.provider.GnmiSessionProvider;
+import org.opendaylight.gnmi.southbound.device.subscription.LastKnownValue;
+import org.opendaylight.gnmi.southbound.device.subscription.LastKnownValueStore;
 import org.opendaylight.gnmi.southbound.mountpoint.codecs.BiCodec;
 import org.opendaylight.gnmi.southbound.mountpoint.codecs.GnmiCodecException;
 import org.opendaylight.gnmi.southbound.mountpoint.requests.GnmiGetRequestFactory;
@@ -30,7 +41,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Provides gNMI GET operation.
  */
-public class GnmiGet {
+public class GnmiGet implements SetListener {
     private static final Logger LOG = LoggerFactory.getLogger(GnmiGet.class);
 
     private final BiCodec<Gnmi.GetResponse, YangInstanceIdentifier,
@@ -38,73 +49,266 @@ public class GnmiGet {
     private final GnmiSessionProvider sessionProvider;
     private final GnmiGetRequestFactory getRequestFactory;
     private final NodeId nodeId;
+    private final @Nullable LastKnownValueStore stateCache;
+    private final GetResponseDecoder responseDecoder;
+    private final @Nullable GetRequestBatcher requestBatcher;
+    private final @Nullable ConfigDataCache configCache;
+    private final Map<ReadKey, ListenableFuture<Optional<NormalizedNode>>> inFlightReads = new ConcurrentHashMap<>();
+    private final LongAdder joinedReadCount = new LongAdder();
 
     public GnmiGet(final GnmiSessionProvider sessionProvider, final NodeId nodeId,
                    final BiCodec<Gnmi.GetResponse, YangInstanceIdentifier,
                            Optional<NormalizedNode>> getResponseNormalizedNodeCodec,
                    final GnmiGetRequestFactory gnmiGetRequestFactory) {
+        this(sessionProvider, nodeId, getResponseNormalizedNodeCodec, gnmiGetRequestFactory, null);
+    }
+
+    public GnmiGet(final GnmiSessionProvider sessionProvider, final NodeId nodeId,
+                   final BiCodec<Gnmi.GetResponse, YangInstanceIdentifier,
+                           Optional<NormalizedNode>> getResponseNormalizedNodeCodec,
+                   final GnmiGetRequestFactory gnmiGetRequestFactory,
+                   final @Nullable LastKnownValueStore stateCache) {
+        this(sessionProvider, nodeId, getResponseNormalizedNodeCodec, gnmiGetRequestFactory, stateCache,
+                GetResponseDecoder.inline());
+    }
+
+    public GnmiGet(final GnmiSessionProvider sessionProvider, final NodeId nodeId,
+                   final BiCodec<Gnmi.GetResponse, YangInstanceIdentifier,
+                           Optional<NormalizedNode>> getResponseNormalizedNodeCodec,
+                   final GnmiGetRequestFactory gnmiGetRequestFactory,
+                   final @Nullable LastKnownValueStore stateCache,
+                   final GetResponseDecoder responseDecoder) {
+        this(sessionProvider, nodeId, getResponseNormalizedNodeCodec, gnmiGetRequestFactory, stateCache,
+                responseDecoder, null, 0, null);
+    }
+
+    /**
+     * Creates GET operation, which gathers reads into GetRequests with multiple paths if batch window is set.
+     *
+     * @param batchWindow window in which reads of the same data type are sent together, or null to send every read
+     *     in its own GetRequest
+     * @param maxBatchPaths maximal number of paths in one GetRequest
+     * @param configCache cache of configuration data, or null to send every configuration read to the device
+     */
+    public GnmiGet(final GnmiSessionProvider sessionProvider, final NodeId nodeId,
+                   final BiCodec<Gnmi.GetResponse, YangInstanceIdentifier,
+                           Optional<NormalizedNode>> getResponseNormalizedNodeCodec,
+                   final GnmiGetRequestFactory gnmiGetRequestFactory,
+                   final @Nullable LastKnownValueStore stateCache,
+                   final GetResponseDecoder responseDecoder,
+                   final @Nullable Duration batchWindow, final int maxBatchPaths,
+                   final @Nullable ConfigDataCache configCache) {
         this.sessionProvider = sessionProvider;
         this.nodeId = nodeId;
         this.getResponseToNormalizedNodeCodec = getResponseNormalizedNodeCodec;
         this.getRequestFactory = gnmiGetRequestFactory;
+        this.stateCache = stateCache;
+        this.responseDecoder = responseDecoder;
+        this.requestBatcher = batchWindow == null ? null : new GetRequestBatcher(nodeId, sessionProvider,
+                gnmiGetRequestFactory, batchWindow, maxBatchPaths, this::decodeResponse, this::readSingle);
+        this.configCache = configCache;
     }
 
     public ListenableFuture<Optional<NormalizedNode>> readOperationalData(final YangInstanceIdentifier path) {
-        return readData(Gnmi.GetRequest.DataType.STATE, path);
+        if (stateCache == null) {
+            return readData(Gnmi.GetRequest.DataType.STATE, path);
+        }
+        return Futures.transform(readLastKnownValue(path), LastKnownValue::data, MoreExecutors.directExecutor());
     }
 
+    /**
+     * Reads operational data together with their age. Data are answered from last-known-value cache of the device
+     * if it is enabled and holds data of the path which are not stale, otherwise they are read from the device.
+     *
+     * @param path path to read
+     * @return data of the path and their age
+     */
+    public ListenableFuture<LastKnownValue> readLastKnownValue(final YangInstanceIdentifier path) {
+        if (stateCache != null) {
+            final Optional<LastKnownValue> cached = stateCache.read(path);
+            if (cached.isPresent()) {
+                LOG.debug("[{}] Answering read of {} from cache, age of data is {}", nodeId.getValue(), path,
+                        cached.orElseThrow().age());
+                return Futures.immediateFuture(cached.orElseThrow());
+            }
+        }
+        final ListenableFuture<Optional<NormalizedNode>> readFuture = readData(Gnmi.GetRequest.DataType.STATE, path);
+        return Futures.transform(readFuture, data -> {
+            if (stateCache != null) {
+                stateCache.recordGetResponse(path, data);
+            }
+            return new LastKnownValue(data, Duration.ZERO);
+        }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Reads configuration data. Data are answered from configuration cache of the device if it is enabled and holds
+     * data of the path, otherwise they are read from the device.
+     *
+     * @param path path to read
+     * @return data of the path
+     */
     public ListenableFuture<Optional<NormalizedNode>> readConfigurationData(final YangInstanceIdentifier path) {
-        return readData(Gnmi.GetRequest.DataType.CONFIG, path);
+        if (configCache == null) {
+            return readData(Gnmi.GetRequest.DataType.CONFIG, path);
+        }
+        final Optional<LastKnownValue> cached = configCache.read(path);
+        if (cached.isPresent()) {
+            LOG.debug("[{}] Answering configuration read of {} from cache, age of data is {}", nodeId.getValue(),
+                    path, cached.orElseThrow().age());
+            return Futures.immediateFuture(cached.orElseThrow().data());
+        }
+        final long generation = configCache.generation();
+        return Futures.transform(readData(Gnmi.GetRequest.DataType.CONFIG, path), data -> {
+            configCache.recordGetResponse(generation, path, data);
+            return data;
+        }, MoreExecutors.directExecutor());
     }
 
+    /**
+     * Reads data of the path from the device. Read of the same path and the same GetRequest as a read in flight
+     * is not sent again, it is completed together with the read in flight. GetRequest holds all parameters of the
+     * read, such as data type, encoding and target, so reads are shared only when the device would be asked
+     * the same.
+     *
+     * @param dataType data type of the read
+     * @param path path to read
+     * @return data of the path
+     */
+    @SuppressWarnings("IllegalCatch")
     public ListenableFuture<Optional<NormalizedNode>> readData(final Gnmi.GetRequest.DataType dataType,
                                                                      final YangInstanceIdentifier path) {
-        final SettableFuture<Optional<NormalizedNode>> ret = SettableFuture.create();
+        final ReadKey key;
         try {
-            final Gnmi.GetRequest request = getRequestFactory.newRequest(path, dataType);
-            LOG.debug("[{}] Sending gNMI GetRequest:\n{}", nodeId.getValue(), request);
-            final ListenableFuture<Gnmi.GetResponse> getResponseFuture = sessionProvider.getGnmiSession().get(request);
-
-            Futures.addCallback(getResponseFuture, new FutureCallback<>() {
-                @Override
-                public void onSuccess(Gnmi.GetResponse getResponse) {
-                    try {
-                        LOG.debug("[{}] Got gNMI GetResponse:\n{}", nodeId.getValue(), getResponse);
-                        final Optional<NormalizedNode> optNormalizedNode = getResponseToNormalizedNodeCodec
-                                .apply(getResponse, path);
-                        LOG.debug("[{}] Parsed Normalized nodes from gNMI GetResponse:\n{}", nodeId.getValue(),
-                                optNormalizedNode.isPresent()
-                                ? optNormalizedNode.orElseThrow() : "NONE");
-                        ret.set(optNormalizedNode);
-                    } catch (GnmiCodecException ex) {
-                        LOG.warn("[{}] Can't convert gNMI getResponse {} to normalized nodes", nodeId.getValue(),
-                                getResponse);
-                        ret.setException(ex);
-                    }
-                }
+            key = new ReadKey(path, getRequestFactory.newRequest(path, dataType));
+        } catch (GnmiRequestException | RuntimeException e) {
+            LOG.warn("[{}] Can't make gNMI GET request", nodeId.getValue(), e);
+            return Futures.immediateFailedFuture(e);
+        }
+        final SettableFuture<Optional<NormalizedNode>> read = SettableFuture.create();
+        final ListenableFuture<Optional<NormalizedNode>> inFlight = inFlightReads.putIfAbsent(key, read);
+        if (inFlight != null) {
+            LOG.debug("[{}] Joining {} read of {} in flight", nodeId.getValue(), dataType, path);
+            joinedReadCount.increment();
+            return Futures.nonCancellationPropagating(inFlight);
+        }
+        read.addListener(() -> inFlightReads.remove(key, read), MoreExecutors.directExecutor());
+        try {
+            read.setFuture(sendRead(dataType, path, key.request()));
+        } catch (RuntimeException e) {
+            // Read is already in flight, reads joining it would never complete otherwise
+            LOG.warn("[{}] Failed to send {} read of {}", nodeId.getValue(), dataType, path, e);
+            read.setException(e);
+        }
+        return Futures.nonCancellationPropagating(read);
+    }
+
+    private ListenableFuture<Optional<NormalizedNode>> sendRead(final Gnmi.GetRequest.DataType dataType,
+                                                                final YangInstanceIdentifier path,
+                                                                final Gnmi.GetRequest request) {
+        if (requestBatcher != null) {
+            return requestBatcher.read(dataType, path, request);
+        }
+        return readSingle(dataType, path, request);
+    }
+
+    private ListenableFuture<Optional<NormalizedNode>> readSingle(final Gnmi.GetRequest.DataType dataType,
+                                                                  final YangInstanceIdentifier path,
+                                                                  final Gnmi.GetRequest request) {
+        final SettableFuture<Optional<NormalizedNode>> ret = SettableFuture.create();
+        LOG.debug("[{}] Sending gNMI GetRequest:\n{}", nodeId.getValue(), request);
+        final ListenableFuture<Gnmi.GetResponse> getResponseFuture = sessionProvider.getGnmiSession().get(request);
 
-                @Override
-                public void onFailure(Throwable throwable) {
-                    if (throwable instanceof StatusRuntimeException) {
-                        final StatusRuntimeException grpcException = (StatusRuntimeException) throwable;
-                        // Status.NOT_FOUND could mean that STATE/CONFIG data was not found on path
-                        if (grpcException.getStatus().getCode().toStatus() == Status.NOT_FOUND) {
-                            ret.set(Optional.empty());
-                        } else {
-                            ret.setException(grpcException);
-                        }
+        Futures.addCallback(getResponseFuture, new FutureCallback<>() {
+            @Override
+            public void onSuccess(Gnmi.GetResponse getResponse) {
+                decodeResponse(getResponse, path, ret);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                if (throwable instanceof StatusRuntimeException) {
+                    final StatusRuntimeException grpcException = (StatusRuntimeException) throwable;
+                    // Status.NOT_FOUND could mean that STATE/CONFIG data was not found on path
+                    if (grpcException.getStatus().getCode().toStatus() == Status.NOT_FOUND) {
+                        ret.set(Optional.empty());
+                    } else {
+                        ret.setException(grpcException);
                     }
-                    ret.setException(throwable);
                 }
-            }, MoreExecutors.directExecutor());
-        } catch (GnmiRequestException ex) {
-            LOG.warn("[{}] Can't make gNMI GET request", nodeId.getValue(), ex);
+                ret.setException(throwable);
+            }
+        }, MoreExecutors.directExecutor());
+        return ret;
+    }
+
+    private void decodeResponse(final Gnmi.GetResponse getResponse, final YangInstanceIdentifier path,
+                                final SettableFuture<Optional<NormalizedNode>> ret) {
+        // Large responses are decoded off the gRPC thread which delivered them
+        try {
+            responseDecoder.decode(getResponse.getSerializedSize(), () -> decode(getResponse, path, ret), ret);
+        } catch (RejectedExecutionException ex) {
+            LOG.warn("[{}] Can't decode gNMI GetResponse of {}", nodeId.getValue(), path, ex);
+            ret.setException(ex);
+        }
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private void decode(final Gnmi.GetResponse getResponse, final YangInstanceIdentifier path,
+                        final SettableFuture<Optional<NormalizedNode>> ret) {
+        try {
+            LOG.debug("[{}] Got gNMI GetResponse:\n{}", nodeId.getValue(), getResponse);
+            final Optional<NormalizedNode> optNormalizedNode = getResponseToNormalizedNodeCodec
+                    .apply(getResponse, path);
+            LOG.debug("[{}] Parsed Normalized nodes from gNMI GetResponse:\n{}", nodeId.getValue(),
+                    optNormalizedNode.isPresent()
+                    ? optNormalizedNode.orElseThrow() : "NONE");
+            ret.set(optNormalizedNode);
+        } catch (GnmiCodecException | RuntimeException ex) {
+            // Decoding may run on thread of the decoder, nobody else would complete the result
+            LOG.warn("[{}] Can't convert gNMI getResponse {} to normalized nodes", nodeId.getValue(),
+                    getResponse, ex);
             ret.setException(ex);
         }
-        return ret;
     }
 
     public NodeId getNodeId() {
         return nodeId;
     }
+
+    /**
+     * Returns number of reads, which were completed together with identical read in flight instead of being sent.
+     */
+    public long getJoinedReadCount() {
+        return joinedReadCount.sum();
+    }
+
+    /**
+     * Reads of paths touched by a SetRequest, which are started after the SetRequest completed, must not
+     * be answered by reads sent before it.
+     */
+    @Override
+    public void onSetCompleted(final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
+                               final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
+                               final List<YangInstanceIdentifier> deleteList, final boolean applied) {
+        final List<YangInstanceIdentifier> touched = new ArrayList<>(
+                replaceList.size() + updateList.size() + deleteList.size());
+        replaceList.forEach(edit -> touched.add(edit.getLeft()));
+        updateList.forEach(edit -> touched.add(edit.getLeft()));
+        touched.addAll(deleteList);
+        inFlightReads.keySet().removeIf(key -> overlapsAny(key.path(), touched));
+    }
+
+    private static boolean overlapsAny(final YangInstanceIdentifier path,
+                                       final List<YangInstanceIdentifier> touched) {
+        for (final YangInstanceIdentifier touchedPath : touched) {
+            if (path.contains(touchedPath) || touchedPath.contains(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record ReadKey(YangInstanceIdentifier path, Gnmi.GetRequest request) {
+    }
 }
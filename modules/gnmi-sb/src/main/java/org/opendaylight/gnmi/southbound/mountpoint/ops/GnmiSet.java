@@ -17,7 +17,6 @@ import java.util.List;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.gnmi.southbound.device.session.provider.GnmiSessionProvider;
-import org.opendaylight.gnmi.southbound.mountpoint.requests.GnmiRequestException;
 import org.opendaylight.gnmi.southbound.mountpoint.requests.SetRequestFactory;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
@@ -29,53 +28,88 @@ import org.slf4j.LoggerFactory;
 /**
  * Provides gNMI SET operation.
  */
-public class GnmiSet {
+public class GnmiSet implements SetOperation {
 
     private static final Logger LOG = LoggerFactory.getLogger(GnmiSet.class);
     private final GnmiSessionProvider sessionProvider;
     private final SetRequestFactory setRequestFactory;
     private final NodeId nodeId;
+    private final List<SetListener> listeners;
 
     public GnmiSet(final GnmiSessionProvider sessionProvider,
                    final SetRequestFactory gnmiSetRequestFactory,
                    final NodeId nodeId) {
+        this(sessionProvider, gnmiSetRequestFactory, nodeId, List.of());
+    }
+
+    public GnmiSet(final GnmiSessionProvider sessionProvider,
+                   final SetRequestFactory gnmiSetRequestFactory,
+                   final NodeId nodeId,
+                   final List<SetListener> listeners) {
         this.sessionProvider = sessionProvider;
         this.setRequestFactory = gnmiSetRequestFactory;
         this.nodeId = nodeId;
-
+        this.listeners = List.copyOf(listeners);
     }
 
+    @Override
     public ListenableFuture<CommitInfo> set(
             final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
             final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
             final List<YangInstanceIdentifier> deleteList) {
 
         final SettableFuture<CommitInfo> ret = SettableFuture.create();
-        try {
-            final Gnmi.SetRequest request = setRequestFactory.newRequest(replaceList, updateList, deleteList);
-            LOG.debug("[{}] Sending gNMI SetRequest:\n{}", nodeId.getValue(), request);
-            final ListenableFuture<Gnmi.SetResponse> setResponseFuture = sessionProvider.getGnmiSession().set(request);
-            Futures.addCallback(setResponseFuture, new FutureCallback<>() {
+        // Request may be built by threads converting its updates, it is sent by the thread which completes it
+        Futures.addCallback(setRequestFactory.newRequest(replaceList, updateList, deleteList),
+            new FutureCallback<>() {
                 @Override
-                public void onSuccess(Gnmi.@Nullable SetResponse setResponse) {
-                    LOG.debug("[{}] SetResponse: {}", nodeId.getValue(), setResponse);
-                    ret.set(CommitInfo.empty());
+                public void onSuccess(final Gnmi.SetRequest request) {
+                    send(request, replaceList, updateList, deleteList, ret);
                 }
 
                 @Override
-                public void onFailure(Throwable throwable) {
-                    LOG.error("[{}] Gnmi.SET to device failed!", nodeId.getValue());
+                public void onFailure(final Throwable throwable) {
+                    LOG.warn("[{}] Can't make gNMI SET request", nodeId.getValue(), throwable);
                     ret.setException(throwable);
                 }
             }, MoreExecutors.directExecutor());
+        return ret;
+    }
 
-
-        } catch (GnmiRequestException ex) {
-            LOG.warn("[{}] Can't make gNMI SET request", nodeId.getValue(), ex);
-            ret.setException(ex);
+    @SuppressWarnings("IllegalCatch")
+    private void send(final Gnmi.SetRequest request,
+                      final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
+                      final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
+                      final List<YangInstanceIdentifier> deleteList,
+                      final SettableFuture<CommitInfo> ret) {
+        LOG.debug("[{}] Sending gNMI SetRequest:\n{}", nodeId.getValue(), request);
+        listeners.forEach(SetListener::onSetStarted);
+        final ListenableFuture<Gnmi.SetResponse> setResponseFuture;
+        try {
+            setResponseFuture = sessionProvider.getGnmiSession().set(request);
+        } catch (RuntimeException e) {
+            // Request may be sent by thread converting its updates, which would lose the exception
+            LOG.warn("[{}] Failed to send gNMI SetRequest", nodeId.getValue(), e);
+            listeners.forEach(listener -> listener.onSetCompleted(replaceList, updateList, deleteList, false));
+            ret.setException(e);
+            return;
         }
-        return ret;
+        Futures.addCallback(setResponseFuture, new FutureCallback<>() {
+            @Override
+            public void onSuccess(Gnmi.@Nullable SetResponse setResponse) {
+                LOG.debug("[{}] SetResponse: {}", nodeId.getValue(), setResponse);
+                listeners.forEach(listener -> listener.onSetCompleted(replaceList, updateList, deleteList, true));
+                ret.set(CommitInfo.empty());
+            }
 
+            @Override
+            public void onFailure(Throwable throwable) {
+                LOG.error("[{}] Gnmi.SET to device failed!", nodeId.getValue());
+                listeners.forEach(listener -> listener.onSetCompleted(replaceList, updateList, deleteList,
+                        false));
+                ret.setException(throwable);
+            }
+        }, MoreExecutors.directExecutor());
     }
 
     public NodeId getNodeId() {
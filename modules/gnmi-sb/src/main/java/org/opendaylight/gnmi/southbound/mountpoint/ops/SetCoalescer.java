@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Folds back-to-back committed transactions into one SetRequest.
+ *
+ * <p>Transactions are gathered in the order of their commits for the coalesce window, or until the previous
+ * SetRequest is answered, whichever comes later. Only one SetRequest is in flight at a time, so gathered transactions
+ * reach the device in the order of their commits. Commit futures of all gathered transactions are completed with
+ * the outcome of their shared SetRequest.</p>
+ *
+ * <p>Device applies deletes of a SetRequest before replaces and replaces before updates. A transaction is therefore
+ * not gathered together with earlier transactions, if that would move its deletes or replaces in front of earlier
+ * edits of overlapping paths. Such transaction starts the next SetRequest instead.</p>
+ *
+ * <p>Later transactions may depend on the earlier ones, so once a SetRequest fails, transactions gathered after it
+ * and all transactions committed later fail without being sent.</p>
+ *
+ * <p>Batches waiting for the answer of the previous SetRequest or for the end of their window are sent on
+ * the provided executor, not on the gRPC thread delivering the answer or on the timer thread.</p>
+ */
+public class SetCoalescer implements SetOperation {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SetCoalescer.class);
+
+    private final NodeId nodeId;
+    private final SetOperation delegate;
+    private final int maxTransactions;
+    private final Executor executor;
+    private final Executor delayedExecutor;
+    // Batches which can not accept more transactions, in order of their commits
+    private final Deque<Batch> closedBatches = new ArrayDeque<>();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder transactionCount = new LongAdder();
+    private Batch openBatch;
+    private boolean inFlight;
+    // Whether a thread is sending batches in sendNext()
+    private boolean sending;
+    private Throwable failure;
+
+    public SetCoalescer(final NodeId nodeId, final SetOperation delegate, final Duration window,
+                        final int maxTransactions) {
+        this(nodeId, delegate, window, maxTransactions, MoreExecutors.directExecutor());
+    }
+
+    public SetCoalescer(final NodeId nodeId, final SetOperation delegate, final Duration window,
+                        final int maxTransactions, final Executor executor) {
+        this.nodeId = nodeId;
+        this.delegate = delegate;
+        this.maxTransactions = maxTransactions;
+        this.executor = executor;
+        this.delayedExecutor = window.isZero() ? null
+                : CompletableFuture.delayedExecutor(window.toMillis(), TimeUnit.MILLISECONDS, executor);
+    }
+
+    @Override
+    public ListenableFuture<CommitInfo> set(
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
+            final List<YangInstanceIdentifier> deleteList) {
+        final SettableFuture<CommitInfo> ret = SettableFuture.create();
+        synchronized (this) {
+            if (failure != null) {
+                return Futures.immediateFailedFuture(previousFailed(failure));
+            }
+            if (openBatch != null && !openBatch.accepts(replaceList, deleteList)) {
+                closeOpenBatch();
+            }
+            if (openBatch == null) {
+                final Batch created = new Batch();
+                if (delayedExecutor == null) {
+                    created.windowElapsed = true;
+                } else {
+                    CompletableFuture.runAsync(() -> onWindowElapsed(created), delayedExecutor);
+                }
+                openBatch = created;
+            }
+            openBatch.add(replaceList, updateList, deleteList, ret);
+            if (openBatch.results.size() >= maxTransactions) {
+                closeOpenBatch();
+            }
+        }
+        sendNext();
+        return ret;
+    }
+
+    /**
+     * Returns number of SetRequests sent.
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Returns number of transactions sent, ratio to {@link #getRequestCount()} shows how many transactions
+     * are folded into one SetRequest.
+     */
+    public long getTransactionCount() {
+        return transactionCount.sum();
+    }
+
+    private void onWindowElapsed(final Batch batch) {
+        synchronized (this) {
+            batch.windowElapsed = true;
+        }
+        sendNext();
+    }
+
+    private void closeOpenBatch() {
+        closedBatches.add(openBatch);
+        openBatch = null;
+    }
+
+    /*
+     SetRequests answered immediately complete within delegate.set(), so they are sent in a loop instead of recursing
+     from their listeners. Only one thread sends at a time, others leave sending of their batches to it.
+     */
+    private void sendNext() {
+        synchronized (this) {
+            if (sending) {
+                return;
+            }
+            sending = true;
+        }
+        while (true) {
+            final Batch batch;
+            synchronized (this) {
+                if (inFlight) {
+                    batch = null;
+                } else if (!closedBatches.isEmpty()) {
+                    batch = closedBatches.poll();
+                } else if (openBatch != null && openBatch.windowElapsed) {
+                    batch = openBatch;
+                    openBatch = null;
+                } else {
+                    batch = null;
+                }
+                if (batch == null) {
+                    sending = false;
+                    return;
+                }
+                inFlight = true;
+            }
+            send(batch);
+        }
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private void send(final Batch batch) {
+        requestCount.increment();
+        transactionCount.add(batch.results.size());
+        LOG.debug("[{}] Sending {} transactions in one SetRequest", nodeId.getValue(), batch.results.size());
+        ListenableFuture<CommitInfo> sent;
+        try {
+            sent = delegate.set(batch.replaceList, batch.updateList, batch.deleteList);
+        } catch (RuntimeException e) {
+            // SetRequest is already in flight, transactions committed after it would never be sent otherwise
+            LOG.warn("[{}] Failed to send SetRequest", nodeId.getValue(), e);
+            sent = Futures.immediateFailedFuture(e);
+        }
+        final ListenableFuture<CommitInfo> result = sent;
+        result.addListener(() -> {
+            final Throwable cause = failureOf(result);
+            final List<Batch> aborted = new ArrayList<>();
+            if (cause != null) {
+                // Fail first, so transactions committed by listeners of the failed ones are not gathered
+                synchronized (this) {
+                    failure = cause;
+                    aborted.addAll(closedBatches);
+                    closedBatches.clear();
+                    if (openBatch != null) {
+                        aborted.add(openBatch);
+                        openBatch = null;
+                    }
+                }
+            }
+            batch.results.forEach(ret -> ret.setFuture(result));
+            synchronized (this) {
+                inFlight = false;
+            }
+            if (cause != null) {
+                LOG.debug("[{}] SetRequest failed, failing {} transactions committed after it", nodeId.getValue(),
+                        aborted.stream().mapToInt(abortedBatch -> abortedBatch.results.size()).sum());
+                aborted.forEach(abortedBatch -> abortedBatch.results
+                        .forEach(ret -> ret.setException(previousFailed(cause))));
+            }
+            executor.execute(this::sendNext);
+        }, MoreExecutors.directExecutor());
+    }
+
+    private static @Nullable Throwable failureOf(final ListenableFuture<?> future) {
+        try {
+            Futures.getDone(future);
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (CancellationException e) {
+            return e;
+        }
+    }
+
+    private static TransactionCommitFailedException previousFailed(final Throwable cause) {
+        return new TransactionCommitFailedException("Previously committed transaction failed", cause);
+    }
+
+    private static boolean overlaps(final YangInstanceIdentifier first, final YangInstanceIdentifier second) {
+        return first.contains(second) || second.contains(first);
+    }
+
+    private static final class Batch {
+        private final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList = new ArrayList<>();
+        private final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList = new ArrayList<>();
+        private final List<YangInstanceIdentifier> deleteList = new ArrayList<>();
+        private final List<SettableFuture<CommitInfo>> results = new ArrayList<>();
+        private boolean windowElapsed;
+
+        /*
+         Deletes of later transaction must not overlap earlier replaces and updates, replaces of later
+         transaction must not overlap earlier updates, otherwise the device would apply them in wrong order.
+         */
+        boolean accepts(final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaces,
+                        final List<YangInstanceIdentifier> deletes) {
+            for (final YangInstanceIdentifier delete : deletes) {
+                if (overlapsAny(delete, replaceList) || overlapsAny(delete, updateList)) {
+                    return false;
+                }
+            }
+            for (final ImmutablePair<YangInstanceIdentifier, NormalizedNode> replace : replaces) {
+                if (overlapsAny(replace.getLeft(), updateList)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void add(final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaces,
+                 final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updates,
+                 final List<YangInstanceIdentifier> deletes, final SettableFuture<CommitInfo> result) {
+            replaceList.addAll(replaces);
+            updateList.addAll(updates);
+            deleteList.addAll(deletes);
+            results.add(result);
+        }
+
+        private static boolean overlapsAny(final YangInstanceIdentifier path,
+                                           final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> edits) {
+            for (final ImmutablePair<YangInstanceIdentifier, NormalizedNode> edit : edits) {
+                if (overlaps(path, edit.getLeft())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import java.util.List;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Listener of SetRequests sent to device by {@link GnmiSet}.
+ */
+public interface SetListener {
+
+    /**
+     * Invoked before SetRequest is sent to device.
+     */
+    default void onSetStarted() {
+        // Nothing by default
+    }
+
+    /**
+     * Invoked once device answered SetRequest.
+     *
+     * @param replaceList replaced nodes together with their identifiers
+     * @param updateList merged nodes together with their identifiers
+     * @param deleteList identifiers of deleted nodes
+     * @param applied whether the device applied the request
+     */
+    void onSetCompleted(List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
+                        List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
+                        List<YangInstanceIdentifier> deleteList, boolean applied);
+}
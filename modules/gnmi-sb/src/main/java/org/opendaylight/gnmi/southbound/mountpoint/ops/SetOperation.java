@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Applies edits of a committed transaction to device.
+ */
+@FunctionalInterface
+public interface SetOperation {
+
+    /**
+     * Sends edits of a transaction to device.
+     *
+     * @param replaceList replaced nodes together with their identifiers
+     * @param updateList merged nodes together with their identifiers
+     * @param deleteList identifiers of deleted nodes
+     * @return future completed once device answered
+     */
+    ListenableFuture<CommitInfo> set(List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
+                                     List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
+                                     List<YangInstanceIdentifier> deleteList);
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends SetRequests of one device strictly one after another, in the order they were submitted.
+ *
+ * <p>Concurrent unary Set RPCs may be processed by device in any order, so the next SetRequest is sent only once
+ * the previous one was answered. Submitters do not wait for that, they get a future completed once their
+ * SetRequest is answered.</p>
+ *
+ * <p>Number of SetRequests waiting for the previous one is bounded, SetRequests submitted to the full queue fail
+ * without being sent.</p>
+ *
+ * <p>Answer of a SetRequest is delivered on a gRPC thread. Building and sending of the next SetRequest is handed
+ * over to the provided executor, so encoding of its data does not hold that thread.</p>
+ */
+public class SetSequencer implements SetOperation {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SetSequencer.class);
+    public static final int DEFAULT_MAX_QUEUE_DEPTH = 1000;
+
+    private final SetOperation delegate;
+    private final int maxQueueDepth;
+    private final Executor executor;
+    private final Deque<PendingSet> queue = new ArrayDeque<>();
+    private boolean inFlight;
+    // Whether a thread is sending SetRequests in sendNext()
+    private boolean sending;
+
+    public SetSequencer(final SetOperation delegate) {
+        this(delegate, DEFAULT_MAX_QUEUE_DEPTH);
+    }
+
+    public SetSequencer(final SetOperation delegate, final int maxQueueDepth) {
+        this(delegate, maxQueueDepth, MoreExecutors.directExecutor());
+    }
+
+    public SetSequencer(final SetOperation delegate, final int maxQueueDepth, final Executor executor) {
+        this.delegate = delegate;
+        this.maxQueueDepth = maxQueueDepth;
+        this.executor = executor;
+    }
+
+    @Override
+    public ListenableFuture<CommitInfo> set(
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
+            final List<YangInstanceIdentifier> deleteList) {
+        final PendingSet pending = new PendingSet(replaceList, updateList, deleteList, SettableFuture.create());
+        synchronized (this) {
+            if (queue.size() >= maxQueueDepth) {
+                return Futures.immediateFailedFuture(new TransactionCommitFailedException(
+                        "Too many SetRequests are waiting for device, limit is " + maxQueueDepth));
+            }
+            queue.add(pending);
+        }
+        sendNext();
+        return pending.result();
+    }
+
+    /**
+     * Returns number of SetRequests waiting for previous SetRequest to be answered.
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    /*
+     SetRequests answered immediately complete within delegate.set(), so they are sent in a loop instead of recursing
+     from their listeners. Only one thread sends at a time, others leave sending of their SetRequests to it.
+     */
+    private void sendNext() {
+        synchronized (this) {
+            if (sending) {
+                return;
+            }
+            sending = true;
+        }
+        while (true) {
+            final PendingSet pending;
+            synchronized (this) {
+                if (inFlight || queue.isEmpty()) {
+                    sending = false;
+                    return;
+                }
+                pending = queue.poll();
+                inFlight = true;
+            }
+            send(pending);
+        }
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private void send(final PendingSet pending) {
+        ListenableFuture<CommitInfo> result;
+        try {
+            result = delegate.set(pending.replaceList(), pending.updateList(), pending.deleteList());
+        } catch (RuntimeException e) {
+            // SetRequest is already in flight, SetRequests queued after it would never be sent otherwise
+            LOG.warn("Failed to send SetRequest", e);
+            result = Futures.immediateFailedFuture(e);
+        }
+        final ListenableFuture<CommitInfo> sent = result;
+        sent.addListener(() -> {
+            pending.result().setFuture(sent);
+            synchronized (this) {
+                inFlight = false;
+            }
+            executor.execute(this::sendNext);
+        }, MoreExecutors.directExecutor());
+    }
+
+    private record PendingSet(List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
+                              List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
+                              List<YangInstanceIdentifier> deleteList, SettableFuture<CommitInfo> result) {
+    }
+}
@@ -7,63 +7,119 @@
  */
 package org.opendaylight.gnmi.southbound.mountpoint.requests;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import gnmi.Gnmi;
 import gnmi.Gnmi.Encoding;
 import gnmi.Gnmi.GetRequest;
 import gnmi.Gnmi.GetRequest.Builder;
 import gnmi.Gnmi.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.gnmi.southbound.device.connection.ConfigurableParameters;
 import org.opendaylight.gnmi.southbound.device.connection.DeviceConnection;
 import org.opendaylight.gnmi.southbound.mountpoint.codecs.Codec;
 import org.opendaylight.gnmi.southbound.mountpoint.codecs.GnmiCodecException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.connection.parameters.extensions.parameters.GnmiParameters;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 /**
  * gNMI GET Request provider with specific DataType.
  * This Provider builds them that way.
+ *
+ * <p>Parameters of the device are fixed for the lifetime of its connection, so request without path is prebuilt
+ * once per data type as a template, and up to {@link #MAX_CACHED_REQUESTS} most recently used complete requests
+ * are cached by identifier and data type. Steady-state reads of the same identifiers build no new messages.
+ * Templates and requests are cleared when schema context of the device changes, since paths of cached requests
+ * were converted with the previous one.</p>
  */
 public class GnmiGetRequestFactoryImpl implements GnmiGetRequestFactory {
+    @VisibleForTesting
+    static final int MAX_CACHED_REQUESTS = 1000;
 
     private final DeviceConnection deviceConnection;
     private final Codec<YangInstanceIdentifier, Gnmi.Path> instanceIdentifierToPathCodec;
+    private final Map<Gnmi.GetRequest.DataType, GetRequest> templates;
+    private final Cache<RequestKey, GetRequest> requests;
+    private volatile EffectiveModelContext cachedContext;
 
     public GnmiGetRequestFactoryImpl(
             final DeviceConnection deviceConnection,
             final Codec<YangInstanceIdentifier, Path> instanceIdentifierToPathCodec) {
         this.deviceConnection = deviceConnection;
         this.instanceIdentifierToPathCodec = instanceIdentifierToPathCodec;
+        this.templates = new ConcurrentHashMap<>();
+        this.requests = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_REQUESTS).build();
     }
 
     @Override
     public Gnmi.GetRequest newRequest(final YangInstanceIdentifier path, final Gnmi.GetRequest.DataType datastoreType)
             throws GnmiRequestException {
+        final EffectiveModelContext context = deviceConnection.getSchemaContext();
+        if (context != cachedContext) {
+            requests.invalidateAll();
+            templates.clear();
+            cachedContext = context;
+        }
+        final RequestKey key = new RequestKey(path, datastoreType);
+        final GetRequest cached = requests.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            final Builder requestBuilder = GetRequest.newBuilder();
-            final ConfigurableParameters parameters = deviceConnection.getConfigurableParameters();
-            final Optional<GnmiParameters.OverwriteDataType> overwriteDataType =
-                parameters.getOverwriteDataType();
-            if (overwriteDataType.isEmpty()) {
-                requestBuilder.setType(datastoreType);
-            } else if (overwriteDataType.orElseThrow() != GnmiParameters.OverwriteDataType.NONE) {
-                requestBuilder.setType(Gnmi.GetRequest.DataType
-                    .valueOf(overwriteDataType.orElseThrow().getName()));
-            }
-            final Optional<String> optPathTarget = parameters.getPathTarget();
-            optPathTarget.ifPresent(pathTarget -> requestBuilder.setPrefix(Path.newBuilder().setTarget(pathTarget)));
-
-            final Optional<List<Gnmi.ModelData>> optModelDataList = parameters.getModelDataList();
-            optModelDataList.ifPresent(requestBuilder::addAllUseModels);
-
             final Gnmi.Path gnmiPath = instanceIdentifierToPathCodec.apply(path);
-            return requestBuilder
-                    .setEncoding(Encoding.JSON_IETF)
-                    .addPath(gnmiPath).build();
+            final GetRequest request = templates.computeIfAbsent(datastoreType, this::newTemplate).toBuilder()
+                    .addPath(gnmiPath)
+                    .build();
+            requests.put(key, request);
+            return request;
         } catch (GnmiCodecException e) {
             throw new GnmiRequestException(String.format("Cannot convert YangInstanceIdentifier %s to gNMI.Path", path),
                     e);
         }
     }
+
+    /**
+     * Builds request with all parameters of the device, but without path.
+     */
+    private GetRequest newTemplate(final Gnmi.GetRequest.DataType datastoreType) {
+        final Builder requestBuilder = GetRequest.newBuilder();
+        final ConfigurableParameters parameters = deviceConnection.getConfigurableParameters();
+        final Optional<GnmiParameters.OverwriteDataType> overwriteDataType =
+            parameters.getOverwriteDataType();
+        if (overwriteDataType.isEmpty()) {
+            requestBuilder.setType(datastoreType);
+        } else if (overwriteDataType.orElseThrow() != GnmiParameters.OverwriteDataType.NONE) {
+            requestBuilder.setType(Gnmi.GetRequest.DataType
+                .valueOf(overwriteDataType.orElseThrow().getName()));
+        }
+        final Optional<String> optPathTarget = parameters.getPathTarget();
+        optPathTarget.ifPresent(pathTarget -> requestBuilder.setPrefix(Path.newBuilder().setTarget(pathTarget)));
+
+        final Optional<List<Gnmi.ModelData>> optModelDataList = parameters.getModelDataList();
+        optModelDataList.ifPresent(requestBuilder::addAllUseModels);
+
+        return requestBuilder
+                .setEncoding(resolveEncoding(parameters))
+                .build();
+    }
+
+    /**
+     * PROTO encoding is used only if it is preferred for the device and the device supports it, responses
+     * are then decoded from scalar values. JSON_IETF is used otherwise, it is required from all devices.
+     */
+    private Encoding resolveEncoding(final ConfigurableParameters parameters) {
+        if (parameters.getPreferProtoEncoding().orElse(false)
+                && deviceConnection.getSupportedEncodings().contains(Encoding.PROTO)) {
+            return Encoding.PROTO;
+        }
+        return Encoding.JSON_IETF;
+    }
+
+    private record RequestKey(YangInstanceIdentifier path, Gnmi.GetRequest.DataType datastoreType) {
+    }
 }
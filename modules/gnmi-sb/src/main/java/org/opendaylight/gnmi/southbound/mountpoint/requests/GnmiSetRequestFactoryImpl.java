@@ -7,134 +7,121 @@
  */
 package org.opendaylight.gnmi.southbound.mountpoint.requests;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import gnmi.Gnmi;
-import gnmi.Gnmi.SetRequest.Builder;
-import gnmi.Gnmi.Update;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
 import org.opendaylight.gnmi.southbound.mountpoint.codecs.BiCodec;
 import org.opendaylight.gnmi.southbound.mountpoint.codecs.Codec;
 import org.opendaylight.gnmi.southbound.mountpoint.codecs.GnmiCodecException;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class GnmiSetRequestFactoryImpl implements SetRequestFactory {
+    public static final String PARALLEL_UPDATES_THRESHOLD_PROPERTY =
+        "org.opendaylight.gnmi.parallel-updates-threshold";
 
     private static final String FAILED_TO_CONVERT =
         "Failed to convert YangInstanceIdentifier %s and NormalizedNode %s to Gnmi.Update";
-    private static final Logger LOG = LoggerFactory.getLogger(GnmiSetRequestFactoryImpl.class);
+    /**
+     * Minimal number of replaced or updated nodes of one request, which are converted in parallel, configured
+     * by system property {@value #PARALLEL_UPDATES_THRESHOLD_PROPERTY}.
+     */
+    @VisibleForTesting
+    static final int PARALLEL_UPDATES_THRESHOLD = Integer.getInteger(PARALLEL_UPDATES_THRESHOLD_PROPERTY, 64);
 
     private final Codec<YangInstanceIdentifier, Gnmi.Path> instanceIdentifierToPathCodec;
     private final BiCodec<YangInstanceIdentifier, NormalizedNode, Gnmi.Update> updateCodec;
+    private final Executor parallelExecutor;
 
     public GnmiSetRequestFactoryImpl(
             final Codec<YangInstanceIdentifier, Gnmi.Path> instanceIdentifierToPathCodec,
             final BiCodec<YangInstanceIdentifier, NormalizedNode, Gnmi.Update> updateCodec) {
+        this(instanceIdentifierToPathCodec, updateCodec, ParallelCodecExecutor.sequential());
+    }
+
+    /**
+     * Creates factory of SetRequests.
+     *
+     * @param instanceIdentifierToPathCodec codec of deleted paths
+     * @param updateCodec codec of replaced and updated data
+     * @param parallelExecutor executor converting large number of updates, owned by the caller
+     */
+    public GnmiSetRequestFactoryImpl(
+            final Codec<YangInstanceIdentifier, Gnmi.Path> instanceIdentifierToPathCodec,
+            final BiCodec<YangInstanceIdentifier, NormalizedNode, Gnmi.Update> updateCodec,
+            final Executor parallelExecutor) {
         this.instanceIdentifierToPathCodec = instanceIdentifierToPathCodec;
         this.updateCodec = updateCodec;
+        this.parallelExecutor = parallelExecutor;
     }
 
     @Override
-    public Gnmi.SetRequest newRequest(
+    public ListenableFuture<Gnmi.SetRequest> newRequest(
             final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
             final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
-            final List<YangInstanceIdentifier> deleteList) throws GnmiRequestException {
+            final List<YangInstanceIdentifier> deleteList) {
 
-        final Gnmi.SetRequest.Builder setRequestBuilder = Gnmi.SetRequest.newBuilder();
-
-        // REPLACE
-        for (ImmutablePair<YangInstanceIdentifier, NormalizedNode> toConvert : replaceList) {
-            try {
-                setRequestBuilder.addReplace(updateCodec.apply(toConvert.left, toConvert.right));
-            } catch (GnmiCodecException e) {
-                throw new GnmiRequestException(String.format(FAILED_TO_CONVERT, toConvert.left, toConvert.right), e);
-            }
-        }
-
-        // UPDATE
-        for (ImmutablePair<YangInstanceIdentifier, NormalizedNode> toConvert : updateList) {
-            try {
-                setRequestBuilder.addUpdate(updateCodec.apply(toConvert.left, toConvert.right));
-            } catch (GnmiCodecException e) {
-                throw new GnmiRequestException(String.format(FAILED_TO_CONVERT, toConvert.left, toConvert.right), e);
-            }
-        }
         // DELETE
+        final List<Gnmi.Path> deletes = new ArrayList<>(deleteList.size());
         for (YangInstanceIdentifier identifier : deleteList) {
             try {
-                setRequestBuilder.addDelete(instanceIdentifierToPathCodec.apply(identifier));
+                deletes.add(instanceIdentifierToPathCodec.apply(identifier));
             } catch (GnmiCodecException e) {
-                throw new GnmiRequestException(String.format("Failed to convert YangInstanceIdentifier %s and"
-                        + " to Gnmi.Path", identifier), e);
+                return Futures.immediateFailedFuture(new GnmiRequestException(String.format(
+                        "Failed to convert YangInstanceIdentifier %s and to Gnmi.Path", identifier), e));
             }
         }
-        return filterDataStorePrepareRequest(setRequestBuilder).build();
+
+        // REPLACE
+        final ListenableFuture<List<Gnmi.Update>> replaces = toUpdates(replaceList);
+        // UPDATE
+        final ListenableFuture<List<Gnmi.Update>> updates = toUpdates(updateList);
+        return Futures.whenAllSucceed(replaces, updates).call(() -> Gnmi.SetRequest.newBuilder()
+                .addAllReplace(Futures.getDone(replaces))
+                .addAllUpdate(Futures.getDone(updates))
+                .addAllDelete(deletes)
+                .build(), MoreExecutors.directExecutor());
     }
 
     /**
-     * When PUT or PATCH request is sent through RESTCONF to gNMI device, it can produce additional merge request.
-     * Inside this merge request it is intended to prepare datastore if data with specific path does not exist yet. If
-     * path contains list than it create merge request which will try to create this list entity before actual write
-     * request. In gNMI this behavior is not required and if part of datastore prepare request is list node than this
-     * request can crash and prevent user to write data.
-     *
-     * @param requestBuilder {@link Builder} contains update data.
-     * @return {@link Builder} with removed datastore prepare updates.
+     * Converts data to updates. Large number of updates is converted in parallel by the executor of the factory,
+     * the order of updates is kept. The calling thread does not wait for the conversion, the returned future
+     * is completed by the thread converting the last update.
      */
-    private Builder filterDataStorePrepareRequest(final Builder requestBuilder) {
-        if (requestBuilder.getUpdateCount() == 0) {
-            return requestBuilder;
-        }
-        // Expect one request per commit and if there is two request and only one is the update request
-        // than the update request should be data store prepare request
-        if (requestBuilder.getReplaceCount() == 1 && requestBuilder.getUpdateCount() == 1
-                && isLeftValueDataStorePrepareRequest(requestBuilder.getUpdate(0), requestBuilder.getReplace(0))) {
-            LOG.debug("Remove Data store prepare request [{}]", requestBuilder.getUpdate(0));
-            requestBuilder.removeUpdate(0);
-            return requestBuilder;
-        }
-        if (requestBuilder.getUpdateCount() == 2) {
-            if (isLeftValueDataStorePrepareRequest(requestBuilder.getUpdate(0), requestBuilder.getUpdate(1))) {
-                LOG.debug("Remove Data store prepare request [{}]", requestBuilder.getUpdate(0));
-                requestBuilder.removeUpdate(0);
-                return requestBuilder;
+    private ListenableFuture<List<Gnmi.Update>> toUpdates(
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> toConvert) {
+        if (toConvert.size() < PARALLEL_UPDATES_THRESHOLD) {
+            final List<Gnmi.Update> updates = new ArrayList<>(toConvert.size());
+            for (ImmutablePair<YangInstanceIdentifier, NormalizedNode> pair : toConvert) {
+                try {
+                    updates.add(toUpdate(pair));
+                } catch (GnmiRequestException e) {
+                    return Futures.immediateFailedFuture(e);
+                }
             }
-            if (isLeftValueDataStorePrepareRequest(requestBuilder.getUpdate(1), requestBuilder.getUpdate(0))) {
-                LOG.debug("Remove Data store prepare request [{}]", requestBuilder.getUpdate(1));
-                requestBuilder.removeUpdate(1);
-                return requestBuilder;
-            }
-        }
-        return requestBuilder;
-    }
-
-    private boolean isLeftValueDataStorePrepareRequest(final Update leftValue, final Update rightValue) {
-        // If update ietf value is empty then it is preparing data store request
-        if (isJsonIetfValueEmpty(leftValue)) {
-            return true;
+            return Futures.immediateFuture(updates);
         }
-        if (isJsonIetfValueEmpty(rightValue)) {
-            return false;
+        final List<ListenableFuture<Gnmi.Update>> updates = new ArrayList<>(toConvert.size());
+        for (ImmutablePair<YangInstanceIdentifier, NormalizedNode> pair : toConvert) {
+            updates.add(Futures.submit(() -> toUpdate(pair), parallelExecutor));
         }
-        final int leftValueElemCount = leftValue.getPath().getElemCount();
-        // DataStore preparing request have less elements in path
-        if (leftValueElemCount >= rightValue.getPath().getElemCount()) {
-            return false;
-        }
-        for (int i = 0; i < leftValueElemCount; i++) {
-            if (!leftValue.getPath().getElem(i).equals(rightValue.getPath().getElem(i))) {
-                return false;
-            }
-        }
-        return true;
+        return Futures.allAsList(updates);
     }
 
-    private boolean isJsonIetfValueEmpty(final Update value) {
-        final String jsonValue = value.getVal().getJsonIetfVal().toStringUtf8()
-                .replace("{", "")
-                .replace("}", "");
-        return jsonValue.isBlank();
+    @SuppressWarnings("IllegalCatch")
+    private Gnmi.Update toUpdate(final ImmutablePair<YangInstanceIdentifier, NormalizedNode> pair)
+            throws GnmiRequestException {
+        try {
+            return updateCodec.apply(pair.left, pair.right);
+        } catch (GnmiCodecException | RuntimeException e) {
+            throw new GnmiRequestException(String.format(FAILED_TO_CONVERT, pair.left, pair.right), e);
+        }
     }
 }
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.gnmi.southbound.mountpoint.requests;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import gnmi.Gnmi;
 import java.util.List;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -15,8 +16,16 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 public interface SetRequestFactory {
 
-    Gnmi.SetRequest newRequest(List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> putList,
-                               List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> mergeList,
-                               List<YangInstanceIdentifier> deleteList) throws GnmiRequestException;
+    /**
+     * Builds SetRequest of the edits.
+     *
+     * @param putList replaced data
+     * @param mergeList updated data
+     * @param deleteList deleted paths
+     * @return future of the request, failed by {@link GnmiRequestException} if the edits can not be converted
+     */
+    ListenableFuture<Gnmi.SetRequest> newRequest(List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> putList,
+                                                 List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> mergeList,
+                                                 List<YangInstanceIdentifier> deleteList);
 
 }
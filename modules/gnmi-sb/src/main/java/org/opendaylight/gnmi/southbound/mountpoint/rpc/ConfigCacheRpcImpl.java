@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.rpc;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.opendaylight.gnmi.southbound.device.connection.DeviceConnection;
+import org.opendaylight.gnmi.southbound.device.connection.DeviceConnectionManager;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.ConfigDataCache;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.FlushConfigCache;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.FlushConfigCacheInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.FlushConfigCacheOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.FlushConfigCacheOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetConfigCacheStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetConfigCacheStatisticsInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetConfigCacheStatisticsOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetConfigCacheStatisticsOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.binding.Rpc;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides RPCs dropping configuration caches of connected nodes and returning their metrics.
+ */
+public class ConfigCacheRpcImpl {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigCacheRpcImpl.class);
+    private final DeviceConnectionManager deviceConnectionManager;
+
+    public ConfigCacheRpcImpl(final DeviceConnectionManager deviceConnectionManager) {
+        this.deviceConnectionManager = deviceConnectionManager;
+    }
+
+    private ListenableFuture<RpcResult<FlushConfigCacheOutput>> flushConfigCache(final FlushConfigCacheInput input) {
+        final NodeId nodeId = input.getNodeId();
+        if (nodeId == null) {
+            LOG.debug("flush-config-cache of all nodes");
+            deviceConnectionManager.getDeviceConnections().forEach(ConfigCacheRpcImpl::flush);
+        } else {
+            final Optional<DeviceConnection> deviceConnection = deviceConnectionManager.getDeviceConnection(nodeId);
+            if (deviceConnection.isEmpty()) {
+                LOG.warn("flush-config-cache failed, node {} is not connected", nodeId.getValue());
+                return RpcResultBuilder.<FlushConfigCacheOutput>failed()
+                        .withError(ErrorType.APPLICATION, String.format("Node %s is not connected", nodeId.getValue()))
+                        .buildFuture();
+            }
+            LOG.debug("flush-config-cache of node {}", nodeId.getValue());
+            flush(deviceConnection.orElseThrow());
+        }
+        return RpcResultBuilder.success(new FlushConfigCacheOutputBuilder().build()).buildFuture();
+    }
+
+    private ListenableFuture<RpcResult<GetConfigCacheStatisticsOutput>> getConfigCacheStatistics(
+            final GetConfigCacheStatisticsInput input) {
+        final NodeId nodeId = input.getNodeId();
+        final Optional<DeviceConnection> deviceConnection = nodeId == null ? Optional.empty()
+                : deviceConnectionManager.getDeviceConnection(nodeId);
+        if (deviceConnection.isEmpty()) {
+            LOG.warn("get-config-cache-statistics failed, node {} is not connected", nodeId);
+            return RpcResultBuilder.<GetConfigCacheStatisticsOutput>failed()
+                    .withError(ErrorType.APPLICATION, String.format("Node %s is not connected",
+                            nodeId == null ? null : nodeId.getValue()))
+                    .buildFuture();
+        }
+        final ConfigDataCache configDataCache = deviceConnection.orElseThrow().getConfigDataCache();
+        final GetConfigCacheStatisticsOutputBuilder output = new GetConfigCacheStatisticsOutputBuilder()
+                .setHitCount(Uint64.ZERO)
+                .setMissCount(Uint64.ZERO)
+                .setInvalidationCount(Uint64.ZERO);
+        if (configDataCache != null) {
+            output.setHitCount(Uint64.valueOf(configDataCache.getHits()))
+                    .setMissCount(Uint64.valueOf(configDataCache.getMisses()))
+                    .setInvalidationCount(Uint64.valueOf(configDataCache.getInvalidations()));
+        }
+        return RpcResultBuilder.success(output.build()).buildFuture();
+    }
+
+    private static void flush(final DeviceConnection deviceConnection) {
+        final ConfigDataCache configDataCache = deviceConnection.getConfigDataCache();
+        if (configDataCache != null) {
+            configDataCache.flush();
+        }
+    }
+
+    public Collection<Rpc<?,?>> getRpcClassToInstanceMap() {
+        return List.of((FlushConfigCache) this::flushConfigCache,
+                (GetConfigCacheStatistics) this::getConfigCacheStatistics);
+    }
+}
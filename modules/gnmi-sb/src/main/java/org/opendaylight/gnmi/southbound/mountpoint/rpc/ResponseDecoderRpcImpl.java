@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.rpc;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Collection;
+import java.util.List;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.GetResponseDecoder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetResponseDecoderStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetResponseDecoderStatisticsInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetResponseDecoderStatisticsOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetResponseDecoderStatisticsOutputBuilder;
+import org.opendaylight.yangtools.binding.Rpc;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+/**
+ * Provides RPC returning metrics of decoding of GetResponses.
+ */
+public class ResponseDecoderRpcImpl {
+
+    private final GetResponseDecoder responseDecoder;
+
+    public ResponseDecoderRpcImpl(final GetResponseDecoder responseDecoder) {
+        this.responseDecoder = responseDecoder;
+    }
+
+    private ListenableFuture<RpcResult<GetResponseDecoderStatisticsOutput>> getResponseDecoderStatistics(
+            final GetResponseDecoderStatisticsInput input) {
+        return RpcResultBuilder.success(new GetResponseDecoderStatisticsOutputBuilder()
+                .setQueueDepth(Uint32.valueOf(responseDecoder.getQueueDepth()))
+                .setInlineCount(Uint64.valueOf(responseDecoder.getInlineCount()))
+                .setOffloadedCount(Uint64.valueOf(responseDecoder.getOffloadedCount()))
+                .setRejectedCount(Uint64.valueOf(responseDecoder.getRejectedCount()))
+                .setOffloadedDecodeTime(Uint64.valueOf(responseDecoder.getOffloadedDecodeTime().toNanos() / 1_000))
+                .build()).buildFuture();
+    }
+
+    public Collection<Rpc<?,?>> getRpcClassToInstanceMap() {
+        return List.of((GetResponseDecoderStatistics) this::getResponseDecoderStatistics);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.rpc;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.opendaylight.gnmi.southbound.device.connection.DeviceConnection;
+import org.opendaylight.gnmi.southbound.device.connection.DeviceConnectionManager;
+import org.opendaylight.gnmi.southbound.device.subscription.GnmiSubscriptionManager;
+import org.opendaylight.gnmi.southbound.device.subscription.TelemetryIngestionStage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetTelemetryIngestionStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetTelemetryIngestionStatisticsInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetTelemetryIngestionStatisticsOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GetTelemetryIngestionStatisticsOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.get.telemetry.ingestion.statistics.output.IngestionStage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.get.telemetry.ingestion.statistics.output.IngestionStageBuilder;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.binding.Rpc;
+import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides RPC returning metrics of telemetry ingestion stages of connected nodes.
+ */
+public class TelemetryIngestionRpcImpl {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TelemetryIngestionRpcImpl.class);
+    private final DeviceConnectionManager deviceConnectionManager;
+
+    public TelemetryIngestionRpcImpl(final DeviceConnectionManager deviceConnectionManager) {
+        this.deviceConnectionManager = deviceConnectionManager;
+    }
+
+    private ListenableFuture<RpcResult<GetTelemetryIngestionStatisticsOutput>> getTelemetryIngestionStatistics(
+            final GetTelemetryIngestionStatisticsInput input) {
+        final NodeId nodeId = input.getNodeId();
+        final Optional<DeviceConnection> deviceConnection = nodeId == null ? Optional.empty()
+                : deviceConnectionManager.getDeviceConnection(nodeId);
+        if (deviceConnection.isEmpty()) {
+            LOG.warn("get-telemetry-ingestion-statistics failed, node {} is not connected", nodeId);
+            return RpcResultBuilder.<GetTelemetryIngestionStatisticsOutput>failed()
+                    .withError(ErrorType.APPLICATION, String.format("Node %s is not connected",
+                            nodeId == null ? null : nodeId.getValue()))
+                    .buildFuture();
+        }
+        final GnmiSubscriptionManager subscriptionManager = deviceConnection.orElseThrow().getSubscriptionManager();
+        final List<IngestionStage> stages = subscriptionManager == null ? List.of()
+                : subscriptionManager.getIngestionStages().stream()
+                        .map(TelemetryIngestionRpcImpl::toIngestionStage)
+                        .toList();
+        return RpcResultBuilder.success(new GetTelemetryIngestionStatisticsOutputBuilder()
+                .setIngestionStage(BindingMap.of(stages))
+                .build()).buildFuture();
+    }
+
+    private static IngestionStage toIngestionStage(final TelemetryIngestionStage stage) {
+        return new IngestionStageBuilder()
+                .setName(stage.getName())
+                .setCommitCount(Uint64.valueOf(stage.getCommitCount()))
+                .setFailedCommitCount(Uint64.valueOf(stage.getFailedCommitCount()))
+                .setCoalescedUpdateCount(Uint64.valueOf(stage.getCoalescedUpdateCount()))
+                .setLastBatchSize(Uint32.valueOf(stage.getLastBatchSize()))
+                .setLastIngestionLag(Uint64.valueOf(stage.getLastIngestionLag().toNanos() / 1_000))
+                .build();
+    }
+
+    public Collection<Rpc<?,?>> getRpcClassToInstanceMap() {
+        return List.of((GetTelemetryIngestionStatistics) this::getTelemetryIngestionStatistics);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.transactions;
+
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Optional;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Read transaction of a transaction chain. Reads are sent to device once transactions committed in the chain
+ * before this transaction was created are completed, so they see data written by these transactions.
+ */
+public class ChainedReadOnlyTx implements DOMDataTreeReadTransaction {
+
+    private final DOMDataTreeReadTransaction delegate;
+    private final ListenableFuture<?> previousCommits;
+
+    public ChainedReadOnlyTx(final DOMDataTreeReadTransaction delegate, final ListenableFuture<?> previousCommits) {
+        this.delegate = delegate;
+        this.previousCommits = previousCommits;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public FluentFuture<Optional<NormalizedNode>> read(final LogicalDatastoreType store,
+                                                       final YangInstanceIdentifier path) {
+        if (previousCommits.isDone()) {
+            return delegate.read(store, path);
+        }
+        return FluentFuture.from(Futures.whenAllComplete(previousCommits)
+                .callAsync(() -> delegate.read(store, path), MoreExecutors.directExecutor()));
+    }
+
+    @Override
+    public FluentFuture<Boolean> exists(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        return read(store, path).transform(Optional::isPresent, MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public @NonNull Object getIdentifier() {
+        return this;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.transactions;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * When PUT or PATCH request is sent through RESTCONF to gNMI device, it can produce additional merge request.
+ * Inside this merge request it is intended to prepare datastore if data with specific path does not exist yet. If
+ * path contains list than it create merge request which will try to create this list entity before actual write
+ * request. In gNMI this behavior is not required and if part of datastore prepare request is list node than this
+ * request can crash and prevent user to write data.
+ *
+ * <p>Merges are filtered per transaction, before its edits are passed to SetRequest, so listeners of the SetRequest
+ * and transactions folded into one SetRequest see only the edits which are actually sent.</p>
+ */
+final class DataStorePrepareFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataStorePrepareFilter.class);
+
+    private DataStorePrepareFilter() {
+        // Utility class
+    }
+
+    /**
+     * Removes datastore prepare merge from edits of one transaction.
+     *
+     * @param replaceList replaced nodes of the transaction
+     * @param updateList merged nodes of the transaction
+     * @return merged nodes without datastore prepare merge
+     */
+    static List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> filterUpdates(
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList) {
+        // Expect one request per commit and if there is two request and only one is the update request
+        // than the update request should be data store prepare request
+        if (replaceList.size() == 1 && updateList.size() == 1
+                && isLeftValueDataStorePrepareRequest(updateList.get(0), replaceList.get(0))) {
+            return withoutUpdate(updateList, 0);
+        }
+        if (updateList.size() == 2) {
+            if (isLeftValueDataStorePrepareRequest(updateList.get(0), updateList.get(1))) {
+                return withoutUpdate(updateList, 0);
+            }
+            if (isLeftValueDataStorePrepareRequest(updateList.get(1), updateList.get(0))) {
+                return withoutUpdate(updateList, 1);
+            }
+        }
+        return updateList;
+    }
+
+    private static List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> withoutUpdate(
+            final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList, final int index) {
+        LOG.debug("Remove Data store prepare request [{}]", updateList.get(index));
+        final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> filtered = new ArrayList<>(updateList);
+        filtered.remove(index);
+        return filtered;
+    }
+
+    private static boolean isLeftValueDataStorePrepareRequest(
+            final ImmutablePair<YangInstanceIdentifier, NormalizedNode> leftValue,
+            final ImmutablePair<YangInstanceIdentifier, NormalizedNode> rightValue) {
+        // If update value is empty then it is preparing data store request
+        if (isEmpty(leftValue.getRight())) {
+            return true;
+        }
+        if (isEmpty(rightValue.getRight())) {
+            return false;
+        }
+        // DataStore preparing request have shorter path
+        final YangInstanceIdentifier leftPath = leftValue.getLeft();
+        final YangInstanceIdentifier rightPath = rightValue.getLeft();
+        if (leftPath.getPathArguments().size() >= rightPath.getPathArguments().size()
+                || !leftPath.contains(rightPath)) {
+            return false;
+        }
+        // List and its entry are the same element of gNMI path, which differs only by keys
+        return !(rightPath.getPathArguments().get(leftPath.getPathArguments().size())
+                instanceof NodeIdentifierWithPredicates);
+    }
+
+    /*
+     Node is empty, if it holds no leaf, such as a container holding only empty list. Merge of it changes nothing.
+     */
+    private static boolean isEmpty(final NormalizedNode data) {
+        return data instanceof NormalizedNodeContainer<?> container
+                && container.body().stream().allMatch(DataStorePrepareFilter::isEmpty);
+    }
+}
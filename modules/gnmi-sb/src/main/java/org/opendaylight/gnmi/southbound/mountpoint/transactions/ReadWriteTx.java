@@ -53,7 +53,7 @@ public class ReadWriteTx implements DOMDataTreeReadWriteTransaction {
 
     @Override
     public @NonNull FluentFuture<?> completionFuture() {
-        return delegateWriteTx.commit();
+        return delegateWriteTx.completionFuture();
     }
 
     @Override
@@ -8,27 +8,52 @@
 package org.opendaylight.gnmi.southbound.mountpoint.transactions;
 
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.gnmi.southbound.mountpoint.ops.GnmiSet;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.SetOperation;
 import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 
 public class WriteOnlyTx extends AbstractWriteTx {
 
-    private final GnmiSet setProvider;
+    private final SetOperation setProvider;
+    // Result of the only SetRequest of this transaction, completionFuture() must not send it again
+    private final SettableFuture<CommitInfo> completion = SettableFuture.create();
 
     public WriteOnlyTx(final GnmiSet gnmiSet) {
-        super(gnmiSet.getNodeId());
-        this.setProvider = gnmiSet;
+        this(gnmiSet.getNodeId(), gnmiSet);
+    }
+
+    public WriteOnlyTx(final NodeId nodeId, final SetOperation setOperation) {
+        super(nodeId);
+        this.setProvider = setOperation;
     }
 
 
     @Override
     public synchronized FluentFuture<CommitInfo> performCommit() {
-        return FluentFuture.from(setProvider.set(putList, mergeList, deleteList));
+        completion.setFuture(send());
+        return FluentFuture.from(completion);
+    }
+
+    @Override
+    public synchronized boolean cancel() {
+        if (super.cancel()) {
+            completion.cancel(false);
+            return true;
+        }
+        return false;
     }
 
     @Override
     public @NonNull FluentFuture<?> completionFuture() {
-        return FluentFuture.from(setProvider.set(putList, mergeList, deleteList));
+        return FluentFuture.from(completion);
+    }
+
+    private ListenableFuture<CommitInfo> send() {
+        // Datastore prepare merges are never sent, listeners of SetRequest see the edits as they are sent
+        return setProvider.set(putList, DataStorePrepareFilter.filterUpdates(putList, mergeList), deleteList);
     }
 }
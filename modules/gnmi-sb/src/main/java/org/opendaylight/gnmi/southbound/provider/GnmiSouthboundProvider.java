@@ -16,6 +16,7 @@ import java.util.concurrent.TimeoutException;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.aaa.encrypt.AAAEncryptionService;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
 import org.opendaylight.gnmi.connector.gnmi.session.impl.GnmiSessionFactory;
 import org.opendaylight.gnmi.connector.gnmi.session.impl.GnmiSessionFactoryImpl;
 import org.opendaylight.gnmi.connector.session.SessionManagerFactoryImpl;
@@ -27,6 +28,10 @@ import org.opendaylight.gnmi.southbound.identifier.IdentifierUtils;
 import org.opendaylight.gnmi.southbound.listener.GnmiNodeListener;
 import org.opendaylight.gnmi.southbound.mountpoint.GnmiMountPointRegistrator;
 import org.opendaylight.gnmi.southbound.mountpoint.broker.GnmiDataBrokerFactoryImpl;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.GetResponseDecoder;
+import org.opendaylight.gnmi.southbound.mountpoint.rpc.ConfigCacheRpcImpl;
+import org.opendaylight.gnmi.southbound.mountpoint.rpc.ResponseDecoderRpcImpl;
+import org.opendaylight.gnmi.southbound.mountpoint.rpc.TelemetryIngestionRpcImpl;
 import org.opendaylight.gnmi.southbound.schema.SchemaContextHolder;
 import org.opendaylight.gnmi.southbound.schema.certstore.impl.CertificationStorageServiceImpl;
 import org.opendaylight.gnmi.southbound.schema.certstore.rpc.CertificationStorageServiceRpcImpl;
@@ -41,6 +46,7 @@ import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.mdsal.binding.api.WriteTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
 import org.opendaylight.mdsal.dom.api.DOMMountPointService;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.GnmiTopologyTypesBuilder;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.TopologyId;
@@ -62,8 +68,14 @@ public class GnmiSouthboundProvider implements AutoCloseable {
     private final List<AutoCloseable> closeables;
     private final DOMMountPointService mountPointService;
     private final DataBroker dataBroker;
+    /**
+     * Optional DOM data broker, streamed data of devices are exported to the operational datastore through it.
+     */
+    private final @Nullable DOMDataBroker domDataBroker;
     private final RpcProviderService rpcProvider;
     private final ExecutorService gnmiExecutorService;
+    private final GetResponseDecoder responseDecoder;
+    private final ParallelCodecExecutor codecExecutor;
     private final AAAEncryptionService encryptionService;
     private final YangTextToIRSourceTransformer textToIrTransformer;
     /**
@@ -80,9 +92,32 @@ public class GnmiSouthboundProvider implements AutoCloseable {
             final RpcProviderService rpcProvider, final ExecutorService gnmiExecutorService,
             final List<YangLoaderService> initialYangsLoaders, final AAAEncryptionService encryptionService,
             final @Nullable YangParserFactory parserFactory, final YangTextToIRSourceTransformer textToIrTransformer) {
+        this(mountService, dataBroker, rpcProvider, gnmiExecutorService, GetResponseDecoder.inline(),
+            initialYangsLoaders, encryptionService, parserFactory, textToIrTransformer);
+    }
+
+    public GnmiSouthboundProvider(final DOMMountPointService mountService, final DataBroker dataBroker,
+            final RpcProviderService rpcProvider, final ExecutorService gnmiExecutorService,
+            final GetResponseDecoder responseDecoder, final List<YangLoaderService> initialYangsLoaders,
+            final AAAEncryptionService encryptionService, final @Nullable YangParserFactory parserFactory,
+            final YangTextToIRSourceTransformer textToIrTransformer) {
+        this(mountService, dataBroker, null, rpcProvider, gnmiExecutorService, responseDecoder,
+            ParallelCodecExecutor.sequential(), initialYangsLoaders, encryptionService, parserFactory,
+            textToIrTransformer);
+    }
+
+    public GnmiSouthboundProvider(final DOMMountPointService mountService, final DataBroker dataBroker,
+            final @Nullable DOMDataBroker domDataBroker, final RpcProviderService rpcProvider,
+            final ExecutorService gnmiExecutorService, final GetResponseDecoder responseDecoder,
+            final ParallelCodecExecutor codecExecutor, final List<YangLoaderService> initialYangsLoaders,
+            final AAAEncryptionService encryptionService, final @Nullable YangParserFactory parserFactory,
+            final YangTextToIRSourceTransformer textToIrTransformer) {
         this.mountPointService = mountService;
         this.dataBroker = dataBroker;
+        this.domDataBroker = domDataBroker;
         this.gnmiExecutorService = gnmiExecutorService;
+        this.responseDecoder = responseDecoder;
+        this.codecExecutor = codecExecutor;
         this.closeables = new ArrayList<>();
         this.rpcProvider = rpcProvider;
         this.initialYangsLoaders = initialYangsLoaders;
@@ -122,13 +157,23 @@ public class GnmiSouthboundProvider implements AutoCloseable {
         final GnmiSecurityProvider securityProvider = new KeystoreGnmiSecurityProvider(certStorageService);
         final GnmiSessionFactory gnmiSessionFactory = new GnmiSessionFactoryImpl();
         final DeviceConnectionInitializer deviceConnectionInitializer = new DeviceConnectionInitializer(
-                securityProvider, new SessionManagerFactoryImpl(gnmiSessionFactory), dataBroker, gnmiExecutorService);
+                securityProvider, new SessionManagerFactoryImpl(gnmiSessionFactory), dataBroker, gnmiExecutorService,
+                codecExecutor);
         closeables.add(deviceConnectionInitializer);
 
+        // Queued SetRequests are built and sent on the southbound executor, not on gRPC threads answering them
+        final GnmiDataBrokerFactoryImpl dataBrokerFactory = new GnmiDataBrokerFactoryImpl(responseDecoder,
+                gnmiExecutorService, codecExecutor);
         final DeviceConnectionManager deviceConnectionManager = new DeviceConnectionManager(
-                mountPointRegistrator, schemaContextHolder, new GnmiDataBrokerFactoryImpl(),
-                deviceConnectionInitializer, dataBroker, gnmiExecutorService);
+                mountPointRegistrator, schemaContextHolder, dataBrokerFactory,
+                deviceConnectionInitializer, dataBroker, domDataBroker, gnmiExecutorService);
         closeables.add(deviceConnectionManager);
+        final ConfigCacheRpcImpl configCacheRpc = new ConfigCacheRpcImpl(deviceConnectionManager);
+        closeables.add(rpcProvider.registerRpcImplementations(configCacheRpc.getRpcClassToInstanceMap()));
+        final TelemetryIngestionRpcImpl ingestionRpc = new TelemetryIngestionRpcImpl(deviceConnectionManager);
+        closeables.add(rpcProvider.registerRpcImplementations(ingestionRpc.getRpcClassToInstanceMap()));
+        final ResponseDecoderRpcImpl responseDecoderRpc = new ResponseDecoderRpcImpl(responseDecoder);
+        closeables.add(rpcProvider.registerRpcImplementations(responseDecoderRpc.getRpcClassToInstanceMap()));
 
         final GnmiNodeListener topologyNodeListener = new GnmiNodeListener(
                 deviceConnectionManager, dataBroker, gnmiExecutorService);
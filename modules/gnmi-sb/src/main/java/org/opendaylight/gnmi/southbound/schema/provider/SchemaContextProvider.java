@@ -7,9 +7,15 @@
  */
 package org.opendaylight.gnmi.southbound.schema.provider;
 
+import org.opendaylight.gnmi.commons.util.CodecCache;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 public interface SchemaContextProvider {
 
     EffectiveModelContext getSchemaContext();
+
+    /**
+     * Returns codecs of the schema context, held by the provider as long as it holds the context.
+     */
+    CodecCache getCodecCache();
 }
@@ -18,6 +18,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 import org.opendaylight.aaa.encrypt.AAAEncryptionService;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.GetResponseDecoder;
 import org.opendaylight.gnmi.southbound.provider.GnmiSouthboundProvider;
 import org.opendaylight.gnmi.southbound.schema.loader.api.YangLoadException;
 import org.opendaylight.gnmi.southbound.schema.loader.api.YangLoaderService;
@@ -26,6 +28,7 @@ import org.opendaylight.gnmi.southbound.schema.loader.impl.ByPathYangLoaderServi
 import org.opendaylight.gnmi.southbound.yangmodule.config.GnmiConfiguration;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
 import org.opendaylight.mdsal.dom.api.DOMMountPointService;
 import org.opendaylight.yangtools.yang.model.spi.source.YangTextToIRSourceTransformer;
 import org.opendaylight.yangtools.yang.parser.api.YangParserFactory;
@@ -45,6 +48,7 @@ public final class GnmiSouthboundModule {
     private static final Logger LOG = LoggerFactory.getLogger(GnmiSouthboundModule.class);
 
     private final DataBroker dataBroker;
+    private final DOMDataBroker domDataBroker;
     private final RpcProviderService rpcProviderService;
     private final DOMMountPointService domMountPointService;
     private final AAAEncryptionService encryptionService;
@@ -54,18 +58,21 @@ public final class GnmiSouthboundModule {
     private final YangTextToIRSourceTransformer textToIrTransformer;
 
     private ExecutorService gnmiExecutor;
+    private GetResponseDecoder responseDecoder;
+    private ParallelCodecExecutor codecExecutor;
     private GnmiSouthboundProvider gnmiProvider;
 
     @Activate
     public GnmiSouthboundModule(
             @Reference DataBroker dataBroker,
+            @Reference DOMDataBroker domDataBroker,
             @Reference RpcProviderService rpcProviderService,
             @Reference DOMMountPointService domMountPointService,
             @Reference AAAEncryptionService encryptionService,
             @Reference YangParserFactory parserFactory,
             @Reference YangXPathParserFactory xpathParserFactory,
             @Reference YangTextToIRSourceTransformer textToIrTransformer) {
-        this(dataBroker, rpcProviderService, domMountPointService,
+        this(dataBroker, domDataBroker, rpcProviderService, domMountPointService,
             encryptionService, parserFactory, xpathParserFactory, textToIrTransformer, null);
     }
 
@@ -73,7 +80,17 @@ public final class GnmiSouthboundModule {
             DOMMountPointService domMountPointService, AAAEncryptionService encryptionService,
             YangParserFactory parserFactory, YangXPathParserFactory xpathParserFactory,
             YangTextToIRSourceTransformer textToIrTransformer, GnmiConfiguration gnmiConfiguration) {
+        this(dataBroker, null, rpcProviderService, domMountPointService, encryptionService, parserFactory,
+            xpathParserFactory, textToIrTransformer, gnmiConfiguration);
+    }
+
+    public GnmiSouthboundModule(DataBroker dataBroker, DOMDataBroker domDataBroker,
+            RpcProviderService rpcProviderService, DOMMountPointService domMountPointService,
+            AAAEncryptionService encryptionService, YangParserFactory parserFactory,
+            YangXPathParserFactory xpathParserFactory, YangTextToIRSourceTransformer textToIrTransformer,
+            GnmiConfiguration gnmiConfiguration) {
         this.dataBroker = requireNonNull(dataBroker);
+        this.domDataBroker = domDataBroker;
         this.rpcProviderService = requireNonNull(rpcProviderService);
         this.domMountPointService = requireNonNull(domMountPointService);
         this.encryptionService = requireNonNull(encryptionService);
@@ -87,13 +104,20 @@ public final class GnmiSouthboundModule {
     public void init() {
         LOG.info("Starting ODL gNMI Southbound Component");
         gnmiExecutor = Executors.newFixedThreadPool(4);
+        responseDecoder = createResponseDecoder(gnmiConfiguration);
+        // Large data of devices are converted by threads of the module, not by the common pool
+        codecExecutor = ParallelCodecExecutor.create("gnmi-codec-", ParallelCodecExecutor.DEFAULT_THREADS,
+            ParallelCodecExecutor.DEFAULT_QUEUE_CAPACITY);
 
         try {
             gnmiProvider = new GnmiSouthboundProvider(
                 domMountPointService,
                 dataBroker,
+                domDataBroker,
                 rpcProviderService,
                 gnmiExecutor,
+                responseDecoder,
+                codecExecutor,
                 prepareByPathLoaders(gnmiConfiguration),
                 encryptionService,
                 parserFactory,
@@ -123,6 +147,21 @@ public final class GnmiSouthboundModule {
         if (gnmiExecutor != null) {
             gnmiExecutor.shutdownNow();
         }
+        if (responseDecoder != null) {
+            responseDecoder.close();
+        }
+        if (codecExecutor != null) {
+            codecExecutor.close();
+        }
+    }
+
+    private static GetResponseDecoder createResponseDecoder(final GnmiConfiguration config) {
+        if (config == null) {
+            return GetResponseDecoder.create(GetResponseDecoder.DEFAULT_THREADS,
+                GetResponseDecoder.DEFAULT_QUEUE_CAPACITY, false, GetResponseDecoder.DEFAULT_INLINE_THRESHOLD);
+        }
+        return GetResponseDecoder.create(config.getResponseDecodeThreads(), config.getResponseDecodeQueueCapacity(),
+            config.isResponseDecodeVirtualThreads(), config.getResponseDecodeInlineThreshold());
     }
 
     private List<YangLoaderService> prepareByPathLoaders(final GnmiConfiguration config) {
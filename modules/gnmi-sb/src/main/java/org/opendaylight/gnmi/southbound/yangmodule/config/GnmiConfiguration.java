@@ -12,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonSetter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.GetResponseDecoder;
 import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
 
 /**
@@ -25,6 +26,22 @@ public class GnmiConfiguration {
      */
     private final List<String> initialYangsPaths;
     private Set<YangModuleInfo> yangModulesInfo;
+    /**
+     * Number of threads decoding gNMI GetResponses.
+     */
+    private int responseDecodeThreads = GetResponseDecoder.DEFAULT_THREADS;
+    /**
+     * Maximal number of gNMI GetResponses waiting for decoding, decoding of further responses is rejected.
+     */
+    private int responseDecodeQueueCapacity = GetResponseDecoder.DEFAULT_QUEUE_CAPACITY;
+    /**
+     * Whether gNMI GetResponses are decoded by virtual threads instead of a pool of platform threads.
+     */
+    private boolean responseDecodeVirtualThreads;
+    /**
+     * Serialized size of gNMI GetResponse in bytes, below which the response is decoded directly on the gRPC thread.
+     */
+    private int responseDecodeInlineThreshold = GetResponseDecoder.DEFAULT_INLINE_THRESHOLD;
 
     public GnmiConfiguration() {
         initialYangsPaths = new ArrayList<>();
@@ -47,4 +64,36 @@ public class GnmiConfiguration {
         this.yangModulesInfo = yangModulesInfo;
     }
 
+    public int getResponseDecodeThreads() {
+        return responseDecodeThreads;
+    }
+
+    public void setResponseDecodeThreads(final int responseDecodeThreads) {
+        this.responseDecodeThreads = responseDecodeThreads;
+    }
+
+    public int getResponseDecodeQueueCapacity() {
+        return responseDecodeQueueCapacity;
+    }
+
+    public void setResponseDecodeQueueCapacity(final int responseDecodeQueueCapacity) {
+        this.responseDecodeQueueCapacity = responseDecodeQueueCapacity;
+    }
+
+    public boolean isResponseDecodeVirtualThreads() {
+        return responseDecodeVirtualThreads;
+    }
+
+    public void setResponseDecodeVirtualThreads(final boolean responseDecodeVirtualThreads) {
+        this.responseDecodeVirtualThreads = responseDecodeVirtualThreads;
+    }
+
+    public int getResponseDecodeInlineThreshold() {
+        return responseDecodeInlineThreshold;
+    }
+
+    public void setResponseDecodeInlineThreshold(final int responseDecodeInlineThreshold) {
+        this.responseDecodeInlineThreshold = responseDecodeInlineThreshold;
+    }
+
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.session.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import io.grpc.ConnectivityState;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.connector.session.api.SessionProvider;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+
+public class GnmiConnectionStatusListenerTest {
+
+    @Test
+    public void observerGetsStatesInOrderOfTheirChangesTest() {
+        final SessionProvider sessionProvider = mock(SessionProvider.class);
+        final List<Runnable> stateCallbacks = new ArrayList<>();
+        doAnswer(invocation -> stateCallbacks.add(invocation.getArgument(1)))
+                .when(sessionProvider).notifyOnStateChangedOneOff(any(), any());
+        final WriteTransaction transaction = mock(WriteTransaction.class);
+        doReturn(CommitInfo.emptyFluentFuture()).when(transaction).commit();
+        final DataBroker dataBroker = mock(DataBroker.class);
+        doReturn(transaction).when(dataBroker).newWriteOnlyTransaction();
+        // Executor service runs the latest task first, as threads of a pool may do
+        final Deque<Runnable> tasks = new ArrayDeque<>();
+        final ExecutorService executorService = mock(ExecutorService.class);
+        doAnswer(invocation -> tasks.offerFirst(invocation.getArgument(0))).when(executorService).execute(any());
+
+        final GnmiConnectionStatusListener listener = new GnmiConnectionStatusListener(sessionProvider, dataBroker,
+                new NodeId("node"), executorService);
+        final List<ConnectivityState> observed = new ArrayList<>();
+        listener.registerStateObserver(observed::add);
+        doReturn(ConnectivityState.CONNECTING).when(sessionProvider).getChannelState();
+        listener.init();
+        doReturn(ConnectivityState.READY).when(sessionProvider).getChannelState();
+        stateCallbacks.get(0).run();
+        while (!tasks.isEmpty()) {
+            tasks.pollFirst().run();
+        }
+
+        Assertions.assertEquals(List.of(ConnectivityState.CONNECTING, ConnectivityState.READY), observed);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+public class DatastoreTelemetrySinkTest {
+
+    private static final QName CONTAINER = QName.create("urn:test", "container");
+    private static final QName LEAF = QName.create(CONTAINER, "leaf");
+    private static final QName LIST = QName.create(CONTAINER, "list");
+    private static final QName KEY = QName.create(CONTAINER, "key");
+    private static final YangInstanceIdentifier CONTAINER_PATH = YangInstanceIdentifier.of(CONTAINER);
+    private static final YangInstanceIdentifier LEAF_PATH = YangInstanceIdentifier.of(CONTAINER, LEAF);
+    private static final NormalizedNode CONTAINER_DATA = ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(NodeIdentifier.create(CONTAINER))
+            .withChild(ImmutableNodes.leafNode(LEAF, "value"))
+            .build();
+
+    private DOMDataTreeWriteTransaction tx;
+    private DOMDataBroker dataBroker;
+    private DatastoreTelemetrySink sink;
+
+    @BeforeEach
+    public void setUp() {
+        tx = mock(DOMDataTreeWriteTransaction.class);
+        dataBroker = mock(DOMDataBroker.class);
+        doReturn(tx).when(dataBroker).newWriteOnlyTransaction();
+        doReturn(CommitInfo.emptyFluentFuture()).when(tx).commit();
+        sink = new DatastoreTelemetrySink(new NodeId("test-node"), dataBroker);
+    }
+
+    @Test
+    public void batchIsCommittedInOneTransactionInOrderTest() throws ExecutionException, InterruptedException {
+        sink.commit(List.of(
+                new SubscriptionNotification(1, List.of(ImmutablePair.of(CONTAINER_PATH, CONTAINER_DATA)), List.of()),
+                new SubscriptionNotification(2, List.of(), List.of(LEAF_PATH)))).get();
+
+        verify(dataBroker).newWriteOnlyTransaction();
+        final InOrder inOrder = inOrder(tx);
+        inOrder.verify(tx).merge(LogicalDatastoreType.OPERATIONAL, CONTAINER_PATH, CONTAINER_DATA);
+        inOrder.verify(tx).delete(LogicalDatastoreType.OPERATIONAL, LEAF_PATH);
+        inOrder.verify(tx).commit();
+    }
+
+    @Test
+    public void parentListEntriesAreCreatedTest() {
+        final NodeIdentifierWithPredicates entryId = NodeIdentifierWithPredicates.of(LIST, KEY, "one");
+        final YangInstanceIdentifier entryPath = YangInstanceIdentifier.of(new NodeIdentifier(CONTAINER),
+                new NodeIdentifier(LIST), entryId);
+        final YangInstanceIdentifier leafPath = entryPath.node(LEAF);
+        final NormalizedNode leaf = ImmutableNodes.leafNode(LEAF, "value");
+
+        sink.commit(List.of(new SubscriptionNotification(1, List.of(ImmutablePair.of(leafPath, leaf)), List.of())));
+
+        final InOrder inOrder = inOrder(tx);
+        inOrder.verify(tx).merge(LogicalDatastoreType.OPERATIONAL, entryPath, ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(entryId)
+                .withChild(ImmutableNodes.leafNode(KEY, "one"))
+                .build());
+        inOrder.verify(tx).merge(LogicalDatastoreType.OPERATIONAL, leafPath, leaf);
+        inOrder.verify(tx).commit();
+    }
+
+    @Test
+    public void invalidBatchIsNotCommittedTest() {
+        doThrow(new IllegalArgumentException("Unknown node")).when(tx)
+                .merge(eq(LogicalDatastoreType.OPERATIONAL), eq(CONTAINER_PATH), any());
+
+        final ListenableFuture<? extends CommitInfo> result = sink.commit(List.of(new SubscriptionNotification(1,
+                List.of(ImmutablePair.of(CONTAINER_PATH, CONTAINER_DATA)), List.of())));
+
+        Assertions.assertInstanceOf(IllegalArgumentException.class,
+                Assertions.assertThrows(ExecutionException.class, result::get).getCause());
+        verify(tx).cancel();
+        verify(tx, never()).commit();
+        verify(dataBroker, times(1)).newWriteOnlyTransaction();
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import gnmi.Gnmi;
+import io.grpc.ConnectivityState;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.gnmi.connector.gnmi.session.api.GnmiSession;
+import org.opendaylight.gnmi.connector.gnmi.session.api.SubscribeOverflowPolicy;
+import org.opendaylight.gnmi.connector.gnmi.session.api.SubscribeStream;
+import org.opendaylight.gnmi.connector.gnmi.util.GnmiHelper;
+import org.opendaylight.gnmi.southbound.device.connection.ConfigurableParameters;
+import org.opendaylight.gnmi.southbound.device.connection.DeviceConnection;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.testcases.CodecTestCasesBase;
+import org.opendaylight.gnmi.southbound.schema.impl.SchemaException;
+import org.opendaylight.gnmi.southbound.schema.loader.api.YangLoadException;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.node.state.node.state.SubscriptionState;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.concepts.Registration;
+
+public class GnmiSubscriptionManagerTest extends CodecTestCasesBase {
+
+    private static final Gnmi.Subscription SUBSCRIPTION = SubscribeRequestFactory.onChangeSubscription(
+            GnmiHelper.pathBuilder("/interfaces/interface[name=eth3]/config").build());
+
+    private final ExecutorService executorService = MoreExecutors.newDirectExecutorService();
+    private DeviceConnection deviceConnection;
+    private GnmiSession gnmiSession;
+    private StreamObserver<Gnmi.SubscribeRequest> requestObserver;
+    private Registration stateObserverRegistration;
+    private WriteTransaction writeTransaction;
+    private SubscriptionListener listener;
+    private GnmiSubscriptionManager manager;
+
+    public GnmiSubscriptionManagerTest() throws SchemaException, YangLoadException {
+        super();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        final ConfigurableParameters parameters = mock(ConfigurableParameters.class);
+        doReturn(Optional.empty()).when(parameters).getPathTarget();
+        doReturn(Optional.empty()).when(parameters).getModelDataList();
+
+        requestObserver = mock(StreamObserver.class);
+        final SubscribeStream subscribeStream = mock(SubscribeStream.class);
+        doReturn(requestObserver).when(subscribeStream).requestObserver();
+        gnmiSession = mock(GnmiSession.class);
+        doReturn(subscribeStream).when(gnmiSession).subscribe(any(), anyInt(), any(), any());
+        stateObserverRegistration = mock(Registration.class);
+
+        deviceConnection = mock(DeviceConnection.class);
+        doReturn(new NodeId("test-node")).when(deviceConnection).getIdentifier();
+        doReturn(parameters).when(deviceConnection).getConfigurableParameters();
+        doReturn(getSchemaContextProvider().getSchemaContext()).when(deviceConnection).getSchemaContext();
+        doReturn(getSchemaContextProvider().getCodecCache()).when(deviceConnection).getCodecCache();
+        doReturn(gnmiSession).when(deviceConnection).getGnmiSession();
+        doReturn(stateObserverRegistration).when(deviceConnection).registerConnectivityStateObserver(any());
+
+        writeTransaction = mock(WriteTransaction.class);
+        doReturn(CommitInfo.emptyFluentFuture()).when(writeTransaction).commit();
+        final DataBroker dataBroker = mock(DataBroker.class);
+        doReturn(writeTransaction).when(dataBroker).newWriteOnlyTransaction();
+
+        listener = mock(SubscriptionListener.class);
+        manager = new GnmiSubscriptionManager(deviceConnection, List.of(SUBSCRIPTION), dataBroker,
+                executorService);
+        manager.registerListener(listener);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        manager.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void startOpensStreamTest() {
+        manager.start();
+
+        verify(gnmiSession).subscribe(any(), eq(1_000), eq(SubscribeOverflowPolicy.CONFLATE_BY_PATH),
+                eq(executorService));
+        final ArgumentCaptor<Gnmi.SubscribeRequest> requestCaptor =
+                ArgumentCaptor.forClass(Gnmi.SubscribeRequest.class);
+        verify(requestObserver).onNext(requestCaptor.capture());
+        Assertions.assertEquals(List.of(SUBSCRIPTION), requestCaptor.getValue().getSubscribe().getSubscriptionList());
+        Assertions.assertEquals(List.of(SubscriptionState.SubscriptionStatus.SUBSCRIBING), writtenStatuses());
+
+        // Repeated start does not open another stream
+        manager.start();
+        verify(gnmiSession, times(1)).subscribe(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void withoutSubscriptionsStreamIsNotOpenedTest() {
+        manager.close();
+        manager = new GnmiSubscriptionManager(deviceConnection, List.of(), mock(DataBroker.class), executorService);
+        manager.start();
+
+        verify(gnmiSession, never()).subscribe(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void responsesAreDispatchedToListenersTest() {
+        manager.start();
+        final StreamObserver<Gnmi.SubscribeResponse> responseObserver = responseObserver(1);
+
+        responseObserver.onNext(Gnmi.SubscribeResponse.newBuilder()
+                .setUpdate(Gnmi.Notification.newBuilder()
+                        .setTimestamp(1)
+                        .setPrefix(GnmiHelper.pathBuilder("/interfaces/interface[name=eth3]/config"))
+                        .addUpdate(Gnmi.Update.newBuilder()
+                                .setPath(GnmiHelper.pathBuilder("mtu"))
+                                .setVal(Gnmi.TypedValue.newBuilder().setUintVal(1500)))
+                        .addDelete(GnmiHelper.pathBuilder("loopback-mode")))
+                .build());
+        final ArgumentCaptor<SubscriptionNotification> notificationCaptor =
+                ArgumentCaptor.forClass(SubscriptionNotification.class);
+        verify(listener).onNotification(notificationCaptor.capture());
+        Assertions.assertEquals(List.of(leafNumberCase()), notificationCaptor.getValue().updates());
+        Assertions.assertEquals(List.of(leafBooleanCase().getLeft()), notificationCaptor.getValue().deletes());
+        verify(listener, never()).onSynced();
+
+        responseObserver.onNext(Gnmi.SubscribeResponse.newBuilder().setSyncResponse(true).build());
+        verify(listener).onSynced();
+        Assertions.assertEquals(List.of(SubscriptionState.SubscriptionStatus.SUBSCRIBING,
+                SubscriptionState.SubscriptionStatus.SYNCED), writtenStatuses());
+    }
+
+    @Test
+    public void undecodableNotificationIsIgnoredTest() {
+        manager.start();
+
+        responseObserver(1).onNext(Gnmi.SubscribeResponse.newBuilder()
+                .setUpdate(Gnmi.Notification.newBuilder()
+                        .addDelete(GnmiHelper.pathBuilder("/interfaces/non-existing")))
+                .build());
+        verify(listener, never()).onNotification(any());
+    }
+
+    @Test
+    public void failedStreamIsReopenedTest() {
+        manager.start();
+
+        responseObserver(1).onError(new IllegalStateException("Stream failed"));
+        verify(listener).onStreamTerminated();
+        Assertions.assertEquals(SubscriptionState.SubscriptionStatus.FAILED, writtenStatuses().get(1));
+
+        // Stream is reopened after the back-off delay, channel stayed READY
+        verify(gnmiSession, timeout(5_000).times(2)).subscribe(any(), anyInt(), any(), any());
+        verify(requestObserver, times(2)).onNext(any());
+    }
+
+    @Test
+    public void channelLossCancelsStreamTest() {
+        manager.start();
+        final StreamObserver<Gnmi.SubscribeResponse> previousObserver = responseObserver(1);
+        final Consumer<ConnectivityState> stateObserver = stateObserver();
+
+        stateObserver.accept(ConnectivityState.TRANSIENT_FAILURE);
+        verify(requestObserver).onError(any());
+        verify(listener).onStreamTerminated();
+        Assertions.assertEquals(SubscriptionState.SubscriptionStatus.INACTIVE, writtenStatuses().get(1));
+
+        stateObserver.accept(ConnectivityState.READY);
+        verify(gnmiSession, times(2)).subscribe(any(), anyInt(), any(), any());
+
+        // Responses of the cancelled stream are ignored
+        previousObserver.onNext(Gnmi.SubscribeResponse.newBuilder().setSyncResponse(true).build());
+        verify(listener, never()).onSynced();
+    }
+
+    @Test
+    public void addedSubscriptionHasOwnStreamTest() {
+        manager.start();
+        final SubscriptionListener addedListener = mock(SubscriptionListener.class);
+        final Gnmi.Subscription added = SubscribeRequestFactory.onChangeSubscription(
+                GnmiHelper.pathBuilder("/interfaces/interface[name=br0]/config").build());
+
+        final Registration registration = manager.addSubscription(added, addedListener);
+        final StreamObserver<Gnmi.SubscribeResponse> addedObserver = responseObserver(2);
+        Assertions.assertEquals(List.of(SUBSCRIPTION, added), manager.getSubscriptions());
+        final ArgumentCaptor<Gnmi.SubscribeRequest> requestCaptor =
+                ArgumentCaptor.forClass(Gnmi.SubscribeRequest.class);
+        verify(requestObserver, times(2)).onNext(requestCaptor.capture());
+        Assertions.assertEquals(List.of(added), requestCaptor.getValue().getSubscribe().getSubscriptionList());
+
+        // Responses of added stream are dispatched only to its listener
+        addedObserver.onNext(Gnmi.SubscribeResponse.newBuilder().setSyncResponse(true).build());
+        verify(addedListener).onSynced();
+        verify(listener, never()).onSynced();
+
+        // Removing the subscription cancels only its own stream
+        registration.close();
+        verify(requestObserver, times(1)).onError(any());
+        Assertions.assertEquals(List.of(SUBSCRIPTION), manager.getSubscriptions());
+        verify(gnmiSession, times(2)).subscribe(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void closeCancelsStreamTest() {
+        manager.start();
+        final StreamObserver<Gnmi.SubscribeResponse> responseObserver = responseObserver(1);
+
+        manager.close();
+        verify(requestObserver).onError(any());
+        verify(stateObserverRegistration).close();
+
+        responseObserver.onNext(Gnmi.SubscribeResponse.newBuilder().setSyncResponse(true).build());
+        responseObserver.onError(new IllegalStateException("Stream cancelled"));
+        verify(listener, never()).onSynced();
+        verify(listener, never()).onStreamTerminated();
+    }
+
+    @SuppressWarnings("unchecked")
+    private StreamObserver<Gnmi.SubscribeResponse> responseObserver(final int openedStreams) {
+        final ArgumentCaptor<StreamObserver<Gnmi.SubscribeResponse>> observerCaptor =
+                ArgumentCaptor.forClass(StreamObserver.class);
+        verify(gnmiSession, times(openedStreams)).subscribe(observerCaptor.capture(), anyInt(), any(), any());
+        return observerCaptor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<ConnectivityState> stateObserver() {
+        final ArgumentCaptor<Consumer<ConnectivityState>> stateObserverCaptor =
+                ArgumentCaptor.forClass(Consumer.class);
+        verify(deviceConnection).registerConnectivityStateObserver(stateObserverCaptor.capture());
+        return stateObserverCaptor.getValue();
+    }
+
+    private List<SubscriptionState.SubscriptionStatus> writtenStatuses() {
+        final ArgumentCaptor<SubscriptionState> stateCaptor = ArgumentCaptor.forClass(SubscriptionState.class);
+        verify(writeTransaction, atLeastOnce()).mergeParentStructurePut(
+                eq(LogicalDatastoreType.OPERATIONAL), any(), stateCaptor.capture());
+        return stateCaptor.getAllValues().stream()
+                .map(SubscriptionState::getSubscriptionStatus)
+                .toList();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.testcases.CodecTestCasesBase;
+import org.opendaylight.gnmi.southbound.schema.impl.SchemaException;
+import org.opendaylight.gnmi.southbound.schema.loader.api.YangLoadException;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+public class LastKnownValueStoreTest extends CodecTestCasesBase {
+
+    private static final NodeId NODE_ID = new NodeId("test-node");
+
+    public LastKnownValueStoreTest() throws SchemaException, YangLoadException {
+        super();
+    }
+
+    @Test
+    public void sampledPathTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> interfaces = topElementCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+        final LastKnownValueStore store = newStore(Duration.ofHours(1), List.of(interfaces.getLeft()));
+
+        Assertions.assertEquals(Optional.empty(), store.read(mtu.getLeft()));
+        store.commit(List.of(new SubscriptionNotification(1, List.of(mtu), List.of())));
+        // Initial values are not complete until the stream is synced
+        Assertions.assertEquals(Optional.empty(), store.read(mtu.getLeft()));
+        store.onSynced();
+
+        final Optional<LastKnownValue> cached = store.read(mtu.getLeft());
+        Assertions.assertTrue(cached.isPresent());
+        Assertions.assertEquals(Optional.of(mtu.getRight()), cached.orElseThrow().data());
+        Assertions.assertFalse(cached.orElseThrow().age().isNegative());
+        Assertions.assertTrue(store.read(interfaces.getLeft()).isPresent());
+        // Parent of the sampled path is not cached
+        Assertions.assertEquals(Optional.empty(), store.read(YangInstanceIdentifier.of()));
+        Assertions.assertEquals(2, store.getHits());
+        Assertions.assertEquals(3, store.getMisses());
+    }
+
+    @Test
+    public void updateRefreshesOnlyItsPathTest() throws InterruptedException {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> interfaces = topElementCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> config = containerCase();
+        final LastKnownValueStore store = newStore(Duration.ofMillis(200), List.of(interfaces.getLeft()));
+        store.commit(List.of(new SubscriptionNotification(1, List.of(interfaces), List.of())));
+        store.onSynced();
+
+        // Sync time of the sampled path is stale, only the newly updated leaf is fresh
+        Thread.sleep(300);
+        store.commit(List.of(new SubscriptionNotification(2, List.of(mtu), List.of())));
+        Assertions.assertTrue(store.read(mtu.getLeft()).isPresent());
+        Assertions.assertEquals(Optional.empty(), store.read(config.getLeft()));
+        Assertions.assertEquals(Optional.empty(), store.read(interfaces.getLeft()));
+    }
+
+    @Test
+    public void terminatedStreamInvalidatesSampledDataTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> interfaces = topElementCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+        final LastKnownValueStore store = newStore(Duration.ofHours(1), List.of(interfaces.getLeft()));
+        store.commit(List.of(new SubscriptionNotification(1, List.of(interfaces), List.of())));
+        store.onSynced();
+        Assertions.assertTrue(store.read(mtu.getLeft()).isPresent());
+
+        store.onStreamTerminated();
+        Assertions.assertEquals(Optional.empty(), store.read(mtu.getLeft()));
+        // Updates of reopened stream are not used until it is synced again
+        store.commit(List.of(new SubscriptionNotification(2, List.of(mtu), List.of())));
+        Assertions.assertEquals(Optional.empty(), store.read(mtu.getLeft()));
+        store.onSynced();
+        Assertions.assertTrue(store.read(mtu.getLeft()).isPresent());
+    }
+
+    @Test
+    public void getResponseTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> interfaces = topElementCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+        final LastKnownValueStore store = newStore(Duration.ofHours(1), List.of());
+
+        store.recordGetResponse(interfaces.getLeft(), Optional.of(interfaces.getRight()));
+        Assertions.assertEquals(Optional.of(interfaces.getRight()),
+                store.read(interfaces.getLeft()).orElseThrow().data());
+        Assertions.assertTrue(store.read(mtu.getLeft()).isPresent());
+
+        // Data not found on device are cached as well
+        store.recordGetResponse(interfaces.getLeft(), Optional.empty());
+        Assertions.assertEquals(Optional.empty(), store.read(interfaces.getLeft()).orElseThrow().data());
+    }
+
+    private LastKnownValueStore newStore(final Duration staleness, final List<YangInstanceIdentifier> sampledPaths) {
+        return new LastKnownValueStore(NODE_ID, staleness, sampledPaths,
+                new SubscriptionDataTree(getSchemaContextProvider().getSchemaContext()));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import gnmi.Gnmi;
+import java.util.List;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.GnmiCodecException;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.PathToYangInstanceIdentifierCodec;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.UpdateToNormalizedNodeCodec;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.testcases.CodecTestCasesBase;
+import org.opendaylight.gnmi.southbound.schema.impl.SchemaException;
+import org.opendaylight.gnmi.southbound.schema.loader.api.YangLoadException;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+public class NotificationCodecTest extends CodecTestCasesBase {
+
+    private static final Gnmi.Path ETH3_PATH = Gnmi.Path.newBuilder()
+            .addElem(Gnmi.PathElem.newBuilder().setName("interfaces"))
+            .addElem(Gnmi.PathElem.newBuilder().setName("interface").putKey("name", "eth3"))
+            .build();
+    private static final Gnmi.Path ETH3_CONFIG_PATH = ETH3_PATH.toBuilder()
+            .addElem(Gnmi.PathElem.newBuilder().setName("config"))
+            .build();
+
+    public NotificationCodecTest() throws SchemaException, YangLoadException {
+        super();
+    }
+
+    @Test
+    public void prefixedUpdatesAndDeletesTest() throws GnmiCodecException {
+        final NotificationCodec codec = new NotificationCodec(
+                new PathToYangInstanceIdentifierCodec(getSchemaContextProvider()),
+                new UpdateToNormalizedNodeCodec(getSchemaContextProvider()));
+        final Gnmi.Notification notification = Gnmi.Notification.newBuilder()
+                .setTimestamp(42)
+                .setPrefix(ETH3_CONFIG_PATH)
+                .addUpdate(Gnmi.Update.newBuilder()
+                        .setPath(Gnmi.Path.newBuilder().addElem(Gnmi.PathElem.newBuilder().setName("mtu")))
+                        .setVal(Gnmi.TypedValue.newBuilder().setUintVal(1500)))
+                .addDelete(Gnmi.Path.newBuilder().addElem(Gnmi.PathElem.newBuilder().setName("loopback-mode")))
+                .build();
+
+        final SubscriptionNotification decoded = codec.apply(notification);
+        Assertions.assertEquals(42, decoded.timestamp());
+        Assertions.assertEquals(List.of(leafNumberCase()), decoded.updates());
+        Assertions.assertEquals(List.of(leafBooleanCase().getLeft()), decoded.deletes());
+    }
+
+    @Test
+    public void deleteOnlyNotificationTest() throws GnmiCodecException {
+        final NotificationCodec codec = new NotificationCodec(
+                new PathToYangInstanceIdentifierCodec(getSchemaContextProvider()),
+                (update, identifier) -> Assertions.fail("No update should be decoded"));
+        final Gnmi.Notification notification = Gnmi.Notification.newBuilder()
+                .addDelete(ETH3_PATH)
+                .addDelete(ETH3_CONFIG_PATH)
+                .build();
+
+        final SubscriptionNotification decoded = codec.apply(notification);
+        Assertions.assertEquals(List.of(), decoded.updates());
+        Assertions.assertEquals(List.of(listEntryCase(false).getLeft(), containerCase().getLeft()),
+                decoded.deletes());
+    }
+
+    @Test
+    public void listEntryIsUnwrappedTest() throws GnmiCodecException {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> wrapped = listEntryCase(true);
+        final NotificationCodec codec = new NotificationCodec(
+                new PathToYangInstanceIdentifierCodec(getSchemaContextProvider()),
+                (update, identifier) -> wrapped.getRight());
+        final Gnmi.Notification notification = Gnmi.Notification.newBuilder()
+                .addUpdate(Gnmi.Update.newBuilder().setPath(ETH3_PATH))
+                .build();
+
+        Assertions.assertEquals(List.of(listEntryCase(false)), codec.apply(notification).updates());
+    }
+
+    @Test
+    public void missingListEntryTest() {
+        final NotificationCodec codec = new NotificationCodec(
+                new PathToYangInstanceIdentifierCodec(getSchemaContextProvider()),
+                (update, identifier) -> ImmutableNodes.newSystemMapBuilder()
+                        .withNodeIdentifier(getNodeIdentifierOfNodeInModule("openconfig-interfaces", "interface"))
+                        .build());
+        final Gnmi.Notification notification = Gnmi.Notification.newBuilder()
+                .addUpdate(Gnmi.Update.newBuilder().setPath(ETH3_PATH))
+                .build();
+
+        Assertions.assertThrows(GnmiCodecException.class, () -> codec.apply(notification));
+    }
+
+    @Test
+    public void unknownPathTest() {
+        final NotificationCodec codec = new NotificationCodec(
+                new PathToYangInstanceIdentifierCodec(getSchemaContextProvider()),
+                new UpdateToNormalizedNodeCodec(getSchemaContextProvider()));
+        final Gnmi.Notification notification = Gnmi.Notification.newBuilder()
+                .setPrefix(ETH3_CONFIG_PATH)
+                .addDelete(Gnmi.Path.newBuilder().addElem(Gnmi.PathElem.newBuilder().setName("non-existing")))
+                .build();
+
+        Assertions.assertThrows(GnmiCodecException.class, () -> codec.apply(notification));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import gnmi.Gnmi;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.connector.gnmi.util.GnmiHelper;
+import org.opendaylight.gnmi.southbound.device.connection.ConfigurableParameters;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.subscription.parameters.SubscriptionParametersBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.subscription.parameters.subscription.parameters.Subscription;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.gnmi.topology.rev210316.gnmi.subscription.parameters.subscription.parameters.SubscriptionBuilder;
+import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+public class SubscribeRequestFactoryTest {
+
+    private static final String COUNTERS_PATH = "/interfaces/interface[name=eth0]/state/counters";
+    private static final String CONFIG_PATH = "/interfaces/interface[name=eth0]/config";
+    private static final Gnmi.ModelData MODEL = Gnmi.ModelData.newBuilder()
+            .setName("openconfig-interfaces")
+            .setOrganization("OpenConfig working group")
+            .setVersion("2.4.3")
+            .build();
+
+    @Test
+    public void newRequestTest() {
+        final ConfigurableParameters parameters = mock(ConfigurableParameters.class);
+        doReturn(Optional.of("target")).when(parameters).getPathTarget();
+        doReturn(Optional.of(List.of(MODEL))).when(parameters).getModelDataList();
+        final Gnmi.Subscription subscription =
+                SubscribeRequestFactory.onChangeSubscription(GnmiHelper.pathBuilder(CONFIG_PATH).build());
+
+        final Gnmi.SubscribeRequest request = new SubscribeRequestFactory(parameters)
+                .newRequest(List.of(subscription));
+        Assertions.assertTrue(request.hasSubscribe());
+        final Gnmi.SubscriptionList subscriptionList = request.getSubscribe();
+        Assertions.assertEquals(Gnmi.SubscriptionList.Mode.STREAM, subscriptionList.getMode());
+        Assertions.assertEquals(Gnmi.Encoding.JSON_IETF, subscriptionList.getEncoding());
+        Assertions.assertEquals("target", subscriptionList.getPrefix().getTarget());
+        Assertions.assertEquals(0, subscriptionList.getPrefix().getElemCount());
+        Assertions.assertEquals(List.of(MODEL), subscriptionList.getUseModelsList());
+        Assertions.assertEquals(List.of(subscription), subscriptionList.getSubscriptionList());
+    }
+
+    @Test
+    public void newRequestWithoutTargetTest() {
+        final ConfigurableParameters parameters = mock(ConfigurableParameters.class);
+        doReturn(Optional.empty()).when(parameters).getPathTarget();
+        doReturn(Optional.empty()).when(parameters).getModelDataList();
+
+        final Gnmi.SubscriptionList subscriptionList = new SubscribeRequestFactory(parameters)
+                .newRequest(List.of()).getSubscribe();
+        Assertions.assertFalse(subscriptionList.hasPrefix());
+        Assertions.assertEquals(0, subscriptionList.getUseModelsCount());
+    }
+
+    @Test
+    public void fromSubscriptionParametersTest() {
+        final List<Gnmi.Subscription> subscriptions = SubscribeRequestFactory.fromSubscriptionParameters(
+                new SubscriptionParametersBuilder()
+                        .setSubscription(BindingMap.of(
+                                new SubscriptionBuilder()
+                                        .setPath(COUNTERS_PATH)
+                                        .setSubscriptionMode(Subscription.SubscriptionMode.SAMPLE)
+                                        .setSampleInterval(Uint64.valueOf(500))
+                                        .setHeartbeatInterval(Uint64.valueOf(10_000))
+                                        .setSuppressRedundant(true)
+                                        .build(),
+                                new SubscriptionBuilder()
+                                        .setPath(CONFIG_PATH)
+                                        .setSubscriptionMode(Subscription.SubscriptionMode.ONCHANGE)
+                                        .build()))
+                        .build());
+        Assertions.assertEquals(2, subscriptions.size());
+
+        final Gnmi.Subscription sample = findByPath(subscriptions, COUNTERS_PATH);
+        Assertions.assertEquals(Gnmi.SubscriptionMode.SAMPLE, sample.getMode());
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(500), sample.getSampleInterval());
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(10_000), sample.getHeartbeatInterval());
+        Assertions.assertTrue(sample.getSuppressRedundant());
+
+        final Gnmi.Subscription onChange = findByPath(subscriptions, CONFIG_PATH);
+        Assertions.assertEquals(Gnmi.SubscriptionMode.ON_CHANGE, onChange.getMode());
+        Assertions.assertEquals(0, onChange.getSampleInterval());
+        Assertions.assertEquals(0, onChange.getHeartbeatInterval());
+        Assertions.assertFalse(onChange.getSuppressRedundant());
+    }
+
+    @Test
+    public void subscriptionModesTest() {
+        Assertions.assertEquals(Gnmi.SubscriptionMode.TARGET_DEFINED,
+                modeOf(Subscription.SubscriptionMode.TARGETDEFINED));
+        Assertions.assertEquals(Gnmi.SubscriptionMode.ON_CHANGE, modeOf(Subscription.SubscriptionMode.ONCHANGE));
+        Assertions.assertEquals(Gnmi.SubscriptionMode.SAMPLE, modeOf(Subscription.SubscriptionMode.SAMPLE));
+        Assertions.assertEquals(Gnmi.SubscriptionMode.SAMPLE, modeOf(null));
+    }
+
+    @Test
+    public void missingSubscriptionParametersTest() {
+        Assertions.assertEquals(List.of(), SubscribeRequestFactory.fromSubscriptionParameters(null));
+        Assertions.assertEquals(List.of(), SubscribeRequestFactory.fromSubscriptionParameters(
+                new SubscriptionParametersBuilder().build()));
+    }
+
+    private static Gnmi.SubscriptionMode modeOf(final Subscription.SubscriptionMode mode) {
+        return SubscribeRequestFactory.fromSubscriptionParameters(new SubscriptionParametersBuilder()
+                .setSubscription(BindingMap.of(new SubscriptionBuilder()
+                        .setPath(COUNTERS_PATH)
+                        .setSubscriptionMode(mode)
+                        .build()))
+                .build()).get(0).getMode();
+    }
+
+    private static Gnmi.Subscription findByPath(final List<Gnmi.Subscription> subscriptions, final String path) {
+        final Gnmi.Path expected = GnmiHelper.pathBuilder(path).build();
+        return subscriptions.stream()
+                .filter(subscription -> subscription.getPath().equals(expected))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.testcases.CodecTestCasesBase;
+import org.opendaylight.gnmi.southbound.schema.impl.SchemaException;
+import org.opendaylight.gnmi.southbound.schema.loader.api.YangLoadException;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+
+public class SubscriptionDataTreeTest extends CodecTestCasesBase {
+
+    public SubscriptionDataTreeTest() throws SchemaException, YangLoadException {
+        super();
+    }
+
+    @Test
+    public void nestedUpdateTest() throws DataValidationFailedException {
+        final SubscriptionDataTree dataTree = new SubscriptionDataTree(
+                getSchemaContextProvider().getSchemaContext());
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+
+        // Leaf of list entry which does not exist yet
+        final DataTreeCandidate candidate = dataTree.apply(
+                new SubscriptionNotification(1, List.of(mtu), List.of()));
+        Assertions.assertNotNull(candidate.getRootNode().dataAfter());
+        Assertions.assertEquals(Optional.of(mtu.getRight()), dataTree.read(mtu.getLeft()));
+
+        dataTree.apply(new SubscriptionNotification(2, List.of(), List.of(mtu.getLeft())));
+        Assertions.assertEquals(Optional.empty(), dataTree.read(mtu.getLeft()));
+    }
+
+    @Test
+    public void deleteTest() throws DataValidationFailedException {
+        final SubscriptionDataTree dataTree = new SubscriptionDataTree(
+                getSchemaContextProvider().getSchemaContext());
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> interfaces = topElementCase();
+
+        dataTree.apply(new SubscriptionNotification(1, List.of(interfaces), List.of()));
+        Assertions.assertTrue(dataTree.read(interfaces.getLeft()).isPresent());
+
+        dataTree.delete(List.of(interfaces.getLeft()));
+        Assertions.assertEquals(Optional.empty(), dataTree.read(interfaces.getLeft()));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.device.subscription;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+public class TelemetryIngestionStageTest {
+
+    private static final NodeId NODE_ID = new NodeId("test-node");
+    private static final QName CONTAINER = QName.create("urn:test", "container");
+    private static final QName FIRST = QName.create(CONTAINER, "first");
+    private static final QName SECOND = QName.create(CONTAINER, "second");
+    private static final YangInstanceIdentifier CONTAINER_PATH = YangInstanceIdentifier.of(CONTAINER);
+    private static final YangInstanceIdentifier FIRST_PATH = YangInstanceIdentifier.of(CONTAINER, FIRST);
+    private static final YangInstanceIdentifier SECOND_PATH = YangInstanceIdentifier.of(CONTAINER, SECOND);
+
+    private final List<List<SubscriptionNotification>> batches = new ArrayList<>();
+    private ExecutorService executorService;
+    private TelemetryIngestionStage stage;
+
+    @BeforeEach
+    public void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+        // Flush interval is long enough, so only batch size triggers flush
+        stage = new TelemetryIngestionStage(NODE_ID, "test", batch -> {
+            batches.add(batch);
+            return CommitInfo.emptyFluentFuture();
+        }, Duration.ofHours(1), 2, executorService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stage.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void newestUpdateWinsTest() {
+        stage.onNotification(notification(update(FIRST_PATH, FIRST, 1), update(FIRST_PATH, FIRST, 2)));
+        Assertions.assertTrue(batches.isEmpty());
+        stage.onNotification(notification(update(SECOND_PATH, SECOND, 3)));
+
+        Assertions.assertEquals(1, batches.size());
+        Assertions.assertEquals(List.of(update(FIRST_PATH, FIRST, 2), update(SECOND_PATH, SECOND, 3)),
+                batches.get(0).get(0).updates());
+        Assertions.assertEquals(1, stage.getCommitCount());
+        Assertions.assertEquals(1, stage.getCoalescedUpdateCount());
+        Assertions.assertEquals(2, stage.getLastBatchSize());
+    }
+
+    @Test
+    public void deleteDropsBufferedUpdatesTest() {
+        stage.onNotification(notification(update(FIRST_PATH, FIRST, 1)));
+        stage.onNotification(new SubscriptionNotification(2, List.of(update(SECOND_PATH, SECOND, 2)),
+                List.of(CONTAINER_PATH)));
+
+        Assertions.assertEquals(1, batches.size());
+        Assertions.assertEquals(1, batches.get(0).size());
+        Assertions.assertEquals(List.of(CONTAINER_PATH), batches.get(0).get(0).deletes());
+        Assertions.assertEquals(List.of(update(SECOND_PATH, SECOND, 2)), batches.get(0).get(0).updates());
+        Assertions.assertEquals(1, stage.getCoalescedUpdateCount());
+    }
+
+    @Test
+    public void deleteAfterUpdateOfAncestorIsAppliedLaterTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> containerUpdate = ImmutablePair.of(
+                CONTAINER_PATH, ImmutableNodes.newContainerBuilder()
+                        .withNodeIdentifier(NodeIdentifier.create(CONTAINER))
+                        .withChild(ImmutableNodes.leafNode(FIRST, 1))
+                        .build());
+        stage.onNotification(notification(containerUpdate));
+        stage.onNotification(new SubscriptionNotification(2, List.of(), List.of(FIRST_PATH)));
+
+        // Delete is applied after the older update of the container, so the deleted leaf is not resurrected
+        Assertions.assertEquals(1, batches.size());
+        Assertions.assertEquals(2, batches.get(0).size());
+        Assertions.assertEquals(List.of(containerUpdate), batches.get(0).get(0).updates());
+        Assertions.assertEquals(List.of(), batches.get(0).get(0).deletes());
+        Assertions.assertEquals(List.of(), batches.get(0).get(1).updates());
+        Assertions.assertEquals(List.of(FIRST_PATH), batches.get(0).get(1).deletes());
+        Assertions.assertEquals(2, stage.getLastBatchSize());
+    }
+
+    @Test
+    public void syncIsReportedAfterBufferedUpdatesTest() {
+        final List<String> events = new ArrayList<>();
+        final List<SettableFuture<CommitInfo>> commits = new ArrayList<>();
+        final TelemetryIngestionStage syncedStage = new TelemetryIngestionStage(NODE_ID, "test", new TelemetrySink() {
+            @Override
+            public ListenableFuture<? extends CommitInfo> commit(final List<SubscriptionNotification> batch) {
+                events.add("commit " + batch.get(0).updates().size());
+                final SettableFuture<CommitInfo> commit = SettableFuture.create();
+                commits.add(commit);
+                return commit;
+            }
+
+            @Override
+            public void onSynced() {
+                events.add("synced");
+            }
+
+            @Override
+            public void onStreamTerminated() {
+                events.add("terminated");
+            }
+        }, Duration.ofHours(1), 100, executorService);
+
+        syncedStage.onNotification(notification(update(FIRST_PATH, FIRST, 1)));
+        // Buffered initial values are flushed without waiting for flush interval
+        syncedStage.onSynced();
+        Assertions.assertEquals(List.of("commit 1"), events);
+        syncedStage.onNotification(notification(update(SECOND_PATH, SECOND, 2)));
+
+        // Update received after sync waits for flush interval
+        commits.get(0).set(CommitInfo.empty());
+        Assertions.assertEquals(List.of("commit 1", "synced"), events);
+
+        syncedStage.onStreamTerminated();
+        Assertions.assertEquals(List.of("commit 1", "synced", "terminated"), events);
+        syncedStage.close();
+    }
+
+    @Test
+    public void sinkIsCalledOutsideOfStageLockTest() {
+        final List<Boolean> lockHeld = new ArrayList<>();
+        final AtomicReference<TelemetryIngestionStage> holder = new AtomicReference<>();
+        final TelemetryIngestionStage lockedStage = new TelemetryIngestionStage(NODE_ID, "test", new TelemetrySink() {
+            @Override
+            public ListenableFuture<? extends CommitInfo> commit(final List<SubscriptionNotification> batch) {
+                lockHeld.add(Thread.holdsLock(holder.get()));
+                return CommitInfo.emptyFluentFuture();
+            }
+
+            @Override
+            public void onSynced() {
+                lockHeld.add(Thread.holdsLock(holder.get()));
+            }
+
+            @Override
+            public void onStreamTerminated() {
+                // Not tested
+            }
+        }, Duration.ofHours(1), 1, executorService);
+        holder.set(lockedStage);
+
+        // Sink completes commits synchronously, commit of the batch and sync are reported without the lock
+        lockedStage.onNotification(notification(update(FIRST_PATH, FIRST, 1)));
+        lockedStage.onNotification(notification(update(SECOND_PATH, SECOND, 2)));
+        lockedStage.onSynced();
+
+        Assertions.assertEquals(List.of(false, false, false), lockHeld);
+        Assertions.assertEquals(2, lockedStage.getCommitCount());
+        lockedStage.close();
+    }
+
+    private static ImmutablePair<YangInstanceIdentifier, NormalizedNode> update(final YangInstanceIdentifier path,
+            final QName leaf, final int value) {
+        return ImmutablePair.of(path, ImmutableNodes.leafNode(leaf, value));
+    }
+
+    @SafeVarargs
+    private static SubscriptionNotification notification(
+            final ImmutablePair<YangInstanceIdentifier, NormalizedNode>... updates) {
+        return new SubscriptionNotification(1, List.of(updates), List.of());
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.broker;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import gnmi.Gnmi;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.opendaylight.gnmi.southbound.device.subscription.GnmiSubscriptionManager;
+import org.opendaylight.gnmi.southbound.device.subscription.SubscriptionDataTree;
+import org.opendaylight.gnmi.southbound.device.subscription.SubscriptionNotification;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.YangInstanceIdentifierToPathCodec;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.testcases.CodecTestCasesBase;
+import org.opendaylight.gnmi.southbound.schema.impl.SchemaException;
+import org.opendaylight.gnmi.southbound.schema.loader.api.YangLoadException;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+
+public class GnmiDataTreeChangeServiceTest extends CodecTestCasesBase {
+
+    // Subscriptions added to the manager, by subscribed gNMI path
+    private final Map<Gnmi.Path, Registration> subscriptions = new HashMap<>();
+    private YangInstanceIdentifierToPathCodec pathCodec;
+    private GnmiSubscriptionManager subscriptionManager;
+    private GnmiDataTreeChangeService service;
+
+    public GnmiDataTreeChangeServiceTest() throws SchemaException, YangLoadException {
+        super();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        pathCodec = new YangInstanceIdentifierToPathCodec(getSchemaContextProvider(), false);
+        subscriptionManager = mock(GnmiSubscriptionManager.class);
+        doAnswer(invocation -> {
+            final Gnmi.Subscription subscription = invocation.getArgument(0);
+            Assertions.assertEquals(Gnmi.SubscriptionMode.ON_CHANGE, subscription.getMode());
+            final Registration registration = mock(Registration.class);
+            Assertions.assertNull(subscriptions.put(subscription.getPath(), registration));
+            return registration;
+        }).when(subscriptionManager).addSubscription(any(), any());
+        service = new GnmiDataTreeChangeService(new NodeId("test-node"), subscriptionManager, pathCodec,
+                new SubscriptionDataTree(getSchemaContextProvider().getSchemaContext()));
+    }
+
+    @Test
+    public void nestedListenersShareSubscriptionTest() {
+        final YangInstanceIdentifier eth3 = listEntryCase(false).getLeft();
+        final YangInstanceIdentifier eth3Config = containerCase().getLeft();
+        final YangInstanceIdentifier br0Config = containerAugmentedCase().getLeft();
+
+        service.registerTreeChangeListener(treeId(eth3Config), mock(DOMDataTreeChangeListener.class));
+        service.registerTreeChangeListener(treeId(br0Config), mock(DOMDataTreeChangeListener.class));
+        Assertions.assertEquals(2, subscriptions.size());
+        // Every subscribed path is streamed separately to this service
+        verify(subscriptionManager, times(2)).addSubscription(any(), eq(service));
+
+        final Registration parentRegistration = service.registerTreeChangeListener(treeId(eth3),
+                mock(DOMDataTreeChangeListener.class));
+        verify(subscriptions.get(pathCodec.apply(eth3Config))).close();
+        service.registerTreeChangeListener(treeId(eth3Config), mock(DOMDataTreeChangeListener.class));
+        verify(subscriptionManager, times(3)).addSubscription(any(), any());
+
+        // Nested path is subscribed again, once its parent is not subscribed anymore
+        subscriptions.remove(pathCodec.apply(eth3Config));
+        parentRegistration.close();
+        verify(subscriptions.get(pathCodec.apply(eth3))).close();
+        Assertions.assertTrue(subscriptions.containsKey(pathCodec.apply(eth3Config)));
+        // Stream of unrelated path was not touched
+        verify(subscriptions.get(pathCodec.apply(br0Config)), never()).close();
+    }
+
+    @Test
+    public void lastListenerRemovesSubscriptionTest() {
+        final YangInstanceIdentifier eth3Config = containerCase().getLeft();
+        final Registration first = service.registerTreeChangeListener(treeId(eth3Config),
+                mock(DOMDataTreeChangeListener.class));
+        final Registration second = service.registerLegacyTreeChangeListener(treeId(eth3Config),
+                mock(DOMDataTreeChangeListener.class));
+        Assertions.assertEquals(1, subscriptions.size());
+
+        first.close();
+        verify(subscriptions.get(pathCodec.apply(eth3Config)), never()).close();
+        second.close();
+        verify(subscriptions.get(pathCodec.apply(eth3Config))).close();
+    }
+
+    @Test
+    public void notificationsAreFilteredByPathTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> aggregateId = leafAgumentedCase();
+        final DOMDataTreeChangeListener listener = mock(DOMDataTreeChangeListener.class);
+        service.registerTreeChangeListener(treeId(containerCase().getLeft()), listener);
+        verify(listener).onInitialData();
+
+        service.onNotification(new SubscriptionNotification(1, List.of(aggregateId), List.of()));
+        verify(listener, never()).onDataTreeChanged(anyList());
+
+        service.onNotification(new SubscriptionNotification(2, List.of(mtu, aggregateId), List.of()));
+        final DataTreeCandidate candidate = changedCandidate(listener, 1);
+        Assertions.assertEquals(containerCase().getLeft(), candidate.getRootPath());
+        Assertions.assertNotNull(candidate.getRootNode().dataAfter());
+
+        // Data of not subscribed paths are not kept
+        final DOMDataTreeChangeListener br0Listener = mock(DOMDataTreeChangeListener.class);
+        service.registerTreeChangeListener(treeId(aggregateId.getLeft()), br0Listener);
+        verify(br0Listener).onInitialData();
+    }
+
+    @Test
+    public void onlyChangedDataAreNotifiedTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+        final DOMDataTreeChangeListener listener = mock(DOMDataTreeChangeListener.class);
+        service.registerTreeChangeListener(treeId(mtu.getLeft()), listener);
+
+        service.onNotification(new SubscriptionNotification(1, List.of(mtu), List.of()));
+        service.onNotification(new SubscriptionNotification(2, List.of(mtu), List.of()));
+        changedCandidate(listener, 1);
+
+        service.onNotification(new SubscriptionNotification(3, List.of(), List.of(mtu.getLeft())));
+        final DataTreeCandidate deleted = changedCandidate(listener, 2);
+        Assertions.assertNull(deleted.getRootNode().dataAfter());
+    }
+
+    @Test
+    public void receivedDataAreInitialDataOfNewListenerTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+        service.registerTreeChangeListener(treeId(containerCase().getLeft()), mock(DOMDataTreeChangeListener.class));
+        service.onNotification(new SubscriptionNotification(1, List.of(mtu), List.of()));
+
+        final DOMDataTreeChangeListener listener = mock(DOMDataTreeChangeListener.class);
+        service.registerTreeChangeListener(treeId(mtu.getLeft()), listener);
+        verify(listener, never()).onInitialData();
+        final DataTreeCandidate initial = changedCandidate(listener, 1);
+        Assertions.assertEquals(mtu.getLeft(), initial.getRootPath());
+        Assertions.assertEquals(mtu.getRight(), initial.getRootNode().dataAfter());
+    }
+
+    @Test
+    public void notificationReceivedDuringRegistrationFollowsInitialDataTest() throws InterruptedException {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+        final Thread[] notifier = new Thread[1];
+        doAnswer(invocation -> {
+            // Device answers the subscription right away, on a thread of the subscription stream
+            notifier[0] = new Thread(() -> service.onNotification(
+                    new SubscriptionNotification(1, List.of(mtu), List.of())));
+            notifier[0].start();
+            notifier[0].join(200);
+            return mock(Registration.class);
+        }).when(subscriptionManager).addSubscription(any(), any());
+
+        final DOMDataTreeChangeListener listener = mock(DOMDataTreeChangeListener.class);
+        service.registerTreeChangeListener(treeId(mtu.getLeft()), listener);
+        notifier[0].join();
+
+        final InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onInitialData();
+        inOrder.verify(listener).onDataTreeChanged(anyList());
+        Assertions.assertEquals(mtu.getRight(), changedCandidate(listener, 1).getRootNode().dataAfter());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataTreeCandidate changedCandidate(final DOMDataTreeChangeListener listener, final int calls) {
+        final ArgumentCaptor<List<DataTreeCandidate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(listener, times(calls)).onDataTreeChanged(captor.capture());
+        Assertions.assertEquals(1, captor.getValue().size());
+        return captor.getValue().get(0);
+    }
+
+    private static DOMDataTreeIdentifier treeId(final YangInstanceIdentifier path) {
+        return DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL, path);
+    }
+}
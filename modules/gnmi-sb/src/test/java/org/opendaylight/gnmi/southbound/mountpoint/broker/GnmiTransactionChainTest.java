@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.broker;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.GnmiGet;
+import org.opendaylight.gnmi.southbound.mountpoint.ops.GnmiSet;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+public class GnmiTransactionChainTest {
+
+    private static final QName LEAF = QName.create("urn:test", "leaf");
+    private static final YangInstanceIdentifier PATH = YangInstanceIdentifier.of(LEAF);
+    private static final NormalizedNode DATA = ImmutableNodes.leafNode(NodeIdentifier.create(LEAF), "value");
+    private static final QName CONTAINER = QName.create("urn:test", "container");
+    private static final QName CHILD = QName.create(CONTAINER, "child");
+    private static final YangInstanceIdentifier CHILD_PATH = YangInstanceIdentifier.of(CONTAINER, CHILD);
+    private static final NormalizedNode CHILD_DATA = ImmutableNodes.leafNode(NodeIdentifier.create(CHILD), "value");
+
+    private final List<SettableFuture<CommitInfo>> setResults = new ArrayList<>();
+    private final List<List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>>> setUpdates = new ArrayList<>();
+    private GnmiGet gnmiGet;
+    private GnmiDataBroker broker;
+
+    @BeforeEach
+    public void setUp() {
+        gnmiGet = mock(GnmiGet.class);
+        doReturn(new NodeId("test-node")).when(gnmiGet).getNodeId();
+        doReturn(Futures.immediateFuture(Optional.of(DATA))).when(gnmiGet).readConfigurationData(any());
+        final GnmiSet gnmiSet = mock(GnmiSet.class);
+        doReturn(new NodeId("test-node")).when(gnmiSet).getNodeId();
+        doAnswer(invocation -> {
+            final SettableFuture<CommitInfo> result = SettableFuture.create();
+            setResults.add(result);
+            setUpdates.add(invocation.getArgument(1));
+            return result;
+        }).when(gnmiSet).set(any(), any(), any());
+        broker = new GnmiDataBroker(gnmiGet, gnmiSet);
+    }
+
+    @Test
+    public void commitsArePipelinedAndAppliedInOrderTest() throws ExecutionException, InterruptedException {
+        final DOMTransactionChain chain = broker.createTransactionChain();
+
+        final ListenableFuture<? extends CommitInfo> first = commit(chain);
+        final ListenableFuture<? extends CommitInfo> second = commit(chain);
+        final ListenableFuture<? extends CommitInfo> third = commit(chain);
+        // Second and third wait for the first one and are then sent together
+        Assertions.assertEquals(1, setResults.size());
+
+        setResults.get(0).set(CommitInfo.empty());
+        first.get();
+        Assertions.assertEquals(2, setResults.size());
+        chain.close();
+        Assertions.assertFalse(chain.future().isDone());
+
+        setResults.get(1).set(CommitInfo.empty());
+        second.get();
+        third.get();
+        Assertions.assertEquals(Empty.value(), chain.future().get());
+    }
+
+    @Test
+    public void failedCommitFailsRestOfChainTest() {
+        final DOMTransactionChain chain = broker.createTransactionChain();
+
+        commit(chain);
+        commit(chain);
+        final DOMDataTreeWriteTransaction last = chain.newWriteOnlyTransaction();
+        last.put(LogicalDatastoreType.CONFIGURATION, PATH, DATA);
+        final IllegalStateException failure = new IllegalStateException("Set failed");
+        setResults.get(0).setException(failure);
+
+        Assertions.assertEquals(1, setResults.size());
+        Assertions.assertSame(failure, Assertions.assertThrows(ExecutionException.class,
+                () -> chain.future().get()).getCause());
+        Assertions.assertThrows(ExecutionException.class, () -> last.commit().get());
+        Assertions.assertThrows(IllegalStateException.class, chain::newWriteOnlyTransaction);
+    }
+
+    @Test
+    public void chainsOfDeviceAreSequencedTest() {
+        commit(broker.createTransactionChain());
+        commit(broker.createTransactionChain());
+        Assertions.assertEquals(1, setResults.size());
+
+        setResults.get(0).set(CommitInfo.empty());
+        Assertions.assertEquals(2, setResults.size());
+    }
+
+    @Test
+    public void plainTransactionsAreSequencedWithChainsTest() throws ExecutionException, InterruptedException {
+        commit(broker.createTransactionChain());
+        final DOMDataTreeWriteTransaction writeTx = broker.newWriteOnlyTransaction();
+        writeTx.put(LogicalDatastoreType.CONFIGURATION, PATH, DATA);
+        final ListenableFuture<? extends CommitInfo> write = writeTx.commit();
+        final DOMDataTreeWriteTransaction readWriteTx = broker.newReadWriteTransaction();
+        readWriteTx.put(LogicalDatastoreType.CONFIGURATION, PATH, DATA);
+        final ListenableFuture<? extends CommitInfo> readWrite = readWriteTx.commit();
+        Assertions.assertEquals(1, setResults.size());
+        Assertions.assertEquals(2, broker.getSetQueueDepth());
+
+        setResults.get(0).set(CommitInfo.empty());
+        Assertions.assertEquals(2, setResults.size());
+        setResults.get(1).set(CommitInfo.empty());
+        write.get();
+        Assertions.assertEquals(3, setResults.size());
+        setResults.get(2).set(CommitInfo.empty());
+        readWrite.get();
+    }
+
+    @Test
+    public void prepareMergesAreFilteredBeforeFoldingTest() {
+        final DOMTransactionChain chain = broker.createTransactionChain();
+
+        commit(chain);
+        for (int i = 0; i < 2; i++) {
+            final DOMDataTreeWriteTransaction tx = chain.newWriteOnlyTransaction();
+            tx.merge(LogicalDatastoreType.CONFIGURATION, CHILD_PATH, CHILD_DATA);
+            // Datastore prepare merge, as produced by RESTCONF
+            tx.merge(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.of(CONTAINER),
+                    ImmutableNodes.newContainerBuilder().withNodeIdentifier(NodeIdentifier.create(CONTAINER)).build());
+            tx.commit();
+        }
+        setResults.get(0).set(CommitInfo.empty());
+
+        // Both transactions are folded into one SetRequest without their prepare merges
+        Assertions.assertEquals(2, setUpdates.size());
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> update = ImmutablePair.of(CHILD_PATH, CHILD_DATA);
+        Assertions.assertEquals(List.of(update, update), setUpdates.get(1));
+    }
+
+    @Test
+    public void readWaitsForPreviousCommitsTest() throws ExecutionException, InterruptedException {
+        final DOMTransactionChain chain = broker.createTransactionChain();
+
+        commit(chain);
+        final DOMDataTreeReadTransaction readTx = chain.newReadOnlyTransaction();
+        final ListenableFuture<Optional<NormalizedNode>> read = readTx.read(LogicalDatastoreType.CONFIGURATION,
+                PATH);
+        verify(gnmiGet, never()).readConfigurationData(any());
+
+        setResults.get(0).set(CommitInfo.empty());
+        Assertions.assertEquals(Optional.of(DATA), read.get());
+    }
+
+    private static ListenableFuture<? extends CommitInfo> commit(final DOMTransactionChain chain) {
+        final DOMDataTreeWriteTransaction tx = chain.newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.CONFIGURATION, PATH, DATA);
+        return tx.commit();
+    }
+}
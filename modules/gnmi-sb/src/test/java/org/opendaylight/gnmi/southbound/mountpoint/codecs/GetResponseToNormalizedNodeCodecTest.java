@@ -7,7 +7,6 @@
  */
 package org.opendaylight.gnmi.southbound.mountpoint.codecs;
 
-import com.google.gson.Gson;
 import gnmi.Gnmi;
 import java.io.IOException;
 import java.util.Map;
@@ -31,8 +30,7 @@ public class GetResponseToNormalizedNodeCodecTest {
     @BeforeAll
     public static void init() throws YangLoadException, IOException, SchemaException, ConfigurationException {
         testCases = new GetResponseToNormalizedNodeTestCases();
-        final Gson gson = new Gson();
-        codec = new GetResponseToNormalizedNodeCodec(testCases.getSchemaContextProvider(), gson);
+        codec = new GetResponseToNormalizedNodeCodec(testCases.getSchemaContextProvider());
     }
 
     @Test
@@ -165,6 +163,40 @@ public class GetResponseToNormalizedNodeCodecTest {
         assertEqualsCodecResult(prepared.getValue(), result);
     }
 
+    /*
+        Tests codec on leaves sent in several notifications, with paths relative to prefixes of the notifications.
+     */
+    @Test
+    public void mergedNotificationsTest() throws GnmiCodecException {
+        final Map.Entry<ImmutablePair<YangInstanceIdentifier, Gnmi.GetResponse>, NormalizedNode> prepared =
+                testCases.mergedNotificationsTestCase();
+        final Optional<NormalizedNode> result = codec.apply(prepared.getKey().right, prepared.getKey().left);
+        assertEqualsCodecResult(prepared.getValue(), result);
+    }
+
+    /*
+        Tests codec on leaf-list sent as leaflist_val, elements are converted to the type of the leaf-list.
+     */
+    @Test
+    public void leafListTest() throws GnmiCodecException {
+        final Map.Entry<ImmutablePair<YangInstanceIdentifier, Gnmi.GetResponse>, NormalizedNode> prepared =
+                testCases.leafListTestCase();
+        final Optional<NormalizedNode> result = codec.apply(prepared.getKey().right, prepared.getKey().left);
+        assertEqualsCodecResult(prepared.getValue(), result);
+    }
+
+    @Test
+    public void scalarValueOfContainerTest() {
+        final Map.Entry<ImmutablePair<YangInstanceIdentifier, Gnmi.GetResponse>, NormalizedNode> prepared =
+                testCases.containerTestCase(false);
+        final Gnmi.GetResponse response = Gnmi.GetResponse.newBuilder()
+                .addNotification(Gnmi.Notification.newBuilder()
+                        .addUpdate(prepared.getKey().right.getNotification(0).getUpdate(0).toBuilder()
+                                .setVal(Gnmi.TypedValue.newBuilder().setUintVal(1))))
+                .build();
+        Assertions.assertThrows(GnmiCodecException.class, () -> codec.apply(response, prepared.getKey().left));
+    }
+
     private static void assertEqualsCodecResult(final NormalizedNode expected,
                                                 final Optional<NormalizedNode> result) {
         Assertions.assertTrue(result.isPresent());
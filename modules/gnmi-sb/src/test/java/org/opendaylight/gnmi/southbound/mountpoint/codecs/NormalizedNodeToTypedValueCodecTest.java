@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.codecs;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.ByteString;
+import gnmi.Gnmi;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.southbound.schema.impl.SchemaException;
+import org.opendaylight.gnmi.southbound.schema.loader.api.YangLoadException;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+public class NormalizedNodeToTypedValueCodecTest {
+
+    private static final String TYPED_VALUES_PATH = "src/test/resources/codecs/typed-values";
+    private static final QName VALUES = QName.create("test:tv", "2026-10-16", "values");
+    private static final QName DERIVED_IDENTITY = QName.create(VALUES, "derived-identity");
+    private static final YangInstanceIdentifier VALUES_PATH = YangInstanceIdentifier.of(VALUES);
+
+    private static TestSchemaContextProvider schemaContextProvider;
+    private static NormalizedNodeToTypedValueCodec codec;
+
+    @BeforeAll
+    public static void init() throws YangLoadException, SchemaException {
+        schemaContextProvider = TestSchemaContextProvider.createInstance(Path.of(TYPED_VALUES_PATH), Set.of());
+        codec = new NormalizedNodeToTypedValueCodec(schemaContextProvider);
+    }
+
+    @Test
+    public void integerLeavesTest() throws GnmiCodecException {
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setIntVal(-8).build(), apply("int8-leaf", (byte) -8));
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setIntVal(-16).build(),
+                apply("int16-leaf", (short) -16));
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setIntVal(-32).build(), apply("int32-leaf", -32));
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setIntVal(Long.MIN_VALUE).build(),
+                apply("int64-leaf", Long.MIN_VALUE));
+    }
+
+    @Test
+    public void unsignedIntegerLeavesTest() throws GnmiCodecException {
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setUintVal(8).build(),
+                apply("uint8-leaf", Uint8.valueOf(8)));
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setUintVal(16).build(),
+                apply("uint16-leaf", Uint16.valueOf(16)));
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setUintVal(32).build(),
+                apply("uint32-leaf", Uint32.valueOf(32)));
+        // Max uint64 is carried in bits of signed long
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setUintVal(-1L).build(),
+                apply("uint64-leaf", Uint64.MAX_VALUE));
+        // Leafref is mapped by the value of referenced leaf
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setUintVal(16).build(),
+                apply("leafref-leaf", Uint16.valueOf(16)));
+    }
+
+    @Test
+    public void otherScalarLeavesTest() throws GnmiCodecException {
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setBoolVal(true).build(),
+                apply("boolean-leaf", Boolean.TRUE));
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setStringVal("value").build(),
+                apply("string-leaf", "value"));
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder()
+                        .setDecimalVal(Gnmi.Decimal64.newBuilder().setDigits(-1234).setPrecision(2))
+                        .build(),
+                apply("decimal-leaf", Decimal64.valueOf("-12.34")));
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setStringVal("second").build(),
+                apply("enumeration-leaf", "second"));
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setStringVal("typed-values:derived-identity").build(),
+                apply("identityref-leaf", DERIVED_IDENTITY));
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setBytesVal(ByteString.copyFrom(new byte[]{1, 2, 3}))
+                        .build(),
+                apply("binary-leaf", new byte[]{1, 2, 3}));
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder()
+                        .setJsonIetfVal(ByteString.copyFrom("[null]", StandardCharsets.UTF_8))
+                        .build(),
+                apply("empty-leaf", Empty.value()));
+    }
+
+    @Test
+    public void leafFormattedBySchemaTest() throws GnmiCodecException {
+        // Bits are ordered by their positions
+        Assertions.assertEquals(Gnmi.TypedValue.newBuilder().setStringVal("first second").build(),
+                apply("bits-leaf", ImmutableSet.of("first", "second")));
+    }
+
+    @Test
+    public void containerIsMappedToJsonTest() throws GnmiCodecException {
+        final ContainerNode container = ImmutableNodes.newContainerBuilder()
+                .withNodeIdentifier(NodeIdentifier.create(VALUES))
+                .withChild(leaf("string-leaf", "value"))
+                .build();
+        final Gnmi.TypedValue result = codec.apply(VALUES_PATH, container);
+        Assertions.assertEquals(Gnmi.TypedValue.ValueCase.JSON_IETF_VAL, result.getValueCase());
+        Assertions.assertEquals("{\"string-leaf\":\"value\"}", result.getJsonIetfVal().toStringUtf8());
+    }
+
+    /*
+        Leaves are encoded as PROTO scalars and decoded back by the response codec.
+     */
+    @Test
+    public void protoRoundTripTest() throws GnmiCodecException {
+        final List<LeafNode<?>> leaves = List.of(
+                leaf("int8-leaf", (byte) -8),
+                leaf("int16-leaf", (short) -16),
+                leaf("int32-leaf", -32),
+                leaf("int64-leaf", Long.MIN_VALUE),
+                leaf("uint8-leaf", Uint8.valueOf(8)),
+                leaf("uint16-leaf", Uint16.valueOf(16)),
+                leaf("uint32-leaf", Uint32.valueOf(32)),
+                leaf("uint64-leaf", Uint64.MAX_VALUE),
+                leaf("leafref-leaf", Uint16.valueOf(16)),
+                leaf("boolean-leaf", Boolean.TRUE),
+                leaf("string-leaf", "value"),
+                leaf("decimal-leaf", Decimal64.valueOf("-12.34")),
+                leaf("enumeration-leaf", "second"),
+                leaf("identityref-leaf", DERIVED_IDENTITY),
+                leaf("binary-leaf", new byte[]{1, 2, 3}));
+        final YangInstanceNormToGnmiUpdateCodec updateCodec = new YangInstanceNormToGnmiUpdateCodec(
+                schemaContextProvider, new YangInstanceIdentifierToPathCodec(schemaContextProvider, false));
+        final Gnmi.Notification.Builder notification = Gnmi.Notification.newBuilder();
+        final var expected = ImmutableNodes.newContainerBuilder().withNodeIdentifier(NodeIdentifier.create(VALUES));
+        for (final LeafNode<?> leaf : leaves) {
+            notification.addUpdate(updateCodec.apply(VALUES_PATH.node(leaf.name()), leaf));
+            expected.withChild(leaf);
+        }
+
+        final Optional<NormalizedNode> result = new GetResponseToNormalizedNodeCodec(schemaContextProvider)
+                .apply(Gnmi.GetResponse.newBuilder().addNotification(notification).build(), VALUES_PATH);
+        Assertions.assertEquals(Optional.of(expected.build()), result);
+    }
+
+    private static Gnmi.TypedValue apply(final String name, final Object value) throws GnmiCodecException {
+        final LeafNode<?> leaf = leaf(name, value);
+        return codec.apply(VALUES_PATH.node(leaf.name()), leaf);
+    }
+
+    private static LeafNode<?> leaf(final String name, final Object value) {
+        return ImmutableNodes.leafNode(NodeIdentifier.create(QName.create(VALUES, name)), value);
+    }
+}
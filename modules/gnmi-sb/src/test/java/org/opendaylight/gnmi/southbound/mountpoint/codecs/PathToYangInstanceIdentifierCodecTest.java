@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.codecs;
+
+import gnmi.Gnmi;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.core.config.ConfigurationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.testcases.YangInstanceIdentifiertoPathTestCases;
+import org.opendaylight.gnmi.southbound.schema.impl.SchemaException;
+import org.opendaylight.gnmi.southbound.schema.loader.api.YangLoadException;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+public class PathToYangInstanceIdentifierCodecTest {
+
+    @Test
+    public void pathToYangInstanceIdentifierCodecTest()
+            throws SchemaException, YangLoadException, ConfigurationException, GnmiCodecException {
+        final YangInstanceIdentifiertoPathTestCases testCases = new YangInstanceIdentifiertoPathTestCases();
+        final PathToYangInstanceIdentifierCodec codec =
+                new PathToYangInstanceIdentifierCodec(testCases.getSchemaContextProvider());
+
+        for (final boolean prefixed : List.of(true, false)) {
+            for (final Map.Entry<YangInstanceIdentifier, Gnmi.Path> expected : List.of(
+                    testCases.rootElementCase(),
+                    testCases.topElementTestCase(prefixed),
+                    testCases.listEntryTestCase(prefixed),
+                    testCases.leafTestCase(prefixed),
+                    testCases.augmentedTestCase(prefixed))) {
+                Assertions.assertEquals(expected.getKey(), codec.apply(expected.getValue()));
+            }
+        }
+    }
+
+    @Test
+    public void unknownElementTest() throws SchemaException, YangLoadException, ConfigurationException {
+        final YangInstanceIdentifiertoPathTestCases testCases = new YangInstanceIdentifiertoPathTestCases();
+        final PathToYangInstanceIdentifierCodec codec =
+                new PathToYangInstanceIdentifierCodec(testCases.getSchemaContextProvider());
+        final Gnmi.Path path = Gnmi.Path.newBuilder()
+                .addElem(Gnmi.PathElem.newBuilder().setName("interfaces"))
+                .addElem(Gnmi.PathElem.newBuilder().setName("non-existing"))
+                .build();
+        Assertions.assertThrows(GnmiCodecException.class, () -> codec.apply(path));
+    }
+}
@@ -10,6 +10,7 @@ package org.opendaylight.gnmi.southbound.mountpoint.codecs;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
+import org.opendaylight.gnmi.commons.util.CodecCache;
 import org.opendaylight.gnmi.southbound.capabilities.GnmiDeviceCapability;
 import org.opendaylight.gnmi.southbound.schema.SchemaContextHolder;
 import org.opendaylight.gnmi.southbound.schema.TestYangDataStoreService;
@@ -27,9 +28,11 @@ import org.opendaylight.yangtools.yang.source.ir.DefaultYangTextToIRSourceTransf
 public class TestSchemaContextProvider implements SchemaContextProvider {
 
     private final EffectiveModelContext schemaContext;
+    private final CodecCache codecCache;
 
     public TestSchemaContextProvider(final EffectiveModelContext schemaContext) {
         this.schemaContext = schemaContext;
+        this.codecCache = new CodecCache(schemaContext);
     }
 
     @Override
@@ -37,6 +40,11 @@ public class TestSchemaContextProvider implements SchemaContextProvider {
         return schemaContext;
     }
 
+    @Override
+    public CodecCache getCodecCache() {
+        return codecCache;
+    }
+
     public static TestSchemaContextProvider createInstance(final Path path, final Set<YangModuleInfo> moduleInfoSet)
         throws YangLoadException, SchemaException {
         final TestYangDataStoreService dataStoreService = new TestYangDataStoreService();
@@ -102,4 +102,17 @@ public class YangInstanceIdentifierToGnmiPathCodecTest {
         Assertions.assertEquals(ROOT_MODULE_NAME_2, splitRoot2Elem[0]);
         Assertions.assertEquals(ROOT_CONTAINER, splitRoot2Elem[1]);
     }
+
+    @Test
+    public void repeatedIdentifierReusesPath()
+            throws SchemaException, YangLoadException, ConfigurationException {
+        final YangInstanceIdentifiertoPathTestCases testCases = new YangInstanceIdentifiertoPathTestCases();
+        final YangInstanceIdentifierToPathCodec codec = new YangInstanceIdentifierToPathCodec(
+                testCases.getSchemaContextProvider(), true);
+        final Map.Entry<YangInstanceIdentifier, Gnmi.Path> identifierToPathExpected =
+                testCases.listEntryTestCase(true);
+        final Gnmi.Path first = codec.apply(identifierToPathExpected.getKey());
+        Assertions.assertEquals(identifierToPathExpected.getValue(), first);
+        Assertions.assertSame(first, codec.apply(identifierToPathExpected.getKey()));
+    }
 }
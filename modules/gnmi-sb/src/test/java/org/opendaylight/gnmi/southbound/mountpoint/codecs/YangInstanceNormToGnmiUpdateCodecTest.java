@@ -9,7 +9,6 @@ package org.opendaylight.gnmi.southbound.mountpoint.codecs;
 
 import static org.junit.jupiter.api.Assertions.fail;
 
-import com.google.gson.Gson;
 import gnmi.Gnmi;
 import java.io.IOException;
 import java.util.Map;
@@ -36,7 +35,7 @@ public class YangInstanceNormToGnmiUpdateCodecTest {
         codec = new YangInstanceNormToGnmiUpdateCodec(
                 testCases.getSchemaContextProvider(),
                 new YangInstanceIdentifierToPathCodec(testCases.getSchemaContextProvider(),
-                        false), new Gson());
+                        false));
     }
 
     @Test
@@ -22,6 +22,7 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
@@ -189,6 +190,38 @@ public class CodecTestCasesBase {
                 makeLeafNode(OC_IF_AGGREGATE_ID, "aggregate-id", "admin"));
     }
 
+    /**
+     * Returns test case for leaf-list (openconfig-interfaces:interfaces/interface=br0/openconfig-ethernet:ethernet/
+     * openconfig-vlan:switched-vlan/config/trunk-vlans). Type of the leaf-list is union, so values are strings.
+     *
+     * @return test case.
+     */
+    protected ImmutablePair<YangInstanceIdentifier, NormalizedNode> leafListCase() {
+        final YangInstanceIdentifier.NodeIdentifier trunkVlans =
+                getNodeIdentifierOfNodeInModule(OC_VLAN_ID, "trunk-vlans");
+        final YangInstanceIdentifier identifier =
+                YangInstanceIdentifier.of(getNodeIdentifierOfNodeInModule(OC_INTERFACES_ID, "interfaces"))
+                        .node(getNodeIdentifierOfNodeInModule(OC_INTERFACES_ID, "interface"))
+                        .node(getMapEntryIdentifierOfNodeInModule(OC_INTERFACES_ID, "interface", "name", "br0"))
+                        .node(getNodeIdentifierOfNodeInModule(OC_IF_ETHERNET_ID, "ethernet"))
+                        .node(getNodeIdentifierOfNodeInModule(OC_VLAN_ID, "switched-vlan"))
+                        .node(getNodeIdentifierOfNodeInModule(OC_VLAN_ID, "config"))
+                        .node(trunkVlans);
+
+        return ImmutablePair.of(identifier, ImmutableNodes.newSystemLeafSetBuilder()
+                .withNodeIdentifier(trunkVlans)
+                .withChild(leafSetEntry(trunkVlans.getNodeType(), "10"))
+                .withChild(leafSetEntry(trunkVlans.getNodeType(), "20..30"))
+                .build());
+    }
+
+    private static LeafSetEntryNode<Object> leafSetEntry(final QName leafList, final Object value) {
+        return ImmutableNodes.newLeafSetEntryBuilder()
+                .withNodeIdentifier(new YangInstanceIdentifier.NodeWithValue<>(leafList, value))
+                .withValue(value)
+                .build();
+    }
+
     private YangInstanceIdentifier.NodeIdentifierWithPredicates getMapEntryIdentifierOfNodeInModule(
             final String moduleName, final String nodeName, final String keyName, final Object value) {
 
@@ -450,4 +450,81 @@ public class GetResponseToNormalizedNodeTestCases extends CodecTestCasesBase {
 
     }
 
+    /**
+     * Returns test case for container (openconfig-interfaces:interfaces/interface=eth3/config), whose leaves are
+     * sent as scalar values in several notifications, as with PROTO encoding. Paths of the updates are relative
+     * to different prefixes of the notifications.
+     *
+     * @return test case ((inputs to codec), expected output).
+     */
+    public Map.Entry<ImmutablePair<YangInstanceIdentifier, Gnmi.GetResponse>, NormalizedNode>
+            mergedNotificationsTestCase() {
+        final Gnmi.Path interfacePrefix = Gnmi.Path.newBuilder()
+                .addElem(Gnmi.PathElem.newBuilder()
+                        .setName("interfaces"))
+                .addElem(Gnmi.PathElem.newBuilder()
+                        .setName("interface")
+                        .putKey("name", "eth3"))
+                .build();
+        final Gnmi.Path configPrefix = interfacePrefix.toBuilder()
+                .addElem(Gnmi.PathElem.newBuilder()
+                        .setName("config"))
+                .build();
+
+        final Gnmi.GetResponse getResponse = Gnmi.GetResponse.newBuilder()
+                .addNotification(Gnmi.Notification.newBuilder()
+                        .setPrefix(configPrefix)
+                        .addUpdate(scalarUpdate(Gnmi.TypedValue.newBuilder().setStringVal("admin"), "name"))
+                        .addUpdate(scalarUpdate(Gnmi.TypedValue.newBuilder().setUintVal(1500), "mtu")))
+                .addNotification(Gnmi.Notification.newBuilder()
+                        .setPrefix(interfacePrefix)
+                        .addUpdate(scalarUpdate(Gnmi.TypedValue.newBuilder().setBoolVal(false),
+                                "config", "enabled"))
+                        .addUpdate(scalarUpdate(Gnmi.TypedValue.newBuilder().setBoolVal(false),
+                                "config", "loopback-mode"))
+                        .addUpdate(scalarUpdate(Gnmi.TypedValue.newBuilder()
+                                .setStringVal(makePrefixString("openconfig-if-types", "IF_ETHERNET")),
+                                "config", "type")))
+                .build();
+
+        final ImmutablePair<YangInstanceIdentifier,NormalizedNode> testCase = super.containerCase();
+        return Maps.immutableEntry(ImmutablePair.of(testCase.left, getResponse), testCase.right);
+    }
+
+    /**
+     * Returns test case for leaf-list (openconfig-interfaces:interfaces/interface=br0/ethernet/switched-vlan/config/
+     * trunk-vlans), whose values are sent as leaflist_val, relative to prefix of the notification.
+     *
+     * @return test case ((inputs to codec), expected output).
+     */
+    public Map.Entry<ImmutablePair<YangInstanceIdentifier, Gnmi.GetResponse>, NormalizedNode> leafListTestCase() {
+        final Gnmi.Path prefix = Gnmi.Path.newBuilder()
+                .addElem(Gnmi.PathElem.newBuilder()
+                        .setName("interfaces"))
+                .addElem(Gnmi.PathElem.newBuilder()
+                        .setName("interface")
+                        .putKey("name", "br0"))
+                .build();
+
+        final Gnmi.GetResponse getResponse = Gnmi.GetResponse.newBuilder()
+                .addNotification(Gnmi.Notification.newBuilder()
+                        .setPrefix(prefix)
+                        .addUpdate(scalarUpdate(Gnmi.TypedValue.newBuilder()
+                                .setLeaflistVal(Gnmi.ScalarArray.newBuilder()
+                                        .addElement(Gnmi.TypedValue.newBuilder().setUintVal(10))
+                                        .addElement(Gnmi.TypedValue.newBuilder().setStringVal("20..30"))),
+                                "ethernet", "switched-vlan", "config", "trunk-vlans")))
+                .build();
+
+        final ImmutablePair<YangInstanceIdentifier,NormalizedNode> testCase = super.leafListCase();
+        return Maps.immutableEntry(ImmutablePair.of(testCase.left, getResponse), testCase.right);
+    }
+
+    private static Gnmi.Update scalarUpdate(final Gnmi.TypedValue.Builder value, final String... elements) {
+        final Gnmi.Path.Builder path = Gnmi.Path.newBuilder();
+        for (final String element : elements) {
+            path.addElem(Gnmi.PathElem.newBuilder().setName(element));
+        }
+        return Gnmi.Update.newBuilder().setPath(path).setVal(value).build();
+    }
 }
@@ -175,7 +175,7 @@ public class YangInstanceNormToGnmiUpdateTestCases extends CodecTestCasesBase {
 
         final Gnmi.Update expectedUpdate = Gnmi.Update.newBuilder().setPath(path)
                 .setVal(Gnmi.TypedValue.newBuilder()
-                        .setIntVal(jsonMtu.getAsInt()))
+                        .setUintVal(jsonMtu.getAsInt()))
                 .build();
 
         return Maps.immutableEntry(super.leafNumberCase(), expectedUpdate);
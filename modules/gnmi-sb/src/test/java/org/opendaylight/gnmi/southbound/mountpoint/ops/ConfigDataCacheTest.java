@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.testcases.CodecTestCasesBase;
+import org.opendaylight.gnmi.southbound.schema.impl.SchemaException;
+import org.opendaylight.gnmi.southbound.schema.loader.api.YangLoadException;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+public class ConfigDataCacheTest extends CodecTestCasesBase {
+
+    private static final NodeId NODE_ID = new NodeId("test-node");
+    private static final String OC_INTERFACES = "openconfig-interfaces";
+
+    public ConfigDataCacheTest() throws SchemaException, YangLoadException {
+        super();
+    }
+
+    @Test
+    public void readThroughTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> interfaces = topElementCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+        final ConfigDataCache cache = newCache();
+
+        Assertions.assertEquals(Optional.empty(), cache.read(mtu.getLeft()));
+        cache.recordGetResponse(cache.generation(), interfaces.getLeft(), Optional.of(interfaces.getRight()));
+
+        Assertions.assertEquals(Optional.of(mtu.getRight()), cache.read(mtu.getLeft()).orElseThrow().data());
+        // List entry is answered wrapped in list, the same way as it is read from device
+        final Optional<NormalizedNode> entry = cache.read(listEntryCase(false).getLeft()).orElseThrow().data();
+        Assertions.assertInstanceOf(MapNode.class, entry.orElseThrow());
+        // Parent of the read path is not cached
+        Assertions.assertEquals(Optional.empty(), cache.read(YangInstanceIdentifier.of()));
+        Assertions.assertEquals(2, cache.getHits());
+        Assertions.assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void appliedSetPatchesCacheTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> interfaces = topElementCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> loopbackMode = leafBooleanCase();
+        final ConfigDataCache cache = newCache();
+        cache.recordGetResponse(cache.generation(), interfaces.getLeft(), Optional.of(interfaces.getRight()));
+
+        final NormalizedNode newMtu = makeLeafNode(OC_INTERFACES, "mtu", Uint16.valueOf(9000));
+        cache.onSetStarted();
+        cache.onSetCompleted(List.of(ImmutablePair.of(mtu.getLeft(), newMtu)), List.of(),
+                List.of(loopbackMode.getLeft()), true);
+
+        Assertions.assertEquals(Optional.of(newMtu), cache.read(mtu.getLeft()).orElseThrow().data());
+        Assertions.assertEquals(Optional.empty(), cache.read(loopbackMode.getLeft()).orElseThrow().data());
+        Assertions.assertEquals(0, cache.getInvalidations());
+    }
+
+    @Test
+    public void failedSetInvalidatesCacheTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> interfaces = topElementCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> mtu = leafNumberCase();
+        final ConfigDataCache cache = newCache();
+        cache.recordGetResponse(cache.generation(), interfaces.getLeft(), Optional.of(interfaces.getRight()));
+
+        cache.onSetStarted();
+        cache.onSetCompleted(List.of(), List.of(mtu), List.of(), false);
+
+        Assertions.assertEquals(Optional.empty(), cache.read(interfaces.getLeft()));
+        Assertions.assertEquals(1, cache.getInvalidations());
+    }
+
+    @Test
+    public void readOverlappingSetIsNotCachedTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> interfaces = topElementCase();
+        final ConfigDataCache cache = newCache();
+
+        final long readGeneration = cache.generation();
+        cache.onSetStarted();
+        cache.recordGetResponse(readGeneration, interfaces.getLeft(), Optional.of(interfaces.getRight()));
+        Assertions.assertEquals(Optional.empty(), cache.read(interfaces.getLeft()));
+    }
+
+    @Test
+    public void flushTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> interfaces = topElementCase();
+        final ConfigDataCache cache = newCache();
+        final long readGeneration = cache.generation();
+        cache.recordGetResponse(readGeneration, interfaces.getLeft(), Optional.of(interfaces.getRight()));
+
+        cache.flush();
+        Assertions.assertEquals(Optional.empty(), cache.read(interfaces.getLeft()));
+        // Read started before flush is not cached
+        cache.recordGetResponse(readGeneration, interfaces.getLeft(), Optional.of(interfaces.getRight()));
+        Assertions.assertEquals(Optional.empty(), cache.read(interfaces.getLeft()));
+        Assertions.assertEquals(1, cache.getInvalidations());
+    }
+
+    @Test
+    public void expiredRootsAreDroppedOnEveryAccessTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> config = containerCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> ethernetConfig = containerAugmentedCase();
+        final ConfigDataCache cache = new ConfigDataCache(NODE_ID, Duration.ofNanos(1),
+                getSchemaContextProvider().getSchemaContext());
+
+        cache.recordGetResponse(cache.generation(), config.getLeft(), Optional.of(config.getRight()));
+        Assertions.assertEquals(1, cache.getRootCount());
+        // Recording another root drops the expired one
+        cache.recordGetResponse(cache.generation(), ethernetConfig.getLeft(),
+                Optional.of(ethernetConfig.getRight()));
+        Assertions.assertEquals(1, cache.getRootCount());
+        // Completed SetRequest drops expired roots, even if it does not overlap them
+        cache.onSetStarted();
+        cache.onSetCompleted(List.of(), List.of(config), List.of(), true);
+        Assertions.assertEquals(0, cache.getRootCount());
+    }
+
+    @Test
+    public void oldestRootsAreDroppedOverBoundTest() {
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> config = containerCase();
+        final ImmutablePair<YangInstanceIdentifier, NormalizedNode> ethernetConfig = containerAugmentedCase();
+        final ConfigDataCache cache = new ConfigDataCache(NODE_ID, Duration.ofHours(1),
+                getSchemaContextProvider().getSchemaContext(), 1);
+
+        cache.recordGetResponse(cache.generation(), config.getLeft(), Optional.of(config.getRight()));
+        cache.recordGetResponse(cache.generation(), ethernetConfig.getLeft(),
+                Optional.of(ethernetConfig.getRight()));
+
+        Assertions.assertEquals(1, cache.getRootCount());
+        Assertions.assertEquals(Optional.empty(), cache.read(config.getLeft()));
+        Assertions.assertEquals(Optional.of(ethernetConfig.getRight()),
+                cache.read(ethernetConfig.getLeft()).orElseThrow().data());
+        // Dropped roots are not failures of SetRequests
+        Assertions.assertEquals(0, cache.getInvalidations());
+    }
+
+    private ConfigDataCache newCache() {
+        return new ConfigDataCache(NODE_ID, Duration.ofHours(1), getSchemaContextProvider().getSchemaContext());
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.protobuf.ByteString;
+import gnmi.Gnmi;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.gnmi.connector.gnmi.session.api.GnmiSession;
+import org.opendaylight.gnmi.southbound.device.session.provider.GnmiSessionProvider;
+import org.opendaylight.gnmi.southbound.mountpoint.requests.GnmiGetRequestFactory;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+public class GetRequestBatcherTest {
+
+    private static final NodeId NODE_ID = new NodeId("test-node");
+    private static final QName INTERFACES = QName.create("urn:test", "interfaces");
+    private static final QName SYSTEM = QName.create("urn:test", "system");
+    private static final QName CONFIG = QName.create("urn:test", "config");
+    private static final YangInstanceIdentifier INTERFACES_PATH = YangInstanceIdentifier.of(INTERFACES);
+    private static final YangInstanceIdentifier SYSTEM_PATH = YangInstanceIdentifier.of(SYSTEM);
+    private static final YangInstanceIdentifier SYSTEM_CONFIG_PATH = YangInstanceIdentifier.of(SYSTEM, CONFIG);
+    private static final QName INTERFACE = QName.create("urn:test", "interface");
+    private static final QName NAME = QName.create("urn:test", "name");
+
+    private final Map<YangInstanceIdentifier, Gnmi.GetResponse> decodedResponses = new HashMap<>();
+    private final List<YangInstanceIdentifier> singleReads = new ArrayList<>();
+    private GnmiSession session;
+    private GetRequestBatcher batcher;
+
+    @BeforeEach
+    public void setUp() {
+        session = mock(GnmiSession.class);
+        final GnmiSessionProvider sessionProvider = mock(GnmiSessionProvider.class);
+        doReturn(session).when(sessionProvider).getGnmiSession();
+        final GnmiGetRequestFactory requestFactory = (path, dataType) -> Gnmi.GetRequest.newBuilder()
+                .setType(dataType)
+                .addPath(gnmiPath(path))
+                .build();
+        // Window is long enough, so only batch size triggers sending
+        batcher = new GetRequestBatcher(NODE_ID, sessionProvider, requestFactory, Duration.ofHours(1), 2,
+            (response, path, ret) -> {
+                decodedResponses.put(path, response);
+                ret.set(Optional.empty());
+            },
+            (dataType, path, request) -> {
+                singleReads.add(path);
+                return Futures.immediateFuture(Optional.empty());
+            });
+    }
+
+    @Test
+    public void readsAreSentInOneRequestAndSplitTest() throws ExecutionException, InterruptedException {
+        final SettableFuture<Gnmi.GetResponse> responseFuture = SettableFuture.create();
+        doReturn(responseFuture).when(session).get(any());
+
+        final ListenableFuture<Optional<NormalizedNode>> interfaces =
+                batcher.read(Gnmi.GetRequest.DataType.CONFIG, INTERFACES_PATH);
+        final ListenableFuture<Optional<NormalizedNode>> system =
+                batcher.read(Gnmi.GetRequest.DataType.CONFIG, SYSTEM_PATH);
+
+        final ArgumentCaptor<Gnmi.GetRequest> request = ArgumentCaptor.forClass(Gnmi.GetRequest.class);
+        verify(session, times(1)).get(request.capture());
+        Assertions.assertEquals(2, request.getValue().getPathCount());
+
+        // Device answers with module names and with one notification for both paths
+        responseFuture.set(Gnmi.GetResponse.newBuilder()
+                .addNotification(Gnmi.Notification.newBuilder()
+                        .addUpdate(update("test:system", "config"))
+                        .addUpdate(update("test:interfaces")))
+                .build());
+        interfaces.get();
+        system.get();
+
+        Assertions.assertEquals(1, decodedResponses.get(INTERFACES_PATH).getNotification(0).getUpdateCount());
+        Assertions.assertEquals("config", decodedResponses.get(SYSTEM_PATH).getNotification(0).getUpdate(0)
+                .getPath().getElem(1).getName());
+        Assertions.assertTrue(singleReads.isEmpty());
+        Assertions.assertEquals(1, batcher.getBatchedRequestCount());
+        Assertions.assertEquals(2, batcher.getBatchedReadCount());
+    }
+
+    @Test
+    public void failedBatchIsSentSeparatelyTest() throws ExecutionException, InterruptedException {
+        doReturn(Futures.immediateFailedFuture(Status.NOT_FOUND.asRuntimeException())).when(session).get(any());
+
+        final ListenableFuture<Optional<NormalizedNode>> interfaces =
+                batcher.read(Gnmi.GetRequest.DataType.CONFIG, INTERFACES_PATH);
+        final ListenableFuture<Optional<NormalizedNode>> system =
+                batcher.read(Gnmi.GetRequest.DataType.CONFIG, SYSTEM_PATH);
+        interfaces.get();
+        system.get();
+
+        Assertions.assertEquals(List.of(INTERFACES_PATH, SYSTEM_PATH), singleReads);
+        Assertions.assertEquals(2, batcher.getSeparatedReadCount());
+    }
+
+    @Test
+    public void failureOfSessionFailsAllReadsOfBatchTest() {
+        final IllegalStateException failure = new IllegalStateException("Session is closed");
+        doThrow(failure).when(session).get(any());
+
+        final ListenableFuture<Optional<NormalizedNode>> interfaces =
+                batcher.read(Gnmi.GetRequest.DataType.CONFIG, INTERFACES_PATH);
+        final ListenableFuture<Optional<NormalizedNode>> system =
+                batcher.read(Gnmi.GetRequest.DataType.CONFIG, SYSTEM_PATH);
+
+        Assertions.assertSame(failure, Assertions.assertThrows(ExecutionException.class, interfaces::get).getCause());
+        Assertions.assertSame(failure, Assertions.assertThrows(ExecutionException.class, system::get).getCause());
+        Assertions.assertTrue(singleReads.isEmpty());
+    }
+
+    @Test
+    public void overlappingReadStartsNewBatchTest() {
+        doReturn(SettableFuture.create()).when(session).get(any());
+
+        batcher.read(Gnmi.GetRequest.DataType.CONFIG, SYSTEM_PATH);
+        batcher.read(Gnmi.GetRequest.DataType.CONFIG, SYSTEM_CONFIG_PATH);
+
+        // First batch holds single read, so it is sent as single read
+        Assertions.assertEquals(List.of(SYSTEM_PATH), singleReads);
+        verify(session, times(0)).get(any());
+    }
+
+    @Test
+    public void sameReadsShareOnePathTest() {
+        doReturn(SettableFuture.create()).when(session).get(any());
+
+        batcher.read(Gnmi.GetRequest.DataType.CONFIG, SYSTEM_PATH);
+        batcher.read(Gnmi.GetRequest.DataType.CONFIG, SYSTEM_PATH);
+        batcher.read(Gnmi.GetRequest.DataType.STATE, SYSTEM_PATH);
+        verify(session, times(0)).get(any());
+
+        batcher.read(Gnmi.GetRequest.DataType.CONFIG, INTERFACES_PATH);
+        final ArgumentCaptor<Gnmi.GetRequest> request = ArgumentCaptor.forClass(Gnmi.GetRequest.class);
+        verify(session, times(1)).get(request.capture());
+        Assertions.assertEquals(2, request.getValue().getPathCount());
+        Assertions.assertEquals(Gnmi.GetRequest.DataType.CONFIG, request.getValue().getType());
+    }
+
+    @Test
+    public void updateMatchingMoreReadsIsSentSeparatelyTest() throws ExecutionException, InterruptedException {
+        final SettableFuture<Gnmi.GetResponse> responseFuture = SettableFuture.create();
+        doReturn(responseFuture).when(session).get(any());
+
+        final YangInstanceIdentifier interfaceA = interfacePath("a");
+        final YangInstanceIdentifier interfaceB = interfacePath("b");
+        final ListenableFuture<Optional<NormalizedNode>> first =
+                batcher.read(Gnmi.GetRequest.DataType.CONFIG, interfaceA);
+        final ListenableFuture<Optional<NormalizedNode>> second =
+                batcher.read(Gnmi.GetRequest.DataType.CONFIG, interfaceB);
+
+        // Device answers without keys, so the update matches both reads
+        responseFuture.set(Gnmi.GetResponse.newBuilder()
+                .addNotification(Gnmi.Notification.newBuilder()
+                        .addUpdate(update("interfaces", "interface", "config")))
+                .build());
+        first.get();
+        second.get();
+
+        Assertions.assertTrue(decodedResponses.isEmpty());
+        Assertions.assertEquals(List.of(interfaceA, interfaceB), singleReads);
+        Assertions.assertEquals(2, batcher.getSeparatedReadCount());
+    }
+
+    @Test
+    public void keysOfPathsAreComparedTest() {
+        final Gnmi.PathElem interfaceA = Gnmi.PathElem.newBuilder().setName("interface").putKey("name", "a").build();
+        final Gnmi.PathElem interfaceB = Gnmi.PathElem.newBuilder().setName("interface").putKey("name", "b").build();
+        final Gnmi.PathElem anyInterface = Gnmi.PathElem.newBuilder().setName("interface").build();
+        final Gnmi.PathElem interfaces = Gnmi.PathElem.newBuilder().setName("interfaces").build();
+
+        Assertions.assertTrue(GetRequestBatcher.startsWith(List.of(interfaces, interfaceA),
+                List.of(interfaces, interfaceA)));
+        Assertions.assertFalse(GetRequestBatcher.startsWith(List.of(interfaces, interfaceB),
+                List.of(interfaces, interfaceA)));
+        Assertions.assertTrue(GetRequestBatcher.startsWith(List.of(interfaces, anyInterface),
+                List.of(interfaces, interfaceA)));
+        Assertions.assertFalse(GetRequestBatcher.startsWith(List.of(interfaces),
+                List.of(interfaces, interfaceA)));
+    }
+
+    private static Gnmi.Path gnmiPath(final YangInstanceIdentifier path) {
+        final Gnmi.Path.Builder builder = Gnmi.Path.newBuilder();
+        for (final PathArgument arg : path.getPathArguments()) {
+            final Gnmi.PathElem.Builder elem = Gnmi.PathElem.newBuilder().setName(arg.getNodeType().getLocalName());
+            if (arg instanceof NodeIdentifierWithPredicates keyed) {
+                keyed.entrySet().forEach(key -> elem.putKey(key.getKey().getLocalName(), key.getValue().toString()));
+            }
+            builder.addElem(elem);
+        }
+        return builder.build();
+    }
+
+    private static YangInstanceIdentifier interfacePath(final String name) {
+        return YangInstanceIdentifier.of(new NodeIdentifier(INTERFACES),
+                NodeIdentifierWithPredicates.of(INTERFACE, NAME, name));
+    }
+
+    private static Gnmi.Update update(final String... elems) {
+        final Gnmi.Path.Builder path = Gnmi.Path.newBuilder();
+        for (final String elem : elems) {
+            path.addElem(Gnmi.PathElem.newBuilder().setName(elem));
+        }
+        return Gnmi.Update.newBuilder()
+                .setPath(path)
+                .setVal(Gnmi.TypedValue.newBuilder().setJsonIetfVal(ByteString.copyFromUtf8("{}")))
+                .build();
+    }
+}
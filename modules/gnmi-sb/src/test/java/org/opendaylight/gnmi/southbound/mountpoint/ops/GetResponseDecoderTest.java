@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GetResponseDecoderTest {
+
+    private static final int INLINE_THRESHOLD = 100;
+
+    @Test
+    public void smallResponseIsDecodedInlineTest() {
+        try (GetResponseDecoder decoder = GetResponseDecoder.create(1, 1, false, INLINE_THRESHOLD)) {
+            final AtomicReference<Thread> decodingThread = new AtomicReference<>();
+            decoder.executorFor(INLINE_THRESHOLD - 1, SettableFuture.create())
+                    .execute(() -> decodingThread.set(Thread.currentThread()));
+            Assertions.assertEquals(Thread.currentThread(), decodingThread.get());
+            Assertions.assertEquals(1, decoder.getInlineCount());
+            Assertions.assertEquals(0, decoder.getOffloadedCount());
+        }
+    }
+
+    @Test
+    public void largeResponseIsDecodedByDecoderThreadTest() throws InterruptedException {
+        try (GetResponseDecoder decoder = GetResponseDecoder.create(1, 1, false, INLINE_THRESHOLD)) {
+            final AtomicReference<Thread> decodingThread = new AtomicReference<>();
+            final CountDownLatch decoded = new CountDownLatch(1);
+            decoder.executorFor(INLINE_THRESHOLD, SettableFuture.create()).execute(() -> {
+                decodingThread.set(Thread.currentThread());
+                decoded.countDown();
+            });
+            Assertions.assertTrue(decoded.await(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(decodingThread.get().getName().startsWith("gnmi-get-decoder-"));
+            Assertions.assertEquals(0, decoder.getInlineCount());
+        }
+    }
+
+    @Test
+    public void inlineDecoderNeverOffloadsTest() {
+        final AtomicReference<Thread> decodingThread = new AtomicReference<>();
+        GetResponseDecoder.inline().executorFor(Long.MAX_VALUE, SettableFuture.create())
+                .execute(() -> decodingThread.set(Thread.currentThread()));
+        Assertions.assertEquals(Thread.currentThread(), decodingThread.get());
+    }
+
+    @Test
+    public void decodingOverBoundIsRejectedTest() throws InterruptedException {
+        try (GetResponseDecoder decoder = GetResponseDecoder.create(1, 1, false, INLINE_THRESHOLD)) {
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            // First response occupies the only thread, second one waits in queue
+            decoder.executorFor(INLINE_THRESHOLD, SettableFuture.create()).execute(() -> {
+                started.countDown();
+                awaitUninterruptibly(release);
+            });
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            decoder.executorFor(INLINE_THRESHOLD, SettableFuture.create()).execute(() -> { });
+            Assertions.assertEquals(1, decoder.getQueueDepth());
+
+            Assertions.assertThrows(RejectedExecutionException.class,
+                () -> decoder.executorFor(INLINE_THRESHOLD, SettableFuture.create()).execute(() -> { }));
+            Assertions.assertEquals(1, decoder.getRejectedCount());
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void closeFailsPendingDecodingTest() throws InterruptedException {
+        final SettableFuture<Object> pending = SettableFuture.create();
+        final CountDownLatch release = new CountDownLatch(1);
+        try (GetResponseDecoder decoder = GetResponseDecoder.create(1, 1, false, INLINE_THRESHOLD)) {
+            final CountDownLatch started = new CountDownLatch(1);
+            decoder.decode(INLINE_THRESHOLD, () -> {
+                started.countDown();
+                awaitUninterruptibly(release);
+            }, SettableFuture.create());
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            // Waits for the only thread, it is never run once the decoder is closed
+            decoder.decode(INLINE_THRESHOLD, () -> pending.set(new Object()), pending);
+        } finally {
+            release.countDown();
+        }
+        final ExecutionException failure = Assertions.assertThrows(ExecutionException.class,
+            () -> pending.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+    }
+
+    @Test
+    public void closeFailsPendingDecodingOfExecutorTest() throws InterruptedException {
+        final SettableFuture<Object> pending = SettableFuture.create();
+        final CountDownLatch release = new CountDownLatch(1);
+        final GetResponseDecoder decoder = GetResponseDecoder.create(1, 1, false, INLINE_THRESHOLD);
+        try {
+            final CountDownLatch started = new CountDownLatch(1);
+            decoder.executorFor(INLINE_THRESHOLD, SettableFuture.create()).execute(() -> {
+                started.countDown();
+                awaitUninterruptibly(release);
+            });
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            decoder.executorFor(INLINE_THRESHOLD, pending).execute(() -> pending.set(new Object()));
+            decoder.close();
+        } finally {
+            release.countDown();
+        }
+        final ExecutionException failure = Assertions.assertThrows(ExecutionException.class,
+            () -> pending.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        // Responses delivered after close are not decoded
+        Assertions.assertThrows(RejectedExecutionException.class,
+            () -> decoder.executorFor(INLINE_THRESHOLD, SettableFuture.create()).execute(() -> { }));
+    }
+
+    @Test
+    public void virtualThreadsDecodeLargeResponseTest() throws InterruptedException {
+        try (GetResponseDecoder decoder = GetResponseDecoder.create(1, 1, true, INLINE_THRESHOLD)) {
+            final AtomicReference<Thread> decodingThread = new AtomicReference<>();
+            final CountDownLatch decoded = new CountDownLatch(1);
+            decoder.executorFor(INLINE_THRESHOLD, SettableFuture.create()).execute(() -> {
+                decodingThread.set(Thread.currentThread());
+                decoded.countDown();
+            });
+            Assertions.assertTrue(decoded.await(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(decodingThread.get().isVirtual());
+        }
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import gnmi.Gnmi;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.connector.gnmi.session.api.GnmiSession;
+import org.opendaylight.gnmi.southbound.device.session.provider.GnmiSessionProvider;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+public class GnmiGetTest {
+
+    private static final QName LEAF = QName.create("urn:test", "leaf");
+    private static final YangInstanceIdentifier PATH = YangInstanceIdentifier.of(LEAF);
+    private static final NormalizedNode DATA = ImmutableNodes.leafNode(NodeIdentifier.create(LEAF), "value");
+    private static final YangInstanceIdentifier OTHER_PATH = YangInstanceIdentifier.of(
+            QName.create("urn:test", "other"));
+
+    private GnmiSession session;
+    private GnmiGet gnmiGet;
+
+    @BeforeEach
+    public void setUp() {
+        session = mock(GnmiSession.class);
+        final GnmiSessionProvider sessionProvider = mock(GnmiSessionProvider.class);
+        doReturn(session).when(sessionProvider).getGnmiSession();
+        gnmiGet = new GnmiGet(sessionProvider, new NodeId("test-node"), (response, path) -> Optional.of(DATA),
+            (path, dataType) -> Gnmi.GetRequest.newBuilder().setType(dataType).build());
+    }
+
+    @Test
+    public void identicalReadJoinsReadInFlightTest() throws ExecutionException, InterruptedException {
+        final SettableFuture<Gnmi.GetResponse> response = SettableFuture.create();
+        doReturn(response).when(session).get(any());
+
+        final ListenableFuture<Optional<NormalizedNode>> first = gnmiGet.readConfigurationData(PATH);
+        final ListenableFuture<Optional<NormalizedNode>> second = gnmiGet.readConfigurationData(PATH);
+        // Different data type is read separately
+        gnmiGet.readData(Gnmi.GetRequest.DataType.STATE, PATH);
+        verify(session, times(2)).get(any());
+        Assertions.assertEquals(1, gnmiGet.getJoinedReadCount());
+
+        response.set(Gnmi.GetResponse.getDefaultInstance());
+        Assertions.assertSame(first.get().orElseThrow(), second.get().orElseThrow());
+    }
+
+    @Test
+    public void completedReadIsSentAgainTest() {
+        final SettableFuture<Gnmi.GetResponse> response = SettableFuture.create();
+        doReturn(response).when(session).get(any());
+
+        gnmiGet.readConfigurationData(PATH);
+        response.set(Gnmi.GetResponse.getDefaultInstance());
+        gnmiGet.readConfigurationData(PATH);
+        verify(session, times(2)).get(any());
+        Assertions.assertEquals(0, gnmiGet.getJoinedReadCount());
+    }
+
+    @Test
+    public void readsAreJoinedByTheirRequestsTest() {
+        doReturn(SettableFuture.create()).when(session).get(any());
+        final GnmiSessionProvider sessionProvider = mock(GnmiSessionProvider.class);
+        doReturn(session).when(sessionProvider).getGnmiSession();
+        // Overwritten data type makes CONFIG and STATE requests identical
+        final GnmiGet overwritingGet = new GnmiGet(sessionProvider, new NodeId("test-node"),
+            (response, path) -> Optional.of(DATA), (path, dataType) -> Gnmi.GetRequest.newBuilder()
+                .setType(Gnmi.GetRequest.DataType.ALL).build());
+
+        overwritingGet.readData(Gnmi.GetRequest.DataType.CONFIG, PATH);
+        overwritingGet.readData(Gnmi.GetRequest.DataType.STATE, PATH);
+        gnmiGet.readData(Gnmi.GetRequest.DataType.CONFIG, PATH);
+        gnmiGet.readData(Gnmi.GetRequest.DataType.STATE, PATH);
+        verify(session, times(3)).get(any());
+        Assertions.assertEquals(1, overwritingGet.getJoinedReadCount());
+        Assertions.assertEquals(0, gnmiGet.getJoinedReadCount());
+    }
+
+    @Test
+    public void setDropsOnlyReadsOfTouchedPathsTest() {
+        doReturn(SettableFuture.create()).when(session).get(any());
+
+        gnmiGet.readConfigurationData(PATH);
+        gnmiGet.readConfigurationData(OTHER_PATH);
+        gnmiGet.onSetCompleted(List.of(), List.of(ImmutablePair.of(PATH, DATA)), List.of(), true);
+        verify(session, times(2)).get(any());
+
+        // Read of the touched path is sent again, read of the other path still joins the read in flight
+        gnmiGet.readConfigurationData(PATH);
+        gnmiGet.readConfigurationData(OTHER_PATH);
+        verify(session, times(3)).get(any());
+        Assertions.assertEquals(1, gnmiGet.getJoinedReadCount());
+    }
+
+    @Test
+    public void cancelledCallerDoesNotCancelReadInFlightTest() {
+        doReturn(SettableFuture.create()).when(session).get(any());
+
+        final ListenableFuture<Optional<NormalizedNode>> first = gnmiGet.readConfigurationData(PATH);
+        final ListenableFuture<Optional<NormalizedNode>> second = gnmiGet.readConfigurationData(PATH);
+        first.cancel(false);
+        Assertions.assertFalse(second.isDone());
+    }
+
+    @Test
+    public void unexpectedDecodingFailureFailsReadTest() {
+        final GnmiSessionProvider sessionProvider = mock(GnmiSessionProvider.class);
+        doReturn(session).when(sessionProvider).getGnmiSession();
+        doReturn(Futures.immediateFuture(Gnmi.GetResponse.getDefaultInstance())).when(session).get(any());
+        final GnmiGet failingGet = new GnmiGet(sessionProvider, new NodeId("test-node"), (response, path) -> {
+            throw new IllegalStateException("Unexpected failure");
+        }, (path, dataType) -> Gnmi.GetRequest.newBuilder().setType(dataType).build());
+
+        final ExecutionException failure = Assertions.assertThrows(ExecutionException.class,
+            () -> failingGet.readConfigurationData(PATH).get());
+        Assertions.assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    @Test
+    public void failureOfRequestFactoryFailsReadTest() {
+        final GnmiSessionProvider sessionProvider = mock(GnmiSessionProvider.class);
+        doReturn(session).when(sessionProvider).getGnmiSession();
+        final GnmiGet failingGet = new GnmiGet(sessionProvider, new NodeId("test-node"),
+            (response, path) -> Optional.of(DATA), (path, dataType) -> {
+                throw new IllegalStateException("Unexpected failure");
+            });
+
+        final ExecutionException failure = Assertions.assertThrows(ExecutionException.class,
+            () -> failingGet.readConfigurationData(PATH).get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IllegalStateException.class, failure.getCause());
+        // Failed read is not in flight anymore
+        Assertions.assertThrows(ExecutionException.class,
+            () -> failingGet.readConfigurationData(PATH).get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, failingGet.getJoinedReadCount());
+        verify(session, times(0)).get(any());
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+public class SetCoalescerTest {
+
+    private static final NodeId NODE_ID = new NodeId("test-node");
+    private static final QName FIRST = QName.create("urn:test", "first");
+    private static final QName SECOND = QName.create("urn:test", "second");
+    private static final QName THIRD = QName.create("urn:test", "third");
+
+    private final List<SetCall> calls = new ArrayList<>();
+    private final SetOperation setOperation = (replaceList, updateList, deleteList) -> {
+        final SettableFuture<CommitInfo> result = SettableFuture.create();
+        calls.add(new SetCall(replaceList, updateList, deleteList, result));
+        return result;
+    };
+
+    @Test
+    public void transactionsCommittedDuringInFlightSetAreFoldedTest() throws ExecutionException,
+            InterruptedException {
+        final SetCoalescer coalescer = new SetCoalescer(NODE_ID, setOperation, Duration.ZERO, 100);
+
+        final ListenableFuture<CommitInfo> first = coalescer.set(List.of(), List.of(edit(FIRST)), List.of());
+        Assertions.assertEquals(1, calls.size());
+        final ListenableFuture<CommitInfo> second = coalescer.set(List.of(), List.of(edit(SECOND)), List.of());
+        final ListenableFuture<CommitInfo> third = coalescer.set(List.of(edit(THIRD)), List.of(), List.of());
+        Assertions.assertEquals(1, calls.size());
+
+        calls.get(0).result().set(CommitInfo.empty());
+        first.get();
+        Assertions.assertEquals(2, calls.size());
+        Assertions.assertEquals(List.of(edit(SECOND)), calls.get(1).updateList());
+        Assertions.assertEquals(List.of(edit(THIRD)), calls.get(1).replaceList());
+        Assertions.assertFalse(second.isDone());
+
+        calls.get(1).result().set(CommitInfo.empty());
+        second.get();
+        third.get();
+        Assertions.assertEquals(2, coalescer.getRequestCount());
+        Assertions.assertEquals(3, coalescer.getTransactionCount());
+    }
+
+    @Test
+    public void gatheredTransactionsAreNotSentByThreadAnsweringPreviousSetTest() {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        final SetCoalescer coalescer = new SetCoalescer(NODE_ID, setOperation, Duration.ZERO, 100, tasks::add);
+
+        coalescer.set(List.of(), List.of(edit(FIRST)), List.of());
+        coalescer.set(List.of(), List.of(edit(SECOND)), List.of());
+        calls.get(0).result().set(CommitInfo.empty());
+        Assertions.assertEquals(1, calls.size());
+
+        tasks.poll().run();
+        Assertions.assertEquals(2, calls.size());
+        Assertions.assertEquals(List.of(edit(SECOND)), calls.get(1).updateList());
+    }
+
+    @Test
+    public void deleteOfEarlierUpdateStartsNextSetTest() {
+        final SetCoalescer coalescer = new SetCoalescer(NODE_ID, setOperation, Duration.ZERO, 100);
+
+        coalescer.set(List.of(), List.of(edit(FIRST)), List.of());
+        coalescer.set(List.of(), List.of(edit(SECOND)), List.of());
+        // Device would apply the delete before the update, if they were sent together
+        coalescer.set(List.of(), List.of(), List.of(YangInstanceIdentifier.of(SECOND)));
+
+        calls.get(0).result().set(CommitInfo.empty());
+        Assertions.assertEquals(2, calls.size());
+        Assertions.assertEquals(List.of(), calls.get(1).deleteList());
+        calls.get(1).result().set(CommitInfo.empty());
+        Assertions.assertEquals(3, calls.size());
+        Assertions.assertEquals(List.of(YangInstanceIdentifier.of(SECOND)), calls.get(2).deleteList());
+    }
+
+    @Test
+    public void failureIsSharedByFoldedTransactionsTest() {
+        final SetCoalescer coalescer = new SetCoalescer(NODE_ID, setOperation, Duration.ZERO, 100);
+
+        coalescer.set(List.of(), List.of(edit(FIRST)), List.of());
+        final ListenableFuture<CommitInfo> second = coalescer.set(List.of(), List.of(edit(SECOND)), List.of());
+        final ListenableFuture<CommitInfo> third = coalescer.set(List.of(), List.of(edit(THIRD)), List.of());
+        calls.get(0).result().set(CommitInfo.empty());
+
+        final IllegalStateException failure = new IllegalStateException("Set failed");
+        calls.get(1).result().setException(failure);
+        Assertions.assertSame(failure, Assertions.assertThrows(ExecutionException.class, second::get).getCause());
+        Assertions.assertSame(failure, Assertions.assertThrows(ExecutionException.class, third::get).getCause());
+    }
+
+    @Test
+    public void throwingSetFailsFoldedTransactionsTest() {
+        final IllegalStateException failure = new IllegalStateException("Session closed");
+        final SetCoalescer coalescer = new SetCoalescer(NODE_ID, (replaceList, updateList, deleteList) -> {
+            if (!calls.isEmpty()) {
+                throw failure;
+            }
+            return setOperation.set(replaceList, updateList, deleteList);
+        }, Duration.ZERO, 100);
+
+        coalescer.set(List.of(), List.of(edit(FIRST)), List.of());
+        final ListenableFuture<CommitInfo> second = coalescer.set(List.of(), List.of(edit(SECOND)), List.of());
+        final ListenableFuture<CommitInfo> third = coalescer.set(List.of(), List.of(edit(THIRD)), List.of());
+        calls.get(0).result().set(CommitInfo.empty());
+
+        Assertions.assertSame(failure, Assertions.assertThrows(ExecutionException.class, second::get).getCause());
+        Assertions.assertSame(failure, Assertions.assertThrows(ExecutionException.class, third::get).getCause());
+        // Transactions committed later are failed right away instead of waiting for the thrown SetRequest
+        final ListenableFuture<CommitInfo> later = coalescer.set(List.of(), List.of(edit(FIRST)), List.of());
+        Assertions.assertInstanceOf(TransactionCommitFailedException.class,
+                Assertions.assertThrows(ExecutionException.class, later::get).getCause());
+    }
+
+    @Test
+    public void transactionsCommittedAfterFailureAreNotSentTest() {
+        final SetCoalescer coalescer = new SetCoalescer(NODE_ID, setOperation, Duration.ZERO, 100);
+
+        coalescer.set(List.of(), List.of(edit(FIRST)), List.of());
+        coalescer.set(List.of(), List.of(edit(SECOND)), List.of());
+        // Starts another SetRequest, which is not sent either
+        final ListenableFuture<CommitInfo> queued = coalescer.set(List.of(), List.of(),
+                List.of(YangInstanceIdentifier.of(SECOND)));
+        calls.get(0).result().setException(new IllegalStateException("Set failed"));
+
+        Assertions.assertEquals(1, calls.size());
+        Assertions.assertInstanceOf(TransactionCommitFailedException.class,
+                Assertions.assertThrows(ExecutionException.class, queued::get).getCause());
+        final ListenableFuture<CommitInfo> later = coalescer.set(List.of(), List.of(edit(THIRD)), List.of());
+        Assertions.assertThrows(ExecutionException.class, later::get);
+        Assertions.assertEquals(1, calls.size());
+    }
+
+    @Test
+    public void fullBatchIsSentWithoutWaitingForWindowTest() {
+        // Window is long enough, so only batch size triggers sending
+        final SetCoalescer coalescer = new SetCoalescer(NODE_ID, setOperation, Duration.ofHours(1), 2);
+
+        coalescer.set(List.of(), List.of(edit(FIRST)), List.of());
+        Assertions.assertTrue(calls.isEmpty());
+        coalescer.set(List.of(), List.of(edit(SECOND)), List.of());
+        Assertions.assertEquals(1, calls.size());
+        Assertions.assertEquals(List.of(edit(FIRST), edit(SECOND)), calls.get(0).updateList());
+    }
+
+    @Test
+    public void immediatelyAnsweredSetsAreSentWithoutRecursionTest() throws ExecutionException,
+            InterruptedException {
+        final SettableFuture<CommitInfo> firstResult = SettableFuture.create();
+        final List<SetCall> sent = new ArrayList<>();
+        // The first SetRequest is answered later, the rest of them immediately
+        final SetCoalescer coalescer = new SetCoalescer(NODE_ID, (replaceList, updateList, deleteList) -> {
+            sent.add(new SetCall(replaceList, updateList, deleteList, null));
+            return sent.size() == 1 ? firstResult : Futures.immediateFuture(CommitInfo.empty());
+        }, Duration.ZERO, 100);
+
+        coalescer.set(List.of(), List.of(edit(FIRST)), List.of());
+        // Each transaction deletes update of the previous one, so each of them is sent in its own SetRequest
+        ListenableFuture<CommitInfo> last = null;
+        for (int i = 0; i < 50_000; i++) {
+            last = coalescer.set(List.of(), List.of(edit(FIRST)), List.of(YangInstanceIdentifier.of(FIRST)));
+        }
+        firstResult.set(CommitInfo.empty());
+
+        last.get();
+        Assertions.assertEquals(50_001, sent.size());
+        Assertions.assertEquals(50_001, coalescer.getRequestCount());
+    }
+
+    private static ImmutablePair<YangInstanceIdentifier, NormalizedNode> edit(final QName qname) {
+        return ImmutablePair.of(YangInstanceIdentifier.of(qname),
+                ImmutableNodes.leafNode(NodeIdentifier.create(qname), "value"));
+    }
+
+    private record SetCall(List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> replaceList,
+                           List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
+                           List<YangInstanceIdentifier> deleteList, SettableFuture<CommitInfo> result) {
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.ops;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+public class SetSequencerTest {
+
+    private static final QName FIRST = QName.create("urn:test", "first");
+    private static final QName SECOND = QName.create("urn:test", "second");
+
+    private final List<SetCall> calls = new ArrayList<>();
+    private final SetOperation setOperation = (replaceList, updateList, deleteList) -> {
+        final SettableFuture<CommitInfo> result = SettableFuture.create();
+        calls.add(new SetCall(updateList, result));
+        return result;
+    };
+
+    @Test
+    public void setIsSentOnceThePreviousOneIsAnsweredTest() throws ExecutionException, InterruptedException {
+        final SetSequencer sequencer = new SetSequencer(setOperation);
+
+        final ListenableFuture<CommitInfo> first = sequencer.set(List.of(), List.of(edit(FIRST)), List.of());
+        final ListenableFuture<CommitInfo> second = sequencer.set(List.of(), List.of(edit(SECOND)), List.of());
+        Assertions.assertEquals(1, calls.size());
+        Assertions.assertEquals(1, sequencer.getQueueDepth());
+
+        calls.get(0).result().set(CommitInfo.empty());
+        first.get();
+        Assertions.assertEquals(2, calls.size());
+        Assertions.assertEquals(List.of(edit(SECOND)), calls.get(1).updateList());
+        Assertions.assertEquals(0, sequencer.getQueueDepth());
+        Assertions.assertFalse(second.isDone());
+
+        calls.get(1).result().set(CommitInfo.empty());
+        second.get();
+    }
+
+    @Test
+    public void failedSetDoesNotStopNextOneTest() {
+        final SetSequencer sequencer = new SetSequencer(setOperation);
+
+        final ListenableFuture<CommitInfo> first = sequencer.set(List.of(), List.of(edit(FIRST)), List.of());
+        sequencer.set(List.of(), List.of(edit(SECOND)), List.of());
+        final IllegalStateException failure = new IllegalStateException("Set failed");
+        calls.get(0).result().setException(failure);
+
+        Assertions.assertSame(failure, Assertions.assertThrows(ExecutionException.class, first::get).getCause());
+        Assertions.assertEquals(2, calls.size());
+    }
+
+    @Test
+    public void throwingSetDoesNotStopNextOneTest() throws ExecutionException, InterruptedException {
+        final IllegalStateException failure = new IllegalStateException("Session closed");
+        final SetSequencer sequencer = new SetSequencer((replaceList, updateList, deleteList) -> {
+            if (calls.isEmpty()) {
+                calls.add(new SetCall(updateList, SettableFuture.create()));
+                throw failure;
+            }
+            return setOperation.set(replaceList, updateList, deleteList);
+        });
+
+        final ListenableFuture<CommitInfo> first = sequencer.set(List.of(), List.of(edit(FIRST)), List.of());
+        final ListenableFuture<CommitInfo> second = sequencer.set(List.of(), List.of(edit(SECOND)), List.of());
+
+        Assertions.assertSame(failure, Assertions.assertThrows(ExecutionException.class, first::get).getCause());
+        Assertions.assertEquals(2, calls.size());
+        calls.get(1).result().set(CommitInfo.empty());
+        second.get();
+        Assertions.assertEquals(0, sequencer.getQueueDepth());
+    }
+
+    @Test
+    public void setSubmittedToFullQueueFailsTest() {
+        final SetSequencer sequencer = new SetSequencer(setOperation, 1);
+
+        sequencer.set(List.of(), List.of(edit(FIRST)), List.of());
+        sequencer.set(List.of(), List.of(edit(SECOND)), List.of());
+        final ListenableFuture<CommitInfo> rejected = sequencer.set(List.of(), List.of(edit(FIRST)), List.of());
+
+        Assertions.assertInstanceOf(TransactionCommitFailedException.class,
+                Assertions.assertThrows(ExecutionException.class, rejected::get).getCause());
+        Assertions.assertEquals(1, sequencer.getQueueDepth());
+        calls.get(0).result().set(CommitInfo.empty());
+        calls.get(1).result().set(CommitInfo.empty());
+        Assertions.assertEquals(2, calls.size());
+    }
+
+    @Test
+    public void immediatelyAnsweredSetsAreSentWithoutRecursionTest() throws ExecutionException,
+            InterruptedException {
+        final SettableFuture<CommitInfo> firstResult = SettableFuture.create();
+        final List<ListenableFuture<CommitInfo>> sent = new ArrayList<>();
+        // The first SetRequest is answered later, the rest of them immediately
+        final SetSequencer sequencer = new SetSequencer((replaceList, updateList, deleteList) -> {
+            final ListenableFuture<CommitInfo> result = sent.isEmpty() ? firstResult
+                    : Futures.immediateFuture(CommitInfo.empty());
+            sent.add(result);
+            return result;
+        }, 100_000);
+
+        sequencer.set(List.of(), List.of(edit(FIRST)), List.of());
+        ListenableFuture<CommitInfo> last = null;
+        for (int i = 0; i < 50_000; i++) {
+            last = sequencer.set(List.of(), List.of(edit(SECOND)), List.of());
+        }
+        firstResult.set(CommitInfo.empty());
+
+        last.get();
+        Assertions.assertEquals(50_001, sent.size());
+        Assertions.assertEquals(0, sequencer.getQueueDepth());
+    }
+
+    @Test
+    public void nextSetIsNotSentByThreadAnsweringThePreviousOneTest() {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        final SetSequencer sequencer = new SetSequencer(setOperation, 10, tasks::add);
+
+        sequencer.set(List.of(), List.of(edit(FIRST)), List.of());
+        sequencer.set(List.of(), List.of(edit(SECOND)), List.of());
+        calls.get(0).result().set(CommitInfo.empty());
+        Assertions.assertEquals(1, calls.size());
+
+        tasks.poll().run();
+        Assertions.assertEquals(2, calls.size());
+        Assertions.assertEquals(List.of(edit(SECOND)), calls.get(1).updateList());
+    }
+
+    private static ImmutablePair<YangInstanceIdentifier, NormalizedNode> edit(final QName qname) {
+        return ImmutablePair.of(YangInstanceIdentifier.of(qname),
+                ImmutableNodes.leafNode(NodeIdentifier.create(qname), "value"));
+    }
+
+    private record SetCall(List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> updateList,
+                           SettableFuture<CommitInfo> result) {
+    }
+}
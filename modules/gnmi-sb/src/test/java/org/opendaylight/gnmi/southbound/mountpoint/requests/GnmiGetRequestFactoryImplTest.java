@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.requests;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import gnmi.Gnmi;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.southbound.device.connection.ConfigurableParameters;
+import org.opendaylight.gnmi.southbound.device.connection.DeviceConnection;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+public class GnmiGetRequestFactoryImplTest {
+
+    private static final YangInstanceIdentifier PATH = YangInstanceIdentifier.of(
+            QName.create("urn:test", "container"));
+
+    @Test
+    public void protoEncodingIsUsedIfPreferredAndSupportedTest() throws GnmiRequestException {
+        Assertions.assertEquals(Gnmi.Encoding.PROTO,
+                newRequest(Optional.of(true), List.of(Gnmi.Encoding.JSON_IETF, Gnmi.Encoding.PROTO)).getEncoding());
+    }
+
+    @Test
+    public void jsonIetfEncodingIsUsedIfProtoIsNotSupportedTest() throws GnmiRequestException {
+        Assertions.assertEquals(Gnmi.Encoding.JSON_IETF,
+                newRequest(Optional.of(true), List.of(Gnmi.Encoding.JSON_IETF)).getEncoding());
+    }
+
+    @Test
+    public void jsonIetfEncodingIsUsedIfProtoIsNotPreferredTest() throws GnmiRequestException {
+        final List<Gnmi.Encoding> supported = List.of(Gnmi.Encoding.JSON_IETF, Gnmi.Encoding.PROTO);
+        Assertions.assertEquals(Gnmi.Encoding.JSON_IETF, newRequest(Optional.empty(), supported).getEncoding());
+        Assertions.assertEquals(Gnmi.Encoding.JSON_IETF, newRequest(Optional.of(false), supported).getEncoding());
+    }
+
+    @Test
+    public void requestsAreRebuiltAfterSchemaContextChangeTest() throws GnmiRequestException {
+        final DeviceConnection deviceConnection = mockDeviceConnection(Optional.empty(),
+                List.of(Gnmi.Encoding.JSON_IETF));
+        doReturn(mock(EffectiveModelContext.class)).when(deviceConnection).getSchemaContext();
+        final AtomicInteger conversions = new AtomicInteger();
+        final GnmiGetRequestFactoryImpl factory = new GnmiGetRequestFactoryImpl(deviceConnection, identifier -> {
+            conversions.incrementAndGet();
+            return Gnmi.Path.getDefaultInstance();
+        });
+
+        final Gnmi.GetRequest first = factory.newRequest(PATH, Gnmi.GetRequest.DataType.CONFIG);
+        Assertions.assertSame(first, factory.newRequest(PATH, Gnmi.GetRequest.DataType.CONFIG));
+        Assertions.assertEquals(1, conversions.get());
+
+        doReturn(mock(EffectiveModelContext.class)).when(deviceConnection).getSchemaContext();
+        Assertions.assertNotSame(first, factory.newRequest(PATH, Gnmi.GetRequest.DataType.CONFIG));
+        Assertions.assertEquals(2, conversions.get());
+    }
+
+    private static Gnmi.GetRequest newRequest(final Optional<Boolean> preferProto,
+            final List<Gnmi.Encoding> supportedEncodings) throws GnmiRequestException {
+        final GnmiGetRequestFactoryImpl factory = new GnmiGetRequestFactoryImpl(
+                mockDeviceConnection(preferProto, supportedEncodings), identifier -> Gnmi.Path.getDefaultInstance());
+        return factory.newRequest(PATH, Gnmi.GetRequest.DataType.CONFIG);
+    }
+
+    private static DeviceConnection mockDeviceConnection(final Optional<Boolean> preferProto,
+            final List<Gnmi.Encoding> supportedEncodings) {
+        final ConfigurableParameters parameters = mock(ConfigurableParameters.class);
+        doReturn(Optional.empty()).when(parameters).getOverwriteDataType();
+        doReturn(Optional.empty()).when(parameters).getPathTarget();
+        doReturn(Optional.empty()).when(parameters).getModelDataList();
+        doReturn(preferProto).when(parameters).getPreferProtoEncoding();
+        final DeviceConnection deviceConnection = mock(DeviceConnection.class);
+        doReturn(parameters).when(deviceConnection).getConfigurableParameters();
+        doReturn(supportedEncodings).when(deviceConnection).getSupportedEncodings();
+        return deviceConnection;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.gnmi.southbound.mountpoint.requests;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import gnmi.Gnmi;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.gnmi.commons.util.ParallelCodecExecutor;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.BiCodec;
+import org.opendaylight.gnmi.southbound.mountpoint.codecs.GnmiCodecException;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+public class GnmiSetRequestFactoryImplTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final QName LEAF = QName.create("urn:test", "leaf");
+    // Converts leaf to update with the value of the leaf as the only path element
+    private static final BiCodec<YangInstanceIdentifier, NormalizedNode, Gnmi.Update> UPDATE_CODEC =
+        (identifier, data) -> Gnmi.Update.newBuilder()
+            .setPath(Gnmi.Path.newBuilder().addElem(Gnmi.PathElem.newBuilder().setName((String) data.body())))
+            .build();
+
+    private static ParallelCodecExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor() {
+        executor = ParallelCodecExecutor.create("set-request-test-", 2, 8);
+    }
+
+    @AfterAll
+    public static void closeExecutor() {
+        executor.close();
+    }
+
+    @Test
+    public void orderOfUpdatesConvertedInParallelIsKeptTest() throws Exception {
+        final int count = GnmiSetRequestFactoryImpl.PARALLEL_UPDATES_THRESHOLD * 4;
+        final GnmiSetRequestFactoryImpl factory = new GnmiSetRequestFactoryImpl(
+            identifier -> Gnmi.Path.getDefaultInstance(), UPDATE_CODEC, executor);
+
+        final Gnmi.SetRequest request = factory.newRequest(edits(count), edits(count), List.of())
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(count, request.getReplaceCount());
+        Assertions.assertEquals(count, request.getUpdateCount());
+        for (int i = 0; i < count; i++) {
+            Assertions.assertEquals(String.valueOf(i), request.getReplace(i).getPath().getElem(0).getName());
+            Assertions.assertEquals(String.valueOf(i), request.getUpdate(i).getPath().getElem(0).getName());
+        }
+    }
+
+    @Test
+    public void failureOfParallelConversionIsMappedTest() {
+        final GnmiCodecException failure = new GnmiCodecException("Conversion failed");
+        final GnmiSetRequestFactoryImpl factory = new GnmiSetRequestFactoryImpl(
+            identifier -> Gnmi.Path.getDefaultInstance(), (identifier, data) -> {
+                if ("10".equals(data.body())) {
+                    throw failure;
+                }
+                return UPDATE_CODEC.apply(identifier, data);
+            }, executor);
+
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+            () -> factory.newRequest(List.of(), edits(GnmiSetRequestFactoryImpl.PARALLEL_UPDATES_THRESHOLD),
+                List.of()).get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(GnmiRequestException.class, exception.getCause());
+        Assertions.assertSame(failure, exception.getCause().getCause());
+    }
+
+    @Test
+    public void unexpectedFailureOfParallelConversionIsMappedTest() {
+        final IllegalStateException failure = new IllegalStateException("Unexpected failure");
+        final GnmiSetRequestFactoryImpl factory = new GnmiSetRequestFactoryImpl(
+            identifier -> Gnmi.Path.getDefaultInstance(), (identifier, data) -> {
+                throw failure;
+            }, executor);
+
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+            () -> factory.newRequest(edits(GnmiSetRequestFactoryImpl.PARALLEL_UPDATES_THRESHOLD), List.of(),
+                List.of()).get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(GnmiRequestException.class, exception.getCause());
+        Assertions.assertSame(failure, exception.getCause().getCause());
+    }
+
+    @Test
+    public void callingThreadDoesNotWaitForParallelConversionTest() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final GnmiSetRequestFactoryImpl factory = new GnmiSetRequestFactoryImpl(
+            identifier -> Gnmi.Path.getDefaultInstance(), (identifier, data) -> {
+                try {
+                    release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return UPDATE_CODEC.apply(identifier, data);
+            }, command -> new Thread(command).start());
+
+        final ListenableFuture<Gnmi.SetRequest> request = factory.newRequest(List.of(),
+            edits(GnmiSetRequestFactoryImpl.PARALLEL_UPDATES_THRESHOLD), List.of());
+        Assertions.assertFalse(request.isDone());
+        release.countDown();
+        Assertions.assertEquals(GnmiSetRequestFactoryImpl.PARALLEL_UPDATES_THRESHOLD,
+            request.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getUpdateCount());
+    }
+
+    private static List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> edits(final int count) {
+        final List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>> edits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            edits.add(ImmutablePair.of(YangInstanceIdentifier.of(LEAF),
+                ImmutableNodes.leafNode(NodeIdentifier.create(LEAF), String.valueOf(i))));
+        }
+        return edits;
+    }
+}
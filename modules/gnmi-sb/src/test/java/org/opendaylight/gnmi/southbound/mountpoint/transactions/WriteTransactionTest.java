@@ -13,13 +13,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 
-import com.google.gson.Gson;
 import gnmi.Gnmi;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.logging.log4j.core.config.ConfigurationException;
 import org.json.JSONException;
 import org.junit.jupiter.api.Assertions;
@@ -62,6 +63,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.parser.ri.DefaultYangParserFactory;
@@ -93,6 +95,8 @@ public class WriteTransactionTest {
             .build();
     private static final String EXPECTED_IETF_VALUE = "{\"name\":\"NAME\",\"loopback-mode\":true}";
 
+    private final List<List<ImmutablePair<YangInstanceIdentifier, NormalizedNode>>> completedUpdates =
+            new ArrayList<>();
     private GnmiDataBroker gnmiDataBroker;
     private GnmiSession gnmiSession;
 
@@ -126,8 +130,9 @@ public class WriteTransactionTest {
                 = new YangInstanceIdentifierToPathCodec(deviceConnection, true);
         final GnmiSet gnmiSet = new GnmiSet(deviceConnection,
                 new GnmiSetRequestFactoryImpl(yiiToPathCodec, new YangInstanceNormToGnmiUpdateCodec(deviceConnection,
-                        yiiToPathCodec, new Gson())),
-                deviceConnection.getIdentifier());
+                        yiiToPathCodec)),
+                deviceConnection.getIdentifier(),
+                List.of((replaceList, updateList, deleteList, applied) -> completedUpdates.add(updateList)));
         this.gnmiDataBroker = new GnmiDataBroker(Mockito.mock(GnmiGet.class), gnmiSet);
     }
 
@@ -206,6 +211,30 @@ public class WriteTransactionTest {
         JSONAssert.assertEquals(EXPECTED_IETF_VALUE, jetfValue, true);
     }
 
+    @Test
+    public void listenersSeeUpdatesWithoutPrepareReqTest() throws ExecutionException, InterruptedException,
+            TimeoutException {
+        final DOMDataTreeWriteTransaction writeTransaction = gnmiDataBroker.newWriteOnlyTransaction();
+        writeTransaction.merge(LogicalDatastoreType.CONFIGURATION, TEST_CONFIG_IID, getTestDataContainerNode());
+        writeTransaction.merge(LogicalDatastoreType.CONFIGURATION, TEST_PREPARE_DATASTORE_IID, getPrepareListNode());
+        writeTransaction.commit().get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        // Configuration cache is patched by the same updates, which were sent to device
+        assertEquals(List.of(List.of(ImmutablePair.of(TEST_CONFIG_IID, getTestDataContainerNode()))),
+                completedUpdates);
+    }
+
+    @Test
+    public void completionFutureDoesNotSendSetRequestAgainTest() throws ExecutionException, InterruptedException,
+            TimeoutException {
+        final DOMDataTreeWriteTransaction writeTransaction = gnmiDataBroker.newWriteOnlyTransaction();
+        writeTransaction.merge(LogicalDatastoreType.CONFIGURATION, TEST_CONFIG_IID, getTestDataContainerNode());
+        writeTransaction.commit().get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        writeTransaction.completionFuture().get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        writeTransaction.completionFuture().get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        verify(gnmiSession, Mockito.times(1)).set(any(Gnmi.SetRequest.class));
+    }
 
     private static ContainerNode getTestDataContainerNode() {
         final LeafNode<String> configName = ImmutableNodes.leafNode(